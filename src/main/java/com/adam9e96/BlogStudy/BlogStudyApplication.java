@@ -2,14 +2,26 @@ package com.adam9e96.BlogStudy;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC 는 논블로킹 API 서버(ReactiveApiServer)가 직접 연결을 만듦. 자동 설정되면 JDBC DataSource 자동 설정이 꺼짐
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableJpaAuditing // created_at, updated_at 자동 업데이트
+@EnableAsync // 게시물 재렌더링 등 백그라운드 작업
+@EnableScheduling // 조회수 반영 등 주기 작업
 public class BlogStudyApplication {
 
+    // 시작 단계(빈 생성 등) 기록을 보관할 최대 개수. 시작이 끝나면 StartupTimelineReporter 가 가장 느린 빈을 기록함
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(BlogStudyApplication.class, args);
+        SpringApplication application = new SpringApplication(BlogStudyApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
\ No newline at end of file
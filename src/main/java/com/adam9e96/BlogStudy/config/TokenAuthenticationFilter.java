@@ -1,11 +1,12 @@
 package com.adam9e96.BlogStudy.config;
 
 import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +14,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -36,16 +38,46 @@ import java.util.stream.Collectors;
  * 토큰 인증 로직을 적용할 수 있습니다. 이를 통해 코드의 재사용성을 높이고, 보안성을 강화할 수 있습니다.
  * </p>
  *
+ * <p>
+ * 폐기된 토큰({@code DELETE /api/token})은 서명과 만료 시각이 유효해도 유효하지 않은 토큰으로 처리됩니다.
+ * 폐기 여부는 메모리의 블룸 필터로 먼저 확인하므로 요청마다 데이터베이스를 조회하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>지표:</strong>
+ * 토큰 검증 시간은 {@code blog.auth.token.verify} 타이머에 결과({@code valid}, {@code invalid}, {@code absent})별로 기록되며,
+ * 타이머의 횟수가 곧 결과별 요청 수입니다.
+ * </p>
+ *
  * @see OncePerRequestFilter
  * @see TokenProvider
  * @see SecurityContextHolder
  */
-@RequiredArgsConstructor
 @Slf4j
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
+    private final static String VERIFY_TIMER = "blog.auth.token.verify";
+
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+    private final Timer absentTimer;
+
+    public TokenAuthenticationFilter(TokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+        this.absentTimer = verifyTimer(meterRegistry, "absent");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(VERIFY_TIMER)
+                .description("액세스 토큰 검증 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     /**
      * 각 HTTP 요청에 대해 토큰을 추출하고 인증을 설정하는 메서드입니다.
@@ -91,7 +123,12 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         log.info("요청 헤더에서 토큰 추출 : {}", token);
 
         // 3. 추출한 토큰이 유효한지 검증
-        if (tokenProvider.validToken(token)) {
+        long started = System.nanoTime();
+        boolean valid = tokenProvider.validToken(token);
+        Timer timer = token == null ? absentTimer : valid ? validTimer : invalidTimer;
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (valid) {
 
             Authentication authentication = tokenProvider.getAuthentication(token);
 
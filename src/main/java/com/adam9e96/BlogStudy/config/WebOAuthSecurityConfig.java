@@ -2,11 +2,16 @@ package com.adam9e96.BlogStudy.config;
 
 import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
 import com.adam9e96.BlogStudy.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
+import com.adam9e96.BlogStudy.config.oauth.OAuth2HttpClient;
 import com.adam9e96.BlogStudy.config.oauth.OAuth2SuccessHandler;
 import com.adam9e96.BlogStudy.config.oauth.OAuth2UserCustomService;
+import com.adam9e96.BlogStudy.config.oauth.OidcUserCustomService;
 import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
 import com.adam9e96.BlogStudy.service.UserService;
+import com.adam9e96.BlogStudy.service.audit.LoginAuditLog;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -35,9 +40,13 @@ import static org.springframework.boot.autoconfigure.security.servlet.PathReques
 public class WebOAuthSecurityConfig {
 
     private final OAuth2UserCustomService oAuth2UserCustomService;
+    private final OidcUserCustomService oidcUserCustomService;
+    private final OAuth2HttpClient oAuth2HttpClient;
     private final TokenProvider tokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final LoginAuditLog loginAuditLog;
 
     /**
      * 이 메서드는 WebSecurityCustomizer 빈을 정의 하여 Spring Security 가 특정 요청을 무시하도록 지시합니다.
@@ -99,10 +108,17 @@ public class WebOAuthSecurityConfig {
                                         oAuth2AuthorizationRequestBasedOnCookieRepository()
                                 )
                         )
+                        // 인가 코드를 액세스 토큰으로 바꿀 때도 사용자 정보 조회와 같은 풀과 벌크헤드를 사용합니다.
+                        .tokenEndpoint(token ->
+                                token.accessTokenResponseClient(oAuth2HttpClient.authorizationCodeTokenResponseClient())
+                        )
                         // 사용자 서비스 설정
                         // OAuth2 로그인 성공 시 사용자 정보를 가져오는 데 사용할 사용자 서비스를 설정합니다.
-                        .userInfoEndpoint(userInfo ->
-                                userInfo.userService(oAuth2UserCustomService)
+                        // openid 스코프를 요청한 등록은 ID 토큰을 로컬에서 검증하고 그 클레임으로 사용자를 만듭니다.
+                        // (사용자 정보 엔드포인트 호출 생략)
+                        .userInfoEndpoint(userInfo -> userInfo
+                                .userService(oAuth2UserCustomService)
+                                .oidcUserService(oidcUserCustomService)
                         )
                         // 로그인 성공시  핸들러 설정
                         .successHandler(oAuth2SuccessHandler())
@@ -128,13 +144,28 @@ public class WebOAuthSecurityConfig {
     public OAuth2SuccessHandler oAuth2SuccessHandler() {
         return new OAuth2SuccessHandler(tokenProvider, refreshTokenRepository,
                 oAuth2AuthorizationRequestBasedOnCookieRepository(),
-                userService
+                userService,
+                loginAuditLog
         );
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, meterRegistry);
+    }
+
+    /**
+     * {@link TokenAuthenticationFilter}는 빈으로 등록되어 있어 스프링 부트가 서블릿 필터로도 자동 등록합니다.
+     * 그러면 시큐리티 필터 체인이 무시하는 경로(정적 리소스 등)를 포함한 모든 요청에서 토큰 검증이 실행되므로,
+     * 자동 등록을 끄고 시큐리티 필터 체인 안에서만 실행되도록 합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<TokenAuthenticationFilter> tokenAuthenticationFilterRegistration(
+            TokenAuthenticationFilter tokenAuthenticationFilter) {
+        FilterRegistrationBean<TokenAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(tokenAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
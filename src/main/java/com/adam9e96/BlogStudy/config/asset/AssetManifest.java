@@ -0,0 +1,94 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 빌드 시 만든 정적 리소스 매니페스트({@code asset-manifest.properties}).
+ *
+ * <p>
+ * Gradle {@code fingerprintAssets} 태스크가 {@code js/article.js=js/article.1a2b3c4d.js} 형식으로
+ * 논리 경로와 콘텐츠 해시가 붙은 경로를 기록합니다.
+ * 매니페스트가 없으면(IDE 에서 Gradle 없이 실행한 경우 등) 비어 있는 매니페스트를 사용하며,
+ * 이때 리소스는 원래 이름 그대로 제공됩니다.
+ * </p>
+ */
+public final class AssetManifest {
+
+    public static final String LOCATION = "asset-manifest.properties";
+
+    private final Map<String, String> hashedPaths;
+
+    // 해시가 붙은 파일 이름 (예: article.1a2b3c4d.js)
+    private final Set<String> hashedFileNames;
+
+    AssetManifest(Map<String, String> hashedPaths) {
+        this.hashedPaths = Map.copyOf(hashedPaths);
+        this.hashedFileNames = hashedPaths.values().stream()
+                .map(path -> path.substring(path.lastIndexOf('/') + 1))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 클래스패스에서 매니페스트를 읽습니다.
+     *
+     * @return 매니페스트 (파일이 없으면 빈 매니페스트)
+     */
+    public static AssetManifest load() {
+        return load(new ClassPathResource(LOCATION));
+    }
+
+    static AssetManifest load(Resource resource) {
+        if (!resource.exists()) {
+            return new AssetManifest(Map.of());
+        }
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read asset manifest: " + resource, e);
+        }
+        return new AssetManifest(properties.stringPropertyNames().stream()
+                .collect(Collectors.toMap(name -> name, properties::getProperty)));
+    }
+
+    /**
+     * 논리 경로에 해당하는 해시가 붙은 경로를 반환합니다.
+     *
+     * @param logicalPath 정적 리소스 루트 기준 경로 (예: {@code js/article.js})
+     * @return 해시가 붙은 경로 (매니페스트에 없으면 {@code null})
+     */
+    public String hashedPath(String logicalPath) {
+        return hashedPaths.get(logicalPath);
+    }
+
+    /**
+     * 파일 이름이 빌드 시 콘텐츠 해시를 붙여 만든 이름인지 확인합니다.
+     *
+     * @param fileName 파일 이름 (예: {@code article.1a2b3c4d.js})
+     * @return 매니페스트에 해시가 붙은 이름으로 기록되어 있으면 {@code true}
+     */
+    public boolean isHashedFileName(String fileName) {
+        return hashedFileNames.contains(fileName);
+    }
+
+    /**
+     * 매니페스트가 비어 있는지 확인합니다.
+     *
+     * @return 빌드 시 생성된 매니페스트가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return hashedPaths.isEmpty();
+    }
+}
@@ -0,0 +1,46 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * 템플릿에서 쓰는 논리 경로를 매니페스트의 해시가 붙은 경로로 바꾸는 리졸버.
+ *
+ * <p>
+ * {@code ResourceUrlEncodingFilter}를 통해 {@code @{/js/article.js}}가
+ * {@code /js/article.1a2b3c4d.js}로 렌더링됩니다.
+ * 요청된 리소스를 찾는 일은 다음 리졸버에 그대로 맡깁니다. (해시가 붙은 파일이 실제로 존재함)
+ * </p>
+ */
+class AssetManifestResourceResolver extends AbstractResourceResolver {
+
+    private final AssetManifest manifest;
+
+    // 핸들러가 담당하는 디렉터리 (예: "js/")
+    private final String directory;
+
+    AssetManifestResourceResolver(AssetManifest manifest, String directory) {
+        this.manifest = manifest;
+        this.directory = directory;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        return chain.resolveResource(request, requestPath, locations);
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        String hashedPath = manifest.hashedPath(directory + resourceUrlPath);
+        if (hashedPath == null || !hashedPath.startsWith(directory)) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
+        return chain.resolveUrlPath(hashedPath.substring(directory.length()), locations);
+    }
+}
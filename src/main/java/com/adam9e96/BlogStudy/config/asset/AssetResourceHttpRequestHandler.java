@@ -0,0 +1,80 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 콘텐츠 해시가 붙은 리소스에만 {@code immutable} 캐시 헤더를 붙이는 정적 리소스 핸들러.
+ *
+ * <p>
+ * 기본 캐시 헤더({@link #setCacheControl})는 매번 재검증하는 정책이며,
+ * 응답할 파일 이름이 매니페스트에 기록된 해시가 붙은 이름일 때만 1년 {@code immutable}로 바꿉니다.
+ * 원래 이름({@code /js/article.js})은 내용이 바뀌어도 URL 이 같으므로 오래 캐시하면 안 됩니다.
+ * </p>
+ *
+ * <p>
+ * 상위 클래스는 {@code 304 Not Modified}를 응답할 때 캐시 헤더를 적용하기 전에 반환하므로,
+ * 요청 경로의 파일 이름으로 판단한 {@code immutable} 헤더를 핸들러 실행 전에 먼저 붙입니다.
+ * </p>
+ */
+class AssetResourceHttpRequestHandler extends ResourceHttpRequestHandler {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic().immutable().getHeaderValue();
+
+    // EncodedResourceResolver 가 고른 사전 압축 파일의 확장자
+    private static final List<String> ENCODED_EXTENSIONS = List.of(".gz", ".br");
+
+    private final AssetManifest manifest;
+
+    AssetResourceHttpRequestHandler(AssetManifest manifest) {
+        this.manifest = manifest;
+        setCacheControl(CacheControl.noCache());
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        // 재검증(304) 응답에도 immutable 헤더가 유지되도록 먼저 적용 (200 응답은 setHeaders 에서 다시 적용)
+        Object path = request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        if (path instanceof String requestPath && isHashed(requestPath.substring(requestPath.lastIndexOf('/') + 1))) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        }
+        super.handleRequest(request, response);
+    }
+
+    @Override
+    protected void setHeaders(HttpServletResponse response, Resource resource, @Nullable MediaType mediaType)
+            throws IOException {
+        super.setHeaders(response, resource, mediaType);
+        String fileName = resource.getFilename();
+        if (fileName != null && isHashed(fileName)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        }
+    }
+
+    private boolean isHashed(String fileName) {
+        return manifest.isHashedFileName(stripEncodedExtension(fileName));
+    }
+
+    private static String stripEncodedExtension(String fileName) {
+        for (String extension : ENCODED_EXTENSIONS) {
+            if (fileName.endsWith(extension)) {
+                return fileName.substring(0, fileName.length() - extension.length());
+            }
+        }
+        return fileName;
+    }
+}
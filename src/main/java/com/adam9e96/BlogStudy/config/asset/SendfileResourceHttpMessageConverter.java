@@ -0,0 +1,63 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 파일 시스템에 있는 정적 리소스를 Tomcat sendfile 로 전송하는 컨버터.
+ *
+ * <p>
+ * 기본 {@link ResourceHttpMessageConverter}는 파일을 읽어 응답 스트림에 복사합니다.
+ * Tomcat 커넥터가 sendfile 을 지원하면 파일 경로만 요청 속성으로 넘기고 본문은 쓰지 않으며,
+ * Tomcat 이 서블릿 처리가 끝난 뒤 커널에서 직접(zero-copy) 파일을 소켓으로 보냅니다.
+ * </p>
+ *
+ * <p>
+ * 리소스가 파일이 아니거나(실행 jar 내부의 클래스패스 리소스) 커넥터가 sendfile 을 지원하지 않으면(TLS 등)
+ * 기존처럼 스트림으로 복사합니다.
+ * </p>
+ */
+class SendfileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    // org.apache.tomcat.util.net.Constants 의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+        HttpServletRequest request = currentRequest();
+        File file = fileOf(resource);
+        if (request == null || file == null || !Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            super.writeContent(resource, outputMessage);
+            return;
+        }
+        // Content-Length 는 이미 설정되어 있음. 응답이 커밋될 때 Tomcat 이 속성을 보고 sendfile 을 준비함
+        request.setAttribute(SENDFILE_FILENAME_ATTR, file.getAbsolutePath());
+        request.setAttribute(SENDFILE_FILE_START_ATTR, 0L);
+        request.setAttribute(SENDFILE_FILE_END_ATTR, file.length());
+    }
+
+    private HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+
+    private File fileOf(Resource resource) {
+        try {
+            File file = resource.getFile();
+            return file.isFile() ? file : null;
+        } catch (IOException e) {
+            return null; // jar 내부 리소스 등 파일 시스템에 없는 리소스
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import jakarta.servlet.ServletContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정적 리소스({@code /js/**}, {@code /img/**}) 제공 설정.
+ *
+ * <p>
+ * <strong>기능:</strong>
+ * </p>
+ * <ul>
+ *     <li>핑거프린팅: 템플릿의 {@code @{/js/article.js}}를 빌드 시 만든 해시가 붙은 이름으로 바꿉니다.</li>
+ *     <li>캐시: 이름에 콘텐츠 해시가 있는 파일만 {@code Cache-Control: max-age=1년, immutable}로 제공하고,
+ *     원래 이름으로 요청된 파일은 매번 재검증합니다. ({@link AssetResourceHttpRequestHandler})</li>
+ *     <li>사전 압축: 클라이언트가 gzip 을 지원하면 빌드 시 만든 {@code .gz} 파일을 그대로 보냅니다.</li>
+ *     <li>sendfile: 파일 시스템에 있는 리소스는 {@link SendfileResourceHttpMessageConverter}로 전송합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 이 경로들은 {@code WebOAuthSecurityConfig}에서 시큐리티 필터 체인이 무시하도록 설정되어 있고,
+ * 응답 압축 필터에서도 제외됩니다. 매니페스트가 없으면(빌드 태스크 없이 실행) 해시가 붙은 파일이 없으므로
+ * 모든 리소스가 재검증 캐시 헤더로 제공되어 변경이 바로 보입니다.
+ * </p>
+ */
+@Configuration
+public class StaticAssetConfig {
+
+    private static final List<String> ASSET_DIRECTORIES = List.of("js/", "img/");
+
+    @Bean
+    public AssetManifest assetManifest() {
+        return AssetManifest.load();
+    }
+
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetHandlerMapping(AssetManifest assetManifest,
+                                                             ApplicationContext applicationContext,
+                                                             ServletContext servletContext) {
+        Map<String, ResourceHttpRequestHandler> handlers = new LinkedHashMap<>();
+        for (String directory : ASSET_DIRECTORIES) {
+            ResourceHttpRequestHandler handler = assetHandler(assetManifest, directory);
+            handler.setApplicationContext(applicationContext);
+            handler.setServletContext(servletContext);
+            try {
+                handler.afterPropertiesSet();
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Failed to initialize static asset handler: " + directory, e);
+            }
+            handlers.put("/" + directory + "**", handler);
+        }
+        // 스프링 부트의 기본 정적 리소스 매핑("/**")보다 먼저 적용
+        return new SimpleUrlHandlerMapping(handlers, Ordered.LOWEST_PRECEDENCE - 10);
+    }
+
+    private ResourceHttpRequestHandler assetHandler(AssetManifest assetManifest, String directory) {
+        ResourceHttpRequestHandler handler = new AssetResourceHttpRequestHandler(assetManifest);
+        handler.setLocations(List.of(new ClassPathResource("static/" + directory)));
+        handler.setResourceResolvers(List.of(
+                new EncodedResourceResolver(),
+                new AssetManifestResourceResolver(assetManifest, directory),
+                new PathResourceResolver()));
+        handler.setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter());
+        return handler;
+    }
+
+    /**
+     * 템플릿에서 만든 리소스 URL({@code response.encodeURL})을 해시가 붙은 URL 로 바꾸는 필터.
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        FilterRegistrationBean<ResourceUrlEncodingFilter> registration =
+                new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,351 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 응답 본문을 조건에 맞을 때만 압축하는 응답 래퍼.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 본문의 앞부분을 최소 압축 크기({@code minResponseSize})만큼만 버퍼에 모읍니다.
+ * 응답이 끝날 때까지 임계값을 넘지 않으면 압축하지 않고 그대로 보내고,
+ * 임계값을 넘는 순간 압축 스트림을 열어 버퍼와 이후 데이터를 흘려보냅니다.
+ * 따라서 큰 목록 응답도 전체를 메모리에 모으지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 압축 대상이 아닌 Content-Type, 이미 인코딩된 응답, 임계값보다 작은 Content-Length 가 지정된 응답은
+ * 첫 쓰기부터 그대로 전달됩니다.
+ * </p>
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final ContentCoding coding;
+    private final int level;
+    private final int minResponseSize;
+    private final List<String> mimeTypes;
+
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+
+    // Content-Length 가 작거나 이미 Content-Encoding 이 지정되어 압축하면 안 되는 응답
+    private boolean compressionVetoed;
+
+    // 압축 여부가 정해질 때까지 보류한 Content-Length (-1 이면 없음)
+    private long pendingContentLength = -1;
+
+    CompressingResponseWrapper(HttpServletResponse response, ContentCoding coding, int level,
+                               CompressionProperties properties) {
+        super(response);
+        this.coding = coding;
+        this.level = level;
+        this.minResponseSize = properties.getMinResponseSize();
+        this.mimeTypes = properties.getMimeTypes();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return stream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    private CompressingOutputStream stream() {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (len < minResponseSize) {
+            compressionVetoed = true;
+            super.setContentLengthLong(len);
+        } else {
+            // 압축하면 길이가 달라지므로, 압축 여부가 정해질 때까지 보류
+            pendingContentLength = len;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (interceptHeader(name, value)) {
+            return;
+        }
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (interceptHeader(name, value)) {
+            return;
+        }
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (interceptHeader(name, String.valueOf(value))) {
+            return;
+        }
+        super.setIntHeader(name, value);
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (interceptHeader(name, String.valueOf(value))) {
+            return;
+        }
+        super.addIntHeader(name, value);
+    }
+
+    /**
+     * 압축 여부에 영향을 주는 헤더를 가로챕니다.
+     *
+     * @return 헤더를 직접 처리했으면 {@code true}
+     */
+    private boolean interceptHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && value != null) {
+            try {
+                setContentLengthLong(Long.parseLong(value.trim()));
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        if (HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)) {
+            compressionVetoed = true; // 이미 인코딩된 응답
+        }
+        return false;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        // 압축 여부가 정해지기 전에 커밋하면 Content-Encoding 을 보낼 수 없으므로 보류
+        if (outputStream == null || !outputStream.isDecided()) {
+            return;
+        }
+        outputStream.flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        outputStream = null;
+        writer = null;
+        compressionVetoed = false;
+        pendingContentLength = -1;
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (outputStream != null) {
+            outputStream.resetBuffer();
+        }
+    }
+
+    /**
+     * 응답을 마무리합니다. 버퍼에 남은 데이터를 보내고 압축 스트림을 닫습니다.
+     *
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.close();
+        }
+    }
+
+    /**
+     * 지금 응답을 압축해도 되는지 확인합니다.
+     */
+    private boolean isCompressible() {
+        if (compressionVetoed || isCommitted()) {
+            return false;
+        }
+        int status = getStatus();
+        if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            return false;
+        }
+        return isCompressibleType(getContentType());
+    }
+
+    private boolean isCompressibleType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int separator = contentType.indexOf(';');
+        String mimeType = (separator >= 0 ? contentType.substring(0, separator) : contentType)
+                .trim().toLowerCase(Locale.ROOT);
+        return mimeTypes.contains(mimeType) || mimeType.endsWith("+json");
+    }
+
+    /**
+     * 압축 여부가 정해질 때까지 본문 앞부분을 버퍼링하는 출력 스트림.
+     */
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private byte[] buffer;
+        private int count;
+
+        // 압축 여부가 정해진 뒤 실제로 쓰는 스트림 (압축 스트림 또는 원래 응답 스트림)
+        private OutputStream target;
+        private boolean compressing;
+        private boolean closed;
+
+        boolean isDecided() {
+            return target != null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (target == null) {
+                if (!isCompressible() || count + 1 >= minResponseSize) {
+                    decide();
+                } else {
+                    buffer()[count++] = (byte) b;
+                    return;
+                }
+            }
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            if (target == null) {
+                if (!isCompressible() || count + len >= minResponseSize) {
+                    decide();
+                } else {
+                    System.arraycopy(b, off, buffer(), count, len);
+                    count += len;
+                    return;
+                }
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // 버퍼링 중에는 보류 (압축 여부를 정하기 전에 커밋하지 않음)
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target == null) {
+                // 임계값보다 작은 응답: 압축하지 않고 길이와 함께 그대로 전송
+                if (!isCommitted()) {
+                    CompressingResponseWrapper.super.setContentLengthLong(count);
+                }
+                target = getResponse().getOutputStream();
+                writeBuffered();
+                return;
+            }
+            if (compressing) {
+                target.close(); // 압축 스트림의 마지막 블록을 기록
+            }
+        }
+
+        void resetBuffer() {
+            count = 0;
+        }
+
+        private void decide() throws IOException {
+            OutputStream raw = getResponse().getOutputStream();
+            if (isCompressible()) {
+                CompressingResponseWrapper.super.setHeader(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+                target = coding.wrap(raw, level);
+                compressing = true;
+            } else {
+                if (pendingContentLength >= 0) {
+                    CompressingResponseWrapper.super.setContentLengthLong(pendingContentLength);
+                }
+                target = raw;
+            }
+            writeBuffered();
+        }
+
+        private void writeBuffered() throws IOException {
+            if (count > 0) {
+                target.write(buffer, 0, count);
+            }
+            buffer = null;
+            count = 0;
+        }
+
+        private byte[] buffer() {
+            if (buffer == null) {
+                buffer = new byte[minResponseSize];
+            }
+            return buffer;
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 응답 압축 필터 등록.
+ *
+ * <p>
+ * 스프링 시큐리티 필터 체인보다 먼저 실행되도록 높은 우선순위로 등록합니다.
+ * </p>
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(CompressionProperties properties,
+                                                                       CompressionLevelPolicy levelPolicy) {
+        FilterRegistrationBean<CompressionFilter> registration =
+                new FilterRegistrationBean<>(new CompressionFilter(properties, levelPolicy));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
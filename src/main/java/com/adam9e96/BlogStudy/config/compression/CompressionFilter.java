@@ -0,0 +1,107 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * JSON / HTML 응답을 압축하는 필터.
+ *
+ * <p>
+ * <strong>기능:</strong>
+ * </p>
+ * <ul>
+ *     <li>Accept-Encoding 협상: 클라이언트가 지원하면 zstd, 아니면 gzip 을 사용합니다.</li>
+ *     <li>최소 크기: {@code blog.compression.min-response-size}보다 작은 응답은 압축하지 않습니다.</li>
+ *     <li>적응형 레벨: {@link CompressionLevelPolicy}가 CPU 사용률에 따라 압축 레벨을 정합니다.</li>
+ *     <li>스트리밍: 응답 전체를 모으지 않고 쓰는 즉시 압축합니다. ({@link CompressingResponseWrapper})</li>
+ * </ul>
+ *
+ * <p>
+ * HEAD 요청과 Range 요청, {@code blog.compression.excluded-path-prefixes}에 해당하는 경로는 압축하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private final CompressionProperties properties;
+    private final CompressionLevelPolicy levelPolicy;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || "HEAD".equals(request.getMethod())
+                || request.getHeader(HttpHeaders.RANGE) != null
+                || isExcludedPath(request);
+    }
+
+    private boolean isExcludedPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : properties.getExcludedPathPrefixes()) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // 압축 여부와 관계없이 응답이 Accept-Encoding 에 따라 달라짐을 캐시에 알림
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        ContentCoding coding = ContentCoding.negotiate(
+                request.getHeader(HttpHeaders.ACCEPT_ENCODING), properties.isZstdEnabled());
+        if (coding == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CompressingResponseWrapper wrappedResponse =
+                new CompressingResponseWrapper(response, coding, levelPolicy.currentLevel(), properties);
+        filterChain.doFilter(request, wrappedResponse);
+
+        if (request.isAsyncStarted()) {
+            // 비동기 응답은 비동기 처리가 끝난 뒤에 마무리
+            request.getAsyncContext().addListener(new FinishOnCompleteListener(wrappedResponse));
+        } else {
+            wrappedResponse.finish();
+        }
+    }
+
+    private record FinishOnCompleteListener(CompressingResponseWrapper response) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            try {
+                response.finish();
+            } catch (IOException e) {
+                log.warn("CompressionFilter | 비동기 응답 압축 마무리 실패: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
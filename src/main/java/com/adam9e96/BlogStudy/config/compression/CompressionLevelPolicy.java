@@ -0,0 +1,76 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 CPU 사용률에 따라 응답 압축 레벨을 정하는 정책.
+ *
+ * <p>
+ * CPU 에 여유가 있으면 높은 레벨로 전송 바이트를 줄이고, CPU 가 바쁘면 낮은 레벨로 압축 비용을 줄입니다.
+ * 두 임계값 사이에서는 사용률에 비례하여 레벨을 낮춥니다.
+ * </p>
+ *
+ * <p>
+ * CPU 사용률은 최대 {@value #SAMPLE_INTERVAL_MILLIS}ms 에 한 번만 측정하며,
+ * 측정 주기가 지난 뒤 처음 들어온 요청 하나만 측정하고 나머지는 캐시된 값을 사용합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Component
+public class CompressionLevelPolicy {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 1_000;
+
+    private final CompressionProperties properties;
+
+    private final com.sun.management.OperatingSystemMXBean osBean =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    private final AtomicLong lastSampledAt = new AtomicLong();
+
+    private volatile double cpuLoad;
+
+    /**
+     * 현재 사용할 압축 레벨을 반환합니다.
+     *
+     * @return {@code minLevel} ~ {@code maxLevel} 사이의 압축 레벨
+     */
+    public int currentLevel() {
+        return levelFor(sampleCpuLoad());
+    }
+
+    /**
+     * 주어진 CPU 사용률에서 사용할 압축 레벨을 계산합니다.
+     *
+     * @param load CPU 사용률 (0.0 ~ 1.0)
+     * @return 압축 레벨
+     */
+    int levelFor(double load) {
+        int min = properties.getMinLevel();
+        int max = properties.getMaxLevel();
+        double low = properties.getCpuLowWatermark();
+        double high = properties.getCpuHighWatermark();
+        if (load <= low) {
+            return max;
+        }
+        if (load >= high) {
+            return min;
+        }
+        double ratio = (load - low) / (high - low);
+        return (int) Math.round(max - (max - min) * ratio);
+    }
+
+    private double sampleCpuLoad() {
+        long now = System.currentTimeMillis();
+        long last = lastSampledAt.get();
+        if (now - last >= SAMPLE_INTERVAL_MILLIS && lastSampledAt.compareAndSet(last, now)) {
+            double load = osBean.getCpuLoad();
+            cpuLoad = load < 0 ? 0 : load; // 측정할 수 없는 환경에서는 음수가 반환됨
+        }
+        return cpuLoad;
+    }
+}
@@ -0,0 +1,64 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 응답 압축 설정 ({@code blog.compression.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.compression")
+public class CompressionProperties {
+
+    /**
+     * 응답 압축 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 압축을 시작하는 최소 응답 크기(바이트). 이보다 작은 응답은 그대로 전송합니다.
+     */
+    private int minResponseSize = 1024;
+
+    /**
+     * 압축할 Content-Type 목록.
+     */
+    private List<String> mimeTypes = List.of(
+            "application/json", "text/html", "text/plain", "text/css", "text/javascript", "application/javascript");
+
+    /**
+     * 압축하지 않을 경로 접두사. 정적 리소스는 빌드 시 미리 압축한 파일을 그대로 보냅니다.
+     */
+    private List<String> excludedPathPrefixes = List.of("/js/", "/img/", "/css/");
+
+    /**
+     * 클라이언트가 지원할 때 gzip 대신 zstd 를 사용할지 여부.
+     */
+    private boolean zstdEnabled = true;
+
+    /**
+     * CPU 사용률이 높을 때 사용할 최저 압축 레벨.
+     */
+    private int minLevel = 1;
+
+    /**
+     * CPU 사용률이 낮을 때 사용할 최고 압축 레벨.
+     */
+    private int maxLevel = 6;
+
+    /**
+     * 이 CPU 사용률(0.0 ~ 1.0) 이하에서는 최고 압축 레벨을 사용합니다.
+     */
+    private double cpuLowWatermark = 0.3;
+
+    /**
+     * 이 CPU 사용률(0.0 ~ 1.0) 이상에서는 최저 압축 레벨을 사용합니다.
+     */
+    private double cpuHighWatermark = 0.8;
+}
@@ -0,0 +1,121 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 압축에 사용하는 Content-Encoding 코덱.
+ *
+ * <p>
+ * 두 코덱 모두 {@code flush()} 시 지금까지 쓴 데이터를 내보내므로,
+ * 큰 응답도 전체를 메모리에 모으지 않고 스트리밍으로 압축할 수 있습니다.
+ * </p>
+ */
+public enum ContentCoding {
+
+    /**
+     * zstd: gzip 과 비슷한 압축률에서 압축/해제 속도가 훨씬 빠릅니다.
+     */
+    ZSTD("zstd") {
+        @Override
+        OutputStream wrap(OutputStream out, int level) throws IOException {
+            return new ZstdOutputStream(out, level);
+        }
+    },
+
+    /**
+     * gzip: 모든 클라이언트가 지원하는 기본 코덱입니다.
+     */
+    GZIP("gzip") {
+        @Override
+        OutputStream wrap(OutputStream out, int level) throws IOException {
+            return new GZIPOutputStream(out, 8192, true) { // syncFlush: flush() 시 압축된 데이터를 바로 내보냄
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    };
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Content-Encoding / Accept-Encoding 헤더에 쓰이는 이름을 반환합니다.
+     *
+     * @return 코덱 이름
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * 주어진 스트림을 압축 스트림으로 감쌉니다.
+     *
+     * @param out   압축된 데이터를 쓸 스트림
+     * @param level 압축 레벨
+     * @return 압축 스트림
+     * @throws IOException 압축 스트림을 만들 수 없는 경우
+     */
+    abstract OutputStream wrap(OutputStream out, int level) throws IOException;
+
+    /**
+     * Accept-Encoding 헤더를 해석하여 사용할 코덱을 고릅니다.
+     * <p>
+     * q 값이 높은 코덱을 우선하고, q 값이 같으면 zstd 를 gzip 보다 우선합니다.
+     * {@code q=0}으로 거부된 코덱은 사용하지 않습니다.
+     * </p>
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값
+     * @param zstdEnabled    zstd 사용 여부
+     * @return 사용할 코덱 (압축하지 않아야 하면 {@code null})
+     */
+    public static ContentCoding negotiate(String acceptEncoding, boolean zstdEnabled) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double zstdQuality = -1;
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = parseQuality(tokens);
+            switch (name) {
+                case "zstd" -> zstdQuality = quality;
+                case "gzip", "x-gzip" -> gzipQuality = Math.max(gzipQuality, quality);
+                case "*" -> wildcardQuality = quality;
+                default -> {
+                }
+            }
+        }
+        if (gzipQuality < 0) {
+            gzipQuality = wildcardQuality;
+        }
+        if (zstdEnabled && zstdQuality > 0 && zstdQuality >= gzipQuality) {
+            return ZSTD;
+        }
+        return gzipQuality > 0 ? GZIP : null;
+    }
+
+    private static double parseQuality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
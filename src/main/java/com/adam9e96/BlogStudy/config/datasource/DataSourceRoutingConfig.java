@@ -0,0 +1,86 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정.
+ *
+ * <p>
+ * {@code blog.datasource.routing.enabled=true}일 때만 적용됩니다.
+ * 기본 데이터소스는 {@code spring.datasource.*}로, 복제본은 {@code blog.datasource.routing.replicas}로 만들며,
+ * 애플리케이션의 다른 빈(JPA, JdbcTemplate 등)은 {@code @Primary}인 라우팅 데이터소스를 사용합니다.
+ * 라우팅을 켜면 Open Session In View 는 꺼집니다. ({@link ReplicaRoutingEnvironmentPostProcessor})
+ * </p>
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * 복제본 커넥션 풀을 만듭니다. 복제본은 빈이 아니므로 풀 지표({@code hikaricp.*})를 직접 등록합니다.
+     * 내려간 복제본을 빨리 알아채도록 커넥션 대기 시간은 {@code replicaConnectionTimeout}으로 짧게 둡니다.
+     */
+    @Bean
+    public ReplicaPool replicaPool(DataSourceRoutingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA_PREFIX + replicas.size());
+            dataSource.setConnectionTimeout(properties.getReplicaConnectionTimeout().toMillis());
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(dataSource);
+        }
+        return new ReplicaPool(replicas);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickiness());
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaPool, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaPool replicaPool,
+                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                     DataSourceRoutingProperties properties) {
+        return new ReplicaHealthChecker(replicaPool, readYourWritesTracker, properties.getHealthCheckInterval());
+    }
+}
@@ -0,0 +1,62 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정 ({@code blog.datasource.routing.*}).
+ *
+ * <p>
+ * 기본 데이터소스(primary)는 {@code spring.datasource.*} 설정을 그대로 사용합니다.
+ * </p>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * 복제본 라우팅 사용 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 데이터소스 목록.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 사용자가 쓰기를 한 뒤 이 시간 동안은 그 사용자의 읽기도 기본 데이터소스로 보냅니다. (복제 지연 대비)
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    /**
+     * 복제본 상태를 확인하는 주기.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * 복제본 풀에서 커넥션을 기다리는 최대 시간. (Hikari {@code connectionTimeout}, 250ms 이상)
+     * 상태 확인은 복제본을 차례로 검사하므로, 내려간 복제본 하나가 나머지 복제본의 확인을 오래 늦추지 않도록 짧게 둡니다.
+     * 정상이라고 표시된 복제본이 그사이 내려가도 읽기 요청이 이 시간 이상 기다리지 않습니다.
+     */
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+
+    @Setter
+    @Getter
+    public static class Replica {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+    }
+}
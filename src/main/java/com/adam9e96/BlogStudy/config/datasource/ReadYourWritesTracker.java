@@ -0,0 +1,73 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기록하여, 자신이 쓴 데이터를 바로 읽을 수 있게(read-your-writes) 하는 추적기.
+ *
+ * <p>
+ * 쓰기 트랜잭션이 데이터베이스 연결을 얻을 때 현재 사용자를 기록하고,
+ * {@code blog.datasource.routing.stickiness} 동안은 그 사용자의 읽기 전용 트랜잭션도 기본 데이터소스로 보냅니다.
+ * 인증되지 않은 요청은 기록하지 않습니다.
+ * </p>
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickinessNanos;
+
+    // 사용자 이름 -> 기본 데이터소스를 사용해야 하는 마감 시각 (System.nanoTime 기준)
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration stickiness) {
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    /**
+     * 현재 사용자의 쓰기를 기록합니다.
+     */
+    public void recordWrite() {
+        String user = currentUser();
+        if (user != null && stickinessNanos > 0) {
+            stickyUntil.put(user, System.nanoTime() + stickinessNanos);
+        }
+    }
+
+    /**
+     * 현재 사용자가 최근에 쓰기를 했는지 확인합니다.
+     *
+     * @return 기본 데이터소스에서 읽어야 하면 {@code true}
+     */
+    public boolean isSticky() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 마감 시각이 지난 기록을 정리합니다.
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.entrySet().removeIf(entry -> now - entry.getValue() >= 0);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,60 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 복제본 상태를 확인하고, 만료된 read-your-writes 기록을 정리합니다.
+ *
+ * <p>
+ * 상태 확인은 내려간 복제본마다 커넥션 대기 시간만큼 걸릴 수 있으므로, 공용 스케줄러 스레드({@code @Scheduled})가 아닌
+ * 전용 스레드에서 실행합니다. 그래서 느린 복제본이 조회수 반영, JWK 갱신, 폐기 목록 갱신 같은 다른 예약 작업을 늦추지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration interval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-health-check").daemon().factory());
+
+    public ReplicaHealthChecker(ReplicaPool replicaPool, ReadYourWritesTracker readYourWritesTracker,
+                                Duration interval) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::checkSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public void check() {
+        replicaPool.checkHealth();
+        readYourWritesTracker.evictExpired();
+    }
+
+    // 예외가 나도 다음 주기의 확인이 취소되지 않도록 잡아서 기록
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("ReplicaHealthChecker | 복제본 상태 확인 실패", e);
+        }
+    }
+}
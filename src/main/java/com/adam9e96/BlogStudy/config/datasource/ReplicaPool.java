@@ -0,0 +1,96 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 데이터소스 목록과 각 복제본의 상태.
+ *
+ * <p>
+ * 상태가 정상인 복제본을 순서대로 돌아가며(round-robin) 선택하고,
+ * 정상인 복제본이 없으면 기본 데이터소스를 사용하도록 {@code -1}을 반환합니다.
+ * 상태는 {@link #checkHealth()}가 주기적으로 연결을 검사하여 갱신합니다.
+ * 복제본은 비정상 상태로 시작하며, 첫 상태 확인을 통과해야 읽기 요청을 받습니다.
+ * (내려간 복제본이 첫 확인 전까지 읽기 요청을 받지 않도록)
+ * </p>
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<DataSource> replicas;
+    private final AtomicBoolean[] healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicBoolean[replicas.size()];
+        for (int i = 0; i < healthy.length; i++) {
+            healthy[i] = new AtomicBoolean(false);
+        }
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 사용할 복제본을 고릅니다.
+     *
+     * @return 복제본 인덱스 (정상인 복제본이 없으면 {@code -1})
+     */
+    public int select() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (healthy[index].get()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 각 복제본에 연결하여 상태를 갱신합니다.
+     * <p>
+     * 복제본마다 최대 풀의 커넥션 대기 시간({@code replicaConnectionTimeout})과 검증 시간({@value #VALIDATION_TIMEOUT_SECONDS}초)만큼 걸립니다.
+     * </p>
+     */
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean up = isValid(replicas.get(i));
+            if (healthy[i].getAndSet(up) != up) {
+                log.warn("ReplicaPool | 복제본 {} 상태 변경: {}", i, up ? "UP" : "DOWN");
+            }
+        }
+    }
+
+    void markHealthy(int index, boolean up) {
+        healthy[index].set(up);
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스.
+ *
+ * <p>
+ * <strong>라우팅 규칙:</strong>
+ * </p>
+ * <ul>
+ *     <li>{@code @Transactional(readOnly = true)} 트랜잭션: 정상인 복제본 중 하나</li>
+ *     <li>단, 현재 사용자가 최근에 쓰기를 했거나({@link ReadYourWritesTracker}) 정상인 복제본이 없으면 기본 데이터소스</li>
+ *     <li>그 외(쓰기 트랜잭션, 트랜잭션 밖의 호출): 기본 데이터소스</li>
+ * </ul>
+ *
+ * <p>
+ * 트랜잭션 매니저는 읽기 전용 여부를 설정하기 전에 연결을 얻으므로,
+ * 반드시 {@code LazyConnectionDataSourceProxy}로 감싸서 첫 SQL 실행 시점에 라우팅되도록 해야 합니다.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaPool.getReplicas().size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicaPool.getReplicas().get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isSticky()) {
+            return PRIMARY;
+        }
+        int replica = replicaPool.select();
+        return replica < 0 ? PRIMARY : REPLICA_PREFIX + replica;
+    }
+}
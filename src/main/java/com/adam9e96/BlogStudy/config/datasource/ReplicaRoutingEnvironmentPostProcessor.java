@@ -0,0 +1,35 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * {@code blog.datasource.routing.enabled=true}일 때 Open Session In View 를 끕니다.
+ *
+ * <p>
+ * OSIV 는 요청 동안 하나의 영속성 컨텍스트를 열어 두므로, 처음 라우팅된 커넥션이 요청이 끝날 때까지 묶입니다.
+ * 그러면 한 요청 안에서 읽기 전용 조회 뒤에 쓰기 트랜잭션이 오면 쓰기가 복제본에서, 그 반대면 읽기가 기본 데이터소스에서 실행됩니다.
+ * 라우팅을 켜면 {@code spring.jpa.open-in-view}의 기본값을 {@code false}로 바꾸고,
+ * 직접 {@code true}로 설정했으면 잘못 라우팅되지 않도록 시작을 중단합니다.
+ * </p>
+ */
+public class ReplicaRoutingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("blog.datasource.routing.enabled", Boolean.class, false)) {
+            return;
+        }
+        if (environment.getProperty(OPEN_IN_VIEW, Boolean.class, false)) {
+            throw new IllegalStateException(OPEN_IN_VIEW + "=true cannot be used with blog.datasource.routing.enabled=true");
+        }
+        // 가장 낮은 우선순위로 추가하여 기본값만 바꿈
+        environment.getPropertySources().addLast(new MapPropertySource("replicaRouting", Map.of(OPEN_IN_VIEW, "false")));
+    }
+}
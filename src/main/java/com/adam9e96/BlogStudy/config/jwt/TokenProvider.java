@@ -1,6 +1,8 @@
 package com.adam9e96.BlogStudy.config.jwt;
 
+import com.adam9e96.BlogStudy.config.timing.ServerTiming;
 import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
@@ -18,6 +20,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
@@ -25,6 +28,7 @@ import java.util.Set;
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 비밀 키를 생성하는 메서드.
@@ -81,6 +85,7 @@ public class TokenProvider {
                 .issuedAt(now) // "iat" : "현재 시간"
                 .expiration(expiry) // "exp" : "expiry"
                 .subject(user.getEmail()) // "sub" : "유저의 이메일"
+                .id(UUID.randomUUID().toString()) // "jti" : "토큰 고유 ID" (폐기 목록의 키)
                 .claim("id", user.getId()) // "id" : "유저의 ID"
                 // 4. 서명 ( 비밀값을 사용하여 해시값을 생성)
                 // 비밀값과 함께 해시 값을 HS256 방식으로 암호화
@@ -92,21 +97,32 @@ public class TokenProvider {
 
     /**
      * JWT 토큰의 유효성을 검증하는 메서드
+     * <p>
+     * 서명과 만료 시각이 유효해도 폐기된 토큰({@link TokenRevocationService})이면 유효하지 않습니다.
+     * </p>
      *
      * @param token 검증할 JWT 토큰 문자열
      * @return 유요한 토큰이면 true, 그렇지 않으면 false
      */
     public boolean validToken(String token) {
+        long started = ServerTiming.start();
         try {
-            Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(getSecretKey()) // 비밀값으로 복호화
                     .build()
-                    .parseSignedClaims(token); // 토큰 파싱 및 검증
+                    .parseSignedClaims(token) // 토큰 파싱 및 검증
+                    .getPayload();
+            if (tokenRevocationService.isRevoked(claims.getId())) {
+                log.info("validToken() | 폐기된 토큰입니다.");
+                return false;
+            }
             log.info("validToken() | 토큰 유효성 검증 성공.");
             return true; // 예외가 발생하지 않으면 유효한 토큰
         } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
             log.error("validToken() | 토큰 유효성 검증 실패: {}", e.getMessage());
             return false; // 우효화 하지 않은 토큰
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.AUTH, started);
         }
     }
 
@@ -185,6 +201,24 @@ public class TokenProvider {
         return authentication;
     }
 
+    /**
+     * JWT 토큰을 폐기하는 메서드
+     * <p>
+     * 토큰의 {@code jti}를 원래 만료 시각까지 폐기 목록에 넣습니다. {@code jti}가 없는 토큰은 폐기할 수 없습니다.
+     * </p>
+     *
+     * @param token 폐기할 JWT 토큰 문자열 (유효한 토큰이어야 함)
+     * @return 폐기했으면 true
+     */
+    public boolean revoke(String token) {
+        Claims claims = getClaims(token);
+        if (claims.getId() == null) {
+            return false;
+        }
+        tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+        return true;
+    }
+
     // 토큰 기반으로 유저 ID를 가져오는 메서드
 
     /**
@@ -208,11 +242,17 @@ public class TokenProvider {
      */
     private Claims getClaims(String token) {
         log.info("getClaims() | Getting claims for token: {}", token);
-        Claims claims = Jwts.parser()
-                .verifyWith(getSecretKey()) // 비밀값으로 복호화
-                .build()
-                .parseSignedClaims(token)
-                .getPayload(); // 토큰에서 클레임 추출
+        long started = ServerTiming.start();
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(getSecretKey()) // 비밀값으로 복호화
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload(); // 토큰에서 클레임 추출
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.AUTH, started);
+        }
 //        return Jwts.parser() // 클레임 조회
 //                .verifyWith(getSecretKey()) // SecretKey 설정
 //                .build()
@@ -0,0 +1,218 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.RemoteKeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 제공자의 JWK 세트 하나를 캐시하는 {@link JWKSource}.
+ *
+ * <p>
+ * 서명 검증(로그인 요청 스레드)은 캐시만 읽으며, 제공자를 부르는 경우는 다음 셋뿐입니다.
+ * </p>
+ * <ul>
+ *   <li>처음 조회할 때</li>
+ *   <li>캐시에 없는 키 ID 를 만났을 때 (키 교체). 마지막으로 받은 지 {@code minRefreshInterval}이 지난 경우만</li>
+ *   <li>백그라운드 갱신이 실패하여 캐시가 만료된 채로 남았을 때. 다시 받지 못하면 만료된 키로 계속 검증합니다.</li>
+ * </ul>
+ * <p>
+ * 받기에 실패하면 실패한 시각을 기록하고, 만료된 세트는 {@code minRefreshInterval} 뒤로 만료를 미룹니다. (네거티브 캐싱)
+ * 따라서 제공자가 내려가 있어도 로그인마다 제공자를 부르며 응답 대기 시간만큼 줄지어 기다리지 않습니다.
+ * </p>
+ * <p>
+ * 만료가 다가온 세트는 {@link #refreshIfExpiring()}(스케줄러)가 미리 새로 받으므로, 평소에는 로그인이 JWK 세트를 기다리지 않습니다.
+ * </p>
+ */
+@Slf4j
+final class CachedJwkSource implements JWKSource<SecurityContext> {
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|[,\\s])max-age\\s*=\\s*\"?(\\d+)");
+
+    private final URI uri;
+    private final RestOperations restOperations;
+    private final JwkSetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private volatile Cached cached;
+
+    CachedJwkSource(URI uri, RestOperations restOperations, JwkSetProperties properties,
+                    MeterRegistry meterRegistry, Clock clock) {
+        this.uri = uri;
+        this.restOperations = restOperations;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        Cached current = cached;
+        Instant now = clock.instant();
+        if (current == null) {
+            current = refresh(null, "initial");
+        } else if (!now.isBefore(current.expiresAt())) {
+            current = refreshOrKeepStale(current, "expired");
+        }
+        List<JWK> matches = jwkSelector.select(current.keys());
+        if (matches.isEmpty() && !now.isBefore(current.attemptedAt().plus(properties.getMinRefreshInterval()))) {
+            current = refresh(current, "unknown-key");
+            matches = jwkSelector.select(current.keys());
+        }
+        return matches;
+    }
+
+    /**
+     * 만료가 {@code refreshAhead} 안으로 다가왔으면 새로 받습니다. 실패하면 지금 세트를 그대로 둡니다.
+     */
+    void refreshIfExpiring() {
+        Cached current = cached;
+        if (current == null || clock.instant().isBefore(current.expiresAt().minus(properties.getRefreshAhead()))) {
+            return;
+        }
+        try {
+            refresh(current, "background");
+        } catch (KeySourceException e) {
+            log.warn("JWK 세트를 미리 갱신하지 못했습니다. 만료될 때까지 지금 세트를 씁니다: {}", uri, e);
+        }
+    }
+
+    /**
+     * 지금 세트가 만료되는 시각. 아직 받지 않았으면 {@code null}.
+     */
+    Instant expiresAt() {
+        Cached current = cached;
+        return current == null ? null : current.expiresAt();
+    }
+
+    private Cached refreshOrKeepStale(Cached current, String reason) {
+        try {
+            return refresh(current, reason);
+        } catch (KeySourceException e) {
+            log.warn("JWK 세트를 갱신하지 못했습니다. 만료된 세트로 검증합니다: {}", uri, e);
+            return current;
+        }
+    }
+
+    /**
+     * 다른 스레드가 이미 새로 받았거나 받기를 시도했으면 그 결과를 쓰고, 아니면 제공자에서 받습니다.
+     * <p>
+     * 받지 못하면 지금 세트를 그대로 두되 시도한 시각을 기록하고, 이미 만료된 세트는 {@code minRefreshInterval} 뒤로 만료를 미룹니다.
+     * 처음 받기에 실패하면 {@code minRefreshInterval} 동안 빈 세트를 씁니다.
+     * </p>
+     *
+     * @param seen 호출한 쪽이 본 캐시 (처음이면 {@code null})
+     */
+    private Cached refresh(Cached seen, String reason) throws KeySourceException {
+        fetchLock.lock();
+        try {
+            if (cached != seen) {
+                return cached;
+            }
+            try {
+                Cached fetched = fetch(reason);
+                cached = fetched;
+                return fetched;
+            } catch (KeySourceException e) {
+                Instant now = clock.instant();
+                if (seen == null) {
+                    // 처음 받기에 실패해도 시도한 시각을 남겨, 제공자 장애 중에 로그인마다 다시 부르지 않도록 함
+                    cached = new Cached(new JWKSet(), now.plus(properties.getMinRefreshInterval()), now);
+                } else {
+                    Instant expiresAt = now.isBefore(seen.expiresAt())
+                            ? seen.expiresAt() : now.plus(properties.getMinRefreshInterval());
+                    cached = new Cached(seen.keys(), expiresAt, now);
+                }
+                throw e;
+            }
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private Cached fetch(String reason) throws KeySourceException {
+        try {
+            ResponseEntity<String> response = restOperations.getForEntity(uri, String.class);
+            if (response.getBody() == null) {
+                throw new ParseException("빈 응답", 0);
+            }
+            JWKSet keys = JWKSet.parse(response.getBody());
+            Instant now = clock.instant();
+            count(reason, "success");
+            return new Cached(keys, now.plus(ttl(response.getHeaders(), now)), now);
+        } catch (RestClientException | ParseException e) {
+            count(reason, "failure");
+            throw new RemoteKeySourceException("JWK 세트를 가져오지 못했습니다: " + uri, e);
+        }
+    }
+
+    /**
+     * 응답 헤더로 보관 시간을 정합니다. ({@code Cache-Control} 우선, 다음 {@code Expires})
+     */
+    Duration ttl(HttpHeaders headers, Instant now) {
+        Duration ttl = properties.getDefaultTtl();
+        String cacheControl = headers.getCacheControl() == null ? null : headers.getCacheControl().toLowerCase(Locale.ROOT);
+        Matcher maxAge = cacheControl == null ? null : MAX_AGE.matcher(cacheControl);
+        if (cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"))) {
+            ttl = Duration.ZERO;
+        } else if (maxAge != null && maxAge.find()) {
+            ttl = maxAge(maxAge.group(1)).minusSeconds(age(headers));
+        } else if (headers.getExpires() > 0) {
+            long date = headers.getDate() > 0 ? headers.getDate() : now.toEpochMilli();
+            ttl = Duration.ofMillis(headers.getExpires() - date);
+        }
+        if (ttl.compareTo(properties.getMinTtl()) < 0) {
+            return properties.getMinTtl();
+        }
+        return ttl.compareTo(properties.getMaxTtl()) > 0 ? properties.getMaxTtl() : ttl;
+    }
+
+    // long 범위를 넘는 max-age 는 상한(maxTtl)으로 취급
+    private Duration maxAge(String seconds) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(seconds));
+        } catch (NumberFormatException e) {
+            return properties.getMaxTtl();
+        }
+    }
+
+    private long age(HttpHeaders headers) {
+        String age = headers.getFirst(HttpHeaders.AGE);
+        try {
+            return age == null ? 0 : Math.max(0, Long.parseLong(age.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void count(String reason, String outcome) {
+        meterRegistry.counter("blog.oauth2.jwk-set.fetches", "reason", reason, "outcome", outcome).increment();
+    }
+
+    /**
+     * @param attemptedAt 마지막으로 제공자에서 받기를 시도한 시각 (성공 또는 실패)
+     */
+    private record Cached(JWKSet keys, Instant expiresAt, Instant attemptedAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OIDC ID 토큰 서명 검증에 쓰는 JWK 세트 캐시 설정 ({@code blog.oauth2.jwk-set.*}).
+ *
+ * <p>
+ * 캐시 보관 시간은 JWK 세트 응답의 {@code Cache-Control: max-age}(없으면 {@code Expires})를 따르되,
+ * {@link #minTtl} 과 {@link #maxTtl} 사이로 자릅니다. 두 헤더가 모두 없으면 {@link #defaultTtl} 을 씁니다.
+ * </p>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.oauth2.jwk-set")
+public class JwkSetProperties {
+
+    /**
+     * 응답에 캐시 헤더가 없을 때의 보관 시간.
+     */
+    private Duration defaultTtl = Duration.ofMinutes(5);
+
+    /**
+     * 보관 시간의 하한. {@code no-cache}나 아주 짧은 {@code max-age}여도 이 시간 동안은 다시 받지 않습니다.
+     */
+    private Duration minTtl = Duration.ofMinutes(1);
+
+    /**
+     * 보관 시간의 상한.
+     */
+    private Duration maxTtl = Duration.ofHours(24);
+
+    /**
+     * 만료되기 이 시간 전부터 백그라운드에서 새로 받습니다.
+     */
+    private Duration refreshAhead = Duration.ofMinutes(1);
+
+    /**
+     * 만료가 다가온 JWK 세트를 찾는 주기.
+     */
+    private Duration refreshCheckInterval = Duration.ofSeconds(30);
+
+    /**
+     * 캐시에 없는 키 ID(kid)를 만났을 때 다시 받는 최소 간격.
+     * 제공자의 키 교체는 바로 반영하면서, 임의의 kid 를 가진 토큰으로 제공자를 반복 호출하게 만들지 못하게 합니다.
+     */
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,167 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OAuth2 제공자 호출의 동시 실행 수를 제한하고(벌크헤드) 호출마다 걸린 시간을 기록하는 인터셉터.
+ *
+ * <p>
+ * 자리는 응답을 닫을 때(본문을 다 읽은 뒤) 돌려주므로, 느린 본문을 읽는 호출도 동시 실행 수에 포함됩니다.
+ * 자리를 얻지 못하면 {@link IOException}을 던지며, {@code RestTemplate}/{@code RestClient}는 이를
+ * {@code ResourceAccessException}으로 감싸고 스프링 시큐리티는 로그인 실패({@code OAuth2AuthenticationException})로 처리합니다.
+ * </p>
+ * <p>
+ * 걸린 시간은 {@code blog.oauth2.http.client} 타이머에 {@code host}, {@code outcome} 태그로 기록합니다.
+ * {@code outcome}은 {@code SUCCESS}, {@code CLIENT_ERROR}, {@code SERVER_ERROR}, {@code TIMEOUT},
+ * {@code IO_ERROR}, {@code REJECTED} 중 하나입니다.
+ * </p>
+ */
+public class OAuth2BulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC = "blog.oauth2.http.client";
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long waitNanos;
+    private final MeterRegistry meterRegistry;
+
+    public OAuth2BulkheadInterceptor(int maxConcurrentCalls, Duration wait, MeterRegistry meterRegistry) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("maxConcurrentCalls 는 1 이상이어야 합니다: " + maxConcurrentCalls);
+        }
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.waitNanos = wait.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = String.valueOf(request.getURI().getHost());
+        long started = System.nanoTime();
+        if (!acquire()) {
+            record(host, "REJECTED", started);
+            throw new IOException("OAuth2 제공자 동시 호출 한도(" + maxConcurrentCalls + ")를 넘었습니다: " + host);
+        }
+        ClientHttpResponse response = null;
+        String outcome = "IO_ERROR";
+        boolean handedOver = false;
+        try {
+            response = execution.execute(request, body);
+            HttpStatusCode status = response.getStatusCode();
+            outcome = status.is2xxSuccessful() || status.is3xxRedirection() ? "SUCCESS"
+                    : status.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+            ReleasingResponse releasing = new ReleasingResponse(response, host, outcome, started);
+            handedOver = true;
+            return releasing;
+        } catch (InterruptedIOException e) {
+            // 연결/응답 대기 시간 초과 (SocketTimeoutException, ConnectTimeoutException 등)
+            outcome = "TIMEOUT";
+            throw e;
+        } finally {
+            // 응답을 넘겨주지 못했으면(상태 코드를 읽다 실패한 경우 포함) 여기서 닫고 자리를 돌려줌
+            if (!handedOver) {
+                try {
+                    if (response != null) {
+                        response.close();
+                    }
+                } finally {
+                    permits.release();
+                    record(host, outcome, started);
+                }
+            }
+        }
+    }
+
+    /**
+     * 지금 사용 중인 자리 수.
+     */
+    public int inFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    private boolean acquire() throws InterruptedIOException {
+        try {
+            return permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("OAuth2 제공자 호출 대기 중 인터럽트됨");
+        }
+    }
+
+    private void record(String host, String outcome, long started) {
+        Timer.builder(METRIC)
+                .description("OAuth2 제공자 호출 시간")
+                .tag("host", host)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 닫힐 때 한 번만 자리를 돌려주고 시간을 기록하는 응답.
+     */
+    private final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String host;
+        private final String outcome;
+        private final long started;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, String host, String outcome, long started) {
+            this.delegate = delegate;
+            this.host = host;
+            this.outcome = outcome;
+            this.started = started;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    permits.release();
+                    record(host, outcome, started);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * OAuth2 제공자 호출 전용 HTTP 클라이언트.
+ *
+ * <p>
+ * 스프링 시큐리티가 기본으로 쓰는 {@code RestTemplate}은 요청마다 {@code HttpURLConnection}을 열고
+ * 연결/응답 대기 시간에 상한이 없어, 제공자가 느려지면 로그인 요청 스레드가 한없이 묶입니다.
+ * 이 클래스는 keep-alive 커넥션 풀을 가진 Apache HttpClient 5 위에 다음을 구성합니다.
+ * </p>
+ * <ul>
+ *   <li>연결 대기, 연결, 응답 대기 시간 상한 (자동 재시도 없음)</li>
+ *   <li>동시 호출 수 제한과 호출별 시간 기록 ({@link OAuth2BulkheadInterceptor})</li>
+ *   <li>커넥션 풀 상태 지표 {@code blog.oauth2.http.pool{state=leased|available|pending}}</li>
+ * </ul>
+ * <p>
+ * 사용자 정보 엔드포인트({@link OAuth2UserCustomService}), 토큰 엔드포인트, JWK 세트 조회({@link OidcIdTokenDecoders})가
+ * 같은 풀과 벌크헤드를 함께 씁니다.
+ * </p>
+ */
+public class OAuth2HttpClient implements DisposableBean {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final HttpComponentsClientHttpRequestFactory requestFactory;
+    private final OAuth2BulkheadInterceptor bulkhead;
+
+    public OAuth2HttpClient(OAuth2HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getConnectionTimeToLive()))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                // 재시도하면 로그인 한 번의 대기 시간이 설정한 상한의 배가 되므로 재시도하지 않음
+                .disableAutomaticRetries()
+                .build();
+        this.requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        this.bulkhead = new OAuth2BulkheadInterceptor(
+                properties.getMaxConcurrentCalls(), properties.getBulkheadWait(), meterRegistry);
+
+        Gauge.builder("blog.oauth2.http.pool", connectionManager, manager -> manager.getTotalStats().getLeased())
+                .tag("state", "leased").register(meterRegistry);
+        Gauge.builder("blog.oauth2.http.pool", connectionManager, manager -> manager.getTotalStats().getAvailable())
+                .tag("state", "available").register(meterRegistry);
+        Gauge.builder("blog.oauth2.http.pool", connectionManager, manager -> manager.getTotalStats().getPending())
+                .tag("state", "pending").register(meterRegistry);
+    }
+
+    /**
+     * 풀과 벌크헤드를 거치는 일반 {@link RestTemplate}. (JWK 세트 조회 등)
+     */
+    public RestTemplate restTemplate() {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(List.of(bulkhead));
+        return restTemplate;
+    }
+
+    /**
+     * 사용자 정보 엔드포인트 호출용 {@link RestTemplate}.
+     * {@code DefaultOAuth2UserService.setRestOperations} 가 요구하는 대로 {@link OAuth2ErrorResponseErrorHandler}를 씁니다.
+     */
+    public RestTemplate userInfoRestTemplate() {
+        RestTemplate restTemplate = restTemplate();
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+
+    /**
+     * 인가 코드를 액세스 토큰으로 바꾸는 토큰 엔드포인트 호출용 클라이언트.
+     */
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient() {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .requestInterceptor(bulkhead)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+        RestClientAuthorizationCodeTokenResponseClient client = new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(restClient);
+        return client;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+}
@@ -0,0 +1,30 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * OAuth2 제공자 호출용 HTTP 클라이언트 설정.
+ *
+ * <p>
+ * 호출 시간은 {@code blog.oauth2.http.client}, 커넥션 풀 상태는 {@code blog.oauth2.http.pool}로 노출합니다.
+ * OIDC ID 토큰 검증에 쓰는 JWK 세트도 같은 클라이언트로 받습니다.
+ * </p>
+ */
+@Configuration
+public class OAuth2HttpClientConfig {
+
+    @Bean
+    public OAuth2HttpClient oAuth2HttpClient(OAuth2HttpClientProperties properties, MeterRegistry meterRegistry) {
+        return new OAuth2HttpClient(properties, meterRegistry);
+    }
+
+    @Bean
+    public OidcIdTokenDecoders oidcIdTokenDecoders(OAuth2HttpClient oAuth2HttpClient, JwkSetProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new OidcIdTokenDecoders(oAuth2HttpClient.restTemplate(), properties, meterRegistry, Clock.systemUTC());
+    }
+}
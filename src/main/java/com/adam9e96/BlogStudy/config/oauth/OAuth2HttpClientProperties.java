@@ -0,0 +1,69 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 제공자(토큰 엔드포인트, 사용자 정보 엔드포인트) 호출에 쓰는 HTTP 클라이언트 설정 ({@code blog.oauth2.http-client.*}).
+ *
+ * <p>
+ * 로그인 요청 스레드는 제공자 응답을 기다리는 동안 묶여 있으므로, 모든 대기 시간에 상한을 둡니다.
+ * 연결 대기, 연결, 응답 대기 시간을 모두 합해도 로그인 한 번이 {@code bulkheadWait + connectionRequestTimeout
+ * + connectTimeout + readTimeout} 을 넘지 않습니다. (자동 재시도는 하지 않음)
+ * </p>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.oauth2.http-client")
+public class OAuth2HttpClientProperties {
+
+    /**
+     * 커넥션 풀의 전체 최대 연결 수.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * 호스트(라우트)별 최대 연결 수.
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * TCP 연결(TLS 핸드셰이크 포함)을 맺을 때까지 기다리는 시간.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 요청을 보낸 뒤 응답(과 응답 본문의 다음 바이트)을 기다리는 시간.
+     */
+    private Duration readTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 풀에서 빈 연결을 얻을 때까지 기다리는 시간.
+     */
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+    /**
+     * 이 시간 동안 쓰이지 않은 keep-alive 연결은 풀에서 닫습니다.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 연결의 최대 수명. 제공자 쪽 부하 분산이 바뀌어도 오래된 연결에 머물지 않도록 합니다.
+     */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * 제공자를 동시에 호출할 수 있는 최대 수(벌크헤드). 넘는 호출은 {@link #bulkheadWait} 동안만 기다립니다.
+     */
+    private int maxConcurrentCalls = 32;
+
+    /**
+     * 벌크헤드가 가득 찼을 때 자리가 나기를 기다리는 시간. 0 이면 기다리지 않고 바로 거절합니다.
+     */
+    private Duration bulkheadWait = Duration.ofMillis(200);
+}
@@ -5,12 +5,16 @@ import com.adam9e96.BlogStudy.domain.RefreshToken;
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
 import com.adam9e96.BlogStudy.service.UserService;
+import com.adam9e96.BlogStudy.service.audit.LoginAuditEvent;
+import com.adam9e96.BlogStudy.service.audit.LoginAuditLog;
 import com.adam9e96.BlogStudy.util.CookieUtil;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -18,6 +22,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * {@code OAuth2SuccessHandler}는 OAuth2 인증이 성공했을 때 호출되는 핸들러로,
@@ -70,6 +75,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     private final RefreshTokenRepository refreshTokenRepository;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository authorizationRequestRepository;
     private final UserService userService;
+    private final LoginAuditLog loginAuditLog;
 
     /**
      * OAuth2 인증이 성공했을 때 호출되는 메서드입니다.
@@ -80,6 +86,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
      * <ol>
      *   <li>인증된 {@link OAuth2User}의 정보를 로깅합니다.</li>
      *   <li>사용자의 이메일을 기반으로 {@link User} 엔티티를 조회합니다.</li>
+     *   <li>로그인 기록 이벤트를 {@link LoginAuditLog}에 넣습니다. (저장은 백그라운드에서 배치로 처리)</li>
      *   <li>리프레시 토큰을 생성하고 데이터베이스에 저장한 후, 쿠키에 추가합니다.</li>
      *   <li>액세스 토큰을 생성하여 리다이렉트 URL에 포함시킵니다.</li>
      *   <li>인증 관련 속성을 정리하고, 불필요한 쿠키를 제거합니다.</li>
@@ -91,6 +98,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
      * @param authentication 인증된 사용자 정보
      * @throws IOException 입출력 예외가 발생한 경우
      */
+    @Timed(value = "blog.oauth2.login.success", description = "OAuth2 로그인 성공 후 토큰 발급 시간", histogram = true)
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
@@ -104,22 +112,26 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         User user = userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
         log.info("조회된 사용자: {}", user);
 
-        // 3. 리프레시 토큰 생성
+        // 3. 로그인 기록 (대기열에 넣기만 하므로 로그인 지연에 영향 없음)
+        loginAuditLog.publish(new LoginAuditEvent(LoginAuditEvent.Type.LOGIN, user.getId(), user.getEmail(),
+                provider(authentication), request.getRemoteAddr(), Instant.now()));
+
+        // 4. 리프레시 토큰 생성
         String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION);
 
-        // 4. 리프레시 토큰 DB 저장
+        // 5. 리프레시 토큰 DB 저장
         saveRefreshToken(user.getId(), refreshToken);
 
-        // 5. 리프레시 토큰을 쿠키에 저장
+        // 6. 리프레시 토큰을 쿠키에 저장
         addRefreshTokenToCookie(request, response, refreshToken);
 
-        // 6. 액세스 토큰 생성
+        // 7. 액세스 토큰 생성
         String accessToken = tokenProvider.generateToken(user, ACCESS_TOKEN_DURATION);
 
-        // 7. 인증 관련 설정값, 쿠키 제거
+        // 8. 인증 관련 설정값, 쿠키 제거
         clearAuthenticationAttributes(request, response);
 
-        // 8. 액세스 토큰을 포함한 URL 로 리다이렉트
+        // 9. 액세스 토큰을 포함한 URL 로 리다이렉트
         String targetUrl = getTargetUrl(accessToken);
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
@@ -203,4 +215,12 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         return uriString;
     }
 
+    /**
+     * 로그인에 사용한 OAuth2 등록 ID(예: {@code google})를 반환합니다.
+     */
+    private String provider(Authentication authentication) {
+        return authentication instanceof OAuth2AuthenticationToken oAuth2Token
+                ? oAuth2Token.getAuthorizedClientRegistrationId() : null;
+    }
+
 }
@@ -2,7 +2,6 @@ package com.adam9e96.BlogStudy.config.oauth;
 
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -42,18 +41,26 @@ import java.util.Map;
  * 높여줍니다.
  * </p>
  *
+ * <p>
+ * 사용자 정보 엔드포인트는 {@link OAuth2HttpClient}의 커넥션 풀, 대기 시간 상한, 벌크헤드를 거쳐 호출합니다.
+ * </p>
+ *
  * @see DefaultOAuth2UserService
  * @see OAuth2User
  * @see OAuth2UserRequest
  * @see OAuth2AuthenticationException
  */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class OAuth2UserCustomService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
 
+    public OAuth2UserCustomService(UserRepository userRepository, OAuth2HttpClient oAuth2HttpClient) {
+        this.userRepository = userRepository;
+        setRestOperations(oAuth2HttpClient.userInfoRestTemplate());
+    }
+
     /**
      * 제공된 {@link OAuth2UserRequest}를 기반으로 OAuth2 사용자를 로드합니다.
      *
@@ -108,7 +115,7 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
      * @param oAuth2User OAuth2 제공자로부터 가져온 사용자 속성을 포함하는 {@link OAuth2User} 객체
      * @return 저장되거나 업데이트된 {@link User} 엔티티
      */
-    private User saveOrUpdate(OAuth2User oAuth2User) {
+    User saveOrUpdate(OAuth2User oAuth2User) {
         // OAuth2User로부터 사용자 속성 추출
         Map<String, Object> attributes = oAuth2User.getAttributes();
         log.info("OAuth2UserCustomService.saveOrUpdate 메소드 찾은값 attributes : {}", attributes.toString());
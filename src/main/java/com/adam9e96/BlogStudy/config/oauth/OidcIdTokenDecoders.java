@@ -0,0 +1,92 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenDecoderFactory;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenValidator;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestOperations;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OIDC 로그인에서 ID 토큰을 검증하는 {@link JwtDecoder}를 만드는 팩토리.
+ *
+ * <p>
+ * 스프링 시큐리티는 이 타입의 빈이 있으면 기본 {@link OidcIdTokenDecoderFactory} 대신 사용합니다.
+ * 검증 규칙(서명 RS256, {@code iss}/{@code aud}/{@code exp}/{@code iat}, 클레임 타입 변환)은 기본 팩토리와 같고,
+ * 서명 키만 {@link CachedJwkSource}(캐시 헤더를 따르고 백그라운드에서 갱신)에서 읽습니다.
+ * JWK 세트 조회 횟수는 {@code blog.oauth2.jwk-set.fetches{reason,outcome}}로 노출합니다.
+ * </p>
+ */
+public class OidcIdTokenDecoders implements JwtDecoderFactory<ClientRegistration> {
+
+    private final Map<String, CachedJwkSource> jwkSources = new ConcurrentHashMap<>();
+    private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+    private final RestOperations restOperations;
+    private final JwkSetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public OidcIdTokenDecoders(RestOperations restOperations, JwkSetProperties properties,
+                               MeterRegistry meterRegistry, Clock clock) {
+        this.restOperations = restOperations;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public JwtDecoder createDecoder(ClientRegistration clientRegistration) {
+        String jwkSetUri = clientRegistration.getProviderDetails().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("missing_signature_verifier",
+                    "ID 토큰을 검증할 JWK Set URI 가 없습니다: " + clientRegistration.getRegistrationId(), null));
+        }
+        return decoders.computeIfAbsent(clientRegistration.getRegistrationId(),
+                registrationId -> build(clientRegistration, jwkSetUri));
+    }
+
+    /**
+     * 만료가 다가온 JWK 세트를 새로 받습니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.oauth2.jwk-set.refresh-check-interval:30s}",
+            initialDelayString = "${blog.oauth2.jwk-set.refresh-check-interval:30s}")
+    public void refreshExpiring() {
+        jwkSources.values().forEach(CachedJwkSource::refreshIfExpiring);
+    }
+
+    private JwtDecoder build(ClientRegistration clientRegistration, String jwkSetUri) {
+        // 같은 제공자의 여러 등록(registration)이 JWK 세트 캐시 하나를 함께 씀
+        CachedJwkSource jwkSource = jwkSources.computeIfAbsent(jwkSetUri,
+                uri -> new CachedJwkSource(URI.create(uri), restOperations, properties, meterRegistry, clock));
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // 클레임 검증은 아래 스프링 시큐리티 검증기가 담당
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(), new OidcIdTokenValidator(clientRegistration)));
+        decoder.setClaimSetConverter(new ClaimTypeConverter(OidcIdTokenDecoderFactory.createDefaultClaimTypeConverters()));
+        return decoder;
+    }
+}
@@ -0,0 +1,86 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * OIDC 로그인({@code openid} 스코프)에서 사용자 정보 엔드포인트를 부르지 않고 ID 토큰의 클레임으로 사용자를 만드는 서비스.
+ *
+ * <p>
+ * ID 토큰은 이 서비스가 호출되기 전에 {@link OidcIdTokenDecoders}가 서명과 클레임을 로컬에서 검증합니다.
+ * {@code email}, {@code name}은 {@code email}, {@code profile} 스코프를 함께 요청하면 ID 토큰에 들어 있으므로,
+ * 기본 {@link OidcUserService}처럼 사용자 정보 엔드포인트를 한 번 더 부를 필요가 없습니다.
+ * 두 클레임 중 하나라도 없으면 기본 {@link OidcUserService}로 사용자 정보 엔드포인트를 호출합니다.
+ * </p>
+ * <p>
+ * 사용자 저장은 {@link OAuth2UserCustomService}와 같은 로직을 씁니다.
+ * 어느 경로로 사용자를 만들었는지는 {@code blog.oauth2.oidc.user{source=id-token|user-info}}로 셉니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class OidcUserCustomService implements OAuth2UserService<OidcUserRequest, OidcUser> {
+
+    private final OAuth2UserCustomService oAuth2UserCustomService;
+    private final OidcUserService userInfoService;
+    private final MeterRegistry meterRegistry;
+
+    public OidcUserCustomService(OAuth2UserCustomService oAuth2UserCustomService, OAuth2HttpClient oAuth2HttpClient,
+                                 MeterRegistry meterRegistry) {
+        this.oAuth2UserCustomService = oAuth2UserCustomService;
+        this.meterRegistry = meterRegistry;
+        DefaultOAuth2UserService delegate = new DefaultOAuth2UserService();
+        delegate.setRestOperations(oAuth2HttpClient.userInfoRestTemplate());
+        this.userInfoService = new OidcUserService();
+        this.userInfoService.setOauth2UserService(delegate);
+    }
+
+    @Override
+    public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
+        OidcIdToken idToken = userRequest.getIdToken();
+        OidcUser user;
+        if (StringUtils.hasText(idToken.getEmail()) && StringUtils.hasText(idToken.getFullName())) {
+            user = fromIdToken(userRequest);
+            meterRegistry.counter("blog.oauth2.oidc.user", "source", "id-token").increment();
+        } else {
+            user = userInfoService.loadUser(userRequest);
+            meterRegistry.counter("blog.oauth2.oidc.user", "source", "user-info").increment();
+        }
+        oAuth2UserCustomService.saveOrUpdate(user);
+        return user;
+    }
+
+    /**
+     * 기본 {@link OidcUserService}가 사용자 정보 응답 없이 만드는 사용자와 같은 권한과 이름 속성으로 사용자를 만듭니다.
+     */
+    private OidcUser fromIdToken(OidcUserRequest userRequest) {
+        OidcIdToken idToken = userRequest.getIdToken();
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        authorities.add(new OidcUserAuthority(idToken));
+        for (String scope : userRequest.getAccessToken().getScopes()) {
+            authorities.add(new SimpleGrantedAuthority("SCOPE_" + scope));
+        }
+        String userNameAttributeName = userRequest.getClientRegistration().getProviderDetails()
+                .getUserInfoEndpoint().getUserNameAttributeName();
+        if (StringUtils.hasText(userNameAttributeName)) {
+            return new DefaultOidcUser(authorities, idToken, userNameAttributeName);
+        }
+        return new DefaultOidcUser(authorities, idToken);
+    }
+}
@@ -0,0 +1,115 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm)로 구현한 락 없는 토큰 버킷 속도 제한기.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 버킷마다 토큰 수와 마지막 충전 시각 대신 "이론상 다음 도착 시각"(TAT) 하나만 {@link AtomicLong}에 보관합니다.
+ * 요청 간격이 {@code T}(주기 / 요청 수), 버스트가 {@code B}이면, 요청은 {@code max(TAT, now) + T - B*T <= now}일 때 허용되고
+ * TAT 를 {@code max(TAT, now) + T}로 CAS 합니다. 토큰 {@code B}개짜리 버킷에 {@code T}마다 토큰 하나를 채우는 것과 같습니다.
+ * 잠금이 없으므로 요청 스레드(가상 스레드 포함)가 서로 기다리지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>메모리 상한:</strong>
+ * TAT 가 현재 시각 이전인 버킷은 가득 찬 버킷과 같아서, 지워도 다음 요청의 결과가 달라지지 않습니다.
+ * 이런 버킷은 {@code blog.rate-limit.eviction-interval}마다 지웁니다.
+ * 버킷 수가 {@code maxBuckets}에 이르면 새 키는 호출자가 넘긴 공용 키의 버킷을 함께 씁니다.
+ * (IP 를 바꿔 가며 보내는 요청이 메모리를 늘리지 못하고, 공용 버킷의 제한을 함께 받음)
+ * </p>
+ */
+public class GcraRateLimiter {
+
+    private final Map<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final LongSupplier nanoTime;
+
+    public GcraRateLimiter(int maxBuckets) {
+        this(maxBuckets, System::nanoTime);
+    }
+
+    GcraRateLimiter(int maxBuckets, LongSupplier nanoTime) {
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("maxBuckets 는 0보다 커야 합니다: " + maxBuckets);
+        }
+        this.maxBuckets = maxBuckets;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정합니다.
+     *
+     * @param key               버킷 키
+     * @param overflowKey       버킷 수가 상한에 이르렀을 때 대신 쓸 공용 버킷 키
+     * @param intervalNanos     요청 간격 (주기 / 요청 수)
+     * @param burst             한꺼번에 허용하는 최대 요청 수
+     * @return 허용하면 {@code 0}, 거절하면 다음 요청이 허용될 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(Object key, Object overflowKey, long intervalNanos, int burst) {
+        AtomicLong bucket = bucket(key, overflowKey);
+        long now = nanoTime.getAsLong();
+        long tolerance = intervalNanos * burst;
+        while (true) {
+            long tat = bucket.get();
+            long next = (tat - now > 0 ? tat : now) + intervalNanos;
+            long wait = next - tolerance - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucket(Object key, Object overflowKey) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        // 상한을 조금 넘을 수는 있지만(동시에 만들어지는 버킷 수만큼) 공용 버킷으로 바뀐 뒤에는 더 늘지 않음
+        Object target = buckets.size() < maxBuckets ? key : overflowKey;
+        return buckets.computeIfAbsent(target, k -> new AtomicLong(nanoTime.getAsLong()));
+    }
+
+    /**
+     * 가득 찬 버킷을 지웁니다.
+     * <p>
+     * 지우는 중에 같은 버킷에 요청이 들어오면 그 요청 하나의 기록이 사라질 수 있으나, 다음 요청부터는 새 버킷으로 제한됩니다.
+     * </p>
+     *
+     * @return 지운 버킷 수
+     */
+    @Scheduled(fixedDelayString = "${blog.rate-limit.eviction-interval:1m}",
+            initialDelayString = "${blog.rate-limit.eviction-interval:1m}")
+    public int evictIdle() {
+        long now = nanoTime.getAsLong();
+        AtomicInteger evicted = new AtomicInteger();
+        buckets.values().removeIf(tat -> {
+            boolean idle = tat.get() - now <= 0;
+            if (idle) {
+                evicted.incrementAndGet();
+            }
+            return idle;
+        });
+        return evicted.get();
+    }
+
+    /**
+     * 현재 버킷 수를 반환합니다.
+     *
+     * @return 버킷 수
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 속도 제한 설정.
+ *
+ * <p>
+ * 필터는 워밍업 표시 필터, {@code Server-Timing} 필터, 스프링 시큐리티 필터 체인보다 먼저 실행되도록 등록합니다.
+ * 거절한 요청 수는 {@code blog.rate-limit.rejected}, 버킷 수는 {@code blog.rate-limit.buckets}로 노출합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public GcraRateLimiter gcraRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        GcraRateLimiter limiter = new GcraRateLimiter(properties.getMaxBuckets());
+        Gauge.builder("blog.rate-limit.buckets", limiter, GcraRateLimiter::size)
+                .description("속도 제한 버킷 수")
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(GcraRateLimiter gcraRateLimiter,
+                                                                   RateLimitProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(gcraRateLimiter, properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,163 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 경로별로 클라이언트 IP 와 토큰마다 요청 속도를 제한하는 필터.
+ *
+ * <p>
+ * 스프링 시큐리티 필터 체인보다 먼저 실행되므로, 제한을 넘은 요청은 토큰 검증이나 데이터베이스 작업 없이
+ * {@code 429 Too Many Requests}와 {@code Retry-After}(초) 헤더로 거절됩니다.
+ * </p>
+ *
+ * <p>
+ * <strong>키:</strong>
+ * </p>
+ * <ul>
+ *     <li>IP: {@link HttpServletRequest#getRemoteAddr()}. 프록시 뒤에서는 {@code server.forward-headers-strategy}로
+ *     신뢰할 수 있는 프록시가 넘긴 주소를 쓰도록 설정해야 합니다. ({@code X-Forwarded-For}를 직접 읽으면 위조할 수 있음)</li>
+ *     <li>토큰: {@code Authorization: Bearer} 헤더의 토큰 문자열 그대로. 토큰을 파싱하지 않으며,
+ *     서명을 확인하지 않은 클레임(사용자 이메일 등)을 키로 쓰면 다른 사용자의 버킷을 비울 수 있으므로 쓰지 않습니다.</li>
+ * </ul>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER = "Retry-After";
+
+    private static final String BEARER = "Bearer ";
+
+    private final GcraRateLimiter limiter;
+    private final List<CompiledRoute> routes;
+
+    public RateLimitFilter(GcraRateLimiter limiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.routes = new ArrayList<>();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routes.add(compile(routes.size(), route, meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRoute route = match(request);
+        if (route != null) {
+            long waitNanos = acquire(route, request);
+            if (waitNanos > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(RETRY_AFTER, String.valueOf(
+                        Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+                response.setContentLength(0);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRoute match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (CompiledRoute route : routes) {
+            if (!route.methods().isEmpty() && !route.methods().contains(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            for (PathPattern pattern : route.patterns()) {
+                if (pattern.matches(path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private long acquire(CompiledRoute route, HttpServletRequest request) {
+        if (route.perIp() != null) {
+            long waitNanos = route.perIp().acquire(limiter, request.getRemoteAddr());
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (route.perPrincipal() != null && authorization != null && authorization.startsWith(BEARER)) {
+            return route.perPrincipal().acquire(limiter, authorization.substring(BEARER.length()));
+        }
+        return 0;
+    }
+
+    private static CompiledRoute compile(int index, RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+        if (route.getPatterns().isEmpty()) {
+            throw new IllegalArgumentException("속도 제한 경로에 패턴이 없습니다: " + route.getName());
+        }
+        Set<String> methods = route.getMethods().stream()
+                .map(method -> method.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        List<PathPattern> patterns = route.getPatterns().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        return new CompiledRoute(methods, patterns,
+                compile(index, "ip", route.getName(), route.getPerIp(), meterRegistry),
+                compile(index, "principal", route.getName(), route.getPerPrincipal(), meterRegistry));
+    }
+
+    private static CompiledLimit compile(int index, String keyType, String name, RateLimitProperties.Limit limit,
+                                         MeterRegistry meterRegistry) {
+        if (limit == null) {
+            return null;
+        }
+        if (limit.getRequests() <= 0 || limit.getPeriod().isNegative() || limit.getPeriod().isZero()) {
+            throw new IllegalArgumentException("속도 제한의 요청 수와 주기는 0보다 커야 합니다: " + name);
+        }
+        Counter rejected = Counter.builder("blog.rate-limit.rejected")
+                .description("속도 제한으로 거절한 요청 수")
+                .tag("route", name)
+                .tag("key", keyType)
+                .register(meterRegistry);
+        return new CompiledLimit(index, keyType, limit.getPeriod().toNanos() / limit.getRequests(),
+                limit.getBurst() > 0 ? limit.getBurst() : limit.getRequests(), rejected,
+                new BucketKey(index, keyType, null));
+    }
+
+    private record CompiledRoute(Set<String> methods, List<PathPattern> patterns,
+                                 CompiledLimit perIp, CompiledLimit perPrincipal) {
+    }
+
+    private record CompiledLimit(int route, String keyType, long intervalNanos, int burst, Counter rejected,
+                                 BucketKey overflowKey) {
+
+        long acquire(GcraRateLimiter limiter, String identity) {
+            long waitNanos = limiter.tryAcquire(new BucketKey(route, keyType, identity), overflowKey,
+                    intervalNanos, burst);
+            if (waitNanos > 0) {
+                rejected.increment();
+            }
+            return waitNanos;
+        }
+    }
+
+    /**
+     * 경로, 키 종류, 클라이언트(IP 또는 토큰)별 버킷 키. 클라이언트가 {@code null}이면 공용 버킷입니다.
+     */
+    private record BucketKey(int route, String keyType, String identity) {
+    }
+}
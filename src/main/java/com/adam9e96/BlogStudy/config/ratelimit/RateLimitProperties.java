@@ -0,0 +1,125 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 ({@code blog.rate-limit.*}).
+ *
+ * <p>
+ * 경로는 위에서부터 차례로 비교하여 처음 일치하는 경로의 제한만 적용합니다.
+ * 경로 목록을 설정하면 기본 경로 목록을 대신합니다.
+ * </p>
+ * <pre>
+ * blog.rate-limit.routes[0].name=token
+ * blog.rate-limit.routes[0].methods=POST
+ * blog.rate-limit.routes[0].patterns=/api/token
+ * blog.rate-limit.routes[0].per-ip.requests=20
+ * blog.rate-limit.routes[0].per-ip.burst=10
+ * </pre>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 속도 제한 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 추적할 버킷의 최대 수. 넘으면 새 클라이언트는 경로별 공용 버킷을 함께 씁니다.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * 가득 찬(한동안 요청이 없던) 버킷을 지우는 주기.
+     */
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    /**
+     * 제한할 경로 목록.
+     */
+    private List<Route> routes = new ArrayList<>(List.of(
+            route("token", List.of("POST"), List.of("/api/token"), limit(20, 10), null),
+            route("comment-write", List.of("POST", "DELETE"), List.of("/api/articles/*/comments", "/api/comments/**"),
+                    limit(120, 30), limit(30, 10)),
+            route("article-write", List.of("POST", "PUT", "DELETE"), List.of("/api/articles/**"),
+                    limit(120, 30), limit(30, 10))));
+
+    @Setter
+    @Getter
+    public static class Route {
+
+        /**
+         * 경로 이름. ({@code blog.rate-limit.rejected} 지표의 {@code route} 태그)
+         */
+        private String name;
+
+        /**
+         * 제한할 HTTP 메서드. 비어 있으면 모든 메서드를 제한합니다.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 경로 패턴 ({@code PathPattern} 문법).
+         */
+        private List<String> patterns = new ArrayList<>();
+
+        /**
+         * 클라이언트 IP 별 제한. 없으면 IP 로 제한하지 않습니다.
+         */
+        private Limit perIp;
+
+        /**
+         * {@code Authorization} 헤더의 토큰별 제한. 없으면 토큰으로 제한하지 않습니다.
+         */
+        private Limit perPrincipal;
+    }
+
+    @Setter
+    @Getter
+    public static class Limit {
+
+        /**
+         * {@code period} 동안 허용하는 요청 수.
+         */
+        private int requests;
+
+        /**
+         * 요청 수를 세는 주기.
+         */
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * 한꺼번에 허용하는 최대 요청 수. {@code 0}이면 {@code requests}와 같습니다.
+         */
+        private int burst;
+    }
+
+    private static Route route(String name, List<String> methods, List<String> patterns, Limit perIp,
+                               Limit perPrincipal) {
+        Route route = new Route();
+        route.setName(name);
+        route.setMethods(new ArrayList<>(methods));
+        route.setPatterns(new ArrayList<>(patterns));
+        route.setPerIp(perIp);
+        route.setPerPrincipal(perPrincipal);
+        return route;
+    }
+
+    private static Limit limit(int requestsPerMinute, int burst) {
+        Limit limit = new Limit();
+        limit.setRequests(requestsPerMinute);
+        limit.setBurst(burst);
+        return limit;
+    }
+}
@@ -0,0 +1,21 @@
+package com.adam9e96.BlogStudy.config.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 단계 기록 설정 ({@code blog.startup.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.startup")
+public class StartupProperties {
+
+    /**
+     * 시작이 끝난 뒤 로그로 남길 가장 느린 빈의 수. 0 이면 기록하지 않습니다.
+     */
+    private int slowestBeans = 10;
+}
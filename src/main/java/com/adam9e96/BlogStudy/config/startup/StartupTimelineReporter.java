@@ -0,0 +1,104 @@
+package com.adam9e96.BlogStudy.config.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 시작이 끝나면 생성에 가장 오래 걸린 빈을 로그로 남기는 컴포넌트.
+ *
+ * <p>
+ * {@link BufferingApplicationStartup}이 기록한 {@code spring.beans.instantiate} 단계를 분석합니다.
+ * 빈 생성 시간에는 그 빈이 의존하는 빈의 생성 시간도 포함되므로,
+ * 하위 단계의 시간을 뺀 자체 시간(self)을 기준으로 정렬하고 전체 시간(total)을 함께 보여줍니다.
+ * </p>
+ *
+ * <p>
+ * 애플리케이션을 {@link BufferingApplicationStartup} 없이 시작하면(테스트 등) 아무것도 하지 않습니다.
+ * 보고한 뒤에는 버퍼에 쌓인 기록을 비웁니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StartupTimelineReporter {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final StartupProperties properties;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        // 기록을 꺼내 버퍼를 비움 (보고한 뒤에는 프로세스가 끝날 때까지 기록을 들고 있을 필요가 없음)
+        StartupTimeline timeline = buffering.drainBufferedTimeline();
+        if (properties.getSlowestBeans() <= 0) {
+            return;
+        }
+        log.info("StartupTimelineReporter | 시작 완료까지 {}ms, 기록된 단계 {}개",
+                event.getTimeTaken().toMillis(), timeline.getEvents().size());
+        for (BeanTiming timing : slowestBeans(timeline, properties.getSlowestBeans())) {
+            log.info("StartupTimelineReporter | {}ms (total {}ms) {}",
+                    timing.self().toMillis(), timing.total().toMillis(), timing.beanName());
+        }
+    }
+
+    /**
+     * 자체 생성 시간이 긴 순서로 빈을 반환합니다.
+     *
+     * @param timeline 시작 단계 기록
+     * @param limit    반환할 최대 빈 수
+     * @return 빈 이름과 자체/전체 생성 시간
+     */
+    static List<BeanTiming> slowestBeans(StartupTimeline timeline, int limit) {
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+        return timeline.getEvents().stream()
+                .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+                .map(event -> new BeanTiming(beanName(event.getStartupStep()), event.getDuration(),
+                        event.getDuration().minus(childDurations.getOrDefault(event.getStartupStep().getId(),
+                                Duration.ZERO))))
+                .sorted(Comparator.comparing(BeanTiming::self).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+
+    /**
+     * 빈 하나의 생성 시간.
+     *
+     * @param beanName 빈 이름
+     * @param total    의존하는 빈의 생성 시간을 포함한 전체 시간
+     * @param self     의존하는 빈의 생성 시간을 뺀 자체 시간
+     */
+    record BeanTiming(String beanName, Duration total, Duration self) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나를 처리하는 동안 구간별 소요 시간을 모으는 컨텍스트.
+ *
+ * <p>
+ * {@link ServerTimingFilter}가 요청 스레드에 컨텍스트를 열고 닫으며,
+ * 각 계층은 {@link #start()}와 {@link #stop(Metric, long)}으로 시간을 더합니다.
+ * 컨텍스트가 없으면(기능이 꺼져 있거나 허용되지 않은 요청) {@code ThreadLocal} 조회 한 번으로 끝납니다.
+ * </p>
+ *
+ * <pre>
+ * long started = ServerTiming.start();
+ * try {
+ *     ...
+ * } finally {
+ *     ServerTiming.stop(ServerTiming.Metric.DB, started);
+ * }
+ * </pre>
+ */
+public final class ServerTiming {
+
+    /**
+     * 측정 구간.
+     */
+    public enum Metric {
+        AUTH("auth"),
+        DB("db"),
+        VIEW("view"),
+        JSON("json");
+
+        private final String token;
+
+        Metric(String token) {
+            this.token = token;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[Metric.values().length];
+    private final int[] counts = new int[Metric.values().length];
+
+    private ServerTiming() {
+    }
+
+    /**
+     * 구간 측정을 시작합니다.
+     *
+     * @return 시작 시각 (컨텍스트가 없으면 {@code 0})
+     */
+    public static long start() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * 구간 측정을 끝내고 소요 시간을 더합니다.
+     *
+     * @param metric  측정 구간
+     * @param started {@link #start()}가 반환한 값
+     */
+    public static void stop(Metric metric, long started) {
+        if (started == 0L) {
+            return;
+        }
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[metric.ordinal()] += System.nanoTime() - started;
+            timing.counts[metric.ordinal()]++;
+        }
+    }
+
+    static ServerTiming open() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * {@code Server-Timing} 헤더 값을 만듭니다. 측정되지 않은 구간은 생략합니다.
+     *
+     * @return 예) {@code auth;dur=0.4, db;dur=3.1;desc="4", total;dur=12.0}
+     */
+    String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        for (Metric metric : Metric.values()) {
+            int count = counts[metric.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(metric.token).append(";dur=").append(millis(nanos[metric.ordinal()]));
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append('"');
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - startedAt)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,58 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * {@code Server-Timing} 헤더 설정.
+ *
+ * <p>
+ * 필터는 응답 압축 필터와 스프링 시큐리티 필터 체인({@code TokenAuthenticationFilter} 포함)보다 먼저 실행되도록 등록합니다.
+ * 구간별 시간은 다음이 기록합니다.
+ * </p>
+ * <ul>
+ *     <li>{@code auth}: {@code TokenProvider}의 토큰 검증</li>
+ *     <li>{@code db}: {@link ServerTimingRepositoryAspect}</li>
+ *     <li>{@code view}: {@link ServerTimingViewInterceptor}</li>
+ *     <li>{@code json}: {@link ServerTimingJacksonHttpMessageConverter}</li>
+ * </ul>
+ *
+ * <p>
+ * {@code blog.server-timing.enabled=true}일 때만 적용됩니다.
+ * 꺼져 있으면 리포지토리 프록시에 시간 측정 어드바이스가 붙지 않고, JSON 변환기도 스프링 부트 기본값을 사용합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingRepositoryAspect serverTimingRepositoryAspect() {
+        return new ServerTimingRepositoryAspect();
+    }
+
+    @Bean
+    public ServerTimingJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingViewInterceptor());
+    }
+}
@@ -0,0 +1,60 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 {@link ServerTiming} 컨텍스트를 열고, 처리가 끝나면 {@code Server-Timing} 응답 헤더로 내보내는 필터.
+ *
+ * <p>
+ * 헤더는 본문보다 먼저 보내야 하므로, 측정하는 요청에 한해 본문을 버퍼에 모았다가 헤더를 붙인 뒤 전송합니다.
+ * 기능이 꺼져 있거나 허용된 디버그 헤더가 없는 요청은 아무것도 하지 않고 통과시킵니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final ServerTimingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || isExcludedPath(request)) {
+            return true;
+        }
+        if (properties.getDebugTokens().isEmpty()) {
+            return false;
+        }
+        String token = request.getHeader(properties.getDebugHeader());
+        return token == null || !properties.getDebugTokens().contains(token);
+    }
+
+    private boolean isExcludedPath(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return properties.getExcludedPathPrefixes().stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        ServerTiming timing = ServerTiming.open();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            ServerTiming.close();
+            if (!wrapper.isCommitted()) {
+                wrapper.setHeader(SERVER_TIMING, timing.toHeaderValue());
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
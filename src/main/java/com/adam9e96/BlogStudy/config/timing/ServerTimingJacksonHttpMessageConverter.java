@@ -0,0 +1,47 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 직렬화/역직렬화 시간을 {@link ServerTiming.Metric#JSON} 구간으로 기록하는 Jackson 메시지 컨버터.
+ *
+ * <p>
+ * 빈으로 등록하면 스프링 부트의 기본 {@link MappingJackson2HttpMessageConverter}를 대신합니다.
+ * </p>
+ */
+public class ServerTimingJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        long started = ServerTiming.start();
+        try {
+            return super.read(type, contextClass, inputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.JSON, started);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long started = ServerTiming.start();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.JSON, started);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청별 처리 시간 분석({@code Server-Timing} 헤더) 설정 ({@code blog.server-timing.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * {@code Server-Timing} 헤더 사용 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 측정을 요청하는 디버그 헤더 이름.
+     */
+    private String debugHeader = "X-Debug-Timing";
+
+    /**
+     * 디버그 헤더에 허용되는 값 목록. 비어 있으면 모든 요청에 헤더를 붙입니다.
+     */
+    private List<String> debugTokens = new ArrayList<>();
+
+    /**
+     * 측정하지 않을 경로 접두사. 정적 리소스는 sendfile 로 전송되므로 본문을 버퍼링하지 않습니다.
+     */
+    private List<String> excludedPathPrefixes = List.of("/js/", "/img/", "/css/");
+}
@@ -0,0 +1,26 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 리포지토리 메서드 실행 시간을 {@link ServerTiming.Metric#DB} 구간으로 기록합니다.
+ *
+ * <p>
+ * 화면을 그리는 동안 지연 로딩으로 실행되는 쿼리는 리포지토리를 거치지 않으므로 {@code view} 구간에 포함됩니다.
+ * </p>
+ */
+@Aspect
+public class ServerTimingRepositoryAspect {
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long started = ServerTiming.start();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.DB, started);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 뷰(Thymeleaf) 렌더링 시간을 {@link ServerTiming.Metric#VIEW} 구간으로 기록합니다.
+ *
+ * <p>
+ * {@code postHandle}(렌더링 직전)부터 {@code afterCompletion}(렌더링 직후)까지를 잽니다.
+ * {@code @ResponseBody} 응답은 {@code ModelAndView}가 없으므로 기록하지 않습니다.
+ * </p>
+ */
+public class ServerTimingViewInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_ATTRIBUTE = ServerTimingViewInterceptor.class.getName() + ".started";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null) {
+            long started = ServerTiming.start();
+            if (started != 0L) {
+                request.setAttribute(STARTED_ATTRIBUTE, started);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(STARTED_ATTRIBUTE) instanceof Long started) {
+            ServerTiming.stop(ServerTiming.Metric.VIEW, started);
+        }
+    }
+}
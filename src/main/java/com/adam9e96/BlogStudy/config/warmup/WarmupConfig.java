@@ -0,0 +1,27 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 워밍업 요청 표시 필터 설정.
+ *
+ * <p>
+ * 필터는 {@code Server-Timing} 필터와 스프링 시큐리티 필터 체인보다 먼저 실행되도록 등록합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.warmup", name = "enabled", havingValue = "true")
+public class WarmupConfig {
+
+    @Bean
+    public FilterRegistrationBean<WarmupRequestFilter> warmupRequestFilter() {
+        FilterRegistrationBean<WarmupRequestFilter> registration = new FilterRegistrationBean<>(new WarmupRequestFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,46 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import java.util.UUID;
+
+/**
+ * 현재 요청이 워밍업 요청인지 알려 주는 컨텍스트.
+ *
+ * <p>
+ * 워밍업 요청은 실제 사용자의 조회가 아니므로 조회수와 인기 게시물 집계에 반영하지 않아야 합니다.
+ * {@link WarmupRunner}는 프로세스마다 새로 만든 토큰을 {@value #HEADER} 헤더에 담아 보내고,
+ * {@link WarmupRequestFilter}가 토큰이 일치하는 요청에 한해 요청 스레드에 표시를 남깁니다.
+ * 토큰은 프로세스 밖으로 나가지 않으므로 외부 클라이언트가 헤더를 흉내 내어 조회수 집계를 피할 수 없습니다.
+ * </p>
+ */
+public final class WarmupContext {
+
+    static final String HEADER = "X-Warmup";
+
+    private static final String TOKEN = UUID.randomUUID().toString();
+
+    private static final ThreadLocal<Boolean> CURRENT = new ThreadLocal<>();
+
+    private WarmupContext() {
+    }
+
+    /**
+     * 현재 스레드가 워밍업 요청을 처리하고 있는지 확인합니다.
+     *
+     * @return 워밍업 요청이면 {@code true}
+     */
+    public static boolean isWarmupRequest() {
+        return CURRENT.get() != null;
+    }
+
+    static String token() {
+        return TOKEN;
+    }
+
+    static void enter() {
+        CURRENT.set(Boolean.TRUE);
+    }
+
+    static void exit() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,48 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 시작 시 워밍업 설정 ({@code blog.warmup.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.warmup")
+public class WarmupProperties {
+
+    /**
+     * 준비(readiness) 상태가 되기 전에 워밍업 요청을 보낼지 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 보낼 워밍업 요청 수. (C2 컴파일 임계값을 넘도록 수천 건 이상을 권장)
+     */
+    private int requests = 5_000;
+
+    /**
+     * 동시에 요청을 보내는 클라이언트 수.
+     */
+    private int concurrency = 8;
+
+    /**
+     * 워밍업에 쓸 수 있는 최대 시간. 이 시간이 지나면 요청이 남아 있어도 트래픽을 받기 시작합니다.
+     */
+    private Duration timeBudget = Duration.ofSeconds(30);
+
+    /**
+     * 합성 요청에 사용할 게시물 수. (가장 최근 게시물부터)
+     */
+    private int sampleArticles = 100;
+
+    /**
+     * 기록된 요청 파일 경로. 한 줄에 {@code GET /api/articles/1} 형식으로 적으며, 지정하면 합성 요청 대신 이 요청들을 반복합니다.
+     */
+    private String recording;
+}
@@ -0,0 +1,31 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 워밍업 토큰이 담긴 요청을 처리하는 동안 {@link WarmupContext}를 여는 필터.
+ */
+public class WarmupRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WarmupContext.token().equals(request.getHeader(WarmupContext.HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        WarmupContext.enter();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            WarmupContext.exit();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 워밍업에 보낼 요청 경로 목록을 만듭니다.
+ *
+ * <p>
+ * <strong>합성 요청 비율:</strong>
+ * </p>
+ * <ul>
+ *     <li>40%: {@code GET /api/articles/{id}} (토큰 검증 + JSON 상세)</li>
+ *     <li>30%: {@code GET /articles/{id}} (Thymeleaf 상세 렌더링)</li>
+ *     <li>20%: {@code GET /api/articles?tag=...} (태그별 목록, 태그가 없으면 인기 게시물)</li>
+ *     <li>8%: {@code GET /api/articles/trending}</li>
+ *     <li>2%: {@code GET /articles} (Thymeleaf 목록 렌더링, 모든 게시물을 읽으므로 비율을 낮게 둠)</li>
+ * </ul>
+ *
+ * <p>
+ * 워밍업은 데이터를 바꾸면 안 되므로 기록된 요청에서도 {@code GET} 요청만 재생합니다.
+ * </p>
+ */
+final class WarmupRequestMix {
+
+    private static final String TRENDING = "/api/articles/trending";
+    private static final String ARTICLE_LIST_VIEW = "/articles";
+    private static final int TAG_PAGE_SIZE = 20;
+
+    private WarmupRequestMix() {
+    }
+
+    /**
+     * 게시물 ID 와 태그로 합성 요청 경로를 만듭니다.
+     *
+     * @param articleIds 요청할 게시물 ID (비어 있으면 목록 요청만 만듦)
+     * @param tags       요청할 태그
+     * @param requests   만들 요청 수
+     * @param random     난수 생성기
+     * @return 요청 경로 목록
+     */
+    static List<String> synthetic(List<Long> articleIds, List<String> tags, int requests, Random random) {
+        List<String> paths = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 70 && !articleIds.isEmpty()) {
+                long id = articleIds.get(random.nextInt(articleIds.size()));
+                paths.add(roll < 40 ? "/api/articles/" + id : "/articles/" + id);
+            } else if (roll < 90 && !tags.isEmpty()) {
+                String tag = URLEncoder.encode(tags.get(random.nextInt(tags.size())), StandardCharsets.UTF_8);
+                paths.add("/api/articles?tag=" + tag + "&size=" + TAG_PAGE_SIZE);
+            } else if (roll < 98) {
+                paths.add(TRENDING);
+            } else {
+                paths.add(ARTICLE_LIST_VIEW);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * 기록된 요청 파일의 줄에서 재생할 요청 경로를 읽습니다.
+     * <p>
+     * 한 줄에 {@code GET /api/articles/1} 또는 {@code /api/articles/1} 형식으로 적습니다.
+     * 빈 줄과 {@code #}으로 시작하는 줄, {@code GET} 이 아닌 요청은 건너뜁니다.
+     * </p>
+     *
+     * @param lines 파일의 줄
+     * @return 요청 경로 목록 (재생할 요청이 없으면 빈 목록)
+     */
+    static List<String> parseRecording(List<String> lines) {
+        List<String> paths = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = trimmed.split("\\s+");
+            String method = tokens.length == 1 ? "GET" : tokens[0];
+            String path = tokens.length == 1 ? tokens[0] : tokens[1];
+            if ("GET".equalsIgnoreCase(method) && path.startsWith("/")) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,195 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import com.adam9e96.BlogStudy.config.datasource.ReplicaPool;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.domain.User;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션이 트래픽을 받기 전에 JIT 컴파일러와 커넥션 풀을 데우는 워밍업.
+ *
+ * <p>
+ * 배포 직후에는 {@code TokenAuthenticationFilter}, 컨트롤러, Thymeleaf 렌더링이 인터프리터나 C1 코드로 실행되고
+ * 커넥션 풀도 비어 있어, 처음 수천 건의 요청에서 p99 가 튑니다.
+ * </p>
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 스프링 부트는 모든 {@link ApplicationRunner}가 끝난 뒤에 준비 상태를 {@code ACCEPTING_TRAFFIC}으로 바꾸므로,
+ * 이 러너가 실행되는 동안 준비 상태 프로브({@code /readyz}, {@code /actuator/health/readiness})는 {@code OUT_OF_SERVICE}(503)를 응답합니다.
+ * </p>
+ * <ol>
+ *     <li>커넥션 풀마다 {@code minimumIdle}개의 커넥션을 동시에 빌렸다가 돌려주어 풀을 채웁니다.</li>
+ *     <li>합성 요청({@link WarmupRequestMix}) 또는 기록된 요청을 루프백으로 내장 서버에 보냅니다.
+ *     요청은 실제 요청과 같은 필터 체인(토큰 검증 포함), 디스패처, 뷰 렌더링을 거칩니다.</li>
+ *     <li>요청을 다 보냈거나 {@code blog.warmup.time-budget}이 지나면 끝납니다.</li>
+ * </ol>
+ *
+ * <p>
+ * 워밍업 요청은 {@link WarmupContext}로 표시되어 조회수와 인기 게시물 집계에 반영되지 않습니다.
+ * 데이터셋 생성({@code DatasetGenerator})보다 나중에 실행됩니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "blog.warmup", name = "enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String WARMUP_EMAIL = "warmup@localhost";
+    private static final int TAG_SAMPLE = 20;
+    private static final long SEED = 42;
+
+    private final WarmupProperties properties;
+    private final ApplicationContext applicationContext;
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenProvider tokenProvider;
+    private final ObjectProvider<HikariDataSource> hikariDataSources;
+    private final ObjectProvider<ReplicaPool> replicaPool;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext) || webContext.getWebServer() == null) {
+            log.info("WarmupRunner | 웹 서버가 없어 워밍업을 건너뜁니다.");
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + properties.getTimeBudget().toNanos();
+
+        int connections = prefillConnectionPools();
+        List<String> paths = requestPaths();
+        if (paths.isEmpty()) {
+            log.info("WarmupRunner | 커넥션 {}개 준비, 재생할 요청이 없어 요청 재생을 건너뜁니다. {}ms", connections,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return;
+        }
+        String token = tokenProvider.generateToken(User.builder().email(WARMUP_EMAIL).build(),
+                properties.getTimeBudget().plusMinutes(1));
+        Replay replay = replay(webContext.getWebServer().getPort(), paths, token, deadline);
+
+        log.info("WarmupRunner | 커넥션 {}개 준비, 요청 {}건 전송 (실패 {}건), {}ms{}", connections, replay.sent(),
+                replay.failed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                replay.sent() < properties.getRequests() ? " - 시간 예산 초과로 중단" : "");
+    }
+
+    /**
+     * 커넥션 풀마다 {@code minimumIdle}개의 커넥션을 동시에 빌렸다가 돌려줍니다.
+     * 풀에 연결하지 못해도 워밍업은 계속합니다. (복제본 장애는 {@code ReplicaHealthChecker}가 처리)
+     *
+     * @return 빌린 커넥션 수
+     */
+    private int prefillConnectionPools() {
+        List<DataSource> dataSources = new ArrayList<>(hikariDataSources.orderedStream().toList());
+        replicaPool.ifAvailable(pool -> dataSources.addAll(pool.getReplicas()));
+
+        int opened = 0;
+        for (DataSource dataSource : dataSources) {
+            List<Connection> borrowed = new ArrayList<>();
+            try {
+                int target = dataSource.isWrapperFor(HikariDataSource.class)
+                        ? dataSource.unwrap(HikariDataSource.class).getMinimumIdle()
+                        : 1;
+                for (int i = 0; i < target; i++) {
+                    borrowed.add(dataSource.getConnection());
+                }
+            } catch (SQLException e) {
+                log.warn("WarmupRunner | 커넥션 풀을 채우지 못했습니다: {}", e.getMessage());
+            } finally {
+                opened += borrowed.size();
+                borrowed.forEach(JdbcUtils::closeConnection);
+            }
+        }
+        return opened;
+    }
+
+    private List<String> requestPaths() throws IOException {
+        if (StringUtils.hasText(properties.getRecording())) {
+            return WarmupRequestMix.parseRecording(Files.readAllLines(Path.of(properties.getRecording())));
+        }
+        List<Long> articleIds = jdbcTemplate.queryForList(
+                "SELECT id FROM article ORDER BY id DESC LIMIT ?", Long.class, properties.getSampleArticles());
+        List<String> tags = jdbcTemplate.queryForList(
+                "SELECT name FROM tag ORDER BY id LIMIT ?", String.class, TAG_SAMPLE);
+        return WarmupRequestMix.synthetic(articleIds, tags, properties.getRequests(), new Random(SEED));
+    }
+
+    private Replay replay(int port, List<String> paths, String token, long deadline) throws InterruptedException {
+        String baseUrl = "http://localhost:" + port;
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try (HttpClient client = HttpClient.newHttpClient();
+             ExecutorService workers = Executors.newFixedThreadPool(properties.getConcurrency())) {
+            for (int c = 0; c < properties.getConcurrency(); c++) {
+                workers.execute(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < properties.getRequests()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return;
+                        }
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + paths.get(i % paths.size())))
+                                .header("Authorization", "Bearer " + token)
+                                .header(WarmupContext.HEADER, WarmupContext.token())
+                                .timeout(Duration.ofNanos(remaining))
+                                .GET().build();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400) {
+                                failed.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            failed.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        sent.incrementAndGet();
+                    }
+                });
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        return new Replay(sent.get(), failed.get());
+    }
+
+    private record Replay(int sent, int failed) {
+    }
+}
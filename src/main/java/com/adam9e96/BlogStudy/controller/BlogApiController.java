@@ -2,18 +2,29 @@ package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleRevisionContentResponse;
+import com.adam9e96.BlogStudy.dto.ArticleRevisionResponse;
 import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.dto.AuthorArticlePageResponse;
+import com.adam9e96.BlogStudy.dto.TrendingArticleResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
+import com.adam9e96.BlogStudy.service.ArticleViewCounter;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.cache.ArticleJsonCache;
+import com.adam9e96.BlogStudy.service.revision.ArticleRevisionService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 블로그 게시물 관련 RESTful API를 제공하는 컨트롤러.
@@ -29,9 +40,13 @@ import java.util.List;
  * <ul>
  *   <li>새로운 게시물 추가</li>
  *   <li>모든 게시물 조회</li>
+ *   <li>인기 게시물 조회</li>
+ *   <li>태그별 게시물 조회 및 태그별 게시물 수(패싯) 조회</li>
+ *   <li>작성자별 게시물 조회</li>
  *   <li>ID로 게시물 조회</li>
  *   <li>ID로 게시물 삭제</li>
  *   <li>ID로 게시물 수정</li>
+ *   <li>게시물의 개정 이력 조회 및 특정 개정 복원</li>
  * </ul>
  * </p>
  *
@@ -45,7 +60,15 @@ import java.util.List;
 @RestController
 public class BlogApiController {
 
+    /**
+     * 목록을 페이지 단위로 조회할 때 한 번에 조회할 수 있는 최대 게시물 수.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BlogServiceImpl blogService;
+    private final ArticleViewCounter viewCounter;
+    private final ArticleJsonCache articleJsonCache;
+    private final ArticleRevisionService articleRevisionService;
 
     /**
      * 새로운 블로그 게시물을 추가합니다.
@@ -98,7 +121,14 @@ public class BlogApiController {
 
     /**
      * 모든 블로그 게시물을 조회합니다.
+     * <p>
+     * {@code tag} 파라미터가 있으면 해당 태그가 붙은 게시물을 ID 순으로 {@code after} 다음부터
+     * {@code size}개 조회합니다.
+     * </p>
      *
+     * @param tag   필터링할 태그 이름 (생략하면 전체 조회)
+     * @param after 태그 필터 사용 시 이전 페이지의 마지막 게시물 ID
+     * @param size  태그 필터 사용 시 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
      * @return 모든 게시물의 리스트와 HTTP 상태 코드 200 (OK)를 반환합니다.
      *
      * <p>
@@ -108,29 +138,86 @@ public class BlogApiController {
      * </p>
      */
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        log.info("BlogApiController.findAllArticles 메소드 반환값: {}", blogService.findAll().toString());
+    public ResponseEntity<List<ArticleResponse>> findAllArticles(
+            @RequestParam(name = "tag", required = false) String tag,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        List<Article> found = tag == null
+                ? blogService.findAllWithBody()
+                : blogService.findByTag(tag, after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        log.info("BlogApiController.findAllArticles 메소드 반환값: {}", found.toString());
+
+        List<ArticleResponse> articles = found
+                .stream()
+                .map(article -> new ArticleResponse(article, viewCounter.currentCount(article)))
+                .toList();
+        return ResponseEntity.ok().body(articles);
+    }
+
+    /**
+     * 작성자의 게시물을 최신순으로 한 페이지 조회합니다.
+     *
+     * @param author 작성자 (이메일)
+     * @param cursor 이전 페이지 응답의 {@code nextCursor} (첫 페이지는 생략)
+     * @param size   페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 게시물 페이지, 작성자의 전체 게시물 수와 HTTP 상태 코드 200 (OK)를 반환합니다.
+     * 커서 형식이 잘못된 경우 HTTP 상태 코드 400 (Bad Request)를 반환합니다.
+     */
+    @GetMapping("/api/users/{author:.+}/articles")
+    public ResponseEntity<AuthorArticlePageResponse> findArticlesByAuthor(
+            @PathVariable("author") String author,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        log.info("BlogApiController.findArticlesByAuthor 메소드 매개변수: author: {}, cursor: {}", author, cursor);
+        try {
+            return ResponseEntity.ok().body(
+                    blogService.findByAuthor(author, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+        } catch (IllegalArgumentException e) {
+            log.info("BlogApiController.findArticlesByAuthor 잘못된 커서: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 태그별 게시물 수를 게시물이 많은 순으로 조회합니다.
+     *
+     * @return 태그 이름과 게시물 수, HTTP 상태 코드 200 (OK)를 반환합니다.
+     */
+    @GetMapping("/api/tags")
+    public ResponseEntity<Map<String, Long>> findTagFacets() {
+        return ResponseEntity.ok().body(blogService.findTagFacets());
+    }
 
-        List<ArticleResponse> articles = blogService.findAll()
+    /**
+     * 최근 조회가 많은 인기 게시물을 조회합니다.
+     *
+     * @return 인기 점수가 높은 순으로 정렬된 게시물 리스트와 HTTP 상태 코드 200 (OK)를 반환합니다.
+     */
+    @GetMapping("/api/articles/trending")
+    public ResponseEntity<List<TrendingArticleResponse>> findTrendingArticles() {
+        List<TrendingArticleResponse> articles = blogService.findTrending()
                 .stream()
-                .map(ArticleResponse::new)
+                .map(article -> new TrendingArticleResponse(article, viewCounter.currentCount(article)))
                 .toList();
         return ResponseEntity.ok().body(articles);
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
+     * <p>
+     * 조회할 때마다 게시물의 조회수가 1 증가합니다.
+     * 응답 JSON 은 {@link ArticleJsonCache}에 캐시된 바이트를 응답 스트림에 바로 쓰며,
+     * 캐시에 없을 때만 게시물을 조회하여 직렬화합니다.
+     * </p>
      *
-     * @param id 조회할 게시물의 ID
-     * @return 조회된 게시물 정보와 HTTP 상태 코드 200 (OK)를 반환합니다.
+     * @param id       조회할 게시물의 ID
+     * @param response 게시물 정보({@link ArticleResponse})를 JSON 으로 쓸 응답 (HTTP 상태 코드 200 (OK))
+     * @throws IOException 응답을 쓸 수 없는 경우
      */
     @GetMapping("/api/articles/{id}")
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") Long id) {
+    public void findArticle(@PathVariable("id") Long id, HttpServletResponse response) throws IOException {
         log.info("BlogApiController.findArticle 메소드 매개변수: id: {}", id);
-        Article article = blogService.findById(id);
-
-        log.info("BlogApiController.findArticle 메소드 반환값: {}", article.toString());
-        return ResponseEntity.ok().body(new ArticleResponse(article));
+        articleJsonCache.write(id, blogService::findById, response);
     }
 
     /**
@@ -153,14 +240,53 @@ public class BlogApiController {
      * @param id      수정할 게시물의 ID
      * @param request 수정할 게시물의 요청 DTO
      * @return 수정된 게시물 정보와 HTTP 상태 코드 200 (OK)를 반환합니다.
+     * 같은 게시물을 동시에 수정하여 개정 번호가 겹치면 HTTP 상태 코드 409 (Conflict)를 반환합니다.
      * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 존재하지 않거나 권한이 없는 경우
      */
     @PutMapping("/api/articles/{id}")
     public ResponseEntity<Article> updateArticle(@PathVariable("id") Long id, @RequestBody UpdateArticleRequest request) {
         log.info("BlogApiController.updateArticle 메소드 매개변수: id: {}, request: {}", id, request.toString());
-        Article updatedArticle = blogService.update(id, request);
+        Article updatedArticle;
+        try {
+            updatedArticle = blogService.update(id, request);
+        } catch (DataIntegrityViolationException e) {
+            // (article_id, revision) 유니크 제약: 다른 요청이 먼저 같은 번호의 개정을 기록함
+            log.info("BlogApiController.updateArticle 동시 수정 충돌: id: {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
 
         log.info("BlogApiController.updateArticle 메소드 반환값: {}", updatedArticle.toString());
         return ResponseEntity.ok().body(updatedArticle);
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시물의 개정 이력을 최신순으로 조회합니다.
+     * <p>
+     * 본문은 포함하지 않으며, 개정마다 실제로 저장된 바이트 수({@code storedLength})를 함께 반환합니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 개정 목록({@link ArticleRevisionResponse})과 HTTP 상태 코드 200 (OK)
+     * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 존재하지 않는 경우
+     */
+    @GetMapping("/api/articles/{id}/revisions")
+    public ResponseEntity<List<ArticleRevisionResponse>> findArticleRevisions(@PathVariable("id") Long id) {
+        log.info("BlogApiController.findArticleRevisions 메소드 매개변수: id: {}", id);
+        return ResponseEntity.ok().body(articleRevisionService.findRevisions(id));
+    }
+
+    /**
+     * 게시물의 특정 개정을 복원하여 조회합니다.
+     *
+     * @param id       게시물 ID
+     * @param revision 개정 번호
+     * @return 복원한 개정({@link ArticleRevisionContentResponse})과 HTTP 상태 코드 200 (OK)
+     * @throws IllegalArgumentException 해당 개정이 존재하지 않는 경우
+     */
+    @GetMapping("/api/articles/{id}/revisions/{revision}")
+    public ResponseEntity<ArticleRevisionContentResponse> findArticleRevision(@PathVariable("id") Long id,
+                                                                              @PathVariable("revision") int revision) {
+        log.info("BlogApiController.findArticleRevision 메소드 매개변수: id: {}, revision: {}", id, revision);
+        return ResponseEntity.ok().body(articleRevisionService.findRevision(id, revision));
+    }
+}
@@ -3,7 +3,10 @@ package com.adam9e96.BlogStudy.controller;
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.ArticleListViewResponse;
 import com.adam9e96.BlogStudy.dto.ArticleViewResponse;
+import com.adam9e96.BlogStudy.dto.TrendingArticleResponse;
+import com.adam9e96.BlogStudy.service.ArticleViewCounter;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -40,10 +43,14 @@ import java.util.List;
 @Controller
 public class BlogViewController {
 
+    private static final int COMMENT_PAGE_SIZE = 20;
+
     private final BlogServiceImpl blogService;
+    private final ArticleViewCounter viewCounter;
+    private final CommentService commentService;
 
     /**
-     * 모든 블로그 게시물을 조회하여 목록 뷰를 반환합니다.
+     * 모든 블로그 게시물과 인기 게시물을 조회하여 목록 뷰를 반환합니다.
      *
      * @param model 뷰에 데이터를 전달하기 위한 {@link Model} 객체
      * @return "articleList" 뷰 이름
@@ -57,11 +64,20 @@ public class BlogViewController {
 
         log.info("BlogViewController.getArticles 메소드 찾은값 {}", articles.toString());
         model.addAttribute("articles", articles); // 블로그 글 리스트 저장
+
+        List<TrendingArticleResponse> trending = blogService.findTrending()
+                .stream()
+                .map(article -> new TrendingArticleResponse(article, viewCounter.currentCount(article)))
+                .toList();
+        model.addAttribute("trending", trending); // 인기 게시물 리스트 저장
+        model.addAttribute("tagFacets", blogService.findTagFacets()); // 태그별 게시물 수 저장
         return "articleList"; // articleList.html 라는 뷰 조회
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회하여 상세 뷰를 반환합니다.
+     * 조회할 때마다 게시물의 조회수가 1 증가합니다.
+     * 댓글은 첫 페이지({@value #COMMENT_PAGE_SIZE}개)만 함께 표시합니다.
      *
      * @param id    조회할 게시물의 ID
      * @param model 뷰에 데이터를 전달하기 위한 {@link Model} 객체
@@ -72,7 +88,8 @@ public class BlogViewController {
         log.info("BlogViewController.getArticle 메소드 매개변수: id: {}", id);
         Article article = blogService.findById(id);
         log.info("BlogViewController.getArticle 메소드 article : {}", article.toString());
-        model.addAttribute("article", new ArticleViewResponse(article));
+        model.addAttribute("article", new ArticleViewResponse(article, viewCounter.increment(article)));
+        model.addAttribute("comments", commentService.findPage(id, null, COMMENT_PAGE_SIZE));
         return "article";
     }
 
@@ -0,0 +1,84 @@
+package com.adam9e96.BlogStudy.controller;
+
+import com.adam9e96.BlogStudy.domain.Comment;
+import com.adam9e96.BlogStudy.dto.AddCommentRequest;
+import com.adam9e96.BlogStudy.dto.CommentPageResponse;
+import com.adam9e96.BlogStudy.dto.CommentResponse;
+import com.adam9e96.BlogStudy.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+/**
+ * 게시물 댓글 관련 RESTful API를 제공하는 컨트롤러.
+ *
+ * <p>
+ * <strong>주요 기능:</strong>
+ * </p>
+ * <ul>
+ *   <li>게시물 댓글 페이지 조회 (키셋 페이지네이션)</li>
+ *   <li>댓글 추가</li>
+ *   <li>댓글 삭제</li>
+ * </ul>
+ *
+ * @see CommentService
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+public class CommentApiController {
+
+    private final CommentService commentService;
+
+    /**
+     * 게시물의 댓글을 한 페이지 조회합니다.
+     *
+     * @param id    게시물 ID
+     * @param after 이전 페이지 응답의 {@code nextCursor} (첫 페이지는 생략)
+     * @param size  페이지 크기 (최대 {@value CommentService#MAX_PAGE_SIZE})
+     * @return 댓글 페이지와 HTTP 상태 코드 200 (OK)를 반환합니다.
+     */
+    @GetMapping("/api/articles/{id}/comments")
+    public ResponseEntity<CommentPageResponse> findComments(@PathVariable("id") Long id,
+                                                            @RequestParam(name = "after", required = false) Long after,
+                                                            @RequestParam(name = "size", defaultValue = "20") int size) {
+        log.info("CommentApiController.findComments 메소드 매개변수: id: {}, after: {}, size: {}", id, after, size);
+        return ResponseEntity.ok().body(commentService.findPage(id, after, size));
+    }
+
+    /**
+     * 게시물에 댓글을 추가합니다.
+     *
+     * @param id        게시물 ID
+     * @param request   댓글 추가 요청 DTO
+     * @param principal 현재 인증된 사용자의 정보
+     * @return 저장된 댓글과 HTTP 상태 코드 201 (Created)를 반환합니다.
+     * @throws IllegalArgumentException 게시물이 존재하지 않거나 내용이 유효하지 않은 경우
+     */
+    @PostMapping("/api/articles/{id}/comments")
+    public ResponseEntity<CommentResponse> addComment(@PathVariable("id") Long id,
+                                                      @RequestBody AddCommentRequest request,
+                                                      Principal principal) {
+        log.info("CommentApiController.addComment 메소드 매개변수: id: {}, request: {}", id, request);
+        Comment comment = commentService.save(id, request, principal.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new CommentResponse(comment));
+    }
+
+    /**
+     * 댓글을 삭제합니다.
+     *
+     * @param commentId 삭제할 댓글 ID
+     * @return HTTP 상태 코드 200 (OK)를 반환합니다.
+     * @throws IllegalArgumentException 댓글이 존재하지 않거나 권한이 없는 경우
+     */
+    @DeleteMapping("/api/comments/{commentId}")
+    public ResponseEntity<Void> deleteComment(@PathVariable("commentId") Long commentId) {
+        log.info("CommentApiController.deleteComment 메소드 매개변수: commentId: {}", commentId);
+        commentService.delete(commentId);
+        return ResponseEntity.ok().build();
+    }
+}
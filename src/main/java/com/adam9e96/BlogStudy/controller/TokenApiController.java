@@ -3,11 +3,15 @@ package com.adam9e96.BlogStudy.controller;
 import com.adam9e96.BlogStudy.dto.CreateAccessTokenRequest;
 import com.adam9e96.BlogStudy.dto.CreateAccessTokenResponse;
 import com.adam9e96.BlogStudy.service.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -39,23 +43,45 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 @RestController
 public class TokenApiController {
+    private static final String TOKEN_PREFIX = "Bearer ";
+
     private final TokenService tokenService;
 
     /**
      * TokenService 의 createNewAccessToken 메소드를 호출하여 요청에서 추출한 리프래시 토큰을 기반으로 새로운 액세스 토큰을 생성합니다.
      *
-     * @param request 요청
+     * @param request     요청
+     * @param httpRequest 클라이언트 IP 를 읽을 HTTP 요청
      * @return HTTP 응답용 객체 CreateAccessTokenResponse
      */
     @PostMapping("/api/token")
     public ResponseEntity<CreateAccessTokenResponse> createNewAccessToken
-    (@RequestBody CreateAccessTokenRequest request) {
+    (@RequestBody CreateAccessTokenRequest request, HttpServletRequest httpRequest) {
 
-        // 새로운 액세스 토큰 생성
-        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken());
+        // 새로운 액세스 토큰 생성 (재발급 기록에 클라이언트 IP 를 남김)
+        String newAccessToken = tokenService.createNewAccessToken(request.getRefreshToken(),
+                httpRequest.getRemoteAddr());
 
         // 응답 생성
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new CreateAccessTokenResponse(newAccessToken));
     }
+
+    /**
+     * 요청의 액세스 토큰을 폐기합니다. 폐기한 토큰은 만료 전이라도 더 이상 인증에 쓸 수 없습니다.
+     * <p>
+     * 토큰이 없거나 유효하지 않아도 같은 응답을 반환합니다.
+     * </p>
+     *
+     * @param authorization {@code Authorization} 헤더 ({@code Bearer } 토큰)
+     * @return HTTP 상태 코드 204 (No Content)
+     */
+    @DeleteMapping("/api/token")
+    public ResponseEntity<Void> revokeAccessToken(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization != null && authorization.startsWith(TOKEN_PREFIX)) {
+            tokenService.revokeAccessToken(authorization.substring(TOKEN_PREFIX.length()));
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,10 +1,12 @@
 package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.dto.AddUserRequest;
+import com.adam9e96.BlogStudy.service.TokenService;
 import com.adam9e96.BlogStudy.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
@@ -19,7 +21,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 @Controller
 public class UserApiController {
 
+    private static final String TOKEN_PREFIX = "Bearer ";
+
     private final UserService userService;
+    private final TokenService tokenService;
 
     /**
      * 회원가입 요청을 처리하는 메서드.
@@ -35,6 +40,10 @@ public class UserApiController {
 
     /**
      * 로그아웃 요청을 처리하는 메서드
+     * <p>
+     * 요청에 액세스 토큰({@code Authorization: Bearer})이 있으면 토큰도 폐기합니다.
+     * (브라우저는 로그아웃 전에 {@code DELETE /api/token}으로 토큰을 폐기함)
+     * </p>
      *
      * @param request  현재 HTTP 요청 객체 (세션/쿠키 정보 등)
      * @param response 현재 HTTP 응답 객체
@@ -42,6 +51,10 @@ public class UserApiController {
      */
     @GetMapping("/logout")
     public String logout(HttpServletRequest request, HttpServletResponse response) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(TOKEN_PREFIX)) {
+            tokenService.revokeAccessToken(authorization.substring(TOKEN_PREFIX.length()));
+        }
         // 스프링 시큐리티가 제공하는 SecurityContextLogoutHandler를 사용해 로그아웃 수행
         new SecurityContextLogoutHandler().logout(request, response,
                 SecurityContextHolder.getContext().getAuthentication());
@@ -0,0 +1,244 @@
+package com.adam9e96.BlogStudy.dataset;
+
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.adam9e96.BlogStudy.config.oauth.OAuth2SuccessHandler;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.service.MarkdownRenderer;
+import com.adam9e96.BlogStudy.service.PasswordHasher;
+import com.adam9e96.BlogStudy.service.TagFacetCounter;
+import com.adam9e96.BlogStudy.util.ArticleBodyCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 운영 규모의 합성 데이터셋(사용자, 게시물, 태그, 리프레시 토큰)을 만들어 데이터베이스에 넣습니다.
+ *
+ * <p>
+ * {@code blog.dataset.enabled=true}로 애플리케이션을 시작하면 한 번 실행됩니다.
+ * </p>
+ * <pre>
+ * ./gradlew bootRun --args='--blog.dataset.enabled=true --blog.dataset.users=1000 --blog.dataset.articles=50000'
+ * </pre>
+ *
+ * <p>
+ * <strong>적재 방식:</strong>
+ * JPA 를 거치지 않고 {@code blog.dataset.batch-size}행씩 JDBC 배치 INSERT 로 넣습니다.
+ * 본문은 {@link ArticleBodyCodec}으로 압축하고 HTML 도 미리 렌더링하여, 애플리케이션이 저장한 글과 같은 모양으로 만듭니다.
+ * 비밀번호 해시는 한 번만 계산하여 모든 사용자에게 씁니다. (모든 사용자의 비밀번호는 {@value #PASSWORD})
+ * </p>
+ *
+ * <p>
+ * 끝나면 사용자 이메일과 리프레시 토큰, 게시물 ID 범위를 {@code blog.dataset.credentials-file}에 기록합니다.
+ * 부하 테스트 드라이버({@code ./gradlew loadTest})가 이 파일을 읽습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 워밍업(WarmupRunner)이 생성된 게시물을 요청하도록 먼저 실행
+@ConditionalOnProperty(prefix = "blog.dataset", name = "enabled", havingValue = "true")
+public class DatasetGenerator implements ApplicationRunner {
+
+    static final String PASSWORD = "password";
+
+    private static final String EMAIL_PREFIX = "dataset-user";
+    private static final String TAG_PREFIX = "dataset-tag-";
+    private static final int TAG_POOL_SIZE = 30;
+    private static final int MAX_TAGS_PER_ARTICLE = 3;
+    private static final long MAX_AGE_SECONDS = 365L * 24 * 60 * 60;
+
+    private static final String INSERT_USER = "INSERT INTO users (email, password) VALUES (?, ?)";
+    private static final String INSERT_REFRESH_TOKEN = "INSERT INTO refresh_token (user_id, refresh_token) VALUES (?, ?)";
+    private static final String INSERT_TAG = "MERGE INTO tag (name) KEY (name) VALUES (?)";
+    private static final String INSERT_BODY = "INSERT INTO article_body (content, content_html) VALUES (?, ?)";
+    private static final String INSERT_ARTICLE = "INSERT INTO article "
+            + "(title, body_id, summary, renderer_version, view_count, comment_count, created_at, updated_at, author) "
+            + "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_TAG = "INSERT INTO article_tag (article_id, tag_id) VALUES (?, ?)";
+
+    private final DatasetProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TokenProvider tokenProvider;
+    private final MarkdownRenderer markdownRenderer;
+    private final PasswordHasher passwordHasher;
+    private final TagFacetCounter tagFacetCounter;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long started = System.nanoTime();
+        Random random = new Random(properties.getSeed());
+
+        List<User> users = insertUsers();
+        List<String> refreshTokens = insertRefreshTokens(users);
+        List<Long> tagIds = insertTags();
+        long[] articleIdRange = insertArticles(users, tagIds, random);
+        tagFacetCounter.reload();
+        writeCredentials(users, refreshTokens, articleIdRange);
+
+        log.info("DatasetGenerator | 사용자 {}명, 게시물 {}건 생성 ({}ms)", users.size(), properties.getArticles(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private List<User> insertUsers() {
+        String passwordHash = passwordHasher.encode(PASSWORD);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < properties.getUsers(); i++) {
+            rows.add(new Object[]{EMAIL_PREFIX + i + "@example.com", passwordHash});
+        }
+        batchUpdate(INSERT_USER, rows);
+        return userRepository.findAll().stream()
+                .filter(user -> user.getEmail().startsWith(EMAIL_PREFIX))
+                .toList();
+    }
+
+    private List<String> insertRefreshTokens(List<User> users) {
+        List<String> tokens = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (User user : users) {
+            String token = tokenProvider.generateToken(user, OAuth2SuccessHandler.REFRESH_TOKEN_DURATION);
+            tokens.add(token);
+            rows.add(new Object[]{user.getId(), token});
+        }
+        batchUpdate(INSERT_REFRESH_TOKEN, rows);
+        return tokens;
+    }
+
+    private List<Long> insertTags() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < TAG_POOL_SIZE; i++) {
+            rows.add(new Object[]{String.format("%s%02d", TAG_PREFIX, i)});
+        }
+        batchUpdate(INSERT_TAG, rows);
+        return jdbcTemplate.queryForList("SELECT id FROM tag WHERE name LIKE '" + TAG_PREFIX + "%' ORDER BY name",
+                Long.class);
+    }
+
+    /**
+     * 게시물을 배치 단위로 넣습니다.
+     * <p>
+     * 작성자와 태그는 일부에 몰리도록(소수의 작성자가 많은 글을 씀) 치우친 분포로 고릅니다.
+     * </p>
+     *
+     * @return 생성된 게시물 ID 의 최소값과 최대값
+     */
+    private long[] insertArticles(List<User> users, List<Long> tagIds, Random random) {
+        SyntheticContent content = new SyntheticContent(random,
+                properties.getMedianContentLength(), properties.getMaxContentLength());
+        LocalDateTime now = LocalDateTime.now();
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+
+        for (int from = 0; from < properties.getArticles(); from += properties.getBatchSize()) {
+            int count = Math.min(properties.getBatchSize(), properties.getArticles() - from);
+            List<String> bodies = new ArrayList<>(count);
+            List<Object[]> bodyRows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String body = content.body();
+                bodies.add(body);
+                bodyRows.add(new Object[]{
+                        ArticleBodyCodec.encode(body), ArticleBodyCodec.encode(markdownRenderer.render(body))});
+            }
+            long[] bodyIds = insertReturningKeys(INSERT_BODY, bodyRows);
+
+            List<Object[]> articleRows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusSeconds((long) (random.nextDouble() * MAX_AGE_SECONDS)));
+                articleRows.add(new Object[]{
+                        content.title(),
+                        bodyIds[i],
+                        Article.summarize(bodies.get(i)),
+                        MarkdownRenderer.VERSION,
+                        (long) (Math.pow(random.nextDouble(), 4) * 10_000),
+                        createdAt,
+                        createdAt,
+                        skewed(users, random).getEmail()});
+            }
+            long[] articleIds = insertReturningKeys(INSERT_ARTICLE, articleRows);
+
+            List<Object[]> tagRows = new ArrayList<>();
+            for (long articleId : articleIds) {
+                random.ints(random.nextInt(MAX_TAGS_PER_ARTICLE + 1), 0, tagIds.size())
+                        .map(index -> (int) (tagIds.size() * Math.pow((double) index / tagIds.size(), 2)))
+                        .distinct()
+                        .forEach(index -> tagRows.add(new Object[]{articleId, tagIds.get(index)}));
+                minId = Math.min(minId, articleId);
+                maxId = Math.max(maxId, articleId);
+            }
+            batchUpdate(INSERT_ARTICLE_TAG, tagRows);
+        }
+        return new long[]{minId, maxId};
+    }
+
+    private static <T> T skewed(List<T> items, Random random) {
+        return items.get((int) (items.size() * Math.pow(random.nextDouble(), 2)));
+    }
+
+    private void writeCredentials(List<User> users, List<String> refreshTokens, long[] articleIdRange)
+            throws IOException {
+        Path file = Path.of(properties.getCredentialsFile());
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# articles," + articleIdRange[0] + "," + articleIdRange[1] + "\n");
+            for (int i = 0; i < users.size(); i++) {
+                writer.write(users.get(i).getEmail() + "," + refreshTokens.get(i) + "\n");
+            }
+        }
+        log.info("DatasetGenerator | 사용자/리프레시 토큰 기록: {}", file.toAbsolutePath());
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += properties.getBatchSize()) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + properties.getBatchSize(), rows.size())));
+        }
+    }
+
+    /**
+     * 배치 INSERT 를 실행하고 생성된 ID 를 입력 순서대로 반환합니다.
+     */
+    private long[] insertReturningKeys(String sql, List<Object[]> rows) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{"id"})) {
+                for (Object[] row : rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                long[] keys = new long[rows.size()];
+                try (ResultSet generated = statement.getGeneratedKeys()) {
+                    for (int i = 0; generated.next(); i++) {
+                        keys[i] = generated.getLong(1);
+                    }
+                }
+                return keys;
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.adam9e96.BlogStudy.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 합성 데이터셋 생성 설정 ({@code blog.dataset.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.dataset")
+public class DatasetProperties {
+
+    /**
+     * 애플리케이션 시작 시 데이터셋 생성 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 생성할 사용자 수.
+     */
+    private int users = 1_000;
+
+    /**
+     * 생성할 게시물 수.
+     */
+    private int articles = 50_000;
+
+    /**
+     * 게시물 본문 길이(문자 수)의 중앙값. 길이는 로그 정규 분포를 따릅니다.
+     */
+    private int medianContentLength = 2_500;
+
+    /**
+     * 게시물 본문의 최대 길이(문자 수).
+     */
+    private int maxContentLength = 100_000;
+
+    /**
+     * 한 번의 배치 INSERT 에 담는 행 수.
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * 난수 시드. 같은 시드면 같은 데이터셋이 만들어집니다.
+     */
+    private long seed = 42;
+
+    /**
+     * 부하 테스트 드라이버가 읽을 사용자/리프레시 토큰 파일 경로.
+     */
+    private String credentialsFile = "build/dataset/credentials.csv";
+}
@@ -0,0 +1,79 @@
+package com.adam9e96.BlogStudy.dataset;
+
+import java.util.Random;
+
+/**
+ * 실제 블로그 글과 비슷한 모양의 마크다운 본문과 제목을 만듭니다.
+ *
+ * <p>
+ * 본문 길이는 로그 정규 분포(대부분 짧고 일부만 매우 긴 분포)를 따르며,
+ * 제목, 문단, 목록, 코드 블록을 섞어서 압축률과 렌더링 비용도 실제 글과 비슷하게 맞춥니다.
+ * </p>
+ */
+class SyntheticContent {
+
+    private static final double LENGTH_SIGMA = 0.9;
+
+    private static final String[] WORDS = {
+            "스프링", "부트", "트랜잭션", "인덱스", "쿼리", "캐시", "스레드", "요청", "응답", "서버",
+            "데이터베이스", "성능", "지연", "처리량", "메모리", "설정", "테스트", "배포", "로그", "지표",
+            "spring", "jpa", "hibernate", "index", "latency", "cache", "thread", "pool", "query", "token"
+    };
+
+    private static final String[] ENDINGS = {"입니다.", "합니다.", "있습니다.", "됩니다.", "했습니다."};
+
+    private static final String CODE_BLOCK = """
+            ```java
+            @Transactional(readOnly = true)
+            public List<Article> findAll() {
+                return blogRepository.findAll();
+            }
+            ```
+            """;
+
+    private final Random random;
+    private final int medianLength;
+    private final int maxLength;
+
+    SyntheticContent(Random random, int medianLength, int maxLength) {
+        this.random = random;
+        this.medianLength = medianLength;
+        this.maxLength = maxLength;
+    }
+
+    String title() {
+        return sentence(2 + random.nextInt(6)).replaceAll("[.]$", "");
+    }
+
+    String body() {
+        int length = (int) Math.min(maxLength, Math.max(50, medianLength * Math.exp(LENGTH_SIGMA * random.nextGaussian())));
+        StringBuilder body = new StringBuilder(length + 256);
+        while (body.length() < length) {
+            int block = random.nextInt(10);
+            if (block == 0) {
+                body.append("## ").append(sentence(3)).append("\n\n");
+            } else if (block == 1) {
+                for (int i = 0; i < 3; i++) {
+                    body.append("- ").append(sentence(4)).append('\n');
+                }
+                body.append('\n');
+            } else if (block == 2) {
+                body.append(CODE_BLOCK).append('\n');
+            } else {
+                for (int i = 0; i < 3 + random.nextInt(4); i++) {
+                    body.append(sentence(5 + random.nextInt(8))).append(' ');
+                }
+                body.append("\n\n");
+            }
+        }
+        return body.toString();
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sentence.append(ENDINGS[random.nextInt(ENDINGS.length)]).toString();
+    }
+}
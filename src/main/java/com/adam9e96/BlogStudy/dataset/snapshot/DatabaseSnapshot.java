@@ -0,0 +1,310 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * H2 데이터베이스 전체를 하나의 압축 파일(스냅샷)로 내보내고 다시 불러옵니다.
+ *
+ * <p>
+ * <strong>스냅샷 구성 (zip):</strong>
+ * <ul>
+ *   <li>{@value #MANIFEST}: 엔티티 스키마 해시, 테이블 목록, 테이블별 행 수</li>
+ *   <li>{@value #SCHEMA}: 데이터 없이 스키마만 기록한 {@code SCRIPT NODATA} 결과</li>
+ *   <li>{@code <테이블>.csv}: 테이블별 {@code CSVWRITE} 결과 (바이너리 컬럼은 16진수 문자열)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <strong>불러오기:</strong>
+ * 스키마를 {@code RUNSCRIPT}로 만들고, 테이블마다 {@code INSERT ... SELECT ... FROM CSVREAD(...)} 한 문장으로
+ * zip 안의 CSV 를 바로 읽어 넣습니다. 행마다 SQL 을 파싱하는 {@code INSERT} 재실행보다 훨씬 빠릅니다.
+ * 외래 키는 적재하는 동안만 검사하지 않으며, 끝나면 IDENTITY 컬럼의 다음 값을 최대 ID 다음으로 맞춥니다.
+ * </p>
+ */
+@Slf4j
+public final class DatabaseSnapshot {
+
+    static final String MANIFEST = "manifest.properties";
+    static final String SCHEMA = "schema.sql";
+
+    static final String SCHEMA_HASH = "schema-hash";
+    private static final String TABLES = "tables";
+    private static final String ROWS_PREFIX = "rows.";
+
+    private static final String CSV_OPTIONS = "charset=UTF-8";
+    private static final String HEX_ENCODE_ALIAS = "SNAPSHOT_HEX_ENCODE";
+    private static final String HEX_DECODE_ALIAS = "SNAPSHOT_HEX_DECODE";
+
+    private DatabaseSnapshot() {
+    }
+
+    /**
+     * 데이터베이스를 스냅샷 파일로 내보냅니다.
+     *
+     * @param connection 내보낼 데이터베이스 연결
+     * @param file       스냅샷 파일 (이미 있으면 덮어씀)
+     * @param schemaHash 엔티티 스키마 해시 ({@link EntitySchemaHash})
+     * @throws IOException  파일을 쓸 수 없는 경우
+     * @throws SQLException 데이터베이스를 읽을 수 없는 경우
+     */
+    public static void export(Connection connection, Path file, String schemaHash) throws IOException, SQLException {
+        long started = System.nanoTime();
+        Path workDir = Files.createTempDirectory("snapshot");
+        try (Statement statement = connection.createStatement()) {
+            try (Writer writer = Files.newBufferedWriter(workDir.resolve(SCHEMA), StandardCharsets.UTF_8);
+                 ResultSet script = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+                while (script.next()) {
+                    String sql = script.getString(1).strip();
+                    writer.write(sql.endsWith(";") ? sql : sql + ";");
+                    writer.write('\n');
+                }
+            }
+
+            createAliases(statement);
+            Properties manifest = new Properties();
+            manifest.setProperty(SCHEMA_HASH, schemaHash);
+            manifest.setProperty("created-at", LocalDateTime.now().toString());
+            List<String> tables = tables(connection);
+            manifest.setProperty(TABLES, String.join(",", tables));
+            for (String table : tables) {
+                String select = "SELECT " + String.join(", ", selectColumns(connection, table, HEX_ENCODE_ALIAS))
+                        + " FROM " + quote(table);
+                Path csv = workDir.resolve(table + ".csv");
+                try (ResultSet rows = statement.executeQuery("CALL CSVWRITE(" + literal(csv.toString()) + ", "
+                        + literal(select) + ", " + literal(CSV_OPTIONS) + ")")) {
+                    rows.next();
+                    manifest.setProperty(ROWS_PREFIX + table, String.valueOf(rows.getLong(1)));
+                }
+            }
+            dropAliases(statement);
+            try (Writer writer = Files.newBufferedWriter(workDir.resolve(MANIFEST), StandardCharsets.UTF_8)) {
+                manifest.store(writer, "database snapshot");
+            }
+
+            zip(workDir, file);
+            log.info("DatabaseSnapshot | {} 로 테이블 {}개 내보냄 ({}ms, {} bytes)", file, tables.size(),
+                    (System.nanoTime() - started) / 1_000_000, Files.size(file));
+        } finally {
+            try (var paths = Files.list(workDir)) {
+                for (Path path : paths.toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(workDir);
+        }
+    }
+
+    /**
+     * 스냅샷 파일을 빈 데이터베이스로 불러옵니다.
+     *
+     * @param connection 불러올 데이터베이스 연결
+     * @param file       스냅샷 파일
+     * @throws IOException           파일을 읽을 수 없는 경우
+     * @throws SQLException          불러오기에 실패한 경우
+     * @throws IllegalStateException 데이터베이스에 이미 테이블이 있는 경우
+     */
+    public static void restore(Connection connection, Path file) throws IOException, SQLException {
+        long started = System.nanoTime();
+        if (!tables(connection).isEmpty()) {
+            throw new IllegalStateException("snapshot can only be restored into an empty database");
+        }
+        Properties manifest = readManifest(file);
+        String zipPath = "zip:" + file.toAbsolutePath() + "!/";
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM " + literal(zipPath + SCHEMA));
+            createAliases(statement);
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            try {
+                for (String table : manifest.getProperty(TABLES, "").split(",")) {
+                    if (table.isEmpty()) {
+                        continue;
+                    }
+                    Map<String, String> columns = columnTypes(connection, table);
+                    statement.executeUpdate("INSERT INTO " + quote(table)
+                            + " (" + String.join(", ", columns.keySet().stream().map(DatabaseSnapshot::quote).toList())
+                            + ") SELECT " + String.join(", ", selectColumns(columns, HEX_DECODE_ALIAS))
+                            + " FROM CSVREAD(" + literal(zipPath + table + ".csv") + ", NULL, "
+                            + literal(CSV_OPTIONS) + ")");
+                }
+            } finally {
+                statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            }
+            restartIdentities(statement);
+            dropAliases(statement);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        log.info("DatabaseSnapshot | {} 에서 테이블 {}개 불러옴 ({}ms)", file,
+                manifest.getProperty(TABLES, "").split(",").length, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 스냅샷 파일의 매니페스트를 읽습니다.
+     *
+     * @param file 스냅샷 파일
+     * @return 매니페스트
+     * @throws IOException 파일을 읽을 수 없거나 매니페스트가 없는 경우
+     */
+    public static Properties readManifest(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry(MANIFEST);
+            if (entry == null) {
+                throw new IOException("not a database snapshot: " + file);
+            }
+            Properties manifest = new Properties();
+            try (InputStream in = zip.getInputStream(entry)) {
+                manifest.load(in);
+            }
+            return manifest;
+        }
+    }
+
+    /**
+     * 바이트 배열을 16진수 문자열로 바꿉니다. (H2 함수 {@value #HEX_ENCODE_ALIAS})
+     *
+     * @param bytes 바이트 배열
+     * @return 16진수 문자열
+     */
+    public static String hexEncode(byte[] bytes) {
+        return bytes == null ? null : HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * 16진수 문자열을 바이트 배열로 바꿉니다. (H2 함수 {@value #HEX_DECODE_ALIAS})
+     *
+     * @param hex 16진수 문자열
+     * @return 바이트 배열
+     */
+    public static byte[] hexDecode(String hex) {
+        return hex == null ? null : HexFormat.of().parseHex(hex);
+    }
+
+    private static void createAliases(Statement statement) throws SQLException {
+        String className = DatabaseSnapshot.class.getName();
+        statement.execute("CREATE ALIAS IF NOT EXISTS " + HEX_ENCODE_ALIAS + " FOR " + literal(className + ".hexEncode"));
+        statement.execute("CREATE ALIAS IF NOT EXISTS " + HEX_DECODE_ALIAS + " FOR " + literal(className + ".hexDecode"));
+    }
+
+    private static void dropAliases(Statement statement) throws SQLException {
+        statement.execute("DROP ALIAS IF EXISTS " + HEX_ENCODE_ALIAS);
+        statement.execute("DROP ALIAS IF EXISTS " + HEX_DECODE_ALIAS);
+    }
+
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE IN ('BASE TABLE', 'TABLE') ORDER BY TABLE_NAME")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * 테이블의 컬럼 이름과 데이터 타입을 컬럼 순서대로 반환합니다.
+     */
+    private static Map<String, String> columnTypes(Connection connection, String table) throws SQLException {
+        Map<String, String> columns = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COLUMN_NAME, DATA_TYPE "
+                + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ? "
+                + "ORDER BY ORDINAL_POSITION")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    columns.put(rs.getString(1), rs.getString(2));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static List<String> selectColumns(Connection connection, String table, String binaryFunction)
+            throws SQLException {
+        return selectColumns(columnTypes(connection, table), binaryFunction);
+    }
+
+    /**
+     * SELECT 목록을 만듭니다. 바이너리 컬럼은 CSV 에 문자열로 담기도록 {@code binaryFunction}으로 감쌉니다.
+     */
+    private static List<String> selectColumns(Map<String, String> columns, String binaryFunction) {
+        List<String> select = new ArrayList<>();
+        columns.forEach((name, type) -> select.add(type.contains("BINARY") || type.contains("BLOB")
+                ? binaryFunction + "(" + quote(name) + ") AS " + quote(name)
+                : quote(name)));
+        return select;
+    }
+
+    private static void restartIdentities(Statement statement) throws SQLException {
+        List<String[]> identities = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery("SELECT TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND IS_IDENTITY = 'YES'")) {
+            while (rs.next()) {
+                identities.add(new String[]{rs.getString(1), rs.getString(2)});
+            }
+        }
+        for (String[] identity : identities) {
+            long next;
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT COALESCE(MAX(" + quote(identity[1]) + "), 0) + 1 FROM " + quote(identity[0]))) {
+                rs.next();
+                next = rs.getLong(1);
+            }
+            statement.execute("ALTER TABLE " + quote(identity[0]) + " ALTER COLUMN " + quote(identity[1])
+                    + " RESTART WITH " + next);
+        }
+    }
+
+    private static void zip(Path dir, Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "snapshot", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp);
+             ZipOutputStream zip = new ZipOutputStream(out);
+             var paths = Files.list(dir)) {
+            for (Path path : paths.sorted().toList()) {
+                zip.putNextEntry(new ZipEntry(path.getFileName().toString()));
+                Files.copy(path, zip);
+                zip.closeEntry();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
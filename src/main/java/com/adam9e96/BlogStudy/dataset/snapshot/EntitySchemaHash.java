@@ -0,0 +1,91 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * JPA 엔티티 매핑으로 스키마 해시를 계산합니다.
+ *
+ * <p>
+ * {@code @Entity}, {@code @Embeddable}, {@code @MappedSuperclass} 클래스의 이름과 클래스 어노테이션,
+ * 영속 필드의 이름, 타입, 어노테이션을 정렬된 순서로 이어 붙여 SHA-256 으로 해시합니다.
+ * 테이블/컬럼을 바꾸는 매핑 변경은 해시를 바꾸므로, 스냅샷을 만든 뒤 엔티티가 바뀌었는지 스키마를 만들지 않고도 알 수 있습니다.
+ * </p>
+ */
+public final class EntitySchemaHash {
+
+    private EntitySchemaHash() {
+    }
+
+    /**
+     * 주어진 패키지 아래 엔티티들의 스키마 해시를 계산합니다.
+     *
+     * @param basePackages 엔티티를 찾을 패키지
+     * @param classLoader  엔티티 클래스를 불러올 클래스 로더
+     * @return 16진수 SHA-256 해시
+     */
+    public static String compute(Collection<String> basePackages, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Embeddable.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(MappedSuperclass.class));
+
+        TreeSet<String> classNames = new TreeSet<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+        }
+
+        StringBuilder description = new StringBuilder();
+        for (String className : classNames) {
+            Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+            description.append(className).append(annotations(type.getDeclaredAnnotations())).append('\n');
+            List<Field> fields = Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                    .sorted(Comparator.comparing(Field::getName))
+                    .toList();
+            for (Field field : fields) {
+                description.append("  ").append(field.getName()).append(':').append(field.getGenericType().getTypeName())
+                        .append(annotations(field.getDeclaredAnnotations())).append('\n');
+            }
+        }
+        return sha256(description.toString());
+    }
+
+    private static String annotations(Annotation[] annotations) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (Annotation annotation : annotations) {
+            // 매핑과 관계없는 런타임 어노테이션도 포함되므로, 이런 어노테이션만 바꿔도 스냅샷을 다시 만들어야 함
+            sorted.add(annotation.toString());
+        }
+        return sorted.toString();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code blog.snapshot.restore=true}일 때 스냅샷을 쓸 수 있는지 판단하여 부트스트랩 방식을 정합니다.
+ *
+ * <p>
+ * 스냅샷 파일의 스키마 해시가 현재 엔티티({@link EntitySchemaHash})와 같으면
+ * Hibernate 스키마 생성과 {@code data.sql} 실행을 끄고 {@value #ACTIVE} 를 켭니다.
+ * 그러면 {@link SnapshotRestorer}가 데이터소스가 만들어지자마자 스냅샷을 불러옵니다.
+ * 파일이 없거나 해시가 다르면 경고를 남기고 평소처럼 시작합니다.
+ * </p>
+ */
+public class SnapshotEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String ACTIVE = "blog.snapshot.active";
+
+    private final Log log;
+
+    public SnapshotEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(SnapshotEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        SnapshotProperties properties = Binder.get(environment)
+                .bind("blog.snapshot", SnapshotProperties.class)
+                .orElseGet(SnapshotProperties::new);
+        if (!properties.isRestore()) {
+            return;
+        }
+        Path file = Path.of(properties.getFile());
+        if (!Files.isRegularFile(file)) {
+            log.warn("SnapshotEnvironmentPostProcessor | 스냅샷 " + file + " 이 없어 스키마를 새로 만듭니다.");
+            return;
+        }
+
+        String snapshotHash;
+        try {
+            snapshotHash = DatabaseSnapshot.readManifest(file).getProperty(DatabaseSnapshot.SCHEMA_HASH);
+        } catch (IOException e) {
+            log.warn("SnapshotEnvironmentPostProcessor | 스냅샷 " + file + " 을 읽을 수 없어 스키마를 새로 만듭니다: "
+                    + e.getMessage());
+            return;
+        }
+        String entityHash = EntitySchemaHash.compute(basePackages(application), application.getClassLoader());
+        if (!entityHash.equals(snapshotHash)) {
+            log.warn("SnapshotEnvironmentPostProcessor | 스냅샷의 스키마 해시가 엔티티와 달라 스키마를 새로 만듭니다. "
+                    + "./gradlew databaseSnapshot 으로 스냅샷을 다시 만드세요.");
+            return;
+        }
+
+        log.info("SnapshotEnvironmentPostProcessor | 스냅샷 " + file + " 에서 데이터베이스를 불러옵니다.");
+        environment.getPropertySources().addFirst(new MapPropertySource("snapshotBootstrap", Map.of(
+                ACTIVE, "true",
+                "spring.jpa.hibernate.ddl-auto", "none",
+                "spring.sql.init.mode", "never")));
+    }
+
+    /**
+     * 애플리케이션 소스 클래스({@code @SpringBootApplication})의 패키지를 엔티티 검색 범위로 사용합니다.
+     */
+    static Set<String> basePackages(SpringApplication application) {
+        return application.getAllSources().stream()
+                .map(source -> source instanceof Class<?> type ? type.getPackageName() : null)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,46 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 시작이 끝난 뒤(스키마 생성, {@code data.sql}, 합성 데이터셋 생성 이후) 데이터베이스를 스냅샷으로 내보내고 종료합니다.
+ *
+ * <pre>
+ * ./gradlew databaseSnapshot
+ * ./gradlew databaseSnapshot -PsnapshotArgs="--blog.dataset.enabled=true --blog.dataset.articles=50000"
+ * </pre>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "blog.snapshot", name = "export", havingValue = "true")
+public class SnapshotExporter {
+
+    private final SnapshotProperties properties;
+    private final DataSource dataSource;
+    private final BeanFactory beanFactory;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) throws IOException, SQLException {
+        String schemaHash = EntitySchemaHash.compute(AutoConfigurationPackages.get(beanFactory),
+                event.getSpringApplication().getClassLoader());
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseSnapshot.export(connection, Path.of(properties.getFile()), schemaHash);
+        }
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터베이스 스냅샷 설정 ({@code blog.snapshot.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.snapshot")
+public class SnapshotProperties {
+
+    /**
+     * 시작할 때 스냅샷에서 데이터베이스를 불러올지 여부.
+     * 스냅샷이 없거나 스키마 해시가 엔티티와 다르면 평소처럼 스키마를 만들고 {@code data.sql}을 실행합니다.
+     */
+    private boolean restore = false;
+
+    /**
+     * 시작이 끝난 뒤 데이터베이스를 스냅샷으로 내보내고 종료할지 여부. ({@code ./gradlew databaseSnapshot})
+     */
+    private boolean export = false;
+
+    /**
+     * 스냅샷 파일 경로.
+     */
+    private String file = "build/dataset/snapshot.zip";
+}
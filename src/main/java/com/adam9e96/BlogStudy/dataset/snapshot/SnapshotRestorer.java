@@ -0,0 +1,53 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 기본 데이터소스({@value #DATA_SOURCE_BEAN})가 만들어지자마자 스냅샷을 불러옵니다.
+ *
+ * <p>
+ * JPA 나 다른 빈이 데이터소스를 쓰기 전에 불러와야 하므로 {@link BeanPostProcessor}로 동작합니다.
+ * {@link SnapshotEnvironmentPostProcessor}가 스냅샷을 쓸 수 있다고 판단한 경우에만 등록됩니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = SnapshotEnvironmentPostProcessor.ACTIVE, havingValue = "true")
+public class SnapshotRestorer implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 프로퍼티 빈 대신 Environment 에서 직접 읽음
+    private final Environment environment;
+
+    public SnapshotRestorer(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        SnapshotProperties properties = Binder.get(environment)
+                .bind("blog.snapshot", SnapshotProperties.class)
+                .orElseGet(SnapshotProperties::new);
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseSnapshot.restore(connection, Path.of(properties.getFile()));
+        } catch (IOException | SQLException e) {
+            throw new BeanCreationException(beanName, "failed to restore database snapshot", e);
+        }
+        return bean;
+    }
+}
@@ -1,12 +1,19 @@
 package com.adam9e96.BlogStudy.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 블로그 게시물을 나타내는 엔티티.
@@ -24,18 +31,29 @@ import java.time.LocalDateTime;
  * </p>
  *
  * <p>
+ * {@code (author, created_at, id)} 인덱스는 작성자별 게시물을 최신순으로 이어서 읽는 키셋 조회에 사용됩니다.
+ * </p>
+ *
+ * <p>
  * <strong>주의 사항:</strong>
  *       기본 생성자는 PROTECTED 수준으로 제한되어 있어, 외부에서 직접 인스턴스를 생성할 수 없습니다.
  *       대신 {@link #builder()} 메서드를 사용하여 객체를 생성해야 합니다.
  * </p>
  */
 @Entity
+@Table(name = "article",
+        indexes = @Index(name = "idx_article_author_created_at_id", columnList = "author, created_at, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자를 PROTECTED 로 설정
 @EntityListeners(AuditingEntityListener.class) // 블로그 글 뷰 구현 (생성시간, 수정시간 관련)
 @ToString
 public class Article {
 
+    /**
+     * 목록 화면에 표시할 요약의 최대 길이.
+     */
+    public static final int SUMMARY_LENGTH = 200;
+
     /**
      * 게시물의 고유 식별자.
      * <p>
@@ -54,10 +72,75 @@ public class Article {
     private String title; // 게시물의 제목
 
     /**
-     * 게시물의 내용.
+     * 게시물의 내용(마크다운 원문과 렌더링된 HTML).
+     * <p>
+     * 본문은 {@code article_body} 테이블에 압축되어 저장되고, 실제로 필요할 때만 지연 로딩됩니다.
+     * 목록 화면에서는 본문 대신 {@link #summary}를 사용합니다.
+     * </p>
      */
-    @Column(name = "content", nullable = false)
-    private String content; // 내용
+    @ToString.Exclude // toString() 호출로 본문이 로딩되지 않도록 제외
+    @JsonIgnore // 엔티티를 직접 응답할 때 지연 로딩 프록시가 직렬화되지 않도록 제외 (content, contentHtml 로 노출)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+    @JoinColumn(name = "body_id", nullable = false, unique = true)
+    private ArticleBody body;
+
+    /**
+     * 목록 화면에 표시할 본문 요약 (원문의 앞부분).
+     */
+    @Column(name = "summary", length = SUMMARY_LENGTH)
+    private String summary;
+
+    /**
+     * 게시물의 태그.
+     * <p>
+     * {@code article_tag} 조인 테이블의 기본 키는 {@code (article_id, tag_id)}이며,
+     * 태그로 게시물을 찾는 조회를 위해 {@code (tag_id, article_id)} 인덱스를 추가로 둡니다.
+     * 목록에서 여러 게시물의 태그를 읽을 때는 최대 100개 게시물의 태그를 한 번에 로딩합니다.
+     * 태그는 이름순으로 로딩됩니다.
+     * </p>
+     */
+    @ToString.Exclude
+    @JsonIgnore
+    @BatchSize(size = 100)
+    @OrderBy("name")
+    @ManyToMany
+    @JoinTable(name = "article_tag",
+            joinColumns = @JoinColumn(name = "article_id"),
+            inverseJoinColumns = @JoinColumn(name = "tag_id"),
+            indexes = @Index(name = "idx_article_tag_tag_id_article_id", columnList = "tag_id, article_id"))
+    private Set<Tag> tags = new LinkedHashSet<>();
+
+    /**
+     * 렌더링된 HTML 을 생성한 렌더러의 버전.
+     * <p>
+     * 렌더러 버전이 올라가면 이 값이 다른 게시물들이 백그라운드에서 다시 렌더링됩니다.
+     * </p>
+     */
+    @Column(name = "renderer_version")
+    private Integer rendererVersion;
+
+    /**
+     * 게시물 조회수.
+     * <p>
+     * 조회할 때마다 갱신하지 않고, {@code ArticleViewCounter}가 메모리에 모은 증가분을 주기적으로 한 번에 더합니다.
+     * 따라서 아직 반영되지 않은 조회수가 있을 수 있습니다.
+     * 증가분을 더하는 {@code UPDATE} 문으로만 바뀌므로, 게시물을 수정할 때 읽어 둔 값으로 덮어쓰지 않도록 갱신 대상에서 뺍니다.
+     * </p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    /**
+     * 게시물의 댓글 수.
+     * <p>
+     * 목록 화면에서 댓글 테이블을 집계하지 않도록, 댓글을 추가/삭제할 때 함께 갱신합니다.
+     * 증감하는 {@code UPDATE} 문으로만 바뀌므로, 게시물을 수정할 때 읽어 둔 값으로 덮어쓰지 않도록 갱신 대상에서 뺍니다.
+     * </p>
+     */
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
 
     /**
      * 게시물 생성 시간.
@@ -95,10 +178,35 @@ public class Article {
     @Builder
     public Article(String author, String title, String content) {
         this.title = title;
-        this.content = content;
+        this.body = new ArticleBody(content);
+        this.summary = summarize(content);
         this.author = author;
     }
 
+    /**
+     * 게시물의 내용(마크다운 원문)을 반환합니다.
+     * <p>
+     * 본문이 아직 로딩되지 않았다면 이 시점에 로딩되고 압축이 해제됩니다.
+     * </p>
+     *
+     * @return 게시물의 내용
+     */
+    public String getContent() {
+        return body.getContent();
+    }
+
+    /**
+     * 게시물의 내용을 렌더링한 HTML 을 반환합니다.
+     * <p>
+     * 본문이 아직 로딩되지 않았다면 이 시점에 로딩되고 압축이 해제됩니다.
+     * </p>
+     *
+     * @return 렌더링된 HTML (아직 렌더링되지 않았다면 {@code null})
+     */
+    public String getContentHtml() {
+        return body.getContentHtml();
+    }
+
     /**
      * 게시물의 제목과 내용을 업데이트.
      *
@@ -107,6 +215,51 @@ public class Article {
      */
     public void update(String title, String content) {
         this.title = title;
-        this.content = content;
+        this.body.update(content);
+        this.summary = summarize(content);
+    }
+
+    /**
+     * 게시물의 태그를 교체합니다.
+     *
+     * @param tags 새로운 태그 목록
+     */
+    public void updateTags(Collection<Tag> tags) {
+        this.tags.clear();
+        this.tags.addAll(tags);
+    }
+
+    /**
+     * 게시물의 태그 이름을 반환합니다.
+     *
+     * @return 태그 이름 목록
+     */
+    public List<String> getTagNames() {
+        return tags.stream().map(Tag::getName).toList();
+    }
+
+    /**
+     * 렌더링된 HTML 과 렌더러 버전을 저장합니다.
+     *
+     * @param contentHtml     렌더링된 HTML
+     * @param rendererVersion 렌더링에 사용한 렌더러 버전
+     */
+    public void renderContent(String contentHtml, int rendererVersion) {
+        this.body.updateHtml(contentHtml);
+        this.rendererVersion = rendererVersion;
+    }
+
+    /**
+     * 원문의 앞부분을 공백을 정리하여 요약으로 만듭니다.
+     *
+     * @param content 게시물 원문
+     * @return 최대 {@value #SUMMARY_LENGTH}자의 요약
+     */
+    public static String summarize(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        return normalized.length() <= SUMMARY_LENGTH ? normalized : normalized.substring(0, SUMMARY_LENGTH);
     }
 }
@@ -0,0 +1,120 @@
+package com.adam9e96.BlogStudy.domain;
+
+import com.adam9e96.BlogStudy.util.ArticleBodyCodec;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+/**
+ * 게시물 본문을 저장하는 엔티티.
+ *
+ * <p>
+ * 본문은 {@code article_body} 테이블에 {@link Article}과 분리되어 저장되며, {@link Article}에서는 지연 로딩됩니다.
+ * 따라서 목록 조회나 작성자 확인처럼 메타데이터만 필요한 경우에는 본문이 힙이나
+ * Hibernate 의 변경 감지 스냅샷에 올라오지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 원문(마크다운)과 렌더링된 HTML 은 {@link ArticleBodyCodec}으로 압축되어 저장되고,
+ * 실제로 본문이 필요할 때(상세 조회 등) 한 번만 복원됩니다.
+ * </p>
+ *
+ * <p>
+ * 여러 게시물의 본문이 필요한 경우(API 목록 조회)에는 {@link BatchSize}에 의해 IN 쿼리로 한 번에 로딩됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "article_body")
+@BatchSize(size = 100)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleBody {
+
+    /**
+     * 압축된 본문의 최대 바이트 수.
+     */
+    private static final int MAX_ENCODED_LENGTH = 10_000_000;
+
+    @Getter
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    /**
+     * 압축된 원문(마크다운).
+     */
+    @Column(name = "content", nullable = false, length = MAX_ENCODED_LENGTH)
+    private byte[] content;
+
+    /**
+     * 압축된 렌더링 HTML.
+     */
+    @Column(name = "content_html", length = MAX_ENCODED_LENGTH)
+    private byte[] contentHtml;
+
+    // 복원한 문자열 캐시 (영속 상태가 아님)
+    @Transient
+    private String decodedContent;
+
+    @Transient
+    private String decodedContentHtml;
+
+    public ArticleBody(String content) {
+        update(content);
+    }
+
+    /**
+     * 원문을 복원하여 반환합니다. 처음 호출될 때 한 번만 압축을 해제합니다.
+     *
+     * @return 게시물 원문
+     */
+    public String getContent() {
+        if (decodedContent == null) {
+            decodedContent = ArticleBodyCodec.decode(content);
+        }
+        return decodedContent;
+    }
+
+    /**
+     * 렌더링된 HTML 을 복원하여 반환합니다. 처음 호출될 때 한 번만 압축을 해제합니다.
+     *
+     * @return 렌더링된 HTML (아직 렌더링되지 않았다면 {@code null})
+     */
+    public String getContentHtml() {
+        if (decodedContentHtml == null && contentHtml != null) {
+            decodedContentHtml = ArticleBodyCodec.decode(contentHtml);
+        }
+        return decodedContentHtml;
+    }
+
+    /**
+     * 저장된 원문의 바이트 수(압축 후)를 반환합니다.
+     *
+     * @return 압축된 원문의 바이트 수
+     */
+    public int getStoredContentLength() {
+        return content == null ? 0 : content.length;
+    }
+
+    /**
+     * 원문을 변경합니다. 렌더링된 HTML 은 {@link #updateHtml(String)}으로 따로 갱신해야 합니다.
+     *
+     * @param content 새로운 원문
+     */
+    public void update(String content) {
+        this.content = ArticleBodyCodec.encode(content);
+        this.decodedContent = content;
+    }
+
+    /**
+     * 렌더링된 HTML 을 변경합니다.
+     *
+     * @param contentHtml 새로운 HTML
+     */
+    public void updateHtml(String contentHtml) {
+        this.contentHtml = ArticleBodyCodec.encode(contentHtml);
+        this.decodedContentHtml = contentHtml;
+    }
+}
@@ -0,0 +1,131 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물의 개정 이력 한 건.
+ *
+ * <p>
+ * 개정마다 본문 전체를 저장하지 않고, 직전 개정과의 줄 단위 델타({@link Kind#DELTA})를 압축하여 저장합니다.
+ * 일정 간격마다(또는 델타가 전체 사본보다 크면) 전체 사본({@link Kind#SNAPSHOT})을 저장하며,
+ * 각 행의 {@code baseRevision}은 자신이 속한 체인의 시작 사본을 가리킵니다.
+ * 따라서 어떤 개정이든 {@code baseRevision}부터 자신까지의 행만 읽어 복원할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 게시물 삭제 시 함께 삭제되며, 외래 키 없이 {@code article_id}만 보관합니다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "article_revision",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_revision_article_id_revision",
+                columnNames = {"article_id", "revision"}))
+public class ArticleRevision {
+
+    /**
+     * 압축된 본문(또는 델타)의 최대 바이트 수.
+     */
+    private static final int MAX_PAYLOAD_LENGTH = 10_000_000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    /**
+     * 게시물 ID
+     */
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    /**
+     * 개정 번호 (게시물마다 1부터 증가)
+     */
+    @Column(name = "revision", nullable = false, updatable = false)
+    private int revision;
+
+    /**
+     * 이 개정을 복원할 때 시작하는 전체 사본의 개정 번호 (전체 사본이면 자기 자신)
+     */
+    @Column(name = "base_revision", nullable = false, updatable = false)
+    private int baseRevision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, updatable = false, length = 16)
+    private Kind kind;
+
+    /**
+     * 이 개정의 제목 (짧으므로 항상 전체를 저장)
+     */
+    @Column(name = "title", nullable = false, updatable = false)
+    private String title;
+
+    /**
+     * {@code ArticleBodyCodec}으로 압축한 본문(전체 사본) 또는 {@code LineDelta} 델타
+     */
+    @Column(name = "payload", nullable = false, updatable = false, length = MAX_PAYLOAD_LENGTH)
+    private byte[] payload;
+
+    /**
+     * 저장된 {@code payload}의 바이트 수 (목록 조회에서 {@code payload}를 읽지 않도록 따로 보관)
+     */
+    @Column(name = "stored_length", nullable = false, updatable = false)
+    private int storedLength;
+
+    /**
+     * 복원한 본문의 UTF-8 바이트 수
+     */
+    @Column(name = "content_length", nullable = false, updatable = false)
+    private int contentLength;
+
+    /**
+     * 복원한 본문의 CRC32C 체크섬 (복원 결과 검증용)
+     */
+    @Column(name = "checksum", nullable = false, updatable = false)
+    private long checksum;
+
+    /**
+     * 수정한 사용자
+     */
+    @Column(name = "edited_by", updatable = false)
+    private String editedBy;
+
+    /**
+     * 이 개정이 만들어진 시각
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ArticleRevision(Long articleId, int revision, int baseRevision, Kind kind, String title, byte[] payload,
+                           int contentLength, long checksum, String editedBy, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.revision = revision;
+        this.baseRevision = baseRevision;
+        this.kind = kind;
+        this.title = title;
+        this.payload = payload;
+        this.storedLength = payload.length;
+        this.contentLength = contentLength;
+        this.checksum = checksum;
+        this.editedBy = editedBy;
+        this.createdAt = createdAt;
+    }
+
+    public enum Kind {
+        /**
+         * 압축한 전체 본문
+         */
+        SNAPSHOT,
+        /**
+         * 직전 개정에 대한 압축한 줄 단위 델타
+         */
+        DELTA
+    }
+}
@@ -0,0 +1,86 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물에 달린 댓글을 나타내는 엔티티.
+ *
+ * <p>
+ * 게시물과 작성자는 지연 로딩되며, 작성자는 {@link User}의 {@code @BatchSize}에 의해
+ * 한 페이지의 댓글 작성자들이 하나의 쿼리로 함께 로딩됩니다.
+ * </p>
+ *
+ * <p>
+ * {@code (article_id, id)} 인덱스는 게시물별 댓글을 ID 순으로 이어서 읽는 키셋 페이지네이션에 사용됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "comment", indexes = @Index(name = "idx_comment_article_id_id", columnList = "article_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@ToString
+public class Comment {
+
+    /**
+     * 댓글의 최대 길이.
+     */
+    public static final int MAX_CONTENT_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    /**
+     * 댓글이 달린 게시물.
+     */
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "article_id", nullable = false, updatable = false)
+    private Article article;
+
+    /**
+     * 댓글 작성자.
+     */
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "author_id", nullable = false, updatable = false)
+    private User author;
+
+    /**
+     * 댓글 내용.
+     */
+    @Column(name = "content", nullable = false, length = MAX_CONTENT_LENGTH)
+    private String content;
+
+    /**
+     * 댓글 작성 시간.
+     */
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 빌더 패턴을 사용한 Comment 인스턴스 생성자.
+     *
+     * @param article 댓글이 달린 게시물
+     * @param author  댓글 작성자
+     * @param content 댓글 내용
+     */
+    @Builder
+    public Comment(Article article, User author, String content) {
+        this.article = article;
+        this.author = author;
+        this.content = content;
+    }
+}
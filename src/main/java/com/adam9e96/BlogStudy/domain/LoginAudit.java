@@ -0,0 +1,66 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 로그인 기록 엔티티.
+ *
+ * <p>
+ * 로그인과 토큰 재발급을 누가, 언제, 어느 제공자로, 어느 IP 에서 했는지 보관합니다.
+ * 행은 {@code LoginAuditLog}가 배치 {@code INSERT}로만 추가하며, 이 엔티티는 테이블 매핑과 조회에 사용합니다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "login_audit", indexes = {
+        @Index(name = "idx_login_audit_user_id_occurred_at", columnList = "user_id, occurred_at"),
+        @Index(name = "idx_login_audit_occurred_at", columnList = "occurred_at")})
+public class LoginAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    /**
+     * 기록 종류 ({@code LOGIN}, {@code TOKEN_REFRESH})
+     */
+    @Column(name = "event_type", nullable = false, updatable = false, length = 32)
+    private String eventType;
+
+    /**
+     * 사용자 ID
+     */
+    @Column(name = "user_id", updatable = false)
+    private Long userId;
+
+    /**
+     * 사용자 이메일
+     */
+    @Column(name = "email", updatable = false)
+    private String email;
+
+    /**
+     * 인증 제공자 (OAuth2 등록 ID, 리프레시 토큰이면 {@code refresh-token})
+     */
+    @Column(name = "provider", updatable = false, length = 64)
+    private String provider;
+
+    /**
+     * 요청한 클라이언트 IP
+     */
+    @Column(name = "ip", updatable = false, length = 45)
+    private String ip;
+
+    /**
+     * 발생 시각
+     */
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+}
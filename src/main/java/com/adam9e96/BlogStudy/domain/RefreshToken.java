@@ -33,9 +33,9 @@ public class RefreshToken {
     private Long userId;
 
     /**
-     * 실제 리프레시 토큰 값
+     * 실제 리프레시 토큰 값 ({@code jti} 클레임을 포함하면 기본 길이 255자를 넘음)
      */
-    @Column(name = "refresh_token", nullable = false)
+    @Column(name = "refresh_token", nullable = false, length = 1024)
     private String refreshToken;
 
     /**
@@ -0,0 +1,41 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 폐기된 토큰 엔티티.
+ *
+ * <p>
+ * 토큰의 {@code jti}(JWT ID)와 원래 만료 시각을 보관합니다.
+ * 만료 시각이 지나면 토큰 자체가 검증에 실패하므로 행도 지웁니다.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "revoked_token", indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+    /**
+     * 토큰의 {@code jti}
+     */
+    @Id
+    @Column(name = "jti", updatable = false, length = 64)
+    private String jti;
+
+    /**
+     * 토큰의 만료 시각
+     */
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    public RevokedToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
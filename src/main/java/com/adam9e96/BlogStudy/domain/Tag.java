@@ -0,0 +1,62 @@
+package com.adam9e96.BlogStudy.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.Locale;
+
+/**
+ * 게시물 분류에 쓰이는 태그 엔티티.
+ *
+ * <p>
+ * 태그 이름은 앞뒤 공백을 제거하고 소문자로 바꾼 형태({@link #normalize(String)})로 저장되어,
+ * {@code Java}와 {@code java}가 같은 태그로 취급됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "tag")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class Tag {
+
+    /**
+     * 태그 이름의 최대 길이.
+     */
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    @Column(name = "name", nullable = false, unique = true, length = MAX_NAME_LENGTH)
+    private String name;
+
+    /**
+     * 태그를 생성합니다.
+     *
+     * @param name 태그 이름 (정규화되어 저장됨)
+     */
+    public Tag(String name) {
+        this.name = normalize(name);
+    }
+
+    /**
+     * 태그 이름을 정규화합니다.
+     *
+     * @param name 태그 이름
+     * @return 앞뒤 공백을 제거하고 소문자로 바꾼 이름
+     * @throws IllegalArgumentException 이름이 비어 있거나 {@value #MAX_NAME_LENGTH}자를 넘는 경우
+     */
+    public static String normalize(String name) {
+        String normalized = name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("invalid tag: " + name);
+        }
+        return normalized;
+    }
+}
@@ -2,6 +2,7 @@ package com.adam9e96.BlogStudy.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,7 +19,12 @@ import java.util.List;
  * </p>
  * <p>
  * OAuth2 서비스 구현하기
+ * <p>
+ * 댓글 목록처럼 여러 엔티티가 작성자를 지연 로딩할 때, 작성자마다 쿼리를 보내지 않고
+ * 최대 100명씩 하나의 IN 쿼리로 함께 로딩합니다. ({@code @BatchSize})
+ * </p>
  */
+@BatchSize(size = 100)
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
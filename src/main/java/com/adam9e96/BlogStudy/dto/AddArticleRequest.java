@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.util.List;
+
 /**
  * 새로운 블로그 게시물 추가 요청을 하는 DTO.
  */
@@ -16,6 +18,11 @@ import lombok.ToString;
 public class AddArticleRequest {
     private String title;
     private String content;
+    private List<String> tags;
+
+    public AddArticleRequest(String title, String content) {
+        this(title, content, null);
+    }
 
     /**
      * 블로그 글을 추가할때 저장할 엔티티로 변환하는 용도로 사용합니다.
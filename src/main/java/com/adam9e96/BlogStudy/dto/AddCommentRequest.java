@@ -0,0 +1,17 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 댓글 추가 요청 DTO.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@ToString
+public class AddCommentRequest {
+    private String content;
+}
@@ -5,18 +5,24 @@ import lombok.Getter;
 
 /**
  * 뷰에게 데이터를 전달하기 위한 객체를 생성
+ * <p>
+ * 목록 화면에서는 본문 전체 대신 요약({@code summary})만 사용하므로 게시물 본문을 로딩하지 않습니다.
+ * 댓글 수도 게시물에 저장된 값({@code commentCount})을 사용하므로 댓글을 집계하지 않습니다.
+ * </p>
  */
 @Getter
 public class ArticleListViewResponse {
     private final Long id;
     private final String title;
-    private final String content;
+    private final String summary;
+    private final long commentCount;
 
 
     public ArticleListViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
-        this.content = article.getContent();
+        this.summary = article.getSummary();
+        this.commentCount = article.getCommentCount();
     }
 }
 
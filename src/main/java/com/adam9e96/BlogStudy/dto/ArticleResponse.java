@@ -4,12 +4,14 @@ package com.adam9e96.BlogStudy.dto;
 import com.adam9e96.BlogStudy.domain.Article;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 블로그 게시물 응답을 위한 데이터 전송 객체(DTO).
  *
  * <p>
  * 이 클래스는 {@link Article} 엔티티를 클라이언트에 전달할 응답 형식으로 변환하는 역할을 합니다.
- * 게시물의 제목과 내용을 포함합니다.
+ * 게시물의 제목, 내용, 조회수, 태그를 포함합니다.
  * </p>
  *
  * @see Article
@@ -18,6 +20,8 @@ import lombok.Getter;
 public class ArticleResponse {
     private final String title;
     private final String content;
+    private final long viewCount;
+    private final List<String> tags;
 
     /**
      * {@link Article} 엔티티를 기반으로 {@code ArticleResponse} 객체를 생성합니다.
@@ -25,7 +29,34 @@ public class ArticleResponse {
      * @param article 변환할 {@link Article} 엔티티
      */
     public ArticleResponse(Article article) {
+        this(article, article.getViewCount());
+    }
+
+    /**
+     * {@link Article} 엔티티와 현재 조회수로 {@code ArticleResponse} 객체를 생성합니다.
+     *
+     * @param article   변환할 {@link Article} 엔티티
+     * @param viewCount 아직 데이터베이스에 반영되지 않은 증가분을 포함한 조회수
+     */
+    public ArticleResponse(Article article, long viewCount) {
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.viewCount = viewCount;
+        this.tags = article.getTagNames();
+    }
+
+    /**
+     * 엔티티를 거치지 않고 읽은 값으로 {@code ArticleResponse} 객체를 생성합니다. (논블로킹 API 에서 사용)
+     *
+     * @param title     제목
+     * @param content   내용
+     * @param viewCount 조회수
+     * @param tags      태그 이름 목록
+     */
+    public ArticleResponse(String title, String content, long viewCount, List<String> tags) {
+        this.title = title;
+        this.content = content;
+        this.viewCount = viewCount;
+        this.tags = tags;
     }
 }
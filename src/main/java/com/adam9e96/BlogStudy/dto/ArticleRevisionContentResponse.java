@@ -0,0 +1,28 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 복원한 게시물 개정 응답 DTO.
+ */
+@Getter
+public class ArticleRevisionContentResponse {
+    private final Long articleId;
+    private final int revision;
+    private final String title;
+    private final String content;
+    private final String editedBy;
+    private final LocalDateTime createdAt;
+
+    public ArticleRevisionContentResponse(Long articleId, int revision, String title, String content,
+                                          String editedBy, LocalDateTime createdAt) {
+        this.articleId = articleId;
+        this.revision = revision;
+        this.title = title;
+        this.content = content;
+        this.editedBy = editedBy;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 개정 이력 목록의 한 항목 응답 DTO. (본문은 포함하지 않음)
+ *
+ * <p>
+ * {@code storedLength}는 이 개정이 실제로 차지하는 바이트 수(압축한 전체 사본 또는 델타),
+ * {@code contentLength}는 복원한 본문의 UTF-8 바이트 수입니다.
+ * </p>
+ */
+@Getter
+public class ArticleRevisionResponse {
+    private final int revision;
+    private final ArticleRevision.Kind kind;
+    private final String title;
+    private final String editedBy;
+    private final LocalDateTime createdAt;
+    private final int contentLength;
+    private final int storedLength;
+
+    public ArticleRevisionResponse(int revision, ArticleRevision.Kind kind, String title, String editedBy,
+                                   LocalDateTime createdAt, int contentLength, int storedLength) {
+        this.revision = revision;
+        this.kind = kind;
+        this.title = title;
+        this.editedBy = editedBy;
+        this.createdAt = createdAt;
+        this.contentLength = contentLength;
+        this.storedLength = storedLength;
+    }
+}
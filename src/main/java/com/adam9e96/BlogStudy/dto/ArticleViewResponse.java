@@ -4,15 +4,22 @@ package com.adam9e96.BlogStudy.dto;
 import com.adam9e96.BlogStudy.domain.Article;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 블로그 게시물 상세 정보를 클라이언트에 전달하기 위한 데이터 전송 객체(DTO).
  *
  * <p>
  * 이 클래스는 {@link Article} 엔티티를 클라이언트가 이해하기 쉬운 형태로 변환하여 제공합니다.
- * 게시물의 ID, 제목, 내용, 작성일자, 작성자를 포함합니다.
+ * 게시물의 ID, 제목, 내용, 작성일자, 작성자, 조회수, 댓글 수, 태그를 포함합니다.
+ * </p>
+ *
+ * <p>
+ * {@code contentHtml}은 저장 시점에 미리 렌더링된 HTML 을 그대로 사용하므로 조회 시 마크다운을 파싱하지 않습니다.
+ * 아직 렌더링되지 않은 게시물은 원문을 이스케이프하여 제공합니다.
  * </p>
  *
  * @see Article
@@ -24,8 +31,12 @@ public class ArticleViewResponse {
     private Long id;
     private String title;
     private String content;
+    private String contentHtml;
     private LocalDateTime createdAt;
     private String author;
+    private long viewCount;
+    private long commentCount;
+    private List<String> tags = List.of();
 
     /**
      * {@link Article} 엔티티를 기반으로 {@code ArticleViewResponse} 객체를 생성합니다.
@@ -33,10 +44,26 @@ public class ArticleViewResponse {
      * @param article 변환할 {@link Article} 엔티티
      */
     public ArticleViewResponse(Article article) {
+        this(article, article.getViewCount());
+    }
+
+    /**
+     * {@link Article} 엔티티와 현재 조회수로 {@code ArticleViewResponse} 객체를 생성합니다.
+     *
+     * @param article   변환할 {@link Article} 엔티티
+     * @param viewCount 아직 데이터베이스에 반영되지 않은 증가분을 포함한 조회수
+     */
+    public ArticleViewResponse(Article article, long viewCount) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.contentHtml = article.getContentHtml() != null
+                ? article.getContentHtml()
+                : HtmlUtils.htmlEscape(article.getContent()); // 아직 렌더링되지 않은 게시물
         this.createdAt = article.getCreatedAt();
         this.author = article.getAuthor();
+        this.viewCount = viewCount;
+        this.commentCount = article.getCommentCount();
+        this.tags = article.getTagNames();
     }
 }
@@ -0,0 +1,26 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 작성자별 게시물 한 페이지 응답 DTO.
+ *
+ * <p>
+ * 다음 페이지는 {@code nextCursor}를 {@code cursor} 파라미터로 넘겨 조회합니다.
+ * 마지막 페이지이면 {@code nextCursor}는 {@code null}입니다.
+ * </p>
+ */
+@Getter
+public class AuthorArticlePageResponse {
+    private final List<ArticleListViewResponse> articles;
+    private final String nextCursor;
+    private final long totalCount;
+
+    public AuthorArticlePageResponse(List<ArticleListViewResponse> articles, String nextCursor, long totalCount) {
+        this.articles = articles;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.adam9e96.BlogStudy.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 한 페이지 응답 DTO.
+ *
+ * <p>
+ * 다음 페이지는 {@code nextCursor}를 {@code after} 파라미터로 넘겨 조회합니다.
+ * 마지막 페이지이면 {@code nextCursor}는 {@code null}입니다.
+ * </p>
+ */
+@Getter
+public class CommentPageResponse {
+    private final List<CommentResponse> comments;
+    private final Long nextCursor;
+
+    public CommentPageResponse(List<CommentResponse> comments, Long nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+}
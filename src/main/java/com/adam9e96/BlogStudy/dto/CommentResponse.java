@@ -0,0 +1,35 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.Comment;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 응답을 위한 데이터 전송 객체(DTO).
+ *
+ * <p>
+ * 작성자는 이메일(로그인 아이디)로 표시합니다.
+ * </p>
+ *
+ * @see Comment
+ */
+@Getter
+public class CommentResponse {
+    private final Long id;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+
+    /**
+     * {@link Comment} 엔티티를 기반으로 {@code CommentResponse} 객체를 생성합니다.
+     *
+     * @param comment 변환할 {@link Comment} 엔티티
+     */
+    public CommentResponse(Comment comment) {
+        this.id = comment.getId();
+        this.content = comment.getContent();
+        this.author = comment.getAuthor().getEmail();
+        this.createdAt = comment.getCreatedAt();
+    }
+}
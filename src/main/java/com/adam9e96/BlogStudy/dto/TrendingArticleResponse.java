@@ -0,0 +1,32 @@
+package com.adam9e96.BlogStudy.dto;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import lombok.Getter;
+
+/**
+ * 인기 게시물 응답을 위한 데이터 전송 객체(DTO).
+ *
+ * <p>
+ * 목록에 표시할 ID, 제목, 조회수만 포함하며 게시물 본문은 로딩하지 않습니다.
+ * </p>
+ *
+ * @see Article
+ */
+@Getter
+public class TrendingArticleResponse {
+    private final Long id;
+    private final String title;
+    private final long viewCount;
+
+    /**
+     * {@link Article} 엔티티와 현재 조회수로 {@code TrendingArticleResponse} 객체를 생성합니다.
+     *
+     * @param article   변환할 {@link Article} 엔티티
+     * @param viewCount 아직 데이터베이스에 반영되지 않은 증가분을 포함한 조회수
+     */
+    public TrendingArticleResponse(Article article, long viewCount) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.viewCount = viewCount;
+    }
+}
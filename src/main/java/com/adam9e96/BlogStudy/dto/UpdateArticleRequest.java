@@ -5,8 +5,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.util.List;
+
 /**
  * 블로그 게시물 수정을 위한 요청 DTO.
+ * <p>
+ * {@code tags}가 {@code null}이면 태그는 바꾸지 않습니다.
+ * </p>
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +20,9 @@ import lombok.ToString;
 public class UpdateArticleRequest {
     private String title;
     private String content;
+    private List<String> tags;
+
+    public UpdateArticleRequest(String title, String content) {
+        this(title, content, null);
+    }
 }
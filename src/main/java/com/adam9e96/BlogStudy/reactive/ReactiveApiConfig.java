@@ -0,0 +1,23 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 논블로킹 읽기 전용 게시물 API 설정. {@code blog.reactive-api.enabled=true}일 때만 적용됩니다.
+ *
+ * @see ReactiveApiServer
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "blog.reactive-api", name = "enabled", havingValue = "true")
+public class ReactiveApiConfig {
+
+    @Bean
+    public ReactiveApiServer reactiveApiServer(ReactiveApiProperties properties, TokenProvider tokenProvider,
+                                               ObjectMapper objectMapper) {
+        return new ReactiveApiServer(properties, tokenProvider, objectMapper);
+    }
+}
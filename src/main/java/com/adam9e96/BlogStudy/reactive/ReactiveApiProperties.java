@@ -0,0 +1,41 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 논블로킹 읽기 전용 게시물 API 설정 ({@code blog.reactive-api.*}).
+ *
+ * <p>
+ * R2DBC 는 JDBC 와 같은 데이터베이스를 바라봐야 하므로,
+ * 인메모리 H2 를 쓸 때는 {@code spring.datasource.url}도 같은 이름과 {@code DB_CLOSE_DELAY=-1}로 지정해야 합니다.
+ * ({@code application-reactive.properties} 참고)
+ * </p>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.reactive-api")
+public class ReactiveApiProperties {
+
+    /**
+     * 논블로킹 API 서버 사용 여부.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 논블로킹 API 서버(Netty) 포트. 0 이면 임의의 포트를 사용합니다.
+     */
+    private int port = 8081;
+
+    /**
+     * R2DBC 연결 URL.
+     */
+    private String url = "r2dbc:pool:h2:mem:///blog?options=DB_CLOSE_DELAY=-1";
+
+    private String username = "sa";
+
+    private String password = "";
+}
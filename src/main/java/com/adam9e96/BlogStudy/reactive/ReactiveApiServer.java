@@ -0,0 +1,108 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.Disposable;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 논블로킹 읽기 전용 게시물 API 를 별도 포트의 Netty 서버로 실행합니다.
+ *
+ * <p>
+ * 메인 애플리케이션은 서블릿(Tomcat) 기반으로 그대로 두고,
+ * 이 서버만 WebFlux 함수형 엔드포인트와 R2DBC 로 동작합니다.
+ * R2DBC {@link ConnectionFactory}는 빈으로 등록하지 않습니다.
+ * (빈으로 등록하면 스프링 부트가 JDBC {@code DataSource} 자동 설정을 건너뜀)
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code GET /api/articles?after=&size=}</li>
+ *     <li>{@code GET /api/articles/{id}}</li>
+ *     <li>{@code GET /api/articles/stream} (NDJSON)</li>
+ * </ul>
+ */
+@Slf4j
+public class ReactiveApiServer implements SmartLifecycle, DisposableBean {
+
+    private final ReactiveApiProperties properties;
+    private final ConnectionFactory connectionFactory;
+    private final RouterFunction<ServerResponse> router;
+    private final HandlerStrategies strategies;
+
+    private volatile DisposableServer server;
+
+    public ReactiveApiServer(ReactiveApiProperties properties, TokenProvider tokenProvider, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build());
+
+        ReactiveArticleHandler handler =
+                new ReactiveArticleHandler(new ReactiveArticleRepository(DatabaseClient.create(connectionFactory)));
+        this.router = RouterFunctions.route()
+                .GET("/api/articles/stream", handler::stream)
+                .GET("/api/articles/{id}", handler::detail)
+                .GET("/api/articles", handler::list)
+                .filter(new ReactiveTokenAuthenticationFilter(tokenProvider))
+                .onError(IllegalArgumentException.class, (e, request) -> ServerResponse.badRequest().build())
+                .build();
+        this.strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .build();
+    }
+
+    /**
+     * 서버가 실제로 사용하는 포트를 반환합니다.
+     *
+     * @return 포트 (실행 중이 아니면 {@code -1})
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        return current == null ? -1 : current.port();
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(properties.getPort())
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(router, strategies)))
+                .bindNow();
+        log.info("ReactiveApiServer | 논블로킹 게시물 API 시작: port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 게시물 API 핸들러.
+ *
+ * <p>
+ * 응답 형식은 MVC 의 {@code BlogApiController}와 같은 {@link ArticleResponse}입니다.
+ * 이 API 는 읽기 전용이며 조회수를 올리지 않습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ReactiveArticleHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ReactiveArticleRepository articleRepository;
+
+    /**
+     * {@code GET /api/articles?after=&size=}: 게시물을 ID 순으로 한 페이지 조회합니다.
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        long after = request.queryParam("after").map(Long::parseLong).orElse(0L);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(articleRepository.findPage(after, Math.max(1, Math.min(size, MAX_PAGE_SIZE))),
+                        ArticleResponse.class);
+    }
+
+    /**
+     * {@code GET /api/articles/{id}}: 게시물 하나를 조회합니다.
+     */
+    public Mono<ServerResponse> detail(ServerRequest request) {
+        long id = Long.parseLong(request.pathVariable("id"));
+        return articleRepository.findById(id)
+                .flatMap(article -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(article))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * {@code GET /api/articles/stream}: 모든 게시물을 NDJSON 으로 흘려보냅니다.
+     * 클라이언트가 읽는 속도에 맞춰(backpressure) 데이터베이스에서 읽습니다.
+     */
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(articleRepository.streamAll(), ArticleResponse.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.util.ArticleBodyCodec;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC 로 게시물을 읽는 리포지토리.
+ *
+ * <p>
+ * 게시물과 본문은 한 번의 조인으로 읽고, 태그는 게시물 묶음마다 {@code IN} 쿼리 한 번으로 읽어 붙입니다.
+ * 스트리밍 조회는 {@value #TAG_BATCH_SIZE}개씩 묶어서 태그를 붙이므로, 결과 전체를 메모리에 모으지 않습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ReactiveArticleRepository {
+
+    private static final int TAG_BATCH_SIZE = 100;
+
+    private static final String SELECT_ARTICLE = "SELECT a.id, a.title, a.view_count, b.content "
+            + "FROM article a JOIN article_body b ON b.id = a.body_id ";
+
+    private static final String SELECT_TAGS = "SELECT at.article_id, t.name "
+            + "FROM article_tag at JOIN tag t ON t.id = at.tag_id "
+            + "WHERE at.article_id IN (:ids) ORDER BY t.name";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 게시물을 ID 순으로 한 페이지 조회합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 게시물 ID (첫 페이지는 {@code 0})
+     * @param size    페이지 크기
+     * @return 게시물
+     */
+    public Flux<ArticleResponse> findPage(long afterId, int size) {
+        return withTags(databaseClient.sql(SELECT_ARTICLE + "WHERE a.id > :after ORDER BY a.id LIMIT :size")
+                .bind("after", afterId)
+                .bind("size", size)
+                .map(ArticleRow::of)
+                .all()
+                .collectList());
+    }
+
+    /**
+     * 게시물 하나를 조회합니다.
+     *
+     * @param id 게시물 ID
+     * @return 게시물 (없으면 빈 {@link Mono})
+     */
+    public Mono<ArticleResponse> findById(long id) {
+        return withTags(databaseClient.sql(SELECT_ARTICLE + "WHERE a.id = :id")
+                .bind("id", id)
+                .map(ArticleRow::of)
+                .all()
+                .collectList())
+                .next();
+    }
+
+    /**
+     * 모든 게시물을 ID 순으로 흘려보냅니다.
+     *
+     * @return 게시물 스트림
+     */
+    public Flux<ArticleResponse> streamAll() {
+        return databaseClient.sql(SELECT_ARTICLE + "ORDER BY a.id")
+                .map(ArticleRow::of)
+                .all()
+                .buffer(TAG_BATCH_SIZE)
+                .concatMap(rows -> withTags(Mono.just(rows)));
+    }
+
+    private Flux<ArticleResponse> withTags(Mono<List<ArticleRow>> rows) {
+        return rows.flatMapMany(articles -> {
+            if (articles.isEmpty()) {
+                return Flux.empty();
+            }
+            List<Long> ids = articles.stream().map(ArticleRow::id).toList();
+            return databaseClient.sql(SELECT_TAGS)
+                    .bind("ids", ids)
+                    .map(row -> Map.entry(row.get("article_id", Long.class), row.get("name", String.class)))
+                    .all()
+                    .collectMultimap(Map.Entry::getKey, Map.Entry::getValue)
+                    .flatMapIterable(tags -> articles.stream()
+                            .map(article -> article.toResponse(tags.getOrDefault(article.id(), List.of())))
+                            .toList());
+        });
+    }
+
+    private record ArticleRow(long id, String title, long viewCount, String content) {
+
+        static ArticleRow of(Readable row) {
+            Long viewCount = row.get("view_count", Long.class); // 조회수 컬럼은 NULL 일 수 있음
+            return new ArticleRow(
+                    row.get("id", Long.class),
+                    row.get("title", String.class),
+                    viewCount != null ? viewCount : 0L,
+                    ArticleBodyCodec.decode(bytes(row.get("content"))));
+        }
+
+        ArticleResponse toResponse(Collection<String> tags) {
+            return new ArticleResponse(title, content, viewCount, List.copyOf(tags));
+        }
+
+        private static byte[] bytes(Object value) {
+            if (value instanceof ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return bytes;
+            }
+            return (byte[]) value;
+        }
+    }
+}
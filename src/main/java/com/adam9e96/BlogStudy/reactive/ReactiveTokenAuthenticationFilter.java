@@ -0,0 +1,49 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.config.TokenAuthenticationFilter;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link TokenAuthenticationFilter}의 논블로킹 버전.
+ *
+ * <p>
+ * {@code Authorization: Bearer} 헤더의 토큰을 {@link TokenProvider}로 검증하고,
+ * 유효하면 인증 정보를 Reactor 컨텍스트({@link ReactiveSecurityContextHolder})에 담아 핸들러를 실행합니다.
+ * 토큰이 없거나 유효하지 않으면 {@code 401 Unauthorized}를 반환합니다.
+ * 토큰 검증은 HMAC 계산뿐이고 데이터베이스를 조회하지 않으므로 이벤트 루프에서 바로 실행합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ReactiveTokenAuthenticationFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String header = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(TOKEN_PREFIX)) {
+            return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return Mono.defer(() -> {
+            String token = header.substring(TOKEN_PREFIX.length());
+            if (!tokenProvider.validToken(token)) {
+                return ServerResponse.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            Authentication authentication = tokenProvider.getAuthentication(token);
+            return next.handle(request)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import com.adam9e96.BlogStudy.dto.ArticleRevisionResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, Long> {
+
+    /**
+     * 게시물의 마지막 개정을 조회합니다.
+     */
+    Optional<ArticleRevision> findTopByArticleIdOrderByRevisionDesc(Long articleId);
+
+    /**
+     * 게시물의 개정 하나를 조회합니다.
+     */
+    Optional<ArticleRevision> findByArticleIdAndRevision(Long articleId, int revision);
+
+    /**
+     * 복원에 필요한 개정({@code from}부터 {@code to}까지)을 순서대로 조회합니다.
+     */
+    List<ArticleRevision> findByArticleIdAndRevisionBetweenOrderByRevision(Long articleId, int from, int to);
+
+    /**
+     * 게시물의 개정 이력을 최신순으로 조회합니다. 본문({@code payload})은 읽지 않습니다.
+     */
+    @Query("select new com.adam9e96.BlogStudy.dto.ArticleRevisionResponse("
+            + "r.revision, r.kind, r.title, r.editedBy, r.createdAt, r.contentLength, r.storedLength) "
+            + "from ArticleRevision r where r.articleId = :articleId order by r.revision desc")
+    List<ArticleRevisionResponse> findSummaries(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("delete from ArticleRevision r where r.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
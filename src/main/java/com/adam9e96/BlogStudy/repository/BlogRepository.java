@@ -1,9 +1,18 @@
 package com.adam9e96.BlogStudy.repository;
 
 import com.adam9e96.BlogStudy.domain.Article;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * {@link Article} 엔티티를 관리하는 리포지토리 인터페이스.
  *
@@ -17,4 +26,79 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BlogRepository extends JpaRepository<Article, Long> {
 
+    /**
+     * 게시물을 본문, 태그와 함께(조인) 조회합니다.
+     * <p>
+     * 본문이 반드시 필요한 상세 조회에서 사용하며, 본문과 태그를 따로 지연 로딩하는 추가 쿼리가 발생하지 않습니다.
+     * </p>
+     *
+     * @param id 게시물 ID
+     * @return 본문과 태그가 로딩된 게시물
+     */
+    @EntityGraph(attributePaths = {"body", "tags"})
+    Optional<Article> findWithBodyById(Long id);
+
+    /**
+     * 모든 게시물을 본문, 태그와 함께 조회합니다.
+     *
+     * @return 본문과 태그가 로딩된 게시물
+     */
+    @EntityGraph(attributePaths = {"body", "tags"})
+    @Query("select a from Article a")
+    List<Article> findAllWithBody();
+
+    /**
+     * 주어진 렌더러 버전이 아닌(또는 아직 렌더링되지 않은) 게시물의 ID 목록을 조회합니다.
+     *
+     * @param version 현재 렌더러 버전
+     * @return 다시 렌더링해야 하는 게시물 ID 목록 (오름차순)
+     */
+    @Query("select a.id from Article a " +
+            "where a.rendererVersion is null or a.rendererVersion <> :version order by a.id")
+    List<Long> findIdsRenderedBefore(@Param("version") int version);
+
+    /**
+     * 게시물을 주어진 렌더러 버전으로 렌더링된 것으로 표시합니다.
+     * <p>
+     * 그 사이 사용자가 게시물을 수정해 이미 현재 버전으로 렌더링된 경우에는 갱신하지 않습니다.
+     * 갱신에 성공하면 트랜잭션이 끝날 때까지 게시물 행이 잠기므로, 같은 트랜잭션에서 본문 HTML 을 안전하게 바꿀 수 있습니다.
+     * </p>
+     *
+     * @param id      게시물 ID
+     * @param version 렌더러 버전
+     * @return 갱신된 행 수 (0 이면 이미 현재 버전으로 렌더링됨)
+     */
+    @Modifying
+    @Query("update Article a set a.rendererVersion = :version " +
+            "where a.id = :id and (a.rendererVersion is null or a.rendererVersion <> :version)")
+    int markRendered(@Param("id") Long id, @Param("version") int version);
+
+    @Query("select a from Article a join a.tags t where t.id = :tagId and a.id > :afterId order by a.id")
+    List<Article> findPageByTagId(@Param("tagId") Long tagId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 작성자의 게시물을 최신순으로 조회합니다. (키셋 페이지네이션의 첫 페이지)
+     */
+    @Query("select a from Article a where a.author = :author order by a.createdAt desc, a.id desc")
+    List<Article> findFirstPageByAuthor(@Param("author") String author, Limit limit);
+
+    /**
+     * 작성자의 게시물 중 {@code (createdAt, id)}가 커서보다 이전인 게시물을 최신순으로 조회합니다.
+     * <p>
+     * {@code (author, created_at, id)} 인덱스에서 커서 위치부터 이어서 읽으므로 OFFSET 처럼 앞쪽 행을 건너뛰지 않습니다.
+     * </p>
+     */
+    @Query("select a from Article a where a.author = :author " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Article> findPageByAuthorBefore(@Param("author") String author,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Limit limit);
+
+    long countByAuthor(String author);
+
+    @Modifying
+    @Query("update Article a set a.commentCount = a.commentCount + :delta where a.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
 }
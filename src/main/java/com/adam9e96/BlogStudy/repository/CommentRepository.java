@@ -0,0 +1,28 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 게시물의 댓글을 {@code afterId} 다음부터 ID 순으로 조회합니다. (키셋 페이지네이션)
+     * <p>
+     * OFFSET 을 쓰지 않으므로 뒤쪽 페이지도 {@code (article_id, id)} 인덱스에서 바로 이어서 읽습니다.
+     * </p>
+     */
+    @Query("select c from Comment c where c.article.id = :articleId and c.id > :afterId order by c.id")
+    List<Comment> findPage(@Param("articleId") Long articleId, @Param("afterId") Long afterId, Limit limit);
+
+    @Modifying
+    @Query("delete from Comment c where c.article.id = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
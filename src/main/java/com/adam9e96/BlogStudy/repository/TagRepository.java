@@ -0,0 +1,46 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    /**
+     * 태그가 없으면 만들고, 이미 있으면 그대로 둡니다.
+     * <p>
+     * 유니크 키({@code name})를 기준으로 하는 H2 의 {@code MERGE ... KEY} 구문이라,
+     * 조회 후 저장할 때처럼 다른 트랜잭션이 먼저 만든 태그와 부딪혀 예외가 나지 않습니다.
+     * 호출한 쪽의 트랜잭션 안에서 실행되므로 커넥션을 따로 쓰지 않습니다.
+     * </p>
+     *
+     * @param name 정규화된 태그 이름
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = "MERGE INTO tag (name) KEY (name) VALUES (:name)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    /**
+     * 태그별 게시물 수를 집계합니다.
+     * <p>
+     * 요청마다 호출하지 않고, {@code TagFacetCounter}를 초기화할 때 한 번만 사용합니다.
+     * </p>
+     *
+     * @return {@code [태그 이름, 게시물 수]} 목록
+     */
+    @Query("select t.name, count(a) from Article a join a.tags t group by t.name")
+    List<Object[]> countArticlesByTag();
+}
@@ -0,0 +1,107 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 이전 렌더러 버전으로 렌더링된 게시물을 백그라운드에서 다시 렌더링하는 작업.
+ *
+ * <p>
+ * 애플리케이션이 준비되면 {@link MarkdownRenderer#VERSION}과 다른 버전으로 렌더링된 게시물을 찾아
+ * {@value #CHUNK_SIZE}개씩 나누고, 각 청크를 별도의 트랜잭션으로 병렬 처리합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>읽기 경로에 미치는 영향:</strong>
+ * 청크 단위의 짧은 트랜잭션만 사용하므로 조회 요청은 다시 렌더링이 끝날 때까지 기다리지 않고
+ * 이전 HTML 을 그대로 읽습니다. 사용자가 그 사이에 게시물을 수정했다면 수정 시 렌더링된 HTML 이 우선합니다.
+ * </p>
+ *
+ * <p>
+ * 청크는 실행할 때마다 만드는 전용 스레드 풀에서 처리합니다.
+ * 이 작업 자체가 {@code @Async}로 공용 실행기에서 돌기 때문에, 같은 실행기에 청크를 맡기고 기다리면
+ * 풀이 가득 찼을 때 서로를 기다리며 멈출 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ArticleRerenderJob {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final BlogRepository blogRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArticleRerenderJob(BlogRepository blogRepository,
+                              MarkdownRenderer markdownRenderer,
+                              TransactionTemplate transactionTemplate) {
+        this.blogRepository = blogRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 렌더러 버전이 다른 게시물들을 청크 단위로 병렬 재렌더링합니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rerenderOutdatedArticles() {
+        List<Long> ids = blogRepository.findIdsRenderedBefore(MarkdownRenderer.VERSION);
+        if (ids.isEmpty()) {
+            return;
+        }
+        log.info("ArticleRerenderJob | 렌더러 버전 {} 으로 다시 렌더링할 게시물: {}건", MarkdownRenderer.VERSION, ids.size());
+
+        int chunkCount = (ids.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int workerCount = Math.min(chunkCount, Runtime.getRuntime().availableProcessors());
+        int rendered;
+        try (ExecutorService workers = Executors.newFixedThreadPool(
+                workerCount, Thread.ofPlatform().name("rerender-", 0).daemon().factory())) {
+            List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = List.copyOf(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+                chunks.add(CompletableFuture.supplyAsync(() -> rerenderChunk(chunk), workers));
+            }
+
+            rendered = chunks.stream()
+                    .mapToInt(CompletableFuture::join)
+                    .sum();
+        }
+        log.info("ArticleRerenderJob | 다시 렌더링 완료: {}건", rendered);
+    }
+
+    /**
+     * 하나의 청크를 하나의 트랜잭션으로 다시 렌더링합니다.
+     *
+     * @param ids 청크에 포함된 게시물 ID 목록
+     * @return 실제로 갱신된 게시물 수
+     */
+    private int rerenderChunk(List<Long> ids) {
+        Integer updated = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (Article article : blogRepository.findAllById(ids)) {
+                String contentHtml = markdownRenderer.render(article.getContent());
+                // 버전을 먼저 표시하여 사용자의 동시 수정과 겹치지 않을 때만 본문 HTML 을 교체
+                if (blogRepository.markRendered(article.getId(), MarkdownRenderer.VERSION) == 1) {
+                    article.getBody().updateHtml(contentHtml);
+                    count++;
+                }
+            }
+            return count;
+        });
+        return updated == null ? 0 : updated;
+    }
+}
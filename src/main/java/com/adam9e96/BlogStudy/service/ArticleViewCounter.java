@@ -0,0 +1,254 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.config.warmup.WarmupContext;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.service.trending.TrendingArticles;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 게시물 조회수를 메모리에서 집계하고 주기적으로 데이터베이스에 반영하는 카운터.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 조회할 때마다 {@code UPDATE} 를 실행하면 인기 게시물의 행 잠금에서 요청이 줄을 서게 됩니다.
+ * 대신 게시물별 {@link LongAdder}(스레드별로 나뉜 셀에 더하는 카운터)에 조회수를 더하고,
+ * 스케줄러가 {@code blog.view-count.flush-interval}(기본 5초)마다 반영되지 않은 증가분을
+ * 하나의 배치 {@code UPDATE}로 데이터베이스에 더합니다.
+ * </p>
+ *
+ * <p>
+ * 조회는 인기 게시물 집계({@link TrendingArticles})에도 전달됩니다.
+ * 시작 시 워밍업 요청({@link WarmupContext})은 어느 쪽에도 세지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>유실 범위:</strong>
+ * 정상 종료 시에는 남은 증가분을 반영하고 종료합니다.
+ * 비정상 종료 시에는 마지막 반영 이후(최대 한 주기)의 조회수만 유실됩니다.
+ * </p>
+ *
+ * <p>
+ * <strong>메모리:</strong>
+ * 모두 반영된 뒤 {@value #IDLE_FLUSHES_BEFORE_EVICT}번의 주기 동안 조회가 없었던 게시물의 카운터는 제거합니다.
+ * 제거 직전에 카운터를 얻은 요청이 더한 값은 다음 주기에 한 번 더 반영한 뒤 버립니다.
+ * 카운터가 다시 만들어지면 {@link #flushedCount(long)}가 0 부터 시작하므로,
+ * 이 값을 기준으로 삼은 곳은 {@link #addEvictionListener(LongConsumer)}로 제거를 통지받습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+
+    // 조회가 없는 주기가 이만큼 이어지면 카운터를 제거
+    static final int IDLE_FLUSHES_BEFORE_EVICT = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingArticles trendingArticles;
+
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+
+    // 맵에서 제거했지만 제거 직전의 증가분이 남아 있을 수 있는 카운터 (flushLock 안에서만 사용)
+    private final Map<Long, ViewCount> retired = new HashMap<>();
+
+    private final List<LongConsumer> evictionListeners = new CopyOnWriteArrayList<>();
+
+    // synchronized 안에서 JDBC 를 호출하면 가상 스레드가 캐리어 스레드에 고정(pinning)되므로 락을 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * 게시물 조회수를 1 증가시킵니다.
+     *
+     * @param article 조회한 게시물
+     * @return 아직 반영되지 않은 증가분을 포함한 현재 조회수
+     */
+    public long increment(Article article) {
+        if (WarmupContext.isWarmupRequest()) {
+            return currentCount(article);
+        }
+        ViewCount count = counts.computeIfAbsent(article.getId(), id -> new ViewCount());
+        count.total.increment();
+        trendingArticles.record(article.getId());
+        return article.getViewCount() + count.pending();
+    }
+
+    /**
+     * 엔티티 없이 게시물 조회수를 1 증가시킵니다. (캐시된 응답을 보낼 때 사용)
+     * <p>
+     * 현재 조회수는 {@code 데이터베이스 조회수 - flushedCount(id)}를 기준값으로 보관해 두고
+     * 이 메서드의 반환값을 더해서 구합니다.
+     * </p>
+     *
+     * @param articleId 조회한 게시물 ID
+     * @return 카운터가 만들어진 뒤 누적된 전체 증가분 (데이터베이스 반영 여부와 무관)
+     */
+    public long incrementById(long articleId) {
+        if (WarmupContext.isWarmupRequest()) {
+            ViewCount count = counts.get(articleId);
+            return count == null ? 0 : count.total.sum();
+        }
+        ViewCount count = counts.computeIfAbsent(articleId, id -> new ViewCount());
+        count.total.increment();
+        trendingArticles.record(articleId);
+        return count.total.sum();
+    }
+
+    /**
+     * 카운터가 만들어진 뒤 데이터베이스에 반영된 증가분을 반환합니다.
+     *
+     * @param articleId 게시물 ID
+     * @return 반영된 증가분
+     */
+    public long flushedCount(long articleId) {
+        ViewCount count = counts.get(articleId);
+        return count == null ? 0 : count.flushed;
+    }
+
+    /**
+     * 아직 데이터베이스에 반영되지 않은 증가분을 포함한 조회수를 반환합니다.
+     *
+     * @param article 게시물
+     * @return 현재 조회수
+     */
+    public long currentCount(Article article) {
+        ViewCount count = counts.get(article.getId());
+        return article.getViewCount() + (count == null ? 0 : count.pending());
+    }
+
+    /**
+     * 삭제된 게시물의 카운터를 제거합니다.
+     *
+     * @param articleId 삭제된 게시물 ID
+     */
+    public void evict(Long articleId) {
+        counts.remove(articleId);
+    }
+
+    /**
+     * 조회가 없어 카운터를 제거할 때 호출할 리스너를 등록합니다.
+     *
+     * @param listener 제거된 게시물 ID 를 받는 리스너
+     */
+    public void addEvictionListener(LongConsumer listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * 반영되지 않은 증가분을 하나의 배치 UPDATE 로 데이터베이스에 더합니다.
+     * <p>
+     * 반영에 실패하면 증가분이 그대로 남아 다음 주기에 다시 시도합니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:5s}",
+            initialDelayString = "${blog.view-count.flush-interval:5s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<ViewCount> flushing = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        Map<Long, ViewCount> idle = new HashMap<>();
+        // 지난 주기에 제거한 카운터에 늦게 더해진 증가분
+        retired.forEach((id, count) -> {
+            long delta = count.pending();
+            if (delta > 0) {
+                flushing.add(count);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, id});
+            }
+        });
+        counts.forEach((id, count) -> {
+            // 증가 중인 값은 sum() 에 포함되지 않을 수 있지만, total 을 초기화하지 않으므로 다음 주기에 반영됨
+            long delta = count.pending();
+            if (delta > 0) {
+                count.idleFlushes = 0;
+                flushing.add(count);
+                deltas.add(delta);
+                batchArgs.add(new Object[]{delta, id});
+            } else if (++count.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICT) {
+                idle.put(id, count);
+            }
+        });
+
+        if (!batchArgs.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            } catch (DataAccessException e) {
+                log.warn("ArticleViewCounter | 조회수 반영 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+                return;
+            }
+            for (int i = 0; i < flushing.size(); i++) {
+                flushing.get(i).flushed += deltas.get(i);
+            }
+            log.debug("ArticleViewCounter | 게시물 {}개의 조회수 반영", batchArgs.size());
+        }
+        retired.clear();
+        evictIdle(idle);
+    }
+
+    private void evictIdle(Map<Long, ViewCount> idle) {
+        idle.forEach((id, count) -> {
+            if (counts.remove(id, count)) {
+                retired.put(id, count);
+                evictionListeners.forEach(listener -> listener.accept(id));
+            }
+        });
+        if (!idle.isEmpty()) {
+            log.debug("ArticleViewCounter | 조회가 없는 게시물 {}개의 카운터 제거", idle.size());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 게시물 하나의 조회수.
+     * <p>
+     * {@code total}은 초기화하지 않고 계속 더하기만 하며, 반영된 양은 {@code flushed}로 따로 기록합니다.
+     * ({@link LongAdder#sumThenReset()}은 동시에 증가한 값을 잃을 수 있음)
+     * {@code flushed}와 {@code idleFlushes}는 {@link #flush()}에서만 변경됩니다.
+     * </p>
+     */
+    private static final class ViewCount {
+
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed;
+
+        // 연속으로 조회가 없었던 반영 주기 수
+        private int idleFlushes;
+
+        long pending() {
+            return total.sum() - flushed;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 작성자별 게시물 수 캐시.
+ *
+ * <p>
+ * 처음 조회할 때 {@code COUNT}로 읽어 보관하고, 작성자의 게시물이 추가/삭제되면 커밋 후 해당 작성자만 무효화합니다.
+ * 최근에 조회한 작성자 {@value #MAX_ENTRIES}명까지 보관하며(LRU), 보관한 값은 {@link #TTL}이 지나면 다시 읽습니다.
+ * 읽기 전용 트랜잭션이 복제본에서 읽은 지연된 값도 TTL 이 지나면 바로잡힙니다.
+ * </p>
+ *
+ * <p>
+ * {@code COUNT} 쿼리는 락 밖에서 실행합니다. 쿼리 중에 무효화가 있었으면 읽은 값은 캐시하지 않습니다.
+ * ({@code ConcurrentHashMap.computeIfAbsent} 안에서 쿼리를 실행하면 같은 버킷의 다른 작성자가 기다리고,
+ * 가상 스레드가 캐리어 스레드에 고정됨)
+ * </p>
+ */
+@RequiredArgsConstructor
+@Component
+public class AuthorArticleCountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final BlogRepository blogRepository;
+
+    // 접근 순서로 정렬된 LRU 맵 (lock 으로 보호)
+    private final Map<String, CachedCount> counts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 무효화할 때마다 증가 (lock 으로 보호)
+    private long invalidations;
+
+    /**
+     * 작성자의 게시물 수를 반환합니다.
+     *
+     * @param author 작성자 (이메일)
+     * @return 게시물 수
+     */
+    public long get(String author) {
+        long seenInvalidations;
+        lock.lock();
+        try {
+            CachedCount cached = counts.get(author);
+            if (cached != null && !cached.isExpired(System.nanoTime())) {
+                return cached.count();
+            }
+            seenInvalidations = invalidations;
+        } finally {
+            lock.unlock();
+        }
+
+        long count = blogRepository.countByAuthor(author);
+        long loadedAt = System.nanoTime();
+        lock.lock();
+        try {
+            CachedCount cached = counts.get(author);
+            if (invalidations == seenInvalidations && (cached == null || cached.isExpired(loadedAt))) {
+                counts.put(author, new CachedCount(count, loadedAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * 작성자의 게시물 수를 무효화합니다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 무효화하여, 커밋 전의 값이 다시 캐시되지 않도록 합니다.
+     * </p>
+     *
+     * @param author 작성자 (이메일)
+     */
+    public void evictAfterCommit(String author) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(author);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(author);
+            }
+        });
+    }
+
+    private void evict(String author) {
+        lock.lock();
+        try {
+            counts.remove(author);
+            invalidations++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+
+        boolean isExpired(long now) {
+            return now - loadedAt >= TTL.toNanos();
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.AuthorArticlePageResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -27,6 +29,47 @@ public interface BlogService {
      */
     List<Article> findAll();
 
+    /**
+     * 모든 블로그 게시물을 본문, 태그와 함께 조회합니다.
+     *
+     * @return 본문과 태그가 로딩된 모든 게시물의 리스트
+     */
+    List<Article> findAllWithBody();
+
+    /**
+     * 태그가 붙은 게시물을 ID 순으로 한 페이지 조회합니다.
+     *
+     * @param tag     태그 이름
+     * @param afterId 이전 페이지의 마지막 게시물 ID (첫 페이지는 {@code null})
+     * @param size    페이지 크기
+     * @return 본문과 태그가 로딩된 게시물 리스트
+     */
+    List<Article> findByTag(String tag, Long afterId, int size);
+
+    /**
+     * 작성자의 게시물을 최신순으로 한 페이지 조회합니다.
+     *
+     * @param author 작성자 (이메일)
+     * @param cursor 이전 페이지의 {@code nextCursor} (첫 페이지는 {@code null})
+     * @param size   페이지 크기
+     * @return 게시물 페이지와 작성자의 전체 게시물 수
+     */
+    AuthorArticlePageResponse findByAuthor(String author, String cursor, int size);
+
+    /**
+     * 태그별 게시물 수를 조회합니다.
+     *
+     * @return 태그 이름과 게시물 수
+     */
+    Map<String, Long> findTagFacets();
+
+    /**
+     * 최근 조회가 많은 인기 게시물을 조회합니다.
+     *
+     * @return 인기 점수가 높은 순으로 정렬된 게시물 리스트
+     */
+    List<Article> findTrending();
+
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
      *
@@ -2,23 +2,59 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.domain.Article;
 import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.dto.ArticleListViewResponse;
+import com.adam9e96.BlogStudy.dto.AuthorArticlePageResponse;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.repository.CommentRepository;
+import com.adam9e96.BlogStudy.service.cache.ArticleJsonCache;
+import com.adam9e96.BlogStudy.service.revision.ArticleRevisionService;
+import com.adam9e96.BlogStudy.service.trending.TopKTracker;
+import com.adam9e96.BlogStudy.service.trending.TrendingArticles;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * {@link BlogService} 인터페이스의 구현체로, 블로그 게시물 관련 비즈니스 로직을 처리합니다.
+ *
+ * <p>
+ * 조회 메서드는 {@code @Transactional(readOnly = true)}로 선언되어,
+ * 복제본 라우팅을 사용하면 읽기 전용 복제본에서 실행됩니다.
+ * </p>
+ *
+ * <p>
+ * 모든 메서드의 실행 시간은 {@code blog.service} 타이머에 {@code class}, {@code method} 태그로 기록됩니다.
+ * </p>
  */
+@Timed(value = "blog.service", description = "블로그 서비스 메서드 실행 시간", histogram = true)
 @RequiredArgsConstructor // final 이 붙거나 @NotNull 이 붙은 필드의 생성자 추가
 @Service
 public class BlogServiceImpl implements BlogService {
 
     private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final ArticleViewCounter viewCounter;
+    private final TrendingArticles trendingArticles;
+    private final TagService tagService;
+    private final TagFacetCounter tagFacetCounter;
+    private final AuthorArticleCountCache authorArticleCountCache;
+    private final ArticleJsonCache articleJsonCache;
+    private final ArticleRevisionService articleRevisionService;
 
     /**
      * 새로운 블로그 게시물을 저장합니다.
@@ -27,6 +63,8 @@ public class BlogServiceImpl implements BlogService {
      * AddArticleRequest 타입(DTO)으로 객체를 받으면
      * AddArticleRequest 의 toEntity 메서드를 이용해서 Article(entity) 객체로 변환하고
      * JPA의 CRUD 메서드인 save() 를 이용해 데이터베이스에 저장합니다.
+     * 저장하기 전에 내용(마크다운)을 HTML 로 한 번 렌더링하여 함께 저장합니다.
+     * 태그별 게시물 수는 커밋된 뒤에 {@link TagFacetCounter}에 반영됩니다.
      * </p>
      *
      * @param request 게시물 추가 요청 DTO
@@ -34,8 +72,15 @@ public class BlogServiceImpl implements BlogService {
      * @return 저장된 {@link Article} 엔티티
      */
     @Override
+    @Transactional
     public Article save(AddArticleRequest request, String author) {
-        return blogRepository.save(request.toEntity(author));
+        Article article = request.toEntity(author);
+        article.updateTags(tagService.resolve(request.getTags()));
+        renderContent(article);
+        Article savedArticle = blogRepository.save(article);
+        tagFacetCounter.applyAfterCommit(List.of(), savedArticle.getTagNames());
+        authorArticleCountCache.evictAfterCommit(author);
+        return savedArticle;
     }
 
     /**
@@ -44,14 +89,142 @@ public class BlogServiceImpl implements BlogService {
      * @return 모든 게시물의 리스트
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Article> findAll() {
         return blogRepository.findAll();
     }
 
+    /**
+     * 모든 블로그 게시물을 본문, 태그와 함께 조회합니다.
+     * <p>
+     * 응답에 본문을 포함할 때 사용합니다. 트랜잭션이 끝난 뒤에도 지연 로딩 없이 읽을 수 있습니다.
+     * (복제본 라우팅을 켜면 Open Session In View 가 꺼짐)
+     * </p>
+     *
+     * @return 본문과 태그가 로딩된 모든 게시물의 리스트
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findAllWithBody() {
+        return blogRepository.findAllWithBody();
+    }
+
+    /**
+     * 태그가 붙은 게시물을 ID 순으로 한 페이지 조회합니다.
+     * <p>
+     * {@code article_tag}의 {@code (tag_id, article_id)} 인덱스를 따라 {@code afterId} 다음부터 읽습니다.
+     * </p>
+     *
+     * @param tag     태그 이름
+     * @param afterId 이전 페이지의 마지막 게시물 ID (첫 페이지는 {@code null})
+     * @param size    페이지 크기
+     * @return 본문과 태그가 로딩된 게시물 리스트 (태그가 없으면 빈 리스트)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findByTag(String tag, Long afterId, int size) {
+        List<Article> articles = tagService.findIdByName(tag)
+                .map(tagId -> blogRepository.findPageByTagId(tagId, afterId == null ? 0L : afterId, Limit.of(size)))
+                .orElse(List.of());
+        // 트랜잭션이 끝난 뒤 응답을 만들 때 지연 로딩이 일어나지 않도록 미리 로딩 (태그는 @BatchSize 로 묶어서 조회)
+        articles.forEach(article -> {
+            Hibernate.initialize(article.getBody());
+            Hibernate.initialize(article.getTags());
+        });
+        return articles;
+    }
+
+    /**
+     * 작성자의 게시물을 최신순으로 한 페이지 조회합니다.
+     * <p>
+     * {@code (author, created_at, id)} 인덱스를 따라 커서 다음부터 읽으며, 본문은 로딩하지 않습니다.
+     * 커서는 마지막 게시물의 {@code createdAt}과 {@code id}를 {@code _}로 이은 문자열입니다.
+     * 전체 게시물 수는 {@link AuthorArticleCountCache}에서 읽습니다.
+     * </p>
+     *
+     * @param author 작성자 (이메일)
+     * @param cursor 이전 페이지의 {@code nextCursor} (첫 페이지는 {@code null})
+     * @param size   페이지 크기
+     * @return 게시물 페이지와 작성자의 전체 게시물 수
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AuthorArticlePageResponse findByAuthor(String author, String cursor, int size) {
+        List<Article> articles;
+        if (cursor == null) {
+            articles = blogRepository.findFirstPageByAuthor(author, Limit.of(size));
+        } else {
+            // 커서 형식: {createdAt}_{id}
+            int separator = cursor.lastIndexOf('_');
+            if (separator <= 0 || separator == cursor.length() - 1) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            LocalDateTime createdAt;
+            long id;
+            try {
+                createdAt = LocalDateTime.parse(cursor.substring(0, separator));
+                id = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+            }
+            articles = blogRepository.findPageByAuthorBefore(author, createdAt, id, Limit.of(size));
+        }
+
+        String nextCursor = null;
+        if (articles.size() == size) {
+            Article last = articles.get(articles.size() - 1);
+            nextCursor = last.getCreatedAt() + "_" + last.getId();
+        }
+        return new AuthorArticlePageResponse(
+                articles.stream().map(ArticleListViewResponse::new).toList(),
+                nextCursor,
+                authorArticleCountCache.get(author));
+    }
+
+    /**
+     * 태그별 게시물 수를 게시물이 많은 순으로 조회합니다.
+     * <p>
+     * 메모리에서 유지하는 값을 반환하므로 데이터베이스를 조회하지 않습니다.
+     * </p>
+     *
+     * @return 태그 이름과 게시물 수
+     */
+    @Override
+    public Map<String, Long> findTagFacets() {
+        return tagFacetCounter.facets();
+    }
+
+    /**
+     * 최근 조회가 많은 인기 게시물을 조회합니다.
+     * <p>
+     * {@link TrendingArticles}가 메모리에서 집계한 게시물 ID 로 게시물을 한 번에 조회하며,
+     * 그사이 삭제된 게시물은 제외합니다.
+     * </p>
+     *
+     * @return 인기 점수가 높은 순으로 정렬된 게시물 리스트
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Article> findTrending() {
+        List<Long> ids = trendingArticles.top().stream()
+                .map(TopKTracker.Entry::key)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Article> articles = blogRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        return ids.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 특정 ID에 해당하는 블로그 게시물을 조회합니다.
      * <p>
-     * JPA 지원 메서드인 findById()를 호출하고 orElseThrow()를 이용하여 값이 있으면
+     * 본문과 함께 조회하는 findWithBodyById()를 호출하고 orElseThrow()를 이용하여 값이 있으면
      * 해당 값을 반환하고 값이 없으면 지정한 예외와 메시지를 출력합니다.
      * </p>
      *
@@ -60,29 +233,45 @@ public class BlogServiceImpl implements BlogService {
      * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 존재하지 않을 경우
      */
     @Override
+    @Transactional(readOnly = true)
     public Article findById(Long id) {
-        return blogRepository.findById(id)
+        return blogRepository.findWithBodyById(id)
                 .orElseThrow(() ->
                         new IllegalArgumentException("not found: " + id));
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 삭제합니다.
+     * <p>
+     * 게시물에 달린 댓글과 개정 이력도 함께 삭제합니다.
+     * </p>
      *
      * @param id 게시물 ID
      * @throws IllegalArgumentException 해당 ID에 해당하는 게시물이 존재하지 않거나 권한이 없을 경우
      */
     @Override
+    @Transactional
     public void delete(Long id) {
         Article article = blogRepository.findById(id).orElseThrow(() ->
                 new IllegalArgumentException("not found: " + id));
 
         authorizeArticleAuthor(article);
+        List<String> tagNames = article.getTagNames();
+        commentRepository.deleteByArticleId(id);
+        articleRevisionService.deleteByArticleId(id);
         blogRepository.delete(article);
+        tagFacetCounter.applyAfterCommit(tagNames, List.of());
+        authorArticleCountCache.evictAfterCommit(article.getAuthor());
+        viewCounter.evict(id);
+        trendingArticles.remove(id);
+        articleJsonCache.invalidateAfterCommit(id);
     }
 
     /**
      * 특정 ID에 해당하는 블로그 게시물을 수정합니다.
+     * <p>
+     * 수정된 내용은 즉시 다시 렌더링되어 저장되며, 수정 전후의 차이가 개정 이력({@link ArticleRevisionService})에 기록됩니다.
+     * </p>
      *
      * @param id      게시물의 ID
      * @param request 게시물 수정 요청 DTO
@@ -92,13 +281,50 @@ public class BlogServiceImpl implements BlogService {
     @Override
     @Transactional
     public Article update(Long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
+        // 응답으로 엔티티를 그대로 직렬화하므로 본문과 태그를 함께 로딩
+        Article article = blogRepository.findWithBodyById(id)
                 .orElseThrow(() -> new IllegalArgumentException("not found : " + id));
         authorizeArticleAuthor(article);
+        String previousTitle = article.getTitle();
+        String previousContent = article.getContent();
+        LocalDateTime previousModifiedAt = article.getUpdatedAt() != null ? article.getUpdatedAt() : article.getCreatedAt();
         article.update(request.getTitle(), request.getContent());
+        articleRevisionService.record(article, previousTitle, previousContent, previousModifiedAt);
+        if (request.getTags() != null) {
+            updateTags(article, request.getTags());
+        }
+        renderContent(article);
+        articleJsonCache.invalidateAfterCommit(id);
         return article;
     }
 
+    /**
+     * 게시물의 태그를 교체하고, 바뀐 태그만 커밋 후 {@link TagFacetCounter}에 반영합니다.
+     *
+     * @param article  태그를 바꿀 게시물
+     * @param tagNames 새로운 태그 이름 목록
+     */
+    private void updateTags(Article article, List<String> tagNames) {
+        List<String> before = article.getTagNames();
+        article.updateTags(tagService.resolve(tagNames));
+        List<String> after = article.getTagNames();
+
+        List<String> removed = new ArrayList<>(before);
+        removed.removeAll(after);
+        List<String> added = new ArrayList<>(after);
+        added.removeAll(before);
+        tagFacetCounter.applyAfterCommit(removed, added);
+    }
+
+    /**
+     * 게시물 내용(마크다운)을 HTML 로 렌더링하여 게시물에 저장합니다.
+     *
+     * @param article 렌더링할 게시물
+     */
+    private void renderContent(Article article) {
+        article.renderContent(markdownRenderer.render(article.getContent()), MarkdownRenderer.VERSION);
+    }
+
     /**
      * 현재 인증된 사용자가 게시물의 작성자인지 확인합니다.
      *
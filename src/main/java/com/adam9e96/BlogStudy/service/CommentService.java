@@ -0,0 +1,108 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.Comment;
+import com.adam9e96.BlogStudy.dto.AddCommentRequest;
+import com.adam9e96.BlogStudy.dto.CommentPageResponse;
+import com.adam9e96.BlogStudy.dto.CommentResponse;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시물 댓글 관련 비즈니스 로직을 처리합니다.
+ *
+ * <p>
+ * 댓글을 추가/삭제할 때 게시물의 댓글 수({@code Article.commentCount})를 같은 트랜잭션에서 함께 갱신하여,
+ * 목록 화면이 댓글 테이블을 집계하지 않도록 합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Service
+public class CommentService {
+
+    /**
+     * 한 번에 조회할 수 있는 최대 댓글 수.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final BlogRepository blogRepository;
+    private final UserService userService;
+
+    /**
+     * 게시물에 댓글을 추가합니다.
+     *
+     * @param articleId 게시물 ID
+     * @param request   댓글 추가 요청 DTO
+     * @param author    댓글 작성자 (이메일)
+     * @return 저장된 {@link Comment} 엔티티
+     * @throws IllegalArgumentException 게시물이 존재하지 않거나 내용이 비어 있거나 너무 긴 경우
+     */
+    @Transactional
+    public Comment save(Long articleId, AddCommentRequest request, String author) {
+        String content = request.getContent();
+        if (content == null || content.isBlank() || content.length() > Comment.MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("invalid comment content");
+        }
+        Article article = blogRepository.findById(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + articleId));
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .article(article)
+                .author(userService.findByEmail(author))
+                .content(content)
+                .build());
+        blogRepository.adjustCommentCount(articleId, 1);
+        return comment;
+    }
+
+    /**
+     * 게시물의 댓글을 한 페이지 조회합니다.
+     * <p>
+     * 댓글은 키셋 방식으로 {@code afterId} 다음부터 조회하며,
+     * 작성자는 페이지 단위로 한 번에 로딩됩니다.
+     * </p>
+     *
+     * @param articleId 게시물 ID
+     * @param afterId   이전 페이지의 마지막 댓글 ID (첫 페이지는 {@code null})
+     * @param size      페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE})
+     * @return 댓글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse findPage(Long articleId, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<CommentResponse> comments = commentRepository
+                .findPage(articleId, afterId == null ? 0L : afterId, Limit.of(pageSize))
+                .stream()
+                .map(CommentResponse::new)
+                .toList();
+        Long nextCursor = comments.size() == pageSize ? comments.get(comments.size() - 1).getId() : null;
+        return new CommentPageResponse(comments, nextCursor);
+    }
+
+    /**
+     * 댓글을 삭제합니다.
+     *
+     * @param commentId 댓글 ID
+     * @throws IllegalArgumentException 댓글이 존재하지 않거나 권한이 없는 경우
+     */
+    @Transactional
+    public void delete(Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + commentId));
+
+        String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (!comment.getAuthor().getEmail().equals(userName)) {
+            throw new IllegalArgumentException("not authorized");
+        }
+        commentRepository.delete(comment);
+        blogRepository.adjustCommentCount(comment.getArticle().getId(), -1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.adam9e96.BlogStudy.service;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 본문(마크다운)을 안전한 HTML 로 변환하는 렌더러.
+ *
+ * <p>
+ * 렌더링은 게시물을 저장/수정할 때 한 번만 수행되고, 결과는 {@code Article.contentHtml}에 보관됩니다.
+ * 조회 경로에서는 마크다운을 다시 파싱하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>보안:</strong>
+ * 원문에 포함된 HTML 태그는 이스케이프되고, {@code javascript:} 같은 위험한 URL 은 제거됩니다.
+ * 따라서 렌더링 결과는 뷰에서 그대로({@code th:utext}) 출력해도 안전합니다.
+ * </p>
+ *
+ * <p>
+ * 렌더링 규칙(확장 기능, 새니타이즈 정책 등)을 바꾸면 반드시 {@link #VERSION}을 올려야 합니다.
+ * 버전이 바뀌면 {@link ArticleRerenderJob}이 이전 버전으로 렌더링된 게시물을 백그라운드에서 다시 렌더링합니다.
+ * </p>
+ */
+@Component
+public class MarkdownRenderer {
+
+    /**
+     * 현재 렌더러 버전.
+     */
+    public static final int VERSION = 1;
+
+    // Parser, HtmlRenderer 는 불변 객체이므로 여러 스레드에서 공유해도 안전합니다.
+    private final Parser parser = Parser.builder().build();
+
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .escapeHtml(true) // 원문의 HTML 태그를 이스케이프
+            .sanitizeUrls(true) // 링크/이미지의 위험한 URL 제거
+            .build();
+
+    /**
+     * 마크다운 원문을 HTML 로 렌더링합니다.
+     *
+     * @param markdown 마크다운 원문
+     * @return 새니타이즈된 HTML (원문이 {@code null}이면 빈 문자열)
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        return htmlRenderer.render(parser.parse(markdown));
+    }
+}
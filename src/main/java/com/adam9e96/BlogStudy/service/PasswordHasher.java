@@ -0,0 +1,48 @@
+package com.adam9e96.BlogStudy.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비밀번호를 BCrypt 로 해시합니다.
+ *
+ * <p>
+ * BCrypt 는 한 번에 수십~수백 ms 동안 CPU 만 사용합니다.
+ * 가상 스레드에서 그대로 실행하면 그동안 캐리어 스레드(기본적으로 CPU 코어 수만큼만 있음)를 점유하여
+ * 다른 요청의 가상 스레드가 실행되지 못하므로, 가상 스레드에서 호출되면
+ * CPU 코어 수만큼의 플랫폼 스레드 풀에 맡기고 결과를 기다립니다. (기다리는 동안 가상 스레드는 캐리어에서 내려감)
+ * 플랫폼 스레드에서 호출되면 바로 실행합니다.
+ * </p>
+ */
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    private final ExecutorService hashingPool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("bcrypt-", 0).daemon().factory());
+
+    /**
+     * 비밀번호를 해시합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     */
+    public String encode(CharSequence rawPassword) {
+        if (!Thread.currentThread().isVirtual()) {
+            return encoder.encode(rawPassword);
+        }
+        return CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), hashingPool).join();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+}
@@ -0,0 +1,101 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 태그별 게시물 수(패싯)를 메모리에서 유지하는 카운터.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 시작할 때 한 번만 {@code COUNT ... GROUP BY}로 전체 수를 읽고,
+ * 이후에는 게시물 작성/수정/삭제로 태그가 바뀔 때마다 증감만 반영합니다.
+ * 증감은 트랜잭션이 커밋된 뒤에 반영되므로, 롤백된 변경은 패싯에 나타나지 않습니다.
+ * </p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TagFacetCounter {
+
+    private final TagRepository tagRepository;
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 데이터베이스에서 태그별 게시물 수를 다시 읽습니다.
+     * <p>
+     * 웹 서버가 요청을 받기 전(빈 초기화 시점)에 실행되므로, 이후의 증감과 겹치지 않습니다.
+     * </p>
+     */
+    @PostConstruct
+    public void reload() {
+        counts.clear();
+        for (Object[] row : tagRepository.countArticlesByTag()) {
+            counter((String) row[0]).add((Long) row[1]);
+        }
+        log.info("TagFacetCounter | 태그 {}개의 게시물 수를 읽었습니다.", counts.size());
+    }
+
+    /**
+     * 게시물의 태그 변경을 반영합니다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하고, 트랜잭션 밖이면 바로 반영합니다.
+     * </p>
+     *
+     * @param removed 게시물에서 빠진 태그 이름
+     * @param added   게시물에 추가된 태그 이름
+     */
+    public void applyAfterCommit(Collection<String> removed, Collection<String> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(removed, added);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(removed, added);
+            }
+        });
+    }
+
+    /**
+     * 게시물이 있는 태그를 게시물 수가 많은 순으로 반환합니다.
+     *
+     * @return 태그 이름과 게시물 수
+     */
+    public Map<String, Long> facets() {
+        Map<String, Long> facets = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .forEach(entry -> facets.put(entry.getKey(), entry.getValue()));
+        return facets;
+    }
+
+    private void apply(Collection<String> removed, Collection<String> added) {
+        removed.forEach(name -> counter(name).decrement());
+        added.forEach(name -> counter(name).increment());
+    }
+
+    private LongAdder counter(String name) {
+        return counts.computeIfAbsent(name, key -> new LongAdder());
+    }
+}
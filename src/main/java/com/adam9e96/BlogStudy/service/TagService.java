@@ -0,0 +1,86 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Tag;
+import com.adam9e96.BlogStudy.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 이름을 태그 엔티티로 바꾸는 서비스.
+ */
+@RequiredArgsConstructor
+@Service
+public class TagService {
+
+    /**
+     * 게시물 하나에 붙일 수 있는 최대 태그 수.
+     */
+    public static final int MAX_TAGS_PER_ARTICLE = 10;
+
+    private final TagRepository tagRepository;
+
+    /**
+     * 태그 이름 목록에 해당하는 태그를 조회하고, 없는 태그는 새로 만듭니다.
+     * <p>
+     * 조회와 생성 모두 호출한 쪽의 트랜잭션 안에서 실행됩니다.
+     * 없는 태그는 {@link TagRepository#insertIfAbsent(String)}로 만들므로,
+     * 두 요청이 같은 새 태그를 동시에 만들어도 유니크 제약({@code name})에 걸리지 않고 같은 태그를 사용합니다.
+     * </p>
+     *
+     * @param names 태그 이름 목록 ({@code null}이면 빈 목록)
+     * @return 입력 순서를 유지한 태그 집합
+     * @throws IllegalArgumentException 태그 이름이 유효하지 않거나 태그가 너무 많은 경우
+     */
+    public Set<Tag> resolve(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+        Set<String> normalized = names.stream()
+                .map(Tag::normalize)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (normalized.size() > MAX_TAGS_PER_ARTICLE) {
+            throw new IllegalArgumentException("too many tags: " + normalized.size());
+        }
+
+        Map<String, Tag> existing = tagRepository.findByNameIn(normalized).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity(), (first, second) -> first, HashMap::new));
+        List<String> missing = normalized.stream()
+                .filter(name -> !existing.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(tagRepository::insertIfAbsent);
+            // 네이티브 쿼리로 만든 태그를 영속성 컨텍스트로 다시 읽음
+            tagRepository.findByNameIn(missing).forEach(tag -> existing.put(tag.getName(), tag));
+        }
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String name : normalized) {
+            tags.add(existing.get(name));
+        }
+        return tags;
+    }
+
+    /**
+     * 태그 이름으로 태그 ID 를 조회합니다.
+     *
+     * @param name 태그 이름
+     * @return 태그 ID (태그가 없거나 이름이 유효하지 않으면 비어 있음)
+     */
+    public Optional<Long> findIdByName(String name) {
+        try {
+            return tagRepository.findByName(Tag.normalize(name)).map(Tag::getId);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
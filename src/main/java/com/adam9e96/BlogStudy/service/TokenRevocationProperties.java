@@ -0,0 +1,33 @@
+package com.adam9e96.BlogStudy.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 토큰 폐기 목록 설정 ({@code blog.token-revocation.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.token-revocation")
+public class TokenRevocationProperties {
+
+    /**
+     * 블룸 필터 크기를 정할 때 가정하는 폐기 토큰 수. 실제 수가 더 많으면 다시 만들 때 크기를 늘립니다.
+     */
+    private long expectedRevocations = 100_000;
+
+    /**
+     * 블룸 필터의 거짓 양성 비율. 거짓 양성이면 정확한 목록을 한 번 더 조회합니다.
+     */
+    private double falsePositiveRate = 0.001;
+
+    /**
+     * 만료된 항목을 지우고 데이터베이스에서 목록을 다시 읽는 주기. (다른 인스턴스에서 폐기한 토큰이 반영되는 최대 지연)
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,212 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.RevokedToken;
+import com.adam9e96.BlogStudy.repository.RevokedTokenRepository;
+import com.adam9e96.BlogStudy.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰의 {@code jti} 목록.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 요청마다 데이터베이스를 조회하지 않도록 폐기 목록 전체를 메모리에 두고, 그 앞에 {@link BloomFilter}를 둡니다.
+ * 대부분의 토큰은 폐기되지 않았으므로 블룸 필터에서 바로 {@code false}로 끝나고(해시 몇 번),
+ * 블룸 필터가 {@code true}일 때만 정확한 목록({@link ConcurrentHashMap})을 확인합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>수명:</strong>
+ * 항목은 토큰의 원래 만료 시각까지만 필요합니다. (그 뒤에는 토큰 자체가 검증에 실패함)
+ * {@code blog.token-revocation.refresh-interval}마다 만료된 행을 지우고, 데이터베이스에서 목록을 다시 읽어
+ * 블룸 필터를 새로 만듭니다. (블룸 필터에서는 값을 지울 수 없음)
+ * 시작할 때도 같은 방법으로 목록을 만들므로 재시작해도 폐기 상태가 유지되며,
+ * 여러 인스턴스에서 실행하면 다른 인스턴스에서 폐기한 토큰은 다음 주기에 반영됩니다.
+ * </p>
+ *
+ * <p>
+ * 읽기는 잠금 없이 {@code volatile} 상태 하나만 읽습니다. 폐기와 다시 읽기만 서로 잠급니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationProperties properties;
+    private final Counter falsePositives;
+    private final Counter revokedHits;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile State state;
+
+    // 이 인스턴스에서 폐기했지만 아직 다시 읽은 목록에 들어갔는지 알 수 없는 토큰
+    private final Map<String, PendingRevocation> pending = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, TokenRevocationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.falsePositives = lookupCounter(meterRegistry, "false-positive");
+        this.revokedHits = lookupCounter(meterRegistry, "revoked");
+        Gauge.builder("blog.auth.token.revoked", this, service -> service.state == null ? 0 : service.state.revoked().size())
+                .description("메모리에 있는 폐기 토큰 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("blog.auth.token.revocation.lookups")
+                .description("블룸 필터를 통과하여 정확한 폐기 목록을 확인한 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param jti 토큰의 {@code jti} ({@code null}이면 폐기할 수 없는 토큰이므로 {@code false})
+     * @return 폐기되었으면 {@code true}
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        State current = state;
+        if (!current.bloomFilter().mightContain(jti)) {
+            return false;
+        }
+        boolean revoked = current.revoked().containsKey(jti);
+        (revoked ? revokedHits : falsePositives).increment();
+        return revoked;
+    }
+
+    /**
+     * 토큰을 폐기합니다.
+     * <p>
+     * 메모리 목록에는 커밋을 기다리지 않고 바로 반영합니다. 그래서 폐기한 토큰이 잠시라도 통과하는 일은 없습니다.
+     * {@link #reload()}는 커밋 전이거나 데이터베이스를 읽기 시작한 뒤에 커밋된 폐기만 새 목록으로 옮기므로,
+     * 트랜잭션이 롤백되면 그 토큰은 다음 주기까지만 막힙니다.
+     * </p>
+     *
+     * @param jti       토큰의 {@code jti}
+     * @param expiresAt 토큰의 만료 시각
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        PendingRevocation revocation = new PendingRevocation(expiresAt);
+        writeLock.lock();
+        try {
+            pending.put(jti, revocation);
+            State current = state;
+            // 읽는 쪽은 블룸 필터 다음에 정확한 목록을 보므로, 정확한 목록에 먼저 넣음
+            current.revoked().put(jti, expiresAt);
+            current.bloomFilter().put(jti);
+        } finally {
+            writeLock.unlock();
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocation.markCommitted();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    revocation.markCommitted();
+                } else {
+                    pending.remove(jti, revocation);
+                }
+            }
+        });
+    }
+
+    /**
+     * 만료된 행을 지우고 데이터베이스에서 폐기 목록을 다시 읽습니다.
+     * <p>
+     * 웹 서버가 요청을 받기 전(빈 초기화 시점)에 처음 실행됩니다.
+     * </p>
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${blog.token-revocation.refresh-interval:30s}",
+            initialDelayString = "${blog.token-revocation.refresh-interval:30s}")
+    public void reload() {
+        long readStartedAt = System.nanoTime();
+        Instant now = Instant.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> rows = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        writeLock.lock();
+        try {
+            Map<String, Instant> revoked = new ConcurrentHashMap<>();
+            rows.forEach(row -> revoked.put(row.getJti(), row.getExpiresAt()));
+            // 조회 결과에 없을 수 있는 폐기(커밋 전이거나 조회를 시작한 뒤에 커밋됨)만 합침
+            pending.forEach((jti, revocation) -> {
+                if (!revocation.expiresAt().isAfter(now) || revocation.isCommittedBefore(readStartedAt)) {
+                    pending.remove(jti, revocation);
+                    return;
+                }
+                revoked.putIfAbsent(jti, revocation.expiresAt());
+            });
+            BloomFilter bloomFilter = new BloomFilter(
+                    Math.max(properties.getExpectedRevocations(), 2L * revoked.size()), properties.getFalsePositiveRate());
+            revoked.keySet().forEach(bloomFilter::put);
+            state = new State(bloomFilter, revoked);
+        } finally {
+            writeLock.unlock();
+        }
+        log.debug("TokenRevocationService | 폐기 토큰 {}개 (만료되어 지운 행 {}개)", state.revoked().size(), purged);
+    }
+
+    private record State(BloomFilter bloomFilter, Map<String, Instant> revoked) {
+    }
+
+    /**
+     * 이 인스턴스에서 폐기한 토큰의 커밋 상태.
+     */
+    private static final class PendingRevocation {
+
+        private final Instant expiresAt;
+        private volatile long committedAt;
+        private volatile boolean committed;
+
+        PendingRevocation(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        Instant expiresAt() {
+            return expiresAt;
+        }
+
+        void markCommitted() {
+            committedAt = System.nanoTime();
+            committed = true;
+        }
+
+        /**
+         * 주어진 시각({@link System#nanoTime()}) 전에 커밋되어, 그 뒤에 시작한 조회에 포함되었는지 확인합니다.
+         */
+        boolean isCommittedBefore(long nanoTime) {
+            return committed && nanoTime - committedAt > 0;
+        }
+    }
+}
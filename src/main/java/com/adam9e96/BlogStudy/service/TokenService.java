@@ -2,11 +2,15 @@ package com.adam9e96.BlogStudy.service;
 
 import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
 import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.service.audit.LoginAuditEvent;
+import com.adam9e96.BlogStudy.service.audit.LoginAuditLog;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -16,9 +20,25 @@ public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final LoginAuditLog loginAuditLog;
 
     // 리프레시 토큰을 검증하고 새로운 액세스 토큰을 생성하는 로직
+    // 아래 메서드를 프록시를 거치지 않고 호출하므로 타이머를 이 메서드에도 붙임
+    @Timed(value = "blog.token.refresh", description = "리프레시 토큰으로 액세스 토큰을 재발급하는 시간", histogram = true)
     public String createNewAccessToken(String refreshToken) {
+        return createNewAccessToken(refreshToken, null);
+    }
+
+    /**
+     * 리프레시 토큰을 검증하고 새로운 액세스 토큰을 생성합니다.
+     * 재발급 기록은 {@link LoginAuditLog}에 넣으며, 저장은 백그라운드에서 배치로 처리합니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @param clientIp     요청한 클라이언트 IP ({@code null} 허용)
+     * @return 새 액세스 토큰
+     */
+    @Timed(value = "blog.token.refresh", description = "리프레시 토큰으로 액세스 토큰을 재발급하는 시간", histogram = true)
+    public String createNewAccessToken(String refreshToken, String clientIp) {
         // 토큰 유효성 검사에 실패하면 예외 발생
         if (!tokenProvider.validToken(refreshToken)) {
             log.error("TokenService.createNewAccessToken() : Invalid token");
@@ -27,7 +47,22 @@ public class TokenService {
 
         Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
         User user = userService.findById(userId);
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+        String accessToken = tokenProvider.generateToken(user, Duration.ofHours(2));
+        loginAuditLog.publish(new LoginAuditEvent(LoginAuditEvent.Type.TOKEN_REFRESH, user.getId(), user.getEmail(),
+                "refresh-token", clientIp, Instant.now()));
+        return accessToken;
 
     }
-}
\ No newline at end of file
+
+    /**
+     * 액세스 토큰을 폐기합니다. 유효하지 않은 토큰이면 아무것도 하지 않습니다.
+     *
+     * @param accessToken 폐기할 액세스 토큰 ({@code null} 허용)
+     */
+    public void revokeAccessToken(String accessToken) {
+        if (accessToken == null || !tokenProvider.validToken(accessToken)) {
+            return;
+        }
+        tokenProvider.revoke(accessToken);
+    }
+}
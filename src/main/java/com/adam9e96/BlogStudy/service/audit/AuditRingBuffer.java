@@ -0,0 +1,102 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드가 꺼내는 크기 고정 링 버퍼.
+ *
+ * <p>
+ * 칸마다 순번(sequence)을 두어, 넣는 쪽은 꼬리 위치를 CAS 로 차지한 뒤 값을 쓰고 순번을 올려 공개합니다.
+ * 꺼내는 쪽은 순번이 공개된 칸만 읽으므로 락 없이 동작하며, 가득 차면 {@link #offer(Object)}는 바로 {@code false}를 반환합니다.
+ * 크기는 2 이상인 2 의 거듭제곱으로 올림합니다.
+ * (칸이 하나면 공개된 값의 순번과 다음 위치에 비어 있는 칸의 순번이 같아져, 꺼내지 않은 값을 덮어씀)
+ * </p>
+ * <p>
+ * {@link #drainTo(List, int)}는 한 번에 한 스레드만 호출해야 합니다.
+ * </p>
+ */
+final class AuditRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity 는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 값을 넣습니다.
+     *
+     * @return 가득 차서 넣지 못했으면 {@code false}
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전의 값을 아직 꺼내지 않음
+                return false;
+            } else {
+                // 다른 스레드가 이 칸을 먼저 차지함
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 공개된 값을 넣은 순서대로 최대 {@code max}개 꺼내 {@code target}에 더합니다.
+     *
+     * @return 꺼낸 값의 수
+     */
+    int drainTo(List<? super E> target, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break; // 비었거나, 자리를 차지한 스레드가 아직 값을 쓰지 않음
+            }
+            target.add(elements.get(index));
+            elements.set(index, null);
+            sequences.set(index, position + mask + 1);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 버퍼에 들어 있는 값의 수 (근사값).
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head, mask + 1));
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
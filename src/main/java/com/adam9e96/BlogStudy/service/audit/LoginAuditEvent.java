@@ -0,0 +1,27 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import java.time.Instant;
+
+/**
+ * 로그인 기록 이벤트.
+ *
+ * @param type       기록 종류
+ * @param userId     사용자 ID
+ * @param email      사용자 이메일
+ * @param provider   인증 제공자 (OAuth2 등록 ID, 리프레시 토큰이면 {@code refresh-token})
+ * @param ip         요청한 클라이언트 IP
+ * @param occurredAt 발생 시각
+ */
+public record LoginAuditEvent(Type type, Long userId, String email, String provider, String ip, Instant occurredAt) {
+
+    public enum Type {
+        /**
+         * OAuth2 로그인 성공
+         */
+        LOGIN,
+        /**
+         * 리프레시 토큰으로 액세스 토큰 재발급
+         */
+        TOKEN_REFRESH
+    }
+}
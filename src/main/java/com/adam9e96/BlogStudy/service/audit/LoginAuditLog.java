@@ -0,0 +1,188 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 기록을 비동기로 저장하는 파이프라인.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 로그인 성공 핸들러와 토큰 재발급은 {@link #publish(LoginAuditEvent)}로 이벤트를 링 버퍼({@link AuditRingBuffer})에 넣기만 하고
+ * 바로 돌아갑니다. 저장 스레드({@code login-audit-writer}) 하나가 버퍼를 꺼내 {@code batchSize}개씩
+ * 배치 {@code INSERT}로 저장하며, 버퍼가 비면 {@code poll-interval} 동안 쉽니다.
+ * (한 배치만큼 쌓이면 넣는 쪽이 저장 스레드를 깨움)
+ * </p>
+ *
+ * <p>
+ * <strong>넘칠 때:</strong>
+ * 버퍼가 가득 차면 {@code overflow-policy}에 따라 바로 버리거나({@code DROP}),
+ * 최대 {@code block-timeout} 동안 기다린 뒤 버립니다({@code BLOCK}).
+ * 저장에 실패한 배치는 다시 시도하지 않고 버립니다. (데이터베이스 장애 중에 버퍼가 차서 로그인이 기다리지 않도록)
+ * </p>
+ *
+ * <p>
+ * <strong>지표:</strong>
+ * {@code blog.login-audit.queue.depth}(버퍼에 남은 이벤트 수), {@code blog.login-audit.written}(저장한 이벤트 수),
+ * {@code blog.login-audit.dropped{reason=overflow|write-failure}}(버린 이벤트 수).
+ * </p>
+ *
+ * <p>
+ * <strong>유실 범위:</strong>
+ * 정상 종료 시에는 남은 이벤트를 저장하고 종료합니다. 비정상 종료 시에는 버퍼에 남은 이벤트만 유실됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class LoginAuditLog {
+
+    static final String INSERT_SQL =
+            "INSERT INTO login_audit (event_type, user_id, email, provider, ip, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final long BLOCK_PARK_NANOS = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginAuditProperties properties;
+    private final AuditRingBuffer<LoginAuditEvent> buffer;
+    private final Counter written;
+    private final Counter droppedOnOverflow;
+    private final Counter droppedOnWriteFailure;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public LoginAuditLog(JdbcTemplate jdbcTemplate, LoginAuditProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer<>(properties.getCapacity());
+        this.written = meterRegistry.counter("blog.login-audit.written");
+        this.droppedOnOverflow = meterRegistry.counter("blog.login-audit.dropped", "reason", "overflow");
+        this.droppedOnWriteFailure = meterRegistry.counter("blog.login-audit.dropped", "reason", "write-failure");
+        Gauge.builder("blog.login-audit.queue.depth", buffer, AuditRingBuffer::size)
+                .description("저장을 기다리는 로그인 기록 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 기록 이벤트를 저장 대기열에 넣습니다.
+     *
+     * @param event 이벤트
+     * @return 대기열에 넣었으면 {@code true}, 기록을 끄거나 버퍼가 가득 차 버렸으면 {@code false}
+     */
+    public boolean publish(LoginAuditEvent event) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (buffer.offer(event)) {
+            if (buffer.size() >= properties.getBatchSize()) {
+                wakeWriter();
+            }
+            return true;
+        }
+        if (properties.getOverflowPolicy() == LoginAuditProperties.OverflowPolicy.BLOCK && offerBlocking(event)) {
+            return true;
+        }
+        droppedOnOverflow.increment();
+        return false;
+    }
+
+    /**
+     * 저장 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("login-audit-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * 저장 스레드를 멈추고 남은 이벤트를 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join();
+            writer = null;
+        }
+        while (drain() > 0) {
+            // 남은 이벤트를 모두 저장
+        }
+    }
+
+    /**
+     * 버퍼에서 이벤트를 최대 {@code batchSize}개 꺼내 하나의 배치 {@code INSERT}로 저장합니다.
+     * <p>
+     * 저장 스레드가 없을 때(시작 전이나 종료 후)나 저장 스레드 안에서만 호출해야 합니다.
+     * </p>
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    int drain() {
+        List<LoginAuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        int drained = buffer.drainTo(batch, properties.getBatchSize());
+        if (drained == 0) {
+            return 0;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(drained);
+        for (LoginAuditEvent event : batch) {
+            batchArgs.add(new Object[]{event.type().name(), event.userId(), event.email(), event.provider(),
+                    event.ip(), Timestamp.from(event.occurredAt())});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+            written.increment(drained);
+        } catch (DataAccessException e) {
+            log.warn("LoginAuditLog | 로그인 기록 {}건 저장 실패, 버립니다: {}", drained, e.getMessage());
+            droppedOnWriteFailure.increment(drained);
+        }
+        return drained;
+    }
+
+    private void writeLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, properties.getPollInterval().toNanos());
+            }
+        }
+    }
+
+    private boolean offerBlocking(LoginAuditEvent event) {
+        wakeWriter();
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void wakeWriter() {
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+}
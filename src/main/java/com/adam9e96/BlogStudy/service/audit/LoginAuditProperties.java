@@ -0,0 +1,59 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 기록 설정 ({@code blog.login-audit.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.login-audit")
+public class LoginAuditProperties {
+
+    /**
+     * 로그인 기록 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 아직 저장하지 않은 이벤트를 담아 두는 링 버퍼 크기. 2 이상인 2 의 거듭제곱으로 올림합니다.
+     */
+    private int capacity = 8192;
+
+    /**
+     * 배치 {@code INSERT} 한 번에 저장하는 최대 이벤트 수.
+     */
+    private int batchSize = 256;
+
+    /**
+     * 버퍼가 비었을 때 저장 스레드가 다시 확인할 때까지 쉬는 시간.
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * {@link OverflowPolicy#BLOCK}일 때 자리가 나기를 기다리는 최대 시간. 지나면 이벤트를 버립니다.
+     */
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    public enum OverflowPolicy {
+        /**
+         * 기다리지 않고 이벤트를 버립니다. 로그인 지연이 늘지 않습니다.
+         */
+        DROP,
+        /**
+         * 저장 스레드가 자리를 비울 때까지 최대 {@code blockTimeout} 동안 로그인 요청을 기다리게 합니다.
+         */
+        BLOCK
+    }
+}
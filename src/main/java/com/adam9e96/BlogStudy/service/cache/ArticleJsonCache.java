@@ -0,0 +1,308 @@
+package com.adam9e96.BlogStudy.service.cache;
+
+import com.adam9e96.BlogStudy.config.timing.ServerTiming;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.service.ArticleViewCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * 게시물 상세 응답({@link ArticleResponse})을 JSON 바이트로 직렬화해 두었다가 그대로 내보내는 캐시.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * 게시물을 처음 조회할 때 JSON 으로 직렬화하고, 조회할 때마다 바뀌는 {@code viewCount} 값만 뺀
+ * 나머지 바이트를 {@link OffHeapSlabCache}에 게시물 ID 와 버전({@code updatedAt})으로 저장합니다.
+ * 이후 요청은 데이터베이스 조회, {@link ArticleResponse} 생성, Jackson 직렬화 없이
+ * 캐시된 바이트를 재사용하는 버퍼에 복사한 뒤, 조회수 숫자만 끼워 넣어 응답 스트림에 바로 씁니다.
+ * 요청 처리 중에 {@link String}이나 새 바이트 배열을 만들지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>조회수:</strong>
+ * 캐시에는 {@code 데이터베이스 조회수 - 반영된 증가분}을 기준값으로 함께 보관하고,
+ * 응답할 때 {@link ArticleViewCounter#incrementById(long)}의 누적 증가분을 더합니다.
+ * 기준값을 읽는 사이에 조회수 반영이 끼어들면 한 주기 분량만큼 어긋날 수 있으며,
+ * 이 차이는 {@code blog.article-json-cache.ttl}이 지나 다시 캐시될 때 바로잡힙니다.
+ * 조회가 없어 게시물의 카운터가 제거되면 기준값도 함께 무효화합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>무효화:</strong>
+ * 게시물이 수정/삭제되면 커밋 후 해당 게시물만 무효화합니다.
+ * 무효화 전에 읽기 시작한 요청이 이전 버전을 다시 캐시하지 못하도록 {@link OffHeapSlabCache}가 막습니다.
+ * </p>
+ */
+@Component
+public class ArticleJsonCache {
+
+    // 직렬화한 JSON 에서 조회수 자리를 찾기 위한 값
+    private static final long VIEW_COUNT_PLACEHOLDER = Long.MIN_VALUE;
+    private static final byte[] VIEW_COUNT_FIELD = "\"viewCount\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PLACEHOLDER_DIGITS =
+            Long.toString(VIEW_COUNT_PLACEHOLDER).getBytes(StandardCharsets.US_ASCII);
+
+    private static final int MAX_DIGITS = 20;
+    private static final int MIN_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ArticleViewCounter viewCounter;
+
+    // 비활성화되어 있으면 null
+    private final OffHeapSlabCache cache;
+
+    // 가상 스레드에서는 ThreadLocal 버퍼가 요청마다 새로 만들어지므로 공유 풀을 사용
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ArticleJsonCache(ArticleJsonCacheProperties properties, ObjectMapper objectMapper,
+                            ArticleViewCounter viewCounter, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.viewCounter = viewCounter;
+        if (!properties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        int slabSize = (int) properties.getSlabSize().toBytes();
+        int slabCount = (int) Math.max(1, properties.getCapacity().toBytes() / slabSize);
+        this.cache = new OffHeapSlabCache(slabCount, slabSize, properties.getTtl().toNanos());
+        // 조회수 카운터가 제거되면 캐시에 보관한 조회수 기준값이 맞지 않으므로 함께 무효화
+        viewCounter.addEvictionListener(cache::invalidate);
+
+        FunctionCounter.builder("blog.article.json.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("게시물 JSON 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("blog.article.json.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("게시물 JSON 캐시 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("blog.article.json.cache.evictions", cache, OffHeapSlabCache::getEvictions)
+                .description("슬랩을 다시 쓰면서 제거된 게시물 JSON 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시물 상세 응답을 JSON 으로 씁니다. 게시물 조회수는 1 증가합니다.
+     * <p>
+     * 캐시에 있으면 캐시된 바이트를 쓰고, 없으면 {@code loader}로 게시물을 읽어 직렬화한 뒤 캐시합니다.
+     * </p>
+     *
+     * @param articleId 게시물 ID
+     * @param loader    캐시에 없을 때 게시물을 읽는 함수
+     * @param response  응답
+     * @throws IOException 응답을 쓸 수 없는 경우
+     */
+    public void write(long articleId, LongFunction<Article> loader, HttpServletResponse response) throws IOException {
+        if (writeCached(articleId, response)) {
+            hits.increment();
+            return;
+        }
+        misses.increment();
+        long loadedAt = System.nanoTime();
+        Article article = loader.apply(articleId);
+        writeAndCache(article, loadedAt, response);
+    }
+
+    /**
+     * 게시물의 캐시를 무효화합니다.
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 무효화하여, 커밋 전의 내용이 다시 캐시되지 않도록 합니다.
+     * </p>
+     *
+     * @param articleId 게시물 ID
+     */
+    public void invalidateAfterCommit(long articleId) {
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(articleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(articleId);
+            }
+        });
+    }
+
+    /**
+     * 캐시를 모두 비웁니다.
+     */
+    public void clear() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private boolean writeCached(long articleId, HttpServletResponse response) throws IOException {
+        if (cache == null) {
+            return false;
+        }
+        int length = cache.lengthOf(articleId);
+        if (length < 0) {
+            return false;
+        }
+        byte[] buffer = acquireBuffer(length + MAX_DIGITS);
+        try {
+            OffHeapSlabCache.Slot slot = cache.read(articleId, buffer);
+            if (slot == null || buffer.length < slot.length() + MAX_DIGITS) {
+                return false;
+            }
+            long viewCount = slot.attachment() + viewCounter.incrementById(articleId);
+            writeWithViewCount(buffer, slot.length(), slot.marker(), viewCount, response);
+            return true;
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private void writeAndCache(Article article, long loadedAt, HttpServletResponse response) throws IOException {
+        long articleId = article.getId();
+        long viewBase = article.getViewCount() - viewCounter.flushedCount(articleId);
+        long viewCount = viewBase + viewCounter.incrementById(articleId);
+
+        byte[] json = serialize(new ArticleResponse(article, VIEW_COUNT_PLACEHOLDER));
+        int marker = indexOfPlaceholder(json);
+        if (marker < 0) {
+            // 조회수 자리를 찾지 못하면 캐시하지 않고 그대로 응답
+            byte[] body = serialize(new ArticleResponse(article, viewCount));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+
+        int length = json.length - PLACEHOLDER_DIGITS.length;
+        byte[] stripped = new byte[length + MAX_DIGITS];
+        System.arraycopy(json, 0, stripped, 0, marker);
+        System.arraycopy(json, marker + PLACEHOLDER_DIGITS.length, stripped, marker, length - marker);
+        if (cache != null) {
+            cache.put(articleId, versionOf(article), viewBase, marker,
+                    Arrays.copyOf(stripped, length), loadedAt);
+        }
+        writeWithViewCount(stripped, length, marker, viewCount, response);
+    }
+
+    private byte[] serialize(ArticleResponse articleResponse) throws IOException {
+        long started = ServerTiming.start();
+        try {
+            return objectMapper.writeValueAsBytes(articleResponse);
+        } finally {
+            ServerTiming.stop(ServerTiming.Metric.JSON, started);
+        }
+    }
+
+    /**
+     * {@code buffer[0, length)}의 {@code marker} 위치에 조회수를 끼워 응답에 씁니다.
+     * 조회수 숫자는 {@code buffer[length, length + MAX_DIGITS)}에 기록합니다.
+     */
+    private void writeWithViewCount(byte[] buffer, int length, int marker, long viewCount,
+                                    HttpServletResponse response) throws IOException {
+        int digits = writeDigits(viewCount, buffer, length);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length + digits);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(buffer, 0, marker);
+        out.write(buffer, length, digits);
+        out.write(buffer, marker, length - marker);
+    }
+
+    /**
+     * {@code value}의 10진수 표기를 {@code target[offset]}부터 기록합니다.
+     *
+     * @return 기록한 바이트 수
+     */
+    static int writeDigits(long value, byte[] target, int offset) {
+        if (value == 0) {
+            target[offset] = '0';
+            return 1;
+        }
+        int position = offset + MAX_DIGITS;
+        boolean negative = value < 0;
+        // 음수로 계산해야 Long.MIN_VALUE 도 넘치지 않음
+        long remaining = negative ? value : -value;
+        while (remaining != 0) {
+            target[--position] = (byte) ('0' - (remaining % 10));
+            remaining /= 10;
+        }
+        if (negative) {
+            target[--position] = '-';
+        }
+        int digits = offset + MAX_DIGITS - position;
+        System.arraycopy(target, position, target, offset, digits);
+        return digits;
+    }
+
+    /**
+     * 직렬화한 JSON 에서 조회수 자리(숫자가 시작하는 위치)를 찾습니다.
+     *
+     * @return 위치 (없으면 -1)
+     */
+    static int indexOfPlaceholder(byte[] json) {
+        int patternLength = VIEW_COUNT_FIELD.length + PLACEHOLDER_DIGITS.length;
+        outer:
+        for (int i = 0; i + patternLength <= json.length; i++) {
+            for (int j = 0; j < patternLength; j++) {
+                byte expected = j < VIEW_COUNT_FIELD.length
+                        ? VIEW_COUNT_FIELD[j]
+                        : PLACEHOLDER_DIGITS[j - VIEW_COUNT_FIELD.length];
+                if (json[i + j] != expected) {
+                    continue outer;
+                }
+            }
+            return i + VIEW_COUNT_FIELD.length;
+        }
+        return -1;
+    }
+
+    private static long versionOf(Article article) {
+        LocalDateTime updatedAt = article.getUpdatedAt();
+        return updatedAt == null ? 0
+                : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+    }
+
+    private byte[] acquireBuffer(int size) {
+        byte[] buffer = buffers.poll();
+        if (buffer != null) {
+            pooledBuffers.decrementAndGet();
+            if (buffer.length >= size) {
+                return buffer;
+            }
+        }
+        return new byte[Math.max(size, MIN_BUFFER_SIZE)];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        if (pooledBuffers.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            buffers.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.adam9e96.BlogStudy.service.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 게시물 JSON 캐시 설정 ({@code blog.article-json-cache.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.article-json-cache")
+public class ArticleJsonCacheProperties {
+
+    /**
+     * 게시물 상세 응답의 JSON 을 캐시할지 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 전체 크기. 힙 밖(direct 메모리)에 할당되므로 {@code -XX:MaxDirectMemorySize} 안에 들어가야 합니다.
+     */
+    private DataSize capacity = DataSize.ofMegabytes(64);
+
+    /**
+     * 슬랩 하나의 크기. 이보다 큰 게시물은 캐시하지 않으며, 슬랩이 가득 찰 때마다 가장 오래된 슬랩을 비웁니다.
+     */
+    private DataSize slabSize = DataSize.ofMegabytes(4);
+
+    /**
+     * 캐시한 JSON 을 보관하는 최대 시간.
+     * 조회수의 기준값을 주기적으로 데이터베이스 값으로 다시 맞추는 역할도 합니다.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
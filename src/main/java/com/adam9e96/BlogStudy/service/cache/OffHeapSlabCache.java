@@ -0,0 +1,250 @@
+package com.adam9e96.BlogStudy.service.cache;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 바이트 배열을 힙 밖(direct {@link ByteBuffer})의 슬랩에 보관하는 캐시.
+ *
+ * <p>
+ * <strong>저장 방식:</strong>
+ * 같은 크기의 슬랩 여러 개를 처음에 한 번만 할당하고, 값은 현재 슬랩의 끝에 이어서 기록합니다.
+ * 현재 슬랩이 가득 차면 다음 슬랩으로 넘어가며, 한 바퀴를 돌아 다시 쓰게 되는 슬랩에 있던 값은
+ * 모두 제거됩니다. (가장 오래전에 기록된 슬랩부터 통째로 비우는 FIFO 방식)
+ * 값이 힙에 있지 않으므로 캐시 크기가 커져도 GC 가 훑어야 할 객체는 색인 항목뿐입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>동시성:</strong>
+ * 쓰기는 하나의 락으로 직렬화하고, 읽기는 락 없이 슬랩의 세대(generation) 번호로 검증합니다.
+ * 슬랩을 다시 쓰기 전에 세대 번호를 먼저 올리므로, 읽기는 복사를 마친 뒤 세대 번호가 그대로인지
+ * 확인하여 복사 도중 덮어쓰인 값을 버립니다. (seqlock)
+ * 세대 번호를 올린 뒤에는 {@link VarHandle#storeStoreFence()}를 두어, 슬랩에 쓰는 바이트가
+ * 세대 번호보다 먼저 보이지 않도록 합니다. ({@code StampedLock}의 쓰기 잠금과 같은 방식)
+ * </p>
+ *
+ * <p>
+ * <strong>무효화:</strong>
+ * {@link #invalidate(long)}는 값을 지우면서 무효화 시각을 남깁니다.
+ * 무효화 전에 데이터베이스에서 읽기 시작한 요청이 뒤늦게 {@link #put}을 호출해도
+ * 이 시각보다 먼저 읽은 값이므로 저장되지 않습니다.
+ * </p>
+ */
+public class OffHeapSlabCache {
+
+    private final ByteBuffer[] slabs;
+    private final int slabSize;
+    private final long ttlNanos;
+
+    // 슬랩별 세대 번호. 슬랩을 다시 쓸 때마다 증가
+    private final AtomicLongArray generations;
+
+    private final Map<Long, Slot> index = new ConcurrentHashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private int currentSlab;
+    private int writeOffset;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param slabCount 슬랩 수
+     * @param slabSize  슬랩 하나의 크기(바이트). 이보다 큰 값은 저장하지 않습니다.
+     * @param ttlNanos  값을 보관하는 최대 시간(나노초)
+     * @throws IllegalArgumentException 슬랩 수나 크기가 0 이하인 경우
+     */
+    public OffHeapSlabCache(int slabCount, int slabSize, long ttlNanos) {
+        if (slabCount <= 0 || slabSize <= 0) {
+            throw new IllegalArgumentException("slabCount and slabSize must be positive");
+        }
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            slabs[i] = ByteBuffer.allocateDirect(slabSize);
+        }
+        this.slabSize = slabSize;
+        this.ttlNanos = ttlNanos;
+        this.generations = new AtomicLongArray(slabCount);
+    }
+
+    /**
+     * 값을 저장합니다.
+     * <p>
+     * 같은 키에 더 높은 버전의 값이 이미 있거나, {@code loadedAt} 이후에 키가 무효화되었으면 저장하지 않습니다.
+     * </p>
+     *
+     * @param key        키
+     * @param version    값의 버전
+     * @param attachment 값과 함께 보관할 숫자
+     * @param marker     값 안의 위치 등 값과 함께 보관할 숫자
+     * @param value      저장할 바이트
+     * @param loadedAt   값을 만들기 위해 원본을 읽기 시작한 시각 ({@link System#nanoTime()})
+     * @return 저장했으면 {@code true}
+     */
+    public boolean put(long key, long version, long attachment, int marker, byte[] value, long loadedAt) {
+        if (value.length > slabSize) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Slot existing = index.get(key);
+            if (existing != null && (existing.isTombstone()
+                    ? existing.storedAt - loadedAt > 0
+                    : existing.version > version)) {
+                return false;
+            }
+            if (writeOffset + value.length > slabSize) {
+                advanceSlab();
+            }
+            slabs[currentSlab].put(writeOffset, value);
+            index.put(key, new Slot(version, currentSlab, generations.get(currentSlab), writeOffset,
+                    value.length, marker, attachment, System.nanoTime()));
+            writeOffset += value.length;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 값을 {@code target}에 복사합니다.
+     *
+     * @param key    키
+     * @param target 값을 복사할 버퍼. 값보다 작으면 복사하지 않고 {@code null}을 반환합니다.
+     * @return 값의 정보 (값이 없거나 만료되었거나 복사 도중 덮어쓰였으면 {@code null})
+     */
+    public Slot read(long key, byte[] target) {
+        Slot slot = index.get(key);
+        if (slot == null || slot.isTombstone() || System.nanoTime() - slot.storedAt > ttlNanos
+                || target.length < slot.length) {
+            misses.increment();
+            return null;
+        }
+        slabs[slot.slab].get(slot.offset, target, 0, slot.length);
+        VarHandle.acquireFence(); // 복사가 아래의 세대 번호 확인보다 늦게 실행되지 않도록 함
+        if (generations.get(slot.slab) != slot.generation) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return slot;
+    }
+
+    /**
+     * 저장된 값의 길이를 반환합니다.
+     *
+     * @param key 키
+     * @return 값의 길이 (값이 없으면 -1)
+     */
+    public int lengthOf(long key) {
+        Slot slot = index.get(key);
+        return slot == null || slot.isTombstone() ? -1 : slot.length;
+    }
+
+    /**
+     * 값을 제거하고 무효화 시각을 남깁니다.
+     *
+     * @param key 키
+     */
+    public void invalidate(long key) {
+        writeLock.lock();
+        try {
+            index.put(key, Slot.tombstone(System.nanoTime()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 모든 값을 제거합니다.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            for (int i = 0; i < slabs.length; i++) {
+                generations.incrementAndGet(i);
+            }
+            VarHandle.storeStoreFence();
+            index.clear();
+            currentSlab = 0;
+            writeOffset = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 보관 중인 값의 수를 반환합니다. (무효화 기록 포함)
+     *
+     * @return 색인 항목 수
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 다음 슬랩으로 넘어가고, 그 슬랩에 있던 값과 오래된 무효화 기록을 제거합니다. (쓰기 락 안에서 호출)
+     */
+    private void advanceSlab() {
+        currentSlab = (currentSlab + 1) % slabs.length;
+        writeOffset = 0;
+        int reused = currentSlab;
+        // 덮어쓰기 전에 세대 번호를 올려서, 이 슬랩을 읽는 중인 요청이 복사한 값을 버리도록 함
+        long generation = generations.incrementAndGet(reused);
+        // 이후의 슬랩 쓰기가 세대 번호 증가보다 먼저 보이지 않도록 함
+        VarHandle.storeStoreFence();
+        long now = System.nanoTime();
+        index.values().removeIf(slot -> {
+            if (slot.isTombstone()) {
+                return now - slot.storedAt > ttlNanos;
+            }
+            if (slot.slab == reused && slot.generation < generation) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 색인 항목. 값이 저장된 슬랩과 위치, 함께 보관하는 숫자를 담습니다.
+     *
+     * @param version    값의 버전
+     * @param slab       슬랩 번호 (무효화 기록이면 -1)
+     * @param generation 저장할 때의 슬랩 세대 번호
+     * @param offset     슬랩 안의 시작 위치
+     * @param length     값의 길이
+     * @param marker     값과 함께 보관하는 숫자
+     * @param attachment 값과 함께 보관하는 숫자
+     * @param storedAt   저장(무효화)한 시각 ({@link System#nanoTime()})
+     */
+    public record Slot(long version, int slab, long generation, int offset, int length,
+                       int marker, long attachment, long storedAt) {
+
+        static Slot tombstone(long invalidatedAt) {
+            return new Slot(0, -1, 0, 0, 0, 0, 0, invalidatedAt);
+        }
+
+        boolean isTombstone() {
+            return slab < 0;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.adam9e96.BlogStudy.service.revision;
+
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import com.adam9e96.BlogStudy.util.ArticleBodyCodec;
+import com.adam9e96.BlogStudy.util.LineDelta;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 개정 본문을 전체 사본 또는 델타로 인코딩하고, 사본부터 이어지는 개정들로 본문을 복원합니다.
+ *
+ * <p>
+ * 전체 사본은 {@link ArticleBodyCodec#encode(String)}로, 델타는 {@link LineDelta} 델타를
+ * {@link ArticleBodyCodec#encodeBytes(byte[])}로 압축하여 저장합니다.
+ * 압축한 델타가 압축한 전체 사본보다 작지 않으면 전체 사본을 사용합니다.
+ * </p>
+ */
+public final class ArticleRevisionCodec {
+
+    private ArticleRevisionCodec() {
+    }
+
+    /**
+     * 직전 개정의 본문에 대한 새 본문을 인코딩합니다.
+     *
+     * @param previous      직전 개정의 본문
+     * @param current       새 본문
+     * @param forceSnapshot {@code true}면 델타를 구하지 않고 전체 사본으로 인코딩
+     * @param maxDeltaEdits 델타로 저장할 최대 변경 줄 수
+     * @return 인코딩한 본문
+     */
+    public static Encoded encode(String previous, String current, boolean forceSnapshot, int maxDeltaEdits) {
+        Encoded snapshot = snapshot(current);
+        if (forceSnapshot) {
+            return snapshot;
+        }
+        byte[] delta = LineDelta.diff(previous, current, maxDeltaEdits);
+        if (delta == null) {
+            return snapshot;
+        }
+        byte[] payload = ArticleBodyCodec.encodeBytes(delta);
+        return payload.length < snapshot.payload().length ? new Encoded(ArticleRevision.Kind.DELTA, payload) : snapshot;
+    }
+
+    /**
+     * 본문을 전체 사본으로 인코딩합니다.
+     *
+     * @param content 본문
+     * @return 인코딩한 본문
+     */
+    public static Encoded snapshot(String content) {
+        return new Encoded(ArticleRevision.Kind.SNAPSHOT, ArticleBodyCodec.encode(content));
+    }
+
+    /**
+     * 전체 사본부터 순서대로 이어지는 개정들로 마지막 개정의 본문을 복원합니다.
+     *
+     * @param chain 전체 사본으로 시작하는, 개정 번호 순서의 개정 목록
+     * @return 마지막 개정의 본문
+     * @throws IllegalStateException 목록이 전체 사본으로 시작하지 않거나, 복원한 본문이 체크섬과 다른 경우
+     */
+    public static String reconstruct(List<ArticleRevision> chain) {
+        if (chain.isEmpty() || chain.getFirst().getKind() != ArticleRevision.Kind.SNAPSHOT) {
+            throw new IllegalStateException("revision chain must start with a snapshot");
+        }
+        String content = ArticleBodyCodec.decode(chain.getFirst().getPayload());
+        for (ArticleRevision revision : chain.subList(1, chain.size())) {
+            if (revision.getKind() != ArticleRevision.Kind.DELTA) {
+                throw new IllegalStateException("unexpected snapshot in chain: revision " + revision.getRevision());
+            }
+            content = LineDelta.apply(content, ArticleBodyCodec.decodeBytes(revision.getPayload()));
+        }
+        ArticleRevision last = chain.getLast();
+        if (checksum(content) != last.getChecksum()) {
+            throw new IllegalStateException("checksum mismatch: article " + last.getArticleId()
+                    + " revision " + last.getRevision());
+        }
+        return content;
+    }
+
+    /**
+     * 본문의 CRC32C 체크섬을 계산합니다.
+     *
+     * @param content 본문
+     * @return UTF-8 바이트의 CRC32C
+     */
+    public static long checksum(String content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * 인코딩한 개정 본문.
+     *
+     * @param kind    전체 사본 또는 델타
+     * @param payload 저장할 바이트
+     */
+    public record Encoded(ArticleRevision.Kind kind, byte[] payload) {
+    }
+}
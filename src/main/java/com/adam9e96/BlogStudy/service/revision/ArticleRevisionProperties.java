@@ -0,0 +1,27 @@
+package com.adam9e96.BlogStudy.service.revision;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 개정 이력 설정 ({@code blog.article-revision.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.article-revision")
+public class ArticleRevisionProperties {
+
+    /**
+     * 전체 사본을 저장하는 간격. 어떤 개정이든 최대 이 수만큼의 행(사본 1개 + 델타)만 읽어 복원합니다.
+     * 1 이면 모든 개정을 전체 사본으로 저장합니다.
+     */
+    private int snapshotInterval = 16;
+
+    /**
+     * 델타로 저장할 수 있는 최대 변경 줄 수(삭제 + 삽입). 넘으면 차이를 더 구하지 않고 전체 사본을 저장합니다.
+     */
+    private int maxDeltaEdits = 2_000;
+}
@@ -0,0 +1,135 @@
+package com.adam9e96.BlogStudy.service.revision;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import com.adam9e96.BlogStudy.dto.ArticleRevisionContentResponse;
+import com.adam9e96.BlogStudy.dto.ArticleRevisionResponse;
+import com.adam9e96.BlogStudy.repository.ArticleRevisionRepository;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시물의 개정 이력을 기록하고 조회합니다.
+ *
+ * <p>
+ * 게시물을 수정할 때마다 수정된 본문을 직전 개정에 대한 줄 단위 델타로 저장하고,
+ * {@link ArticleRevisionProperties#getSnapshotInterval()} 개정마다 전체 사본을 저장합니다.
+ * 따라서 어떤 개정이든 전체 사본 하나와 최대 {@code snapshotInterval - 1}개의 델타만 읽어 복원합니다.
+ * </p>
+ *
+ * <p>
+ * 이력은 처음 수정할 때 만들어지며, 이때 수정 전 본문을 1번 개정(전체 사본)으로 함께 저장합니다.
+ * 같은 게시물을 동시에 수정하면 {@code (article_id, revision)} 유니크 제약으로 한쪽 트랜잭션이 실패하며,
+ * 수정 API 는 이를 {@code 409 Conflict}로 응답합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Service
+public class ArticleRevisionService {
+
+    private final ArticleRevisionRepository revisionRepository;
+    private final BlogRepository blogRepository;
+    private final ArticleRevisionProperties properties;
+
+    /**
+     * 수정된 게시물의 새 개정을 기록합니다. 게시물을 수정하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * <p>
+     * 제목과 본문이 모두 바뀌지 않았으면 기록하지 않습니다.
+     * 마지막 개정의 체크섬이 수정 전 본문과 다르면(이력 밖에서 본문이 바뀐 경우) 델타 대신 전체 사본을 저장합니다.
+     * </p>
+     *
+     * @param article            수정된 게시물
+     * @param previousTitle      수정 전 제목
+     * @param previousContent    수정 전 본문
+     * @param previousModifiedAt 수정 전 본문이 만들어진 시각 (첫 개정의 시각, 모르면 {@code null})
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Article article, String previousTitle, String previousContent,
+                       LocalDateTime previousModifiedAt) {
+        if (previousTitle.equals(article.getTitle()) && previousContent.equals(article.getContent())) {
+            return;
+        }
+        Long articleId = article.getId();
+        ArticleRevision latest = revisionRepository.findTopByArticleIdOrderByRevisionDesc(articleId)
+                .orElse(null);
+        if (latest == null) {
+            latest = revisionRepository.save(newRevision(articleId, 1, 1, previousTitle, previousContent,
+                    ArticleRevisionCodec.snapshot(previousContent), article.getAuthor(),
+                    previousModifiedAt != null ? previousModifiedAt : LocalDateTime.now()));
+        }
+
+        int revision = latest.getRevision() + 1;
+        boolean forceSnapshot = revision - latest.getBaseRevision() >= properties.getSnapshotInterval()
+                || latest.getChecksum() != ArticleRevisionCodec.checksum(previousContent);
+        ArticleRevisionCodec.Encoded encoded = ArticleRevisionCodec.encode(
+                previousContent, article.getContent(), forceSnapshot, properties.getMaxDeltaEdits());
+        int baseRevision = encoded.kind() == ArticleRevision.Kind.SNAPSHOT ? revision : latest.getBaseRevision();
+        revisionRepository.save(newRevision(articleId, revision, baseRevision, article.getTitle(),
+                article.getContent(), encoded, article.getAuthor(), LocalDateTime.now()));
+    }
+
+    /**
+     * 게시물의 개정 이력을 최신순으로 조회합니다. (본문 제외)
+     *
+     * @param articleId 게시물 ID
+     * @return 개정 목록, 한 번도 수정하지 않은 게시물이면 빈 목록
+     * @throws IllegalArgumentException 게시물이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleRevisionResponse> findRevisions(Long articleId) {
+        List<ArticleRevisionResponse> revisions = revisionRepository.findSummaries(articleId);
+        if (revisions.isEmpty() && !blogRepository.existsById(articleId)) {
+            throw new IllegalArgumentException("not found : " + articleId);
+        }
+        return revisions;
+    }
+
+    /**
+     * 게시물의 특정 개정을 복원합니다.
+     *
+     * <p>
+     * 개정이 가리키는 전체 사본부터 해당 개정까지의 행만 읽어 델타를 차례로 적용합니다.
+     * </p>
+     *
+     * @param articleId 게시물 ID
+     * @param revision  개정 번호
+     * @return 복원한 개정
+     * @throws IllegalArgumentException 개정이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public ArticleRevisionContentResponse findRevision(Long articleId, int revision) {
+        ArticleRevision target = revisionRepository.findByArticleIdAndRevision(articleId, revision)
+                .orElseThrow(() -> new IllegalArgumentException("not found : " + articleId + " revision " + revision));
+        List<ArticleRevision> chain = revisionRepository.findByArticleIdAndRevisionBetweenOrderByRevision(
+                articleId, target.getBaseRevision(), revision);
+        String content = ArticleRevisionCodec.reconstruct(chain);
+        return new ArticleRevisionContentResponse(articleId, revision, target.getTitle(), content,
+                target.getEditedBy(), target.getCreatedAt());
+    }
+
+    /**
+     * 게시물의 개정 이력을 모두 삭제합니다. 게시물을 삭제하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param articleId 게시물 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteByArticleId(Long articleId) {
+        revisionRepository.deleteByArticleId(articleId);
+    }
+
+    private static ArticleRevision newRevision(Long articleId, int revision, int baseRevision, String title,
+                                               String content, ArticleRevisionCodec.Encoded encoded,
+                                               String editedBy, LocalDateTime createdAt) {
+        return new ArticleRevision(articleId, revision, baseRevision, encoded.kind(), title, encoded.payload(),
+                content.getBytes(StandardCharsets.UTF_8).length, ArticleRevisionCodec.checksum(content),
+                editedBy, createdAt);
+    }
+}
@@ -0,0 +1,97 @@
+package com.adam9e96.BlogStudy.service.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키별 점수를 고정된 메모리로 추정하는 count-min sketch.
+ *
+ * <p>
+ * {@code depth}개의 행마다 서로 다른 해시로 키를 한 칸에 대응시켜 점수를 더하고,
+ * 추정할 때는 각 행의 값 중 가장 작은 값을 사용합니다.
+ * 다른 키와 충돌하면 점수가 실제보다 크게 추정될 수는 있지만 작게 추정되지는 않습니다.
+ * </p>
+ *
+ * <p>
+ * 각 칸은 {@code double} 값을 비트로 담은 {@link AtomicLongArray} 원소이며,
+ * 더하기와 감쇠 모두 칸 단위 CAS 로 처리되어 잠금 없이 여러 스레드에서 사용할 수 있습니다.
+ * 메모리 사용량은 키 개수와 관계없이 {@code width * depth * 8} 바이트입니다.
+ * </p>
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray cells;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive: " + width + "x" + depth);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.cells = new AtomicLongArray(width * depth); // 0L == 0.0d
+    }
+
+    /**
+     * 키의 점수를 더하고, 더한 뒤의 추정 점수를 반환합니다.
+     *
+     * @param key    키
+     * @param amount 더할 점수
+     * @return 더한 뒤의 추정 점수
+     */
+    public double add(long key, double amount) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(key, row);
+            long current;
+            double updated;
+            do {
+                current = cells.get(index);
+                updated = Double.longBitsToDouble(current) + amount;
+            } while (!cells.compareAndSet(index, current, Double.doubleToRawLongBits(updated)));
+            estimate = Math.min(estimate, updated);
+        }
+        return estimate;
+    }
+
+    /**
+     * 키의 추정 점수를 반환합니다.
+     *
+     * @param key 키
+     * @return 추정 점수 (실제 점수 이상)
+     */
+    public double estimate(long key) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, Double.longBitsToDouble(cells.get(index(key, row))));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 점수에 감쇠 계수를 곱합니다.
+     *
+     * @param factor 감쇠 계수 (0.0 ~ 1.0)
+     */
+    public void decay(double factor) {
+        for (int i = 0; i < cells.length(); i++) {
+            long current;
+            do {
+                current = cells.get(i);
+            } while (!cells.compareAndSet(i, current,
+                    Double.doubleToRawLongBits(Double.longBitsToDouble(current) * factor)));
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = mix(key + (row + 1) * 0x9E3779B97F4A7C15L);
+        return row * width + (int) Long.remainderUnsigned(hash, width);
+    }
+
+    // splitmix64 의 마무리 단계: 연속된 게시물 ID 도 고르게 흩어지도록 섞음
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,253 @@
+package com.adam9e96.BlogStudy.service.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 점수가 가장 높은 K 개의 키를 유지하는 추적기.
+ *
+ * <p>
+ * K 개의 항목을 점수 기준 최소 힙으로 유지하여, 루트(가장 낮은 점수)보다 높은 점수만 진입할 수 있습니다.
+ * 힙은 불변 스냅샷이며 변경할 때마다 복사본을 만들어 {@link AtomicReference}로 교체합니다(copy-on-write).
+ * 대부분의 조회는 루트 점수보다 낮아 스냅샷을 읽기만 하고 끝나므로, 잠금 없이 요청 스레드에서 바로 호출할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 이미 힙에 있는 키의 점수가 올라도 자식보다 작거나 같으면 힙 순서가 그대로이므로, 스냅샷의 점수만 제자리에서 CAS 로 올립니다.
+ * 새 스냅샷은 구성원이 바뀌거나 힙 순서가 바뀔 때만 만듭니다. 점수가 높은 키는 잎 쪽에 모이므로,
+ * 인기 게시물이 계속 조회되어도 대부분 복사 없이 끝납니다. 스냅샷을 복사하는 동안 제자리에서 올린 점수는
+ * 새 스냅샷에서 빠질 수 있지만, 같은 키의 다음 조회에서 다시 반영됩니다.
+ * </p>
+ */
+public final class TopKTracker {
+
+    /**
+     * 인기 항목.
+     *
+     * @param key   키 (게시물 ID)
+     * @param score 점수
+     */
+    public record Entry(long key, double score) {
+    }
+
+    private final int capacity;
+    private final AtomicReference<Heap> heap;
+
+    public TopKTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.heap = new AtomicReference<>(new Heap(new long[0], new AtomicLongArray(0)));
+    }
+
+    /**
+     * 키의 최신 점수를 반영합니다.
+     *
+     * @param key   키
+     * @param score 키의 현재 점수
+     */
+    public void offer(long key, double score) {
+        while (true) {
+            Heap current = heap.get();
+            int position = current.indexOf(key);
+            if (position >= 0 ? current.raise(position, score)
+                    : current.size() == capacity && score <= current.score(0)) {
+                return; // 구성원과 순서가 바뀌지 않음
+            }
+            if (heap.compareAndSet(current, current.offer(key, score, position, capacity))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 키를 목록에서 제거합니다.
+     *
+     * @param key 제거할 키
+     */
+    public void remove(long key) {
+        while (true) {
+            Heap current = heap.get();
+            int position = current.indexOf(key);
+            if (position < 0 || heap.compareAndSet(current, current.remove(position))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 모든 점수에 감쇠 계수를 곱합니다. 양수를 곱해도 힙 순서는 유지됩니다.
+     *
+     * @param factor 감쇠 계수 (0.0 ~ 1.0)
+     */
+    public void decay(double factor) {
+        while (true) {
+            Heap current = heap.get();
+            if (heap.compareAndSet(current, current.scale(factor))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 정렬된 인기 항목을 반환합니다.
+     *
+     * @return 최대 K 개의 항목
+     */
+    public List<Entry> top() {
+        Heap current = heap.get();
+        List<Entry> entries = new ArrayList<>(current.size());
+        for (int i = 0; i < current.size(); i++) {
+            entries.add(new Entry(current.keys[i], current.score(i)));
+        }
+        entries.sort(Comparator.comparingDouble(Entry::score).reversed());
+        return entries;
+    }
+
+    /**
+     * 배열 기반 최소 힙의 스냅샷. 구성원과 순서는 불변이며, 점수는 {@link Double#doubleToRawLongBits(double)}로 저장합니다.
+     */
+    private record Heap(long[] keys, AtomicLongArray scores) {
+
+        int size() {
+            return keys.length;
+        }
+
+        double score(int index) {
+            return Double.longBitsToDouble(scores.get(index));
+        }
+
+        private void setScore(int index, double score) {
+            scores.set(index, Double.doubleToRawLongBits(score));
+        }
+
+        /**
+         * 힙 순서가 유지되는 한 제자리에서 점수를 올립니다.
+         *
+         * @return 반영할 것이 없거나 제자리에서 올렸으면 {@code true}, 아래로 내려가야 하면 {@code false}
+         */
+        boolean raise(int position, double score) {
+            while (true) {
+                long bits = scores.get(position);
+                if (Double.longBitsToDouble(bits) >= score) {
+                    return true;
+                }
+                int left = 2 * position + 1;
+                if (left < size() && score > score(left)
+                        || left + 1 < size() && score > score(left + 1)) {
+                    return false;
+                }
+                // 자식 점수는 올라가기만 하므로, 검사한 뒤에도 순서가 유지됨
+                if (scores.compareAndSet(position, bits, Double.doubleToRawLongBits(score))) {
+                    return true;
+                }
+            }
+        }
+
+        int indexOf(long key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Heap offer(long key, double score, int position, int capacity) {
+            if (position >= 0) {
+                // 점수가 올라갔으므로 아래로 내려감
+                Heap copy = copy(size());
+                copy.setScore(position, score);
+                copy.siftDown(position);
+                return copy;
+            }
+            if (size() < capacity) {
+                Heap copy = copy(size() + 1);
+                copy.keys[size()] = key;
+                copy.setScore(size(), score);
+                copy.siftUp(size());
+                return copy;
+            }
+            // 가장 낮은 점수(루트)를 밀어냄
+            Heap copy = copy(size());
+            copy.keys[0] = key;
+            copy.setScore(0, score);
+            copy.siftDown(0);
+            return copy;
+        }
+
+        Heap remove(int position) {
+            int last = size() - 1;
+            Heap copy = copy(last);
+            if (position < last) {
+                copy.keys[position] = keys[last];
+                copy.setScore(position, score(last));
+                copy.siftDown(position);
+                copy.siftUp(position);
+            }
+            return copy;
+        }
+
+        Heap scale(double factor) {
+            Heap copy = copy(size());
+            for (int i = 0; i < copy.size(); i++) {
+                copy.setScore(i, copy.score(i) * factor);
+            }
+            return copy;
+        }
+
+        private Heap copy(int length) {
+            long[] newKeys = new long[length];
+            AtomicLongArray newScores = new AtomicLongArray(length);
+            int count = Math.min(length, size());
+            System.arraycopy(keys, 0, newKeys, 0, count);
+            for (int i = 0; i < count; i++) {
+                newScores.set(i, scores.get(i));
+            }
+            return new Heap(newKeys, newScores);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (score(parent) <= score(index)) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size() && score(left) < score(smallest)) {
+                    smallest = left;
+                }
+                if (right < size() && score(right) < score(smallest)) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            long score = scores.get(i);
+            scores.set(i, scores.get(j));
+            scores.set(j, score);
+        }
+    }
+}
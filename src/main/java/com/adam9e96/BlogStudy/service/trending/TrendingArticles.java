@@ -0,0 +1,83 @@
+package com.adam9e96.BlogStudy.service.trending;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시물 조회를 실시간으로 받아 인기 게시물을 집계하는 엔진.
+ *
+ * <p>
+ * <strong>동작 방식:</strong>
+ * </p>
+ * <ul>
+ *     <li>조회가 들어오면 {@link CountMinSketch}에 점수 1을 더하고, 추정 점수로 {@link TopKTracker}를 갱신합니다.</li>
+ *     <li>{@code blog.trending.decay-interval}마다 모든 점수에 감쇠 계수를 곱하여,
+ *     {@code blog.trending.half-life}마다 점수가 절반이 되도록 합니다. (지수 감쇠)</li>
+ *     <li>조회 이벤트를 저장하지 않으며, 메모리 사용량은 게시물 수와 관계없이 고정됩니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 모든 갱신은 잠금 없이(CAS) 처리되어 요청 스레드에서 바로 호출됩니다.
+ * </p>
+ */
+@Component
+public class TrendingArticles {
+
+    private final TrendingProperties properties;
+    private final CountMinSketch sketch;
+    private final TopKTracker topK;
+
+    public TrendingArticles(TrendingProperties properties) {
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.getSketchWidth(), properties.getSketchDepth());
+        this.topK = new TopKTracker(properties.getSize());
+    }
+
+    /**
+     * 게시물 조회를 기록합니다.
+     *
+     * @param articleId 조회한 게시물 ID
+     */
+    public void record(long articleId) {
+        topK.offer(articleId, sketch.add(articleId, 1));
+    }
+
+    /**
+     * 점수가 높은 순으로 인기 게시물을 반환합니다.
+     *
+     * @return 최대 {@code blog.trending.size}개의 게시물 ID 와 점수
+     */
+    public List<TopKTracker.Entry> top() {
+        return topK.top();
+    }
+
+    /**
+     * 삭제된 게시물을 인기 목록에서 제거합니다.
+     *
+     * @param articleId 삭제된 게시물 ID
+     */
+    public void remove(long articleId) {
+        topK.remove(articleId);
+    }
+
+    /**
+     * 모든 점수에 감쇠 계수를 곱합니다.
+     */
+    @Scheduled(fixedDelayString = "${blog.trending.decay-interval:1m}",
+            initialDelayString = "${blog.trending.decay-interval:1m}")
+    public void decay() {
+        double factor = decayFactor();
+        sketch.decay(factor);
+        topK.decay(factor);
+    }
+
+    /**
+     * 감쇠 주기 한 번에 곱할 계수: {@code 0.5 ^ (decayInterval / halfLife)}
+     */
+    double decayFactor() {
+        double intervals = (double) properties.getDecayInterval().toMillis() / properties.getHalfLife().toMillis();
+        return Math.pow(0.5, intervals);
+    }
+}
@@ -0,0 +1,43 @@
+package com.adam9e96.BlogStudy.service.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인기 게시물 집계 설정 ({@code blog.trending.*}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "blog.trending")
+public class TrendingProperties {
+
+    /**
+     * 유지할 인기 게시물 수 (K).
+     */
+    private int size = 10;
+
+    /**
+     * count-min sketch 의 행당 카운터 수. 클수록 추정 오차가 작아집니다.
+     */
+    private int sketchWidth = 2048;
+
+    /**
+     * count-min sketch 의 행(해시 함수) 수. 클수록 오차가 큰 추정이 나올 확률이 작아집니다.
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * 점수가 절반으로 줄어드는 시간.
+     */
+    private Duration halfLife = Duration.ofHours(1);
+
+    /**
+     * 점수 감쇠를 적용하는 주기.
+     */
+    private Duration decayInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,203 @@
+package com.adam9e96.BlogStudy.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시물 본문을 저장용 바이트 배열로 인코딩/디코딩하는 유틸리티.
+ *
+ * <p>
+ * 인코딩 결과의 첫 바이트는 코덱 식별자이므로, 저장된 값만으로 어떤 방식으로 압축되었는지 알 수 있습니다.
+ * </p>
+ * <ul>
+ *     <li>{@link #CODEC_RAW}: 압축하지 않은 UTF-8 ({@code [0][utf8...]})</li>
+ *     <li>{@link #CODEC_DEFLATE}: Deflate 압축 ({@code [1][원본 길이 4바이트][deflate...]})</li>
+ *     <li>{@link #CODEC_DEFLATE_DICTIONARY}: 프리셋 사전을 사용한 Deflate 압축 ({@code [2][원본 길이 4바이트][deflate...]})</li>
+ * </ul>
+ *
+ * <p>
+ * {@value #MIN_COMPRESS_LENGTH}바이트 미만의 짧은 본문은 압축 이득보다 헤더 비용이 커서 그대로 저장합니다.
+ * 프리셋 사전은 마크다운/HTML 에 자주 나오는 토큰을 담고 있어 압축할 문맥이 부족한
+ * 중간 크기({@value #DICTIONARY_MAX_LENGTH}바이트 이하) 본문에서만 사용합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>주의:</strong> 프리셋 사전의 내용을 바꾸면 기존에 저장된 값을 복원할 수 없으므로,
+ * 사전을 바꿔야 한다면 새로운 코덱 식별자를 추가해야 합니다.
+ * </p>
+ */
+public final class ArticleBodyCodec {
+
+    public static final byte CODEC_RAW = 0;
+    public static final byte CODEC_DEFLATE = 1;
+    public static final byte CODEC_DEFLATE_DICTIONARY = 2;
+
+    private static final int MIN_COMPRESS_LENGTH = 256;
+    private static final int DICTIONARY_MAX_LENGTH = 4096;
+    private static final int HEADER_LENGTH = 5; // 코덱(1) + 원본 길이(4)
+
+    /**
+     * 마크다운/HTML 본문에 자주 등장하는 토큰으로 만든 프리셋 사전.
+     * Deflate 는 사전의 뒤쪽에 있는 문자열을 더 짧게 참조하므로 자주 쓰이는 토큰을 뒤에 둡니다.
+     */
+    private static final byte[] DICTIONARY = (
+            "<blockquote></blockquote><table><thead><tbody><tr><th></th><td></td></tr>"
+                    + "<h3></h3><h2></h2><h1></h1><ol><ul><li></li></ul></ol>"
+                    + "<pre><code class=\"language-java\"></code></pre><img src=\"https://\" alt=\"\" />"
+                    + "<a href=\"https://\">](https://)![<br />\n```java\n```\n> - * 1. ### ## # "
+                    + "<em></em><strong></strong><code></code>입니다. 합니다. 있습니다. 습니다.\n"
+                    + "<p></p>\n"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private ArticleBodyCodec() {
+    }
+
+    /**
+     * 문자열을 저장용 바이트 배열로 인코딩합니다.
+     *
+     * @param text 인코딩할 문자열
+     * @return 코덱 식별자가 포함된 바이트 배열 ({@code text}가 {@code null}이면 {@code null})
+     */
+    public static byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        return encodeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 바이트 배열을 저장용 바이트 배열로 인코딩합니다. (문자열이 아닌 값, 예를 들어 개정 이력의 델타를 압축할 때 사용)
+     *
+     * @param bytes 인코딩할 바이트 배열
+     * @return 코덱 식별자가 포함된 바이트 배열
+     */
+    public static byte[] encodeBytes(byte[] bytes) {
+        if (bytes.length < MIN_COMPRESS_LENGTH) {
+            return raw(bytes);
+        }
+
+        boolean useDictionary = bytes.length <= DICTIONARY_MAX_LENGTH;
+        byte[] compressed = deflate(bytes, useDictionary);
+        if (compressed.length + HEADER_LENGTH >= bytes.length + 1) { // 압축 이득이 없으면 그대로 저장
+            return raw(bytes);
+        }
+
+        byte[] encoded = new byte[HEADER_LENGTH + compressed.length];
+        encoded[0] = useDictionary ? CODEC_DEFLATE_DICTIONARY : CODEC_DEFLATE;
+        writeInt(encoded, 1, bytes.length);
+        System.arraycopy(compressed, 0, encoded, HEADER_LENGTH, compressed.length);
+        return encoded;
+    }
+
+    /**
+     * 저장된 바이트 배열을 문자열로 디코딩합니다.
+     *
+     * @param encoded {@link #encode(String)}로 인코딩된 바이트 배열
+     * @return 디코딩된 문자열 ({@code encoded}가 {@code null}이면 {@code null})
+     * @throws IllegalArgumentException 알 수 없는 코덱이거나 손상된 데이터인 경우
+     */
+    public static String decode(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.length == 0) {
+            return "";
+        }
+        return new String(decodeBytes(encoded), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@link #encodeBytes(byte[])}(또는 {@link #encode(String)})로 인코딩된 값을 원래 바이트 배열로 디코딩합니다.
+     *
+     * @param encoded 인코딩된 바이트 배열
+     * @return 디코딩된 바이트 배열
+     * @throws IllegalArgumentException 알 수 없는 코덱이거나 손상된 데이터인 경우
+     */
+    public static byte[] decodeBytes(byte[] encoded) {
+        if (encoded.length == 0) {
+            return new byte[0];
+        }
+        return switch (encoded[0]) {
+            case CODEC_RAW -> Arrays.copyOfRange(encoded, 1, encoded.length);
+            case CODEC_DEFLATE -> inflate(encoded, false);
+            case CODEC_DEFLATE_DICTIONARY -> inflate(encoded, true);
+            default -> throw new IllegalArgumentException("unknown body codec: " + encoded[0]);
+        };
+    }
+
+    private static byte[] raw(byte[] utf8) {
+        byte[] encoded = new byte[utf8.length + 1];
+        encoded[0] = CODEC_RAW;
+        System.arraycopy(utf8, 0, encoded, 1, utf8.length);
+        return encoded;
+    }
+
+    private static byte[] deflate(byte[] input, boolean useDictionary) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            if (useDictionary) {
+                deflater.setDictionary(DICTIONARY);
+            }
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] encoded, boolean useDictionary) {
+        int originalLength = readInt(encoded, 1);
+        byte[] output = new byte[originalLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, HEADER_LENGTH, encoded.length - HEADER_LENGTH);
+            int offset = 0;
+            while (offset < originalLength) {
+                int n = inflater.inflate(output, offset, originalLength - offset);
+                if (n == 0 && inflater.needsDictionary() && useDictionary) {
+                    inflater.setDictionary(DICTIONARY);
+                    continue;
+                }
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("corrupted article body: expected " + originalLength
+                            + " bytes but got " + offset);
+                }
+                offset += n;
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("corrupted article body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        if (source.length < HEADER_LENGTH) {
+            throw new IllegalArgumentException("corrupted article body: header too short (" + source.length + " bytes)");
+        }
+        return ((source[offset] & 0xFF) << 24)
+                | ((source[offset + 1] & 0xFF) << 16)
+                | ((source[offset + 2] & 0xFF) << 8)
+                | (source[offset + 3] & 0xFF);
+    }
+}
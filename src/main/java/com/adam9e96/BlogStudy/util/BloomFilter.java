@@ -0,0 +1,112 @@
+package com.adam9e96.BlogStudy.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 블룸 필터.
+ *
+ * <p>
+ * {@link #mightContain(String)}이 {@code false}면 넣은 적이 없는 값이고, {@code true}면 넣었을 수도 있는 값입니다.
+ * 비트 배열은 {@link AtomicLongArray}에 보관하므로 잠금 없이 여러 스레드가 동시에 넣고 읽을 수 있으며,
+ * {@link #put(String)}이 끝난 뒤의 {@link #mightContain(String)}은 항상 그 값을 봅니다.
+ * 값을 지울 수는 없으므로, 지워야 하면 새 필터를 만들어 바꿉니다.
+ * </p>
+ *
+ * <p>
+ * 해시는 {@link String#hashCode()}(JDK 내장 함수로 빠르게 계산됨)를 SplitMix64 로 섞어 64비트 해시 두 개를 만들고,
+ * {@code k}개의 위치를 {@code h1 + i * h2}로 구합니다. (Kirsch-Mitzenmacher)
+ * {@code hashCode}가 같은 두 값은 같은 위치를 쓰지만, 그 확률(2<sup>-32</sup>)은 설정하는 거짓 양성 비율보다 훨씬 작습니다.
+ * </p>
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * 예상 원소 수와 거짓 양성 비율로 크기를 정해 필터를 만듭니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  예상 원소 수만큼 넣었을 때의 거짓 양성 비율 (0과 1 사이)
+     * @throws IllegalArgumentException 인자가 범위를 벗어난 경우
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate 는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact(Math.max(1, (optimalBits + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값을 넣습니다.
+     *
+     * @param value 넣을 값
+     */
+    public void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+            }
+        }
+    }
+
+    /**
+     * 값을 넣었을 수 있는지 확인합니다.
+     *
+     * @param value 확인할 값
+     * @return 넣은 적이 없으면 {@code false}
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 배열의 크기를 반환합니다.
+     *
+     * @return 비트 수
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    /**
+     * 해시 함수의 수를 반환합니다.
+     *
+     * @return 해시 함수 수
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(String value) {
+        return mix(value.hashCode());
+    }
+
+    private static long mix(long value) {
+        // SplitMix64 의 마무리 단계
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
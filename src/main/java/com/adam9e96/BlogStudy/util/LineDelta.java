@@ -0,0 +1,253 @@
+package com.adam9e96.BlogStudy.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 두 문자열의 줄 단위 차이를 델타로 만들고, 델타를 적용해 문자열을 복원하는 유틸리티.
+ *
+ * <p>
+ * 차이는 Myers 의 O(ND) 알고리즘으로 구합니다. (N: 두 문자열의 줄 수 합, D: 바뀐 줄 수)
+ * 줄은 먼저 정수 ID 로 바꿔 비교하며, 탐색 기록은 D 단계마다 {@code 2D+1}개만 보관하므로 메모리는 O(D²)입니다.
+ * 바뀐 줄 수가 {@code maxEdits}를 넘으면 델타를 만들지 않습니다. (전체 사본을 저장하는 편이 나음)
+ * </p>
+ *
+ * <p>
+ * 델타 형식은 연산의 나열이며, 수는 모두 가변 길이 정수(varint)입니다.
+ * </p>
+ * <ul>
+ *     <li>{@code [0][n]}: 원본의 다음 n 줄을 그대로 사용</li>
+ *     <li>{@code [1][n]}: 원본의 다음 n 줄을 건너뜀</li>
+ *     <li>{@code [2][n]([길이][UTF-8])*n}: n 줄을 삽입</li>
+ * </ul>
+ * <p>
+ * 줄은 {@code '\n'}으로 나누고 구분자는 저장하지 않으므로, 마지막 줄바꿈 유무와 {@code '\r'}까지 그대로 복원됩니다.
+ * </p>
+ */
+public final class LineDelta {
+
+    private static final byte OP_COPY = 0;
+    private static final byte OP_DELETE = 1;
+    private static final byte OP_INSERT = 2;
+
+    private LineDelta() {
+    }
+
+    /**
+     * {@code base}를 {@code target}으로 바꾸는 델타를 만듭니다.
+     *
+     * @param base     이전 문자열
+     * @param target   새 문자열
+     * @param maxEdits 허용할 최대 변경 줄 수 (삭제 + 삽입)
+     * @return 델타, 변경 줄 수가 {@code maxEdits}를 넘으면 {@code null}
+     */
+    public static byte[] diff(String base, String target, int maxEdits) {
+        String[] a = lines(base);
+        String[] b = lines(target);
+        int[] x = new int[a.length];
+        int[] y = new int[b.length];
+        intern(a, b, x, y);
+
+        byte[] script = editScript(x, y, maxEdits);
+        if (script == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int i = 0;
+        int bIndex = 0;
+        while (i < script.length) {
+            byte op = script[i];
+            int run = 1;
+            while (i + run < script.length && script[i + run] == op) {
+                run++;
+            }
+            out.write(op);
+            writeVarint(out, run);
+            if (op == OP_INSERT) {
+                for (int r = 0; r < run; r++) {
+                    byte[] line = b[bIndex + r].getBytes(StandardCharsets.UTF_8);
+                    writeVarint(out, line.length);
+                    out.writeBytes(line);
+                }
+            }
+            if (op != OP_DELETE) {
+                bIndex += run;
+            }
+            i += run;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code base}에 델타를 적용합니다.
+     *
+     * @param base  이전 문자열
+     * @param delta {@link #diff(String, String, int)}로 만든 델타
+     * @return 복원한 문자열
+     * @throws IllegalArgumentException 델타가 손상되었거나 다른 원본으로 만든 경우
+     */
+    public static String apply(String base, byte[] delta) {
+        String[] a = lines(base);
+        StringBuilder result = new StringBuilder(base.length() + delta.length);
+        int[] position = {0};
+        int cursor = 0;
+        boolean first = true;
+        while (position[0] < delta.length) {
+            int op = delta[position[0]++];
+            int count = readVarint(delta, position);
+            switch (op) {
+                case OP_COPY -> {
+                    if (cursor + count > a.length) {
+                        throw new IllegalArgumentException("corrupted delta: copy past end of base");
+                    }
+                    for (int i = 0; i < count; i++) {
+                        first = appendLine(result, a[cursor++], first);
+                    }
+                }
+                case OP_DELETE -> {
+                    cursor += count;
+                    if (cursor > a.length) {
+                        throw new IllegalArgumentException("corrupted delta: delete past end of base");
+                    }
+                }
+                case OP_INSERT -> {
+                    for (int i = 0; i < count; i++) {
+                        int length = readVarint(delta, position);
+                        if (position[0] + length > delta.length) {
+                            throw new IllegalArgumentException("corrupted delta: truncated line");
+                        }
+                        first = appendLine(result,
+                                new String(delta, position[0], length, StandardCharsets.UTF_8), first);
+                        position[0] += length;
+                    }
+                }
+                default -> throw new IllegalArgumentException("corrupted delta: unknown op " + op);
+            }
+        }
+        if (cursor != a.length) {
+            throw new IllegalArgumentException("corrupted delta: consumed " + cursor + " of " + a.length + " lines");
+        }
+        return result.toString();
+    }
+
+    /**
+     * Myers 알고리즘으로 최단 편집 스크립트(줄마다 COPY/DELETE/INSERT)를 구합니다.
+     *
+     * @return 편집 스크립트, 변경 줄 수가 {@code maxEdits}를 넘으면 {@code null}
+     */
+    private static byte[] editScript(int[] a, int[] b, int maxEdits) {
+        int n = a.length;
+        int m = b.length;
+        int limit = Math.min(maxEdits, n + m);
+        int offset = limit + 1;
+        int[] v = new int[2 * limit + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        int found = -1;
+        for (int d = 0; d <= limit && found < 0; d++) {
+            // 이번 단계에서 읽는 이전 단계의 값(k = -d..d)만 보관
+            trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1] : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    found = d;
+                    break;
+                }
+            }
+        }
+        if (found < 0) {
+            return null;
+        }
+
+        // 끝에서부터 거슬러 올라가며 편집 스크립트를 거꾸로 만듦
+        byte[] reversed = new byte[n + m];
+        int length = 0;
+        int x = n;
+        int y = m;
+        for (int d = found; d > 0; d--) {
+            int[] previous = trace.get(d);
+            int k = x - y;
+            boolean down = k == -d || (k != d && previous[k - 1 + d] < previous[k + 1 + d]);
+            int previousK = down ? k + 1 : k - 1;
+            int previousX = previous[previousK + d];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                reversed[length++] = OP_COPY;
+                x--;
+                y--;
+            }
+            reversed[length++] = down ? OP_INSERT : OP_DELETE;
+            x = previousX;
+            y = previousY;
+        }
+        while (x > 0 && y > 0) {
+            reversed[length++] = OP_COPY;
+            x--;
+            y--;
+        }
+
+        byte[] script = new byte[length];
+        for (int i = 0; i < length; i++) {
+            script[i] = reversed[length - 1 - i];
+        }
+        return script;
+    }
+
+    private static void intern(String[] a, String[] b, int[] x, int[] y) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < a.length; i++) {
+            x[i] = ids.computeIfAbsent(a[i], line -> ids.size());
+        }
+        for (int i = 0; i < b.length; i++) {
+            y[i] = ids.computeIfAbsent(b[i], line -> ids.size());
+        }
+    }
+
+    private static String[] lines(String text) {
+        return text.split("\n", -1);
+    }
+
+    private static boolean appendLine(StringBuilder result, String line, boolean first) {
+        if (!first) {
+            result.append('\n');
+        }
+        result.append(line);
+        return false;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] source, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= source.length) {
+                throw new IllegalArgumentException("corrupted delta: truncated varint");
+            }
+            byte b = source[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("corrupted delta: varint too long");
+    }
+}
@@ -1,6 +1,15 @@
-INSERT INTO article (title, content, author, created_at, updated_at)
-VALUES ('첫 번째 글', '첫 번째 글의 내용입니다.', 'user1', NOW(), NOW());
-INSERT INTO article (title, content, author, created_at, updated_at)
-VALUES ('두 번째 글', '두 번째 글의 내용입니다.', 'user2', NOW(), NOW());
-INSERT INTO article (title, content, author, created_at, updated_at)
-VALUES ('세 번째 글', '세 번째 글의 내용입니다.', 'user3', NOW(), NOW());
+-- 게시물 본문은 article_body 에 저장됩니다. 첫 바이트(X'00')는 압축하지 않은 UTF-8 을 뜻하는 코덱 식별자입니다.
+INSERT INTO article_body (id, content)
+VALUES (1, X'00' || STRINGTOUTF8('첫 번째 글의 내용입니다.'));
+INSERT INTO article_body (id, content)
+VALUES (2, X'00' || STRINGTOUTF8('두 번째 글의 내용입니다.'));
+INSERT INTO article_body (id, content)
+VALUES (3, X'00' || STRINGTOUTF8('세 번째 글의 내용입니다.'));
+ALTER TABLE article_body ALTER COLUMN id RESTART WITH 4;
+
+INSERT INTO article (title, body_id, summary, author, created_at, updated_at)
+VALUES ('첫 번째 글', 1, '첫 번째 글의 내용입니다.', 'user1', NOW(), NOW());
+INSERT INTO article (title, body_id, summary, author, created_at, updated_at)
+VALUES ('두 번째 글', 2, '두 번째 글의 내용입니다.', 'user2', NOW(), NOW());
+INSERT INTO article (title, body_id, summary, author, created_at, updated_at)
+VALUES ('세 번째 글', 3, '세 번째 글의 내용입니다.', 'user3', NOW(), NOW());
@@ -40,7 +40,8 @@ if (modifyButton) {
 
         const body = JSON.stringify({
             title: document.getElementById("title").value,
-            content: document.getElementById("content").value
+            content: document.getElementById("content").value,
+            tags: readTags()
         });
 
         function success() {
@@ -68,7 +69,8 @@ if (createButton) {
     createButton.addEventListener("click", (event) => {
         const body = JSON.stringify({
             title: document.getElementById("title").value,
-            content: document.getElementById("content").value
+            content: document.getElementById("content").value,
+            tags: readTags()
         });
         console.log("등록버튼 클릭시 body", body);
 
@@ -87,6 +89,17 @@ if (createButton) {
     });
 }
 
+// 태그 입력란의 쉼표로 구분된 태그를 배열로 변환하는 함수 (입력란이 없으면 null: 태그를 바꾸지 않음)
+function readTags() {
+    const input = document.getElementById("tags");
+    if (!input) {
+        return null;
+    }
+    return input.value.split(',')
+        .map(tag => tag.trim())
+        .filter(tag => tag.length > 0);
+}
+
 /// 쿠키를 가져오는 함수
 function getCookie(key) {
     let result = null;
@@ -105,6 +118,26 @@ function getCookie(key) {
     return result;
 }
 
+/**
+ * 로그아웃 기능을 담당하는 코드입니다.
+ * 액세스 토큰을 폐기(DELETE /api/token)하고 로컬 스토리지에서 지운 뒤 로그아웃합니다.
+ * 폐기 요청이 실패해도 로그아웃은 진행합니다.
+ */
+const logoutButton = document.getElementById('logout-btn');
+
+if (logoutButton) {
+    logoutButton.addEventListener("click", () => {
+        const accessToken = localStorage.getItem('access_token');
+        fetch('/api/token', {
+            method: 'DELETE',
+            headers: accessToken ? {Authorization: `Bearer ${accessToken}`} : {},
+        }).finally(() => {
+            localStorage.removeItem('access_token');
+            location.replace('/logout');
+        });
+    });
+}
+
 // HTTP 요청을 보내는 함수
 function httpRequest(method, url, body, success, fail) {
     const accessToken = localStorage.getItem('access_token');
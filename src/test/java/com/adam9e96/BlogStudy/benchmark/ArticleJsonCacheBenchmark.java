@@ -0,0 +1,174 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.cache.ArticleJsonCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시물 JSON 캐시를 켠 경우와 끈 경우의 할당량과 GC 를 비교하는 벤치마크.
+ *
+ * <p>
+ * 읽기 위주 부하(요청의 1%만 게시물을 무효화)로 {@code GET /api/articles/{id}}를 호출하고,
+ * Tomcat 요청 처리 스레드가 할당한 바이트 수(요청당)와 GC 횟수/시간을 기록합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ArticleJsonCacheBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleJsonCacheBenchmark.class);
+
+    private static final int ARTICLES = 200;
+    private static final int CONTENT_LENGTH = 4 * 1024;
+    private static final int CLIENTS = 64;
+    private static final int REQUESTS_PER_CLIENT = 500;
+    private static final double INVALIDATION_RATIO = 0.01;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @DisplayName("캐시 사용 여부에 따른 요청당 할당량과 GC 횟수/시간을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        log.info(String.format("%-6s | %10s | %9s | %14s | %8s | %11s",
+                "cache", "req/s", "p99(ms)", "alloc/req(KB)", "gc count", "gc time(ms)"));
+        for (boolean enabled : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(enabled)) {
+                List<Long> ids = seed(context.getBean(BlogServiceImpl.class));
+                String token = JwtFactory.withDefaultValues().createToken(context.getBean(JwtProperties.class));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                ArticleJsonCache cache = context.getBean(ArticleJsonCache.class);
+
+                run(port, token, ids, cache); // 워밍업
+                System.gc();
+                Result result = run(port, token, ids, cache);
+                log.info(String.format("%-6s | %10.0f | %9.1f | %14.1f | %8d | %11d",
+                        enabled ? "on" : "off", result.throughput(), result.p99Millis(),
+                        result.allocatedPerRequest() / 1024.0, result.gcCount(), result.gcMillis()));
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean cacheEnabled) {
+        return new SpringApplicationBuilder(BlogStudyApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "blog.article-json-cache.enabled=" + cacheEnabled)
+                .run();
+    }
+
+    private List<Long> seed(BlogServiceImpl blogService) {
+        String content = "블로그 글의 내용입니다. ".repeat(CONTENT_LENGTH / 16);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            Article article = blogService.save(new AddArticleRequest("title " + i, content), "bench@gmail.com");
+            ids.add(article.getId());
+        }
+        return ids;
+    }
+
+    private Result run(int port, String token, List<Long> ids, ArticleJsonCache cache) throws Exception {
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        Map<Long, Long> allocatedBefore = allocatedByRequestThreads();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long started = System.nanoTime();
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                futures.add(clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long id = ids.get(random.nextInt(ids.size()));
+                        if (random.nextDouble() < INVALIDATION_RATIO) {
+                            cache.invalidateAfterCommit(id); // 게시물 수정을 흉내 냄
+                        }
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/api/articles/" + id))
+                                .header("Authorization", "Bearer " + token)
+                                .GET().build();
+                        long requestStarted = System.nanoTime();
+                        client.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[offset + i] = System.nanoTime() - requestStarted;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : allocatedByRequestThreads().entrySet()) {
+            allocated += entry.getValue() - allocatedBefore.getOrDefault(entry.getKey(), 0L);
+        }
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1e9 / elapsed,
+                latencies[(int) Math.ceil(0.99 * latencies.length) - 1] / 1e6,
+                (double) allocated / latencies.length,
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+    }
+
+    /**
+     * Tomcat 요청 처리 스레드별로 지금까지 할당한 바이트 수를 반환합니다.
+     */
+    private Map<Long, Long> allocatedByRequestThreads() {
+        Map<Long, Long> allocated = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-")) {
+                allocated.put(thread.threadId(), threadBean.getThreadAllocatedBytes(thread.threadId()));
+            }
+        }
+        return allocated;
+    }
+
+    private long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private record Result(double throughput, double p99Millis, double allocatedPerRequest,
+                          long gcCount, long gcMillis) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import com.adam9e96.BlogStudy.service.revision.ArticleRevisionCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 전체 사본 간격별로 개정 이력의 저장 공간과 복원 시간을 비교하는 벤치마크.
+ *
+ * <p>
+ * 게시물마다 몇 줄씩 고치거나 문단을 덧붙이는 수정을 반복하여 개정 이력을 만들고,
+ * 저장한 바이트 수를 개정마다 본문 전체를 그대로 저장했을 때와 비교합니다. (저장 배율)
+ * 이어서 무작위 개정을 복원하는 시간(전체 사본 + 델타 적용)의 p50/p99 를 기록합니다.
+ * 데이터베이스 조회 시간은 포함하지 않습니다. {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ArticleRevisionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleRevisionBenchmark.class);
+
+    private static final int ARTICLES = 50;
+    private static final int REVISIONS = 128;
+    private static final int PARAGRAPHS = 120;
+    private static final int MAX_DELTA_EDITS = 2_000;
+    private static final int RECONSTRUCTIONS = 20_000;
+    private static final int[] SNAPSHOT_INTERVALS = {1, 4, 16, 64};
+
+    @DisplayName("전체 사본 간격별 저장 배율과 복원 시간 p50/p99 를 측정한다.")
+    @Test
+    void measure() {
+        List<List<String>> histories = histories(new Random(42));
+        long fullCopyBytes = histories.stream().flatMap(List::stream)
+                .mapToLong(content -> content.getBytes(StandardCharsets.UTF_8).length).sum();
+
+        log.info(String.format("%-8s | %14s | %13s | %13s | %13s",
+                "interval", "stored(KB)", "vs full copy", "p50(us)", "p99(us)"));
+        for (int interval : SNAPSHOT_INTERVALS) {
+            List<List<ArticleRevision>> stored = new ArrayList<>();
+            long storedBytes = 0;
+            for (List<String> history : histories) {
+                List<ArticleRevision> revisions = record(history, interval);
+                storedBytes += revisions.stream().mapToLong(ArticleRevision::getStoredLength).sum();
+                stored.add(revisions);
+            }
+
+            reconstruct(stored, histories, new Random(1)); // 워밍업
+            long[] nanos = reconstruct(stored, histories, new Random(2));
+            log.info(String.format("%-8d | %14.1f | %12.3fx | %13.1f | %13.1f",
+                    interval, storedBytes / 1024.0, (double) storedBytes / fullCopyBytes,
+                    nanos[nanos.length / 2] / 1e3, nanos[(int) Math.ceil(0.99 * nanos.length) - 1] / 1e3));
+        }
+    }
+
+    /**
+     * {@code ArticleRevisionService#record}와 같은 규칙으로 본문 이력을 개정 행으로 만듭니다.
+     */
+    private List<ArticleRevision> record(List<String> history, int interval) {
+        List<ArticleRevision> revisions = new ArrayList<>();
+        revisions.add(revision(1, 1, history.getFirst(), ArticleRevisionCodec.snapshot(history.getFirst())));
+        for (int i = 1; i < history.size(); i++) {
+            ArticleRevision latest = revisions.getLast();
+            int revision = i + 1;
+            boolean forceSnapshot = revision - latest.getBaseRevision() >= interval;
+            ArticleRevisionCodec.Encoded encoded = ArticleRevisionCodec.encode(
+                    history.get(i - 1), history.get(i), forceSnapshot, MAX_DELTA_EDITS);
+            int baseRevision = encoded.kind() == ArticleRevision.Kind.SNAPSHOT ? revision : latest.getBaseRevision();
+            revisions.add(revision(revision, baseRevision, history.get(i), encoded));
+        }
+        return revisions;
+    }
+
+    private long[] reconstruct(List<List<ArticleRevision>> stored, List<List<String>> histories, Random random) {
+        long[] nanos = new long[RECONSTRUCTIONS];
+        for (int i = 0; i < RECONSTRUCTIONS; i++) {
+            int article = random.nextInt(stored.size());
+            List<ArticleRevision> revisions = stored.get(article);
+            ArticleRevision target = revisions.get(random.nextInt(revisions.size()));
+
+            long started = System.nanoTime();
+            String content = ArticleRevisionCodec.reconstruct(
+                    revisions.subList(target.getBaseRevision() - 1, target.getRevision()));
+            nanos[i] = System.nanoTime() - started;
+
+            if (!content.equals(histories.get(article).get(target.getRevision() - 1))) {
+                throw new IllegalStateException("reconstruction mismatch");
+            }
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    /**
+     * 게시물마다 첫 본문과, 한 번에 몇 줄을 고치거나 문단 하나를 덧붙이는 수정을 반복한 본문 이력을 만듭니다.
+     */
+    private List<List<String>> histories(Random random) {
+        List<List<String>> histories = new ArrayList<>();
+        for (int a = 0; a < ARTICLES; a++) {
+            List<String> lines = new ArrayList<>();
+            for (int p = 0; p < PARAGRAPHS; p++) {
+                lines.addAll(paragraph(random, p));
+            }
+            List<String> history = new ArrayList<>();
+            history.add(String.join("\n", lines));
+            for (int r = 1; r < REVISIONS; r++) {
+                if (random.nextInt(4) == 0) {
+                    lines.addAll(paragraph(random, lines.size()));
+                } else {
+                    for (int e = 0; e < 1 + random.nextInt(3); e++) {
+                        int line = random.nextInt(lines.size());
+                        lines.set(line, lines.get(line) + " (수정 " + r + ")");
+                    }
+                }
+                history.add(String.join("\n", lines));
+            }
+            histories.add(history);
+        }
+        return histories;
+    }
+
+    private List<String> paragraph(Random random, int index) {
+        return List.of("## " + index + "번째 문단", "",
+                "블로그 글의 " + random.nextInt(1_000) + "번째 내용입니다. **강조**와 `코드`를 포함합니다.", "");
+    }
+
+    private ArticleRevision revision(int revision, int baseRevision, String content,
+                                     ArticleRevisionCodec.Encoded encoded) {
+        return new ArticleRevision(1L, revision, baseRevision, encoded.kind(), "title", encoded.payload(),
+                content.getBytes(StandardCharsets.UTF_8).length, ArticleRevisionCodec.checksum(content),
+                "bench@gmail.com", LocalDateTime.now());
+    }
+}
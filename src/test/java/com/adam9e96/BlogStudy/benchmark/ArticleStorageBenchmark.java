@@ -0,0 +1,119 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.ArticleListViewResponse;
+import com.adam9e96.BlogStudy.dto.ArticleResponse;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시물 본문 분리/압축 저장의 효과를 측정하는 벤치마크.
+ *
+ * <ul>
+ *     <li>저장 크기: 원문 UTF-8 바이트 수와 {@code article_body}에 실제로 저장된 바이트 수 비교</li>
+ *     <li>목록 요청당 힙 할당량: 요약만 사용하는 목록 조회와 본문까지 읽는 목록 조회 비교</li>
+ * </ul>
+ *
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+class ArticleStorageBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleStorageBenchmark.class);
+
+    private static final int ARTICLE_COUNT = 1_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @DisplayName("본문 저장 크기와 목록 요청당 힙 할당량을 측정한다.")
+    @Test
+    void measureStorageAndListHeap() {
+        // given
+        blogRepository.deleteAll();
+        long originalBytes = 0;
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            String content = randomMarkdown(i);
+            originalBytes += content.getBytes(StandardCharsets.UTF_8).length;
+            articles.add(Article.builder().author("bench@gmail.com").title("제목 " + i).content(content).build());
+        }
+        blogRepository.saveAll(articles);
+
+        // when
+        Long storedBytes = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(content)) FROM article_body", Long.class);
+
+        long metadataOnly = measureAllocatedBytes(() -> blogService.findAll().stream()
+                .map(ArticleListViewResponse::new)
+                .toList());
+        long withBody = measureAllocatedBytes(() -> transactionTemplate.execute(status -> blogService.findAll().stream()
+                .map(ArticleResponse::new)
+                .toList()));
+
+        // then
+        log.info("=== 본문 저장 크기 ({}건) ===", ARTICLE_COUNT);
+        log.info("원문 UTF-8: {} bytes, 저장: {} bytes, 비율: {}%", originalBytes, storedBytes,
+                String.format("%.1f", storedBytes * 100.0 / originalBytes));
+        log.info("=== 목록 요청당 힙 할당량 (평균 {}회) ===", ITERATIONS);
+        log.info("요약만 사용(목록 화면): {} KB", metadataOnly / 1024);
+        log.info("본문까지 로딩(API 목록): {} KB", withBody / 1024);
+    }
+
+    private long measureAllocatedBytes(Runnable request) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        request.run(); // 워밍업
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    /**
+     * 로그 정규 분포에 가까운 크기(수백 바이트 ~ 수십 KB)의 마크다운 본문을 만듭니다.
+     */
+    private String randomMarkdown(int seed) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int paragraphs = (int) Math.max(1, Math.exp(random.nextGaussian() * 0.8 + 2.5));
+        StringBuilder builder = new StringBuilder();
+        for (int p = 0; p < paragraphs; p++) {
+            builder.append("## ").append(seed).append("번 글의 ").append(p).append("번째 문단\n\n")
+                    .append("스프링 부트와 **JPA** 를 사용해 블로그를 만드는 중입니다. ")
+                    .append("`OAuth2` 로그인과 JWT 토큰 발급 흐름을 정리합니다. ")
+                    .append(random.nextInt(1_000_000)).append("\n\n");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.config.compression.CompressionFilter;
+import com.adam9e96.BlogStudy.config.compression.CompressionLevelPolicy;
+import com.adam9e96.BlogStudy.config.compression.CompressionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 크기별로 코덱(압축 안 함 / gzip / zstd)의 전송 바이트 수와 처리 시간을 측정하는 벤치마크.
+ *
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompressionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionBenchmark.class);
+
+    private static final int[] PAYLOAD_SIZES = {512, 4 * 1024, 64 * 1024, 1024 * 1024};
+    private static final String[] ACCEPT_ENCODINGS = {"identity", "gzip", "zstd"};
+    private static final int ITERATIONS = 200;
+
+    private final CompressionProperties properties = new CompressionProperties();
+    private final CompressionFilter filter = new CompressionFilter(properties, new CompressionLevelPolicy(properties));
+
+    @DisplayName("응답 크기별 압축 바이트 수와 처리 시간을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        log.info(String.format("%10s | %-8s | %12s | %10s", "payload", "coding", "bytes", "avg(us)"));
+        for (int size : PAYLOAD_SIZES) {
+            byte[] body = jsonOfSize(size).getBytes(StandardCharsets.UTF_8);
+            for (String acceptEncoding : ACCEPT_ENCODINGS) {
+                run(body, acceptEncoding); // 워밍업
+                long bytes = 0;
+                long started = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    bytes = run(body, acceptEncoding);
+                }
+                long avgMicros = (System.nanoTime() - started) / ITERATIONS / 1_000;
+                log.info(String.format("%10d | %-8s | %12d | %10d", body.length, acceptEncoding, bytes, avgMicros));
+            }
+        }
+    }
+
+    private long run(byte[] body, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            res.setContentType("application/json");
+            // 큰 목록을 나눠서 쓰는 상황을 흉내 냄
+            for (int offset = 0; offset < body.length; offset += 8192) {
+                res.getOutputStream().write(body, offset, Math.min(8192, body.length - offset));
+            }
+        });
+        return response.getContentAsByteArray().length;
+    }
+
+    private String jsonOfSize(int size) {
+        StringBuilder builder = new StringBuilder("[");
+        int i = 0;
+        while (builder.length() < size) {
+            builder.append("{\"title\":\"제목 ").append(i).append("\",\"content\":\"블로그 글의 내용입니다. ")
+                    .append(i++).append("\"},");
+        }
+        builder.setCharAt(builder.length() - 1, ']');
+        return builder.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.reactive.ReactiveApiServer;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 동시 연결 수를 늘려 가며 MVC(Tomcat + JPA) 게시물 API 와 논블로킹(Netty + R2DBC) 게시물 API 를 비교하는 벤치마크.
+ *
+ * <p>
+ * 두 API 를 한 애플리케이션에서 함께 띄우고, 같은 데이터와 같은 토큰으로 {@code GET /api/articles}를 호출합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReactiveApiLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveApiLoadBenchmark.class);
+
+    private static final int[] CONCURRENCY = {100, 500, 2_000, 5_000};
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final int ARTICLES = 100;
+
+    @DisplayName("동시 연결 수별로 MVC 와 논블로킹 API 의 처리량과 지연 시간을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        try (ConfigurableApplicationContext context = start()) {
+            BlogServiceImpl blogService = context.getBean(BlogServiceImpl.class);
+            for (int i = 0; i < ARTICLES; i++) {
+                blogService.save(new AddArticleRequest("title " + i, "content " + i), "bench@gmail.com");
+            }
+            String token = JwtFactory.withDefaultValues().createToken(context.getBean(JwtProperties.class));
+            int mvcPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+            int reactivePort = context.getBean(ReactiveApiServer.class).getPort();
+
+            log.info(String.format("%-8s | %11s | %10s | %9s | %9s | %6s",
+                    "api", "concurrency", "req/s", "p50(ms)", "p99(ms)", "errors"));
+            for (String api : new String[]{"mvc", "reactive"}) {
+                URI uri = URI.create("http://localhost:" + (api.equals("mvc") ? mvcPort : reactivePort) + "/api/articles");
+                run(uri, token, 50); // 워밍업
+                for (int concurrency : CONCURRENCY) {
+                    Result result = run(uri, token, concurrency);
+                    log.info(String.format("%-8s | %11d | %10.0f | %9.1f | %9.1f | %6d", api, concurrency,
+                            result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+                }
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BlogStudyApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "blog.reactive-api.enabled=true",
+                        "blog.reactive-api.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:reactive-bench;DB_CLOSE_DELAY=-1",
+                        "blog.reactive-api.url=r2dbc:pool:h2:mem:///reactive-bench?options=DB_CLOSE_DELAY=-1")
+                .run();
+    }
+
+    private Result run(URI uri, String token, int concurrency) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).GET().build();
+        long[] latencies = new long[concurrency * REQUESTS_PER_CLIENT];
+        int errors = 0;
+        long started = System.nanoTime();
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int c = 0; c < concurrency; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                futures.add(clients.submit(() -> {
+                    int failed = 0;
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long requestStarted = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failed++;
+                            }
+                        } catch (Exception e) {
+                            failed++;
+                        }
+                        latencies[offset + i] = System.nanoTime() - requestStarted;
+                    }
+                    return failed;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                errors += future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1e9 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), errors);
+    }
+
+    private double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+}
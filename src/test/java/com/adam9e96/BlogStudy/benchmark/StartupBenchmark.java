@@ -0,0 +1,140 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AOT 처리와 AppCDS 아카이브를 각각 켜고 끈 조합으로 애플리케이션을 새 JVM 에서 시작하여,
+ * 프로세스 시작부터 {@code GET /api/articles}가 처음 200 으로 응답할 때까지의 시간을 비교하는 벤치마크.
+ *
+ * <p>
+ * {@code ./gradlew cdsArchive benchmark} 로 실행합니다. (압축을 푼 jar 와 아카이브가 없으면 건너뜀)
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private static final int RUNS = 5;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @DisplayName("AOT / CDS 조합별로 첫 번째 성공 응답까지의 시간을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        Path cdsDir = Path.of(System.getProperty("startup.cds-dir", "build/cds"));
+        Path jar = cdsDir.resolve(System.getProperty("startup.jar-name", "BlogStudy-0.0.1-SNAPSHOT.jar"));
+        Assumptions.assumeTrue(Files.exists(jar), "./gradlew cdsArchive 로 " + jar + " 를 먼저 만들어야 합니다.");
+
+        String secretKey = randomSecretKey();
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("startup-benchmark");
+        jwtProperties.setSecretKey(secretKey);
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        List<Variant> variants = List.of(
+                new Variant("baseline", List.of()),
+                new Variant("aot", List.of("-Dspring.aot.enabled=true")),
+                new Variant("cds", List.of("-XX:SharedArchiveFile=" + cdsDir.resolve("application.jsa"))),
+                new Variant("aot+cds", List.of("-Dspring.aot.enabled=true",
+                        "-XX:SharedArchiveFile=" + cdsDir.resolve("application-aot.jsa"))));
+
+        log.info(String.format("%-9s | %12s | %12s | %12s", "variant", "min(ms)", "median(ms)", "max(ms)"));
+        for (Variant variant : variants) {
+            long[] millis = new long[RUNS];
+            for (int i = 0; i < RUNS; i++) {
+                millis[i] = timeToFirstResponse(jar, variant, jwtProperties, token);
+            }
+            Arrays.sort(millis);
+            log.info(String.format("%-9s | %12d | %12d | %12d",
+                    variant.name(), millis[0], millis[RUNS / 2], millis[RUNS - 1]));
+        }
+    }
+
+    private long timeToFirstResponse(Path jar, Variant variant, JwtProperties jwtProperties, String token)
+            throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-jar", jar.getFileName().toString(),
+                "--server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--jwt.issuer=" + jwtProperties.getIssuer(),
+                "--jwt.secret-key=" + jwtProperties.getSecretKey()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(5))
+                .GET().build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - started < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " 실행이 종료됨: exit code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(variant.name() + " 가 " + STARTUP_TIMEOUT + " 안에 응답하지 않음");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private String randomSecretKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private record Variant(String name, List<String> jvmArgs) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.repository.TagRepository;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.TagFacetCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 게시물-태그 100만 건에서 태그 필터 조회와 태그별 게시물 수(패싯) 조회를 측정하는 벤치마크.
+ *
+ * <ul>
+ *     <li>패싯: 요청마다 {@code COUNT ... GROUP BY}를 실행하는 경우와 {@link TagFacetCounter}를 읽는 경우 비교</li>
+ *     <li>태그 필터: {@code (tag_id, article_id)} 인덱스를 따라 키셋으로 한 페이지를 읽는 시간과 실행 계획</li>
+ * </ul>
+ *
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+class TagFacetBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TagFacetBenchmark.class);
+
+    private static final long ID_BASE = 10_000_000L;
+    private static final int ARTICLE_COUNT = 250_000;
+    private static final int TAGS_PER_ARTICLE = 4; // 게시물-태그 100만 건
+    private static final int TAG_COUNT = 50;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    @Autowired
+    TagFacetCounter tagFacetCounter;
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @DisplayName("게시물-태그 100만 건에서 패싯 조회와 태그 필터 조회 시간을 측정한다.")
+    @Test
+    void measure() {
+        // given
+        List<Long> tagIds = insertTags();
+        insertArticles(tagIds);
+        tagFacetCounter.reload();
+
+        // when & then
+        double groupByMillis = averageMillis(10, () -> tagRepository.countArticlesByTag());
+        double facetMillis = averageMillis(1_000, () -> tagFacetCounter.facets());
+        log.info(String.format("facets   | GROUP BY: %10.3f ms | in-memory: %10.5f ms", groupByMillis, facetMillis));
+
+        long middle = ID_BASE + ARTICLE_COUNT / 2;
+        double firstPageMillis = averageMillis(100, () -> blogService.findByTag("bench-tag-0", null, 20));
+        double deepPageMillis = averageMillis(100, () -> blogService.findByTag("bench-tag-0", middle, 20));
+        log.info(String.format("tag page | first: %10.3f ms | after id %d: %10.3f ms",
+                firstPageMillis, middle, deepPageMillis));
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN SELECT a.* FROM article a "
+                + "JOIN article_tag at ON at.article_id = a.id "
+                + "WHERE at.tag_id = " + tagIds.get(0) + " AND a.id > " + middle + " ORDER BY a.id LIMIT 20", String.class);
+        log.info("tag page plan:\n{}", String.join("\n", plan));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM article_tag WHERE article_id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM article WHERE id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM article_body WHERE id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM tag WHERE name LIKE 'bench-tag-%'");
+        tagFacetCounter.reload();
+    }
+
+    private List<Long> insertTags() {
+        List<Long> tagIds = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO tag (name) VALUES (?)", "bench-tag-" + i);
+            tagIds.add(jdbcTemplate.queryForObject("SELECT id FROM tag WHERE name = ?", Long.class, "bench-tag-" + i));
+        }
+        return tagIds;
+    }
+
+    private void insertArticles(List<Long> tagIds) {
+        Random random = new Random(1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        byte[] body = {0, 'x'}; // 압축하지 않은 UTF-8 "x"
+
+        List<Object[]> bodies = new ArrayList<>();
+        List<Object[]> articles = new ArrayList<>();
+        List<Object[]> articleTags = new ArrayList<>();
+        for (int i = 0; i < ARTICLE_COUNT; i++) {
+            long id = ID_BASE + i;
+            bodies.add(new Object[]{id, body});
+            articles.add(new Object[]{id, "제목 " + i, id, "x", "bench@gmail.com", now, now});
+            for (long tagId : pickTags(tagIds, random)) {
+                articleTags.add(new Object[]{id, tagId});
+            }
+            if (bodies.size() == BATCH_SIZE || i == ARTICLE_COUNT - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO article_body (id, content) VALUES (?, ?)", bodies);
+                jdbcTemplate.batchUpdate("INSERT INTO article (id, title, body_id, summary, author, "
+                        + "view_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)", articles);
+                jdbcTemplate.batchUpdate("INSERT INTO article_tag (article_id, tag_id) VALUES (?, ?)", articleTags);
+                bodies.clear();
+                articles.clear();
+                articleTags.clear();
+            }
+        }
+    }
+
+    /**
+     * 앞쪽 태그일수록 자주 선택되도록 서로 다른 태그 {@value #TAGS_PER_ARTICLE}개를 고릅니다.
+     */
+    private Set<Long> pickTags(List<Long> tagIds, Random random) {
+        Set<Long> picked = new LinkedHashSet<>();
+        while (picked.size() < TAGS_PER_ARTICLE) {
+            int index = (int) Math.min(TAG_COUNT - 1, -Math.log(1 - random.nextDouble()) * 10);
+            picked.add(tagIds.get(index));
+        }
+        return picked;
+    }
+
+    private double averageMillis(int iterations, Runnable task) {
+        task.run(); // 워밍업
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - started) / 1e6 / iterations;
+    }
+}
@@ -0,0 +1,75 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.service.trending.TrendingAccuracyTest;
+import com.adam9e96.BlogStudy.service.trending.TrendingArticles;
+import com.adam9e96.BlogStudy.service.trending.TrendingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 여러 요청 스레드에서 동시에 조회를 기록할 때 인기 게시물 엔진의 처리량을 측정하는 벤치마크.
+ *
+ * <p>
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TrendingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingBenchmark.class);
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int VIEWS_PER_THREAD = 2_000_000;
+
+    @DisplayName("스레드 수별 조회 기록 처리량을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        long[] stream = TrendingAccuracyTest.zipfStream(100_000, VIEWS_PER_THREAD, 1.1, new Random(7));
+
+        log.info(String.format("%8s | %14s", "threads", "views/sec"));
+        for (int threads : THREAD_COUNTS) {
+            run(new TrendingArticles(new TrendingProperties()), stream, threads); // 워밍업
+            long started = System.nanoTime();
+            run(new TrendingArticles(new TrendingProperties()), stream, threads);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            log.info(String.format("%8d | %,14.0f", threads, threads * (double) VIEWS_PER_THREAD / seconds));
+        }
+    }
+
+    private void run(TrendingArticles trending, long[] stream, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 7919;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < stream.length; i++) {
+                        trending.record(stream[(i + offset) % stream.length]);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
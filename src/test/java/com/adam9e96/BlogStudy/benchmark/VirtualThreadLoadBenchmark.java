@@ -0,0 +1,116 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.BlogStudyApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 플랫폼 스레드(Tomcat 스레드 풀) 모드와 가상 스레드 모드의 처리량과 지연 시간을 비교하는 벤치마크.
+ *
+ * <p>
+ * 두 모드로 각각 애플리케이션을 띄우고, 동시 요청 수를 늘려 가며 게시물 목록 페이지(JDBC + Thymeleaf)를 호출합니다.
+ * {@code ./gradlew benchmark} 로 실행합니다.
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadBenchmark.class);
+
+    private static final int[] CONCURRENCY = {50, 200, 1_000, 2_000};
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final String PATH = "/articles";
+
+    @DisplayName("동시 요청 수별로 두 실행 모드의 처리량과 지연 시간을 측정한다.")
+    @Test
+    void measure() throws Exception {
+        log.info(String.format("%-8s | %11s | %10s | %9s | %9s | %6s",
+                "mode", "concurrency", "req/s", "p50(ms)", "p99(ms)", "errors"));
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI uri = URI.create("http://localhost:" + port + PATH);
+                run(uri, 50); // 워밍업
+                for (int concurrency : CONCURRENCY) {
+                    Result result = run(uri, concurrency);
+                    log.info(String.format("%-8s | %11d | %10.0f | %9.1f | %9.1f | %6d",
+                            virtual ? "virtual" : "platform", concurrency,
+                            result.throughput(), result.p50Millis(), result.p99Millis(), result.errors()));
+                }
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(BlogStudyApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtual)
+                .run();
+    }
+
+    private Result run(URI uri, int concurrency) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long[] latencies = new long[concurrency * REQUESTS_PER_CLIENT];
+        int errors = 0;
+        long started = System.nanoTime();
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int c = 0; c < concurrency; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                futures.add(clients.submit(() -> {
+                    int failed = 0;
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long requestStarted = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failed++;
+                            }
+                        } catch (Exception e) {
+                            failed++;
+                        }
+                        latencies[offset + i] = System.nanoTime() - requestStarted;
+                    }
+                    return failed;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                errors += future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(latencies.length * 1e9 / elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), errors);
+    }
+
+    private double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+    }
+}
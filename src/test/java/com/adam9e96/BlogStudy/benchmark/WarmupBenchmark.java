@@ -0,0 +1,191 @@
+package com.adam9e96.BlogStudy.benchmark;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시 워밍업({@code blog.warmup.enabled})을 켠 경우와 끈 경우의 배포 직후 응답 시간을 비교하는 벤치마크.
+ *
+ * <p>
+ * 애플리케이션을 새 JVM 에서 시작하고 {@code /readyz}가 UP 이 되자마자
+ * 상세 API 와 상세 뷰 요청을 섞어 보내, 처음 {@value #REQUESTS}건의 p50/p99/최댓값과 준비될 때까지의 시간을 기록합니다.
+ * {@code ./gradlew extractBootJar benchmark} 로 실행합니다. (압축을 푼 jar 가 없으면 건너뜀)
+ * </p>
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WarmupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupBenchmark.class);
+
+    private static final int RUNS = 3;
+    private static final int ARTICLES = 2_000;
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS = 4_000;
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @DisplayName("워밍업 여부에 따라 준비 직후 요청의 p99 를 측정한다.")
+    @Test
+    void measure() throws Exception {
+        Path cdsDir = Path.of(System.getProperty("startup.cds-dir", "build/cds"));
+        Path jar = cdsDir.resolve(System.getProperty("startup.jar-name", "BlogStudy-0.0.1-SNAPSHOT.jar"));
+        Assumptions.assumeTrue(Files.exists(jar), "./gradlew extractBootJar 로 " + jar + " 를 먼저 만들어야 합니다.");
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("warmup-benchmark");
+        jwtProperties.setSecretKey(randomSecretKey());
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+
+        log.info(String.format("%-7s | %9s | %8s | %8s | %8s", "warmup", "ready(ms)", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (boolean warmup : new boolean[]{false, true}) {
+            for (int i = 0; i < RUNS; i++) {
+                Result result = postDeployLatency(jar, warmup, jwtProperties, token);
+                log.info(String.format("%-7s | %9d | %8.1f | %8.1f | %8.1f", warmup ? "on" : "off",
+                        result.readyMillis(), result.p50Millis(), result.p99Millis(), result.maxMillis()));
+            }
+        }
+    }
+
+    private Result postDeployLatency(Path jar, boolean warmup, JwtProperties jwtProperties, String token)
+            throws Exception {
+        int port = freePort();
+        Path credentials = Files.createTempFile("warmup-benchmark", ".csv");
+        List<String> command = List.of(
+                ProcessHandle.current().info().command().orElse("java"),
+                "-jar", jar.getFileName().toString(),
+                "--server.port=" + port,
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--jwt.issuer=" + jwtProperties.getIssuer(),
+                "--jwt.secret-key=" + jwtProperties.getSecretKey(),
+                "--blog.dataset.enabled=true",
+                "--blog.dataset.users=20",
+                "--blog.dataset.articles=" + ARTICLES,
+                "--blog.dataset.credentials-file=" + credentials.toAbsolutePath(),
+                "--blog.warmup.enabled=" + warmup);
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(jar.getParent().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            awaitReadiness(process, port, started);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            long[] latencies = replay(port, token, articleIdRange(credentials));
+            Arrays.sort(latencies);
+            return new Result(readyMillis, latencies[latencies.length / 2] / 1e6,
+                    latencies[(int) Math.ceil(0.99 * latencies.length) - 1] / 1e6,
+                    latencies[latencies.length - 1] / 1e6);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            Files.deleteIfExists(credentials);
+        }
+    }
+
+    private void awaitReadiness(Process process, int port, long started) throws Exception {
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/readyz"))
+                .timeout(Duration.ofSeconds(5))
+                .GET().build();
+        while (System.nanoTime() - started < STARTUP_TIMEOUT.toNanos()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("실행이 종료됨: exit code " + process.exitValue());
+            }
+            try {
+                if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException(STARTUP_TIMEOUT + " 안에 준비되지 않음");
+    }
+
+    /**
+     * 데이터셋 생성기가 기록한 게시물 ID 범위를 읽습니다. ({@code # articles,처음,마지막})
+     */
+    private long[] articleIdRange(Path credentials) throws IOException {
+        String[] header = Files.readAllLines(credentials).getFirst().split(",");
+        return new long[]{Long.parseLong(header[1]), Long.parseLong(header[2])};
+    }
+
+    private long[] replay(int port, String token, long[] articleIdRange) throws Exception {
+        long[] latencies = new long[REQUESTS];
+        int perClient = REQUESTS / CLIENTS;
+        try (HttpClient requestClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c * perClient;
+                futures.add(clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < perClient; i++) {
+                        long id = random.nextLong(articleIdRange[0], articleIdRange[1] + 1);
+                        String path = random.nextBoolean() ? "/api/articles/" + id : "/articles/" + id;
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .header("Authorization", "Bearer " + token)
+                                .GET().build();
+                        long requestStarted = System.nanoTime();
+                        requestClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[offset + i] = System.nanoTime() - requestStarted;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return Arrays.copyOf(latencies, perClient * CLIENTS);
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private String randomSecretKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getEncoder().encodeToString(key);
+    }
+
+    private record Result(long readyMillis, double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
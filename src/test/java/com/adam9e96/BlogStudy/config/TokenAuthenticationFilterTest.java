@@ -0,0 +1,51 @@
+package com.adam9e96.BlogStudy.config;
+
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenAuthenticationFilterTest {
+
+    private final TokenProvider tokenProvider = mock(TokenProvider.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenProvider, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("토큰 검증 결과별로 검증 시간과 횟수를 기록한다.")
+    @Test
+    void recordsVerifyTimerByResult() throws Exception {
+        // given
+        when(tokenProvider.validToken(any())).thenReturn(false);
+
+        // when
+        filter.doFilter(requestWithToken("invalid-token"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(requestWithToken("invalid-token"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/articles"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(meterRegistry.get("blog.auth.token.verify").tag("result", "invalid").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("blog.auth.token.verify").tag("result", "absent").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.auth.token.verify").tag("result", "valid").timer().count()).isZero();
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package com.adam9e96.BlogStudy.config.asset;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetManifestResourceResolverTest {
+
+    // 전달받은 경로를 그대로 돌려주는 다음 리졸버
+    private final ResourceResolverChain passThroughChain = new ResourceResolverChain() {
+        @Override
+        public Resource resolveResource(HttpServletRequest request, String requestPath,
+                                        List<? extends Resource> locations) {
+            return null;
+        }
+
+        @Override
+        public String resolveUrlPath(String resourcePath, List<? extends Resource> locations) {
+            return resourcePath;
+        }
+    };
+
+    @DisplayName("매니페스트를 읽어 논리 경로를 해시가 붙은 경로로 바꾼다.")
+    @Test
+    void resolveHashedUrlPath() {
+        // given
+        AssetManifest manifest = AssetManifest.load(new ByteArrayResource("""
+                js/article.js=js/article.1a2b3c4d.js
+                img/google.png=img/google.0f9e8d7c.png
+                """.getBytes(StandardCharsets.UTF_8)));
+        AssetManifestResourceResolver resolver = new AssetManifestResourceResolver(manifest, "js/");
+
+        // when
+        String urlPath = resolver.resolveUrlPath("article.js", List.of(), passThroughChain);
+
+        // then
+        assertThat(urlPath).isEqualTo("article.1a2b3c4d.js");
+        assertThat(manifest.hashedPath("img/google.png")).isEqualTo("img/google.0f9e8d7c.png");
+    }
+
+    @DisplayName("매니페스트에 없는 리소스는 원래 경로를 그대로 사용한다.")
+    @Test
+    void resolveUnknownUrlPath() {
+        // given
+        AssetManifest manifest = AssetManifest.load(new ByteArrayResource(
+                "js/article.js=js/article.1a2b3c4d.js".getBytes(StandardCharsets.UTF_8)));
+        AssetManifestResourceResolver resolver = new AssetManifestResourceResolver(manifest, "js/");
+
+        // when
+        String urlPath = resolver.resolveUrlPath("token.js", List.of(), passThroughChain);
+
+        // then
+        assertThat(urlPath).isEqualTo("token.js");
+    }
+
+    @DisplayName("매니페스트 파일이 없으면 빈 매니페스트를 사용한다.")
+    @Test
+    void loadMissingManifest() {
+        // given
+        Resource missing = new ByteArrayResource(new byte[0]) {
+            @Override
+            public boolean exists() {
+                return false;
+            }
+        };
+
+        // when
+        AssetManifest manifest = AssetManifest.load(missing);
+
+        // then
+        assertThat(manifest.isEmpty()).isTrue();
+        assertThat(manifest.hashedPath("js/article.js")).isNull();
+    }
+
+    @DisplayName("해시가 붙은 파일만 immutable 로 캐시하고, 원래 이름은 매번 재검증한다.")
+    @Test
+    void immutableOnlyForHashedFiles() throws IOException {
+        // given
+        AssetManifest manifest = AssetManifest.load(new ByteArrayResource(
+                "js/article.js=js/article.1a2b3c4d.js".getBytes(StandardCharsets.UTF_8)));
+        AssetResourceHttpRequestHandler handler = new AssetResourceHttpRequestHandler(manifest);
+
+        // when
+        MockHttpServletResponse hashed = new MockHttpServletResponse();
+        handler.setHeaders(hashed, namedResource("article.1a2b3c4d.js"), MediaType.TEXT_PLAIN);
+        MockHttpServletResponse precompressed = new MockHttpServletResponse();
+        handler.setHeaders(precompressed, namedResource("article.1a2b3c4d.js.gz"), MediaType.TEXT_PLAIN);
+        MockHttpServletResponse unhashed = new MockHttpServletResponse();
+        unhashed.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        handler.setHeaders(unhashed, namedResource("article.js"), MediaType.TEXT_PLAIN);
+
+        // then
+        assertThat(hashed.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(precompressed.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(unhashed.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @DisplayName("해시가 붙은 파일은 304 재검증 응답에도 immutable 캐시 헤더를 유지한다.")
+    @Test
+    void immutableOnNotModified(@TempDir Path directory) throws Exception {
+        // given
+        Path file = Files.writeString(directory.resolve("article.1a2b3c4d.js"), "console.log('a');");
+        AssetManifest manifest = AssetManifest.load(new ByteArrayResource(
+                "js/article.js=js/article.1a2b3c4d.js".getBytes(StandardCharsets.UTF_8)));
+        AssetResourceHttpRequestHandler handler = new AssetResourceHttpRequestHandler(manifest);
+        handler.setLocations(List.of(new FileSystemResource(directory.toString() + "/")));
+        handler.setServletContext(new MockServletContext());
+        handler.afterPropertiesSet();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/js/article.1a2b3c4d.js");
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "article.1a2b3c4d.js");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Files.getLastModifiedTime(file).toMillis());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        handler.handleRequest(request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    private static Resource namedResource(String fileName) {
+        return new ByteArrayResource(new byte[0]) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+}
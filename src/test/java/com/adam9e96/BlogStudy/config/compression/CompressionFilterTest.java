@@ -0,0 +1,156 @@
+package com.adam9e96.BlogStudy.config.compression;
+
+import com.github.luben.zstd.ZstdInputStream;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressionFilterTest {
+
+    private final CompressionProperties properties = new CompressionProperties();
+    private final CompressionFilter filter =
+            new CompressionFilter(properties, new CompressionLevelPolicy(properties));
+
+    @DisplayName("임계값보다 큰 JSON 응답은 gzip 으로 압축된다.")
+    @Test
+    void compressLargeJsonWithGzip() throws Exception {
+        // given
+        String body = jsonOfSize(8 * 1024);
+        MockHttpServletRequest request = requestAccepting("gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, writing("application/json", body));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentAsByteArray().length).isLessThan(body.length());
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))))
+                .isEqualTo(body);
+    }
+
+    @DisplayName("클라이언트가 zstd 를 지원하면 zstd 로 압축된다.")
+    @Test
+    void compressWithZstdWhenAccepted() throws Exception {
+        // given
+        String body = jsonOfSize(8 * 1024);
+        MockHttpServletRequest request = requestAccepting("gzip, zstd");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, writing("application/json", body));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("zstd");
+        assertThat(decode(new ZstdInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))))
+                .isEqualTo(body);
+    }
+
+    @DisplayName("임계값보다 작은 응답은 압축하지 않고 Content-Length 와 함께 전송된다.")
+    @Test
+    void skipSmallResponse() throws Exception {
+        // given
+        String body = "{\"title\":\"title\"}";
+        MockHttpServletRequest request = requestAccepting("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, writing("application/json", body));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentLength()).isEqualTo(body.length());
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @DisplayName("압축 대상이 아닌 Content-Type 은 그대로 전송된다.")
+    @Test
+    void skipNonCompressibleType() throws Exception {
+        // given
+        String body = jsonOfSize(8 * 1024);
+        MockHttpServletRequest request = requestAccepting("gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, writing("image/png", body));
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(response.getContentAsByteArray(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @DisplayName("q=0 으로 거부된 코덱은 사용하지 않는다.")
+    @Test
+    void negotiate() {
+        assertThat(ContentCoding.negotiate("gzip;q=0, zstd", true)).isEqualTo(ContentCoding.ZSTD);
+        assertThat(ContentCoding.negotiate("gzip, zstd;q=0", true)).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("zstd", false)).isNull();
+        assertThat(ContentCoding.negotiate("*", true)).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("identity", true)).isNull();
+    }
+
+    @DisplayName("코덱 이름은 기본 로캘과 관계없이 대소문자를 구분하지 않는다.")
+    @Test
+    void negotiateIgnoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertThat(ContentCoding.negotiate("GZIP", false)).isEqualTo(ContentCoding.GZIP);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @DisplayName("CPU 사용률이 높을수록 낮은 압축 레벨을 사용한다.")
+    @Test
+    void levelFollowsCpuLoad() {
+        CompressionLevelPolicy policy = new CompressionLevelPolicy(properties);
+
+        assertThat(policy.levelFor(0.1)).isEqualTo(properties.getMaxLevel());
+        assertThat(policy.levelFor(0.95)).isEqualTo(properties.getMinLevel());
+        assertThat(policy.levelFor(0.55)).isBetween(properties.getMinLevel(), properties.getMaxLevel());
+    }
+
+    private MockHttpServletRequest requestAccepting(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private FilterChain writing(String contentType, String body) {
+        return (request, response) -> {
+            response.setContentType(contentType);
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private String decode(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String jsonOfSize(int size) {
+        StringBuilder builder = new StringBuilder("[");
+        int i = 0;
+        while (builder.length() < size) {
+            builder.append("{\"title\":\"제목 ").append(i).append("\",\"content\":\"블로그 글의 내용입니다. ")
+                    .append(i++).append("\"},");
+        }
+        builder.setCharAt(builder.length() - 1, ']');
+        return builder.toString();
+    }
+}
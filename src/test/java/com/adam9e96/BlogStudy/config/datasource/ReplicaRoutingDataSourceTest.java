@@ -0,0 +1,160 @@
+package com.adam9e96.BlogStudy.config.datasource;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 데이터베이스를 기본 데이터소스와 복제본으로 사용하여 라우팅을 검증합니다.
+ * 복제는 기본 데이터소스의 {@code SCRIPT} 결과를 복제본에서 실행하는 것으로 흉내 냅니다.
+ */
+@SpringBootTest(properties = {
+        "blog.datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "blog.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "blog.datasource.routing.stickiness=1m"
+})
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WRITER = "writer@gmail.com";
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    HikariDataSource primaryDataSource;
+
+    @Autowired
+    ReplicaPool replicaPool;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    Environment environment;
+
+    JdbcTemplate replica;
+
+    Long articleId;
+
+    @BeforeEach
+    void setUp() {
+        replica = new JdbcTemplate(replicaPool.getReplicas().get(0));
+        replicaPool.markHealthy(0, true);
+        SecurityContextHolder.clearContext();
+
+        blogRepository.deleteAll();
+        articleId = blogRepository.save(Article.builder()
+                .author(WRITER)
+                .title("primary")
+                .content("content")
+                .build()).getId();
+        replicate();
+        replica.update("UPDATE article SET title = 'replica' WHERE id = ?", articleId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 실행된다.")
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        // when
+        Article article = blogService.findById(articleId);
+
+        // then
+        assertThat(article.getTitle()).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기를 한 사용자는 잠시 동안 기본 데이터소스에서 읽고, 다른 사용자는 복제본에서 읽는다.")
+    @Test
+    void readYourWrites() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(WRITER, null, List.of()));
+        transactionTemplate.executeWithoutResult(status ->
+                blogRepository.save(Article.builder().author(WRITER).title("new").content("new").build()));
+
+        // when
+        String writerSees = blogService.findById(articleId).getTitle();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("reader@gmail.com", null, List.of()));
+        String readerSees = blogService.findById(articleId).getTitle();
+
+        // then
+        assertThat(writerSees).isEqualTo("primary");
+        assertThat(readerSees).isEqualTo("replica");
+    }
+
+    @DisplayName("정상인 복제본이 없으면 기본 데이터소스에서 읽는다.")
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        // given
+        replicaPool.markHealthy(0, false);
+
+        // when
+        Article article = blogService.findById(articleId);
+
+        // then
+        assertThat(article.getTitle()).isEqualTo("primary");
+    }
+
+    @DisplayName("복제본 풀은 내려간 복제본을 빨리 알아채도록 짧은 커넥션 대기 시간을 쓴다.")
+    @Test
+    void replicaPoolUsesShortConnectionTimeout() {
+        // when
+        HikariDataSource replicaDataSource = (HikariDataSource) replicaPool.getReplicas().get(0);
+
+        // then
+        assertThat(replicaDataSource.getConnectionTimeout()).isEqualTo(1_000);
+    }
+
+    @DisplayName("라우팅을 켜면 Open Session In View 가 꺼진다.")
+    @Test
+    void routingDisablesOpenInView() {
+        // then
+        assertThat(environment.getProperty("spring.jpa.open-in-view", Boolean.class)).isFalse();
+    }
+
+    @DisplayName("복제본은 첫 상태 확인을 통과하기 전까지 읽기 요청을 받지 않는다.")
+    @Test
+    void replicasStartUnhealthy() {
+        // given
+        ReplicaPool pool = new ReplicaPool(replicaPool.getReplicas());
+
+        // when
+        int selected = pool.select();
+        pool.checkHealth();
+
+        // then
+        assertThat(selected).isEqualTo(-1);
+        assertThat(pool.select()).isZero();
+    }
+
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+}
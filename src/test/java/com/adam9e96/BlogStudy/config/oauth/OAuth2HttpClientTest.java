@@ -0,0 +1,241 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 지연과 오류를 흉내 내는 로컬 OAuth2 제공자(JDK HttpServer)를 띄워 {@link OAuth2HttpClient}를 검증합니다.
+ */
+class OAuth2HttpClientTest {
+
+    private static final String USER_JSON = "{\"email\":\"user@gmail.com\",\"name\":\"user\"}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch held = new CountDownLatch(1);
+    private HttpServer server;
+    private OAuth2HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/userinfo", exchange -> respond(exchange, 200, USER_JSON));
+        server.createContext("/slow", exchange -> {
+            sleep(2_000);
+            respond(exchange, 200, USER_JSON);
+        });
+        server.createContext("/error", exchange -> respond(exchange, 500, "{}"));
+        server.createContext("/held", exchange -> {
+            held.countDown();
+            await(release);
+            respond(exchange, 200, USER_JSON);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        if (client != null) {
+            client.destroy();
+        }
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("userInfoRestTemplate(): 커넥션 풀을 거쳐 사용자 정보를 읽고 호출 시간을 기록한다.")
+    @Test
+    void loadUser() {
+        // given
+        DefaultOAuth2UserService userService = userService(properties());
+
+        // when
+        OAuth2User user = userService.loadUser(request("/userinfo"));
+        userService.loadUser(request("/userinfo"));
+
+        // then
+        assertThat(user.<String>getAttribute("email")).isEqualTo("user@gmail.com");
+        assertThat(meterRegistry.get(OAuth2BulkheadInterceptor.METRIC).tag("outcome", "SUCCESS")
+                .timer().count()).isEqualTo(2);
+        // keep-alive 로 재사용하도록 연결이 풀에 남아 있음
+        assertThat(meterRegistry.get("blog.oauth2.http.pool").tag("state", "available")
+                .gauge().value()).isEqualTo(1);
+    }
+
+    @DisplayName("userInfoRestTemplate(): 제공자가 응답 대기 시간보다 늦으면 기다리지 않고 로그인 실패로 끝낸다.")
+    @Test
+    void readTimeout() {
+        // given
+        OAuth2HttpClientProperties properties = properties();
+        properties.setReadTimeout(Duration.ofMillis(200));
+        DefaultOAuth2UserService userService = userService(properties);
+
+        // when
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> userService.loadUser(request("/slow")))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(meterRegistry.get(OAuth2BulkheadInterceptor.METRIC).tag("outcome", "TIMEOUT")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("userInfoRestTemplate(): 제공자의 5xx 응답은 로그인 실패로 바꾸고 SERVER_ERROR 로 기록한다.")
+    @Test
+    void serverError() {
+        // given
+        DefaultOAuth2UserService userService = userService(properties());
+
+        // when
+        assertThatThrownBy(() -> userService.loadUser(request("/error")))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+
+        // then
+        assertThat(meterRegistry.get(OAuth2BulkheadInterceptor.METRIC).tag("outcome", "SERVER_ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("userInfoRestTemplate(): 동시 호출 한도를 넘은 호출은 제공자를 부르지 않고 바로 거절한다.")
+    @Test
+    void bulkheadRejects() throws Exception {
+        // given
+        OAuth2HttpClientProperties properties = properties();
+        properties.setMaxConcurrentCalls(1);
+        properties.setBulkheadWait(Duration.ZERO);
+        DefaultOAuth2UserService userService = userService(properties);
+        Future<OAuth2User> first = executor.submit(() -> userService.loadUser(request("/held")));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        assertThatThrownBy(() -> userService.loadUser(request("/userinfo")))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).<String>getAttribute("email")).isEqualTo("user@gmail.com");
+        assertThat(meterRegistry.get(OAuth2BulkheadInterceptor.METRIC).tag("outcome", "REJECTED")
+                .timer().count()).isEqualTo(1);
+        // 첫 번째 호출이 끝나면 자리를 돌려받아 다시 호출할 수 있음
+        assertThat(userService.loadUser(request("/userinfo")).getName()).isEqualTo("user@gmail.com");
+    }
+
+    @DisplayName("intercept(): 응답의 상태 코드를 읽다 실패해도 응답을 닫고 자리를 돌려준다.")
+    @Test
+    void releaseWhenStatusFails() throws IOException {
+        // given
+        OAuth2BulkheadInterceptor interceptor = new OAuth2BulkheadInterceptor(1, Duration.ZERO, meterRegistry);
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenThrow(new IOException("malformed status line"));
+        ClientHttpRequestExecution execution = (request, body) -> response;
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://127.0.0.1/userinfo"));
+
+        // when
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class);
+
+        // then
+        verify(response).close();
+        assertThat(interceptor.inFlight()).isZero();
+        assertThat(meterRegistry.get(OAuth2BulkheadInterceptor.METRIC).tag("outcome", "IO_ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private OAuth2HttpClientProperties properties() {
+        OAuth2HttpClientProperties properties = new OAuth2HttpClientProperties();
+        properties.setConnectTimeout(Duration.ofMillis(500));
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    private DefaultOAuth2UserService userService(OAuth2HttpClientProperties properties) {
+        client = new OAuth2HttpClient(properties, meterRegistry);
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(client.userInfoRestTemplate());
+        return userService;
+    }
+
+    private OAuth2UserRequest request(String userInfoPath) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        ClientRegistration registration = ClientRegistration.withRegistrationId("stub")
+                .clientId("client")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + userInfoPath)
+                .userNameAttributeName("email")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(60));
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 대기 시간 초과로 먼저 연결을 끊음
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 JWKS 서버(JDK HttpServer)와 미리 서명한 ID 토큰으로 {@link OidcIdTokenDecoders}를 검증합니다.
+ */
+class OidcIdTokenDecodersTest {
+
+    private static final String ISSUER = "https://idp.test";
+    private static final String CLIENT_ID = "client";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("public, max-age=600");
+    private final AtomicBoolean down = new AtomicBoolean();
+    private RSAKey key1;
+    private RSAKey key2;
+    private HttpServer server;
+    private OidcIdTokenDecoders decoders;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("k1").generate();
+        key2 = new RSAKeyGenerator(2048).keyID("k2").generate();
+        jwks.set(new JWKSet(key1.toPublicJWK()).toString());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            fetches.incrementAndGet();
+            if (down.get()) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set("Cache-Control", cacheControl.get());
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        JwkSetProperties properties = new JwkSetProperties();
+        decoders = new OidcIdTokenDecoders(new RestTemplate(), properties, meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("createDecoder(): 서명이 맞는 ID 토큰을 검증하고, JWK 세트는 한 번만 받는다.")
+    @Test
+    void decodeWithCachedKeys() throws Exception {
+        // given
+        JwtDecoder decoder = decoders.createDecoder(registration());
+
+        // when
+        Jwt first = decoder.decode(idToken(key1, CLIENT_ID));
+        decoders.createDecoder(registration()).decode(idToken(key1, CLIENT_ID));
+        decoder.decode(idToken(key1, CLIENT_ID));
+
+        // then
+        assertThat(first.getClaimAsString("email")).isEqualTo("user@gmail.com");
+        assertThat(first.getSubject()).isEqualTo("1234");
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @DisplayName("refreshExpiring(): Cache-Control max-age 에 맞춰 만료 전에 백그라운드에서 다시 받는다.")
+    @Test
+    void refreshAheadOfExpiry() throws Exception {
+        // given
+        cacheControl.set("public, max-age=300");
+        decoders.createDecoder(registration()).decode(idToken(key1, CLIENT_ID));
+
+        // when
+        clock.advance(Duration.ofSeconds(200)); // 만료 100초 전 (refreshAhead 60초 밖)
+        decoders.refreshExpiring();
+        int beforeWindow = fetches.get();
+        clock.advance(Duration.ofSeconds(50)); // 만료 50초 전
+        decoders.refreshExpiring();
+
+        // then
+        assertThat(beforeWindow).isEqualTo(1);
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @DisplayName("createDecoder(): 모르는 키 ID 는 최소 간격이 지난 뒤에만 JWK 세트를 다시 받아 키 교체를 반영한다.")
+    @Test
+    void rotateKeys() throws Exception {
+        // given
+        JwtDecoder decoder = decoders.createDecoder(registration());
+        decoder.decode(idToken(key1, CLIENT_ID));
+        jwks.set(new JWKSet(List.of(key1.toPublicJWK(), key2.toPublicJWK())).toString());
+        String rotated = idToken(key2, CLIENT_ID);
+
+        // when
+        assertThatThrownBy(() -> decoder.decode(rotated)).isInstanceOf(JwtException.class);
+        int withinInterval = fetches.get();
+        clock.advance(Duration.ofSeconds(31));
+        Jwt jwt = decoder.decode(rotated);
+
+        // then
+        assertThat(withinInterval).isEqualTo(1);
+        assertThat(jwt.getSubject()).isEqualTo("1234");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @DisplayName("createDecoder(): 만료된 뒤 제공자가 응답하지 않으면 만료된 키로 검증하고, 최소 간격 동안 다시 부르지 않는다.")
+    @Test
+    void keepStaleKeysWhileProviderIsDown() throws Exception {
+        // given
+        cacheControl.set("public, max-age=300");
+        JwtDecoder decoder = decoders.createDecoder(registration());
+        decoder.decode(idToken(key1, CLIENT_ID));
+        down.set(true);
+        clock.advance(Duration.ofSeconds(301)); // 만료됨
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            decoder.decode(idToken(key1, CLIENT_ID));
+        }
+        int whileBackingOff = fetches.get();
+        clock.advance(Duration.ofSeconds(31));
+        down.set(false);
+        Jwt jwt = decoder.decode(idToken(key1, CLIENT_ID));
+
+        // then
+        assertThat(whileBackingOff).isEqualTo(2); // 처음 + 실패한 갱신 한 번
+        assertThat(jwt.getSubject()).isEqualTo("1234");
+        assertThat(fetches.get()).isEqualTo(3);
+    }
+
+    @DisplayName("createDecoder(): 처음부터 제공자가 응답하지 않으면 최소 간격 동안 다시 부르지 않는다.")
+    @Test
+    void backOffWhenInitialFetchFails() throws Exception {
+        // given
+        down.set(true);
+        JwtDecoder decoder = decoders.createDecoder(registration());
+        String idToken = idToken(key1, CLIENT_ID);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> decoder.decode(idToken)).isInstanceOf(JwtException.class);
+        }
+        int whileBackingOff = fetches.get();
+        clock.advance(Duration.ofSeconds(31));
+        down.set(false);
+        Jwt jwt = decoder.decode(idToken);
+
+        // then
+        assertThat(whileBackingOff).isEqualTo(1);
+        assertThat(jwt.getSubject()).isEqualTo("1234");
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @DisplayName("createDecoder(): 다른 키로 서명했거나 다른 클라이언트에 발급된 ID 토큰은 거절한다.")
+    @Test
+    void rejectInvalidTokens() throws Exception {
+        // given
+        JwtDecoder decoder = decoders.createDecoder(registration());
+        RSAKey forged = new RSAKeyGenerator(2048).keyID("k1").generate();
+
+        // when, then
+        assertThatThrownBy(() -> decoder.decode(idToken(forged, CLIENT_ID))).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(idToken(key1, "other-client")))
+                .isInstanceOf(JwtValidationException.class);
+    }
+
+    @DisplayName("ttl(): max-age 에서 Age 를 빼고, 헤더가 없거나 범위를 벗어나면 기본값과 상하한을 쓴다.")
+    @Test
+    void ttlFromHeaders() {
+        // given
+        JwkSetProperties properties = new JwkSetProperties();
+        CachedJwkSource source = new CachedJwkSource(null, new RestTemplate(), properties, meterRegistry, clock);
+        HttpHeaders maxAge = new HttpHeaders();
+        maxAge.setCacheControl("public, max-age=3600");
+        maxAge.set(HttpHeaders.AGE, "600");
+        HttpHeaders noCache = new HttpHeaders();
+        noCache.setCacheControl("no-cache");
+        HttpHeaders expires = new HttpHeaders();
+        expires.setDate(clock.instant().toEpochMilli());
+        expires.setExpires(clock.instant().plus(Duration.ofMinutes(10)).toEpochMilli());
+        HttpHeaders tooLong = new HttpHeaders();
+        tooLong.setCacheControl("max-age=31536000");
+        HttpHeaders upperCaseNoCache = new HttpHeaders();
+        upperCaseNoCache.setCacheControl("No-Cache, max-age=3600");
+        HttpHeaders oversized = new HttpHeaders();
+        oversized.setCacheControl("max-age=99999999999999999999");
+
+        // when, then
+        assertThat(source.ttl(maxAge, clock.instant())).isEqualTo(Duration.ofSeconds(3000));
+        assertThat(source.ttl(noCache, clock.instant())).isEqualTo(properties.getMinTtl());
+        assertThat(source.ttl(expires, clock.instant())).isEqualTo(Duration.ofMinutes(10));
+        assertThat(source.ttl(new HttpHeaders(), clock.instant())).isEqualTo(properties.getDefaultTtl());
+        assertThat(source.ttl(tooLong, clock.instant())).isEqualTo(properties.getMaxTtl());
+        assertThat(source.ttl(upperCaseNoCache, clock.instant())).isEqualTo(properties.getMinTtl());
+        assertThat(source.ttl(oversized, clock.instant())).isEqualTo(properties.getMaxTtl());
+    }
+
+    private ClientRegistration registration() {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return ClientRegistration.withRegistrationId("stub")
+                .clientId(CLIENT_ID)
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .scope("openid", "profile", "email")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .jwkSetUri(baseUrl + "/jwks")
+                .issuerUri(ISSUER)
+                .build();
+    }
+
+    private String idToken(RSAKey key, String audience) throws Exception {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("1234")
+                .audience(audience)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .claim("email", "user@gmail.com")
+                .claim("name", "user")
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    /**
+     * JWK 세트 캐시의 만료 계산에만 쓰는 시계. (토큰의 exp/iat 검증은 실제 시각을 씀)
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.adam9e96.BlogStudy.config.oauth;
+
+import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OidcUserCustomServiceTest {
+
+    // 호출하면 연결이 거절되는 사용자 정보 엔드포인트
+    private static final String UNREACHABLE_USER_INFO_URI = "http://127.0.0.1:9/userinfo";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final OAuth2HttpClient oAuth2HttpClient = new OAuth2HttpClient(new OAuth2HttpClientProperties(), meterRegistry);
+    private final OidcUserCustomService service = new OidcUserCustomService(
+            new OAuth2UserCustomService(userRepository, oAuth2HttpClient), oAuth2HttpClient, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        oAuth2HttpClient.destroy();
+    }
+
+    @DisplayName("loadUser(): ID 토큰에 email, name 이 있으면 사용자 정보 엔드포인트를 부르지 않고 사용자를 저장한다.")
+    @Test
+    void loadUserFromIdToken() {
+        // given
+        when(userRepository.findByEmail("user@gmail.com")).thenReturn(Optional.empty());
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OidcUser user = service.loadUser(request(idToken("user")));
+
+        // then
+        assertThat(user.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(user.getName()).isEqualTo("1234");
+        assertThat(user.getUserInfo()).isNull();
+        assertThat(user.getAuthorities()).extracting(Object::toString).contains("OIDC_USER", "SCOPE_email");
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getEmail()).isEqualTo("user@gmail.com");
+        assertThat(saved.getValue().getNickname()).isEqualTo("user");
+        assertThat(meterRegistry.get("blog.oauth2.oidc.user").tag("source", "id-token").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("loadUser(): ID 토큰에 name 이 없으면 사용자 정보 엔드포인트를 호출한다.")
+    @Test
+    void fallBackToUserInfo() {
+        // given
+        OidcUserRequest request = request(idToken(null));
+
+        // when, then
+        assertThatThrownBy(() -> service.loadUser(request)).isInstanceOf(OAuth2AuthenticationException.class);
+    }
+
+    private OidcIdToken idToken(String name) {
+        OidcIdToken.Builder builder = OidcIdToken.withTokenValue("id-token")
+                .issuer("https://idp.test")
+                .subject("1234")
+                .audience(List.of("client"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .claim("email", "user@gmail.com");
+        if (name != null) {
+            builder.claim("name", name);
+        }
+        return builder.build();
+    }
+
+    private OidcUserRequest request(OidcIdToken idToken) {
+        ClientRegistration registration = ClientRegistration.withRegistrationId("stub")
+                .clientId("client")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .scope("openid", "profile", "email")
+                .authorizationUri("https://idp.test/authorize")
+                .tokenUri("https://idp.test/token")
+                .jwkSetUri("https://idp.test/jwks")
+                .userInfoUri(UNREACHABLE_USER_INFO_URI)
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(60), Set.of("openid", "profile", "email"));
+        return new OidcUserRequest(registration, accessToken, idToken);
+    }
+}
@@ -0,0 +1,79 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final GcraRateLimiter limiter = new GcraRateLimiter(100, now::get);
+
+    @DisplayName("tryAcquire(): 버스트만큼은 한꺼번에 허용하고, 그다음 요청은 간격만큼 기다리게 한다.")
+    @Test
+    void burstThenWait() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a", "shared", INTERVAL, 3)).isZero();
+        }
+        long waitNanos = limiter.tryAcquire("a", "shared", INTERVAL, 3);
+
+        // then
+        assertThat(waitNanos).isEqualTo(INTERVAL);
+        assertThat(limiter.tryAcquire("b", "shared", INTERVAL, 3)).isZero();
+    }
+
+    @DisplayName("tryAcquire(): 간격이 지나면 다시 허용한다.")
+    @Test
+    void refillAfterInterval() {
+        // given
+        limiter.tryAcquire("a", "shared", INTERVAL, 1);
+        assertThat(limiter.tryAcquire("a", "shared", INTERVAL, 1)).isPositive();
+
+        // when
+        now.addAndGet(INTERVAL);
+
+        // then
+        assertThat(limiter.tryAcquire("a", "shared", INTERVAL, 1)).isZero();
+    }
+
+    @DisplayName("evictIdle(): 가득 찬 버킷만 지운다.")
+    @Test
+    void evictIdle() {
+        // given
+        limiter.tryAcquire("idle", "shared", INTERVAL, 1);
+        now.addAndGet(INTERVAL);
+        limiter.tryAcquire("busy", "shared", INTERVAL, 1);
+
+        // when
+        int evicted = limiter.evictIdle();
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy", "shared", INTERVAL, 1)).isPositive();
+    }
+
+    @DisplayName("tryAcquire(): 버킷 수가 상한에 이르면 새 키는 공용 버킷을 함께 쓴다.")
+    @Test
+    void overflowToSharedBucket() {
+        // given
+        GcraRateLimiter bounded = new GcraRateLimiter(1, now::get);
+        bounded.tryAcquire("a", "shared", INTERVAL, 1);
+
+        // when
+        long first = bounded.tryAcquire("b", "shared", INTERVAL, 1);
+        long second = bounded.tryAcquire("c", "shared", INTERVAL, 1);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+        assertThat(bounded.size()).isEqualTo(2);
+    }
+}
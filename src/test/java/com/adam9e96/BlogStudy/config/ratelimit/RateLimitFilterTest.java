@@ -0,0 +1,111 @@
+package com.adam9e96.BlogStudy.config.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("제한을 넘은 요청은 다음 필터로 넘기지 않고 429 와 Retry-After 로 거절한다.")
+    @Test
+    void rejectsOverLimit() throws Exception {
+        // given
+        RateLimitFilter filter = filter(perIpLimit(1));
+        doFilter(filter, request("POST", "/api/token", "10.0.0.1", null));
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("POST", "/api/token", "10.0.0.1", null), response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(RateLimitFilter.RETRY_AFTER)).isEqualTo("60");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("blog.rate-limit.rejected").tag("route", "test").tag("key", "ip")
+                .counter().count()).isEqualTo(1);
+        assertThat(doFilter(filter, request("POST", "/api/token", "10.0.0.2", null)).getStatus()).isEqualTo(200);
+    }
+
+    @DisplayName("토큰별 제한은 Authorization 헤더의 토큰마다 따로 센다.")
+    @Test
+    void limitsPerToken() throws Exception {
+        // given
+        RateLimitProperties.Route route = route();
+        route.setPerPrincipal(limit(1));
+        RateLimitFilter filter = filter(route);
+        doFilter(filter, request("POST", "/api/token", "10.0.0.1", "token-a"));
+
+        // when
+        int sameToken = doFilter(filter, request("POST", "/api/token", "10.0.0.1", "token-a")).getStatus();
+        int otherToken = doFilter(filter, request("POST", "/api/token", "10.0.0.1", "token-b")).getStatus();
+
+        // then
+        assertThat(sameToken).isEqualTo(429);
+        assertThat(otherToken).isEqualTo(200);
+    }
+
+    @DisplayName("메서드나 경로가 일치하지 않는 요청은 제한하지 않는다.")
+    @Test
+    void ignoresUnmatchedRequests() throws Exception {
+        // given
+        RateLimitFilter filter = filter(perIpLimit(1));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            // then
+            assertThat(doFilter(filter, request("GET", "/api/token", "10.0.0.1", null)).getStatus()).isEqualTo(200);
+            assertThat(doFilter(filter, request("POST", "/api/articles", "10.0.0.1", null)).getStatus()).isEqualTo(200);
+        }
+    }
+
+    private RateLimitFilter filter(RateLimitProperties.Route route) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return new RateLimitFilter(new GcraRateLimiter(properties.getMaxBuckets()), properties, meterRegistry);
+    }
+
+    private RateLimitProperties.Route perIpLimit(int requests) {
+        RateLimitProperties.Route route = route();
+        route.setPerIp(limit(requests));
+        return route;
+    }
+
+    private RateLimitProperties.Route route() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("test");
+        route.setMethods(List.of("POST"));
+        route.setPatterns(List.of("/api/token"));
+        return route;
+    }
+
+    private RateLimitProperties.Limit limit(int requests) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setRequests(requests);
+        return limit;
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String remoteAddr, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse doFilter(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+package com.adam9e96.BlogStudy.config.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupTimelineReporterTest {
+
+    @DisplayName("slowestBeans(): 의존하는 빈의 생성 시간을 뺀 자체 시간이 긴 순서로 정렬한다.")
+    @Test
+    void slowestBeansBySelfTime() throws Exception {
+        // given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        StartupStep outer = startup.start("spring.beans.instantiate").tag("beanName", "outer");
+        StartupStep inner = startup.start("spring.beans.instantiate").tag("beanName", "inner");
+        Thread.sleep(60);
+        inner.end();
+        Thread.sleep(10);
+        outer.end();
+
+        // when
+        List<StartupTimelineReporter.BeanTiming> timings =
+                StartupTimelineReporter.slowestBeans(startup.getBufferedTimeline(), 10);
+
+        // then
+        assertThat(timings).extracting(StartupTimelineReporter.BeanTiming::beanName)
+                .containsExactly("inner", "outer");
+        StartupTimelineReporter.BeanTiming outerTiming = timings.get(1);
+        assertThat(outerTiming.total()).isGreaterThan(timings.get(0).total());
+        assertThat(outerTiming.self()).isLessThan(timings.get(0).self());
+    }
+
+    @DisplayName("onApplicationReady(): 보고한 뒤 시작 단계 기록 버퍼를 비운다.")
+    @Test
+    void drainTimelineAfterReporting() {
+        // given
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        startup.start("spring.beans.instantiate").tag("beanName", "bean").end();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.setApplicationStartup(startup);
+        StartupTimelineReporter reporter = new StartupTimelineReporter(new StartupProperties());
+
+        // when
+        reporter.onApplicationReady(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+
+        // then
+        assertThat(startup.getBufferedTimeline().getEvents()).isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.adam9e96.BlogStudy.config.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingProperties properties = new ServerTimingProperties();
+    private final ServerTimingFilter filter = new ServerTimingFilter(properties);
+
+    @DisplayName("측정한 구간과 전체 시간을 Server-Timing 헤더로 내보내고 본문은 그대로 전달한다.")
+    @Test
+    void emitsServerTimingHeader() throws Exception {
+        // given
+        properties.setEnabled(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/articles"), response, (req, res) -> {
+            for (int i = 0; i < 2; i++) {
+                long started = ServerTiming.start();
+                ServerTiming.stop(ServerTiming.Metric.DB, started);
+            }
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+        });
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING))
+                .containsPattern("^db;dur=[0-9.]+;desc=\"2\", total;dur=[0-9.]+$");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @DisplayName("허용된 디버그 헤더가 없는 요청은 측정하지 않는다.")
+    @Test
+    void skipsRequestWithoutAllowedDebugHeader() throws Exception {
+        // given
+        properties.setEnabled(true);
+        properties.setDebugTokens(List.of("secret"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader(properties.getDebugHeader(), "guess");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> assertThat(ServerTiming.start()).isZero());
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @DisplayName("기능이 꺼져 있으면 측정하지 않는다.")
+    @Test
+    void disabledByDefault() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/articles"), response,
+                (req, res) -> assertThat(ServerTiming.start()).isZero());
+
+        // then
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING)).isNull();
+    }
+}
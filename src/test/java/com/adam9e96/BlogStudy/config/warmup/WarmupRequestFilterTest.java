@@ -0,0 +1,48 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupRequestFilterTest {
+
+    private final WarmupRequestFilter filter = new WarmupRequestFilter();
+
+    @DisplayName("워밍업 토큰이 일치하는 요청을 처리하는 동안에만 워밍업 요청으로 표시한다.")
+    @Test
+    void marksWarmupRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader(WarmupContext.HEADER, WarmupContext.token());
+        AtomicBoolean marked = new AtomicBoolean();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> marked.set(WarmupContext.isWarmupRequest()));
+
+        // then
+        assertThat(marked).isTrue();
+        assertThat(WarmupContext.isWarmupRequest()).isFalse();
+    }
+
+    @DisplayName("토큰이 다르면 워밍업 요청으로 표시하지 않는다.")
+    @Test
+    void ignoresGuessedToken() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1");
+        request.addHeader(WarmupContext.HEADER, "guess");
+        AtomicBoolean marked = new AtomicBoolean();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> marked.set(WarmupContext.isWarmupRequest()));
+
+        // then
+        assertThat(marked).isFalse();
+    }
+}
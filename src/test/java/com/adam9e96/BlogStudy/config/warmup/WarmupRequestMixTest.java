@@ -0,0 +1,69 @@
+package com.adam9e96.BlogStudy.config.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupRequestMixTest {
+
+    @DisplayName("synthetic(): 상세 API, 상세 뷰, 태그 목록, 인기 게시물, 목록 뷰 요청을 섞어서 만든다.")
+    @Test
+    void syntheticMix() {
+        // given
+        List<Long> articleIds = List.of(1L, 2L, 3L);
+        List<String> tags = List.of("자바 스프링");
+
+        // when
+        List<String> paths = WarmupRequestMix.synthetic(articleIds, tags, 10_000, new Random(42));
+
+        // then
+        assertThat(paths).hasSize(10_000);
+        assertThat(paths).filteredOn(path -> path.matches("/api/articles/[123]"))
+                .hasSizeBetween(3_500, 4_500);
+        assertThat(paths).filteredOn(path -> path.matches("/articles/[123]"))
+                .hasSizeBetween(2_500, 3_500);
+        assertThat(paths).filteredOn(path -> path.equals("/api/articles?tag=%EC%9E%90%EB%B0%94+%EC%8A%A4%ED%94%84%EB%A7%81&size=20"))
+                .hasSizeBetween(1_500, 2_500);
+        assertThat(paths).contains("/api/articles/trending", "/articles");
+    }
+
+    @DisplayName("synthetic(): 게시물과 태그가 없으면 목록 요청만 만든다.")
+    @Test
+    void syntheticMixWithoutData() {
+        // when
+        List<String> paths = WarmupRequestMix.synthetic(List.of(), List.of(), 100, new Random(42));
+
+        // then
+        assertThat(paths).hasSize(100).containsOnly("/api/articles/trending", "/articles");
+    }
+
+    @DisplayName("parseRecording(): 주석과 GET 이 아닌 요청을 건너뛰고 경로만 읽는다.")
+    @Test
+    void parseRecording() {
+        // given
+        List<String> lines = List.of(
+                "# 기록된 요청",
+                "GET /api/articles/1",
+                "",
+                "POST /api/articles",
+                "  /articles/2  ",
+                "get /api/articles/trending HTTP/1.1");
+
+        // when
+        List<String> paths = WarmupRequestMix.parseRecording(lines);
+
+        // then
+        assertThat(paths).containsExactly("/api/articles/1", "/articles/2", "/api/articles/trending");
+    }
+
+    @DisplayName("parseRecording(): 재생할 요청이 없으면 빈 목록을 반환한다.")
+    @Test
+    void parseEmptyRecording() {
+        assertThat(WarmupRequestMix.parseRecording(List.of())).isEmpty();
+        assertThat(WarmupRequestMix.parseRecording(List.of("# comment", "DELETE /api/articles/1"))).isEmpty();
+    }
+}
@@ -6,7 +6,9 @@ import com.adam9e96.BlogStudy.dto.AddArticleRequest;
 import com.adam9e96.BlogStudy.dto.UpdateArticleRequest;
 import com.adam9e96.BlogStudy.repository.BlogRepository;
 import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,6 +62,9 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;
 
+    @Autowired
+    BlogServiceImpl blogService;
+
     User user;
 
     @BeforeEach
@@ -131,7 +137,7 @@ class BlogApiControllerTest {
         List<Article> articles = blogRepository.findAll();
         assertThat(articles.size()).isEqualTo(1); // 크기가 1인지 검증. 블로그 글의 개수가 1인지 확인
         assertThat(articles.get(0).getTitle()).isEqualTo(title);
-        assertThat(articles.get(0).getContent()).isEqualTo(content);
+        assertThat(contentOf(articles.get(0))).isEqualTo(content);
     }
 
     /**
@@ -289,13 +295,138 @@ class BlogApiControllerTest {
         // then
         result.andExpect(status().isOk());
 
-        Article article = blogRepository.findById(savedArticle.getId()).get();
+        Article article = blogRepository.findWithBodyById(savedArticle.getId()).get();
 
         assertThat(article.getTitle()).isEqualTo(newTitle);
         assertThat(article.getContent()).isEqualTo(newContent);
 
     }
 
+    @DisplayName("findArticle: 캐시된 응답도 조회수가 증가하고, 수정한 게시물은 수정된 내용으로 응답한다.")
+    @Test
+    public void findArticleAfterUpdate() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.viewCount").value(1));
+        mockMvc.perform(get(url, savedArticle.getId())) // 캐시된 JSON 으로 응답
+                .andExpect(jsonPath("$.title").value("title"))
+                .andExpect(jsonPath("$.viewCount").value(2));
+
+        // when
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("newTitle", "newContent"))))
+                .andExpect(status().isOk());
+        ResultActions result = mockMvc.perform(get(url, savedArticle.getId()));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("newTitle"))
+                .andExpect(jsonPath("$.content").value("newContent"))
+                .andExpect(jsonPath("$.viewCount").value(3));
+    }
+
+    @DisplayName("findAllArticles: 태그로 게시물을 필터링하고 태그별 게시물 수가 갱신된다.")
+    @Test
+    public void findArticlesByTag() throws Exception {
+        // given
+        final String tag = "tag-filter-test";
+        long before = blogService.findTagFacets().getOrDefault(tag, 0L);
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn(user.getUsername());
+
+        for (String tags : List.of("[\"Tag-Filter-Test\", \"java\"]", "[\"java\"]")) {
+            mockMvc.perform(post("/api/articles")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .principal(principal)
+                            .content("{\"title\":\"title\",\"content\":\"content\",\"tags\":" + tags + "}"))
+                    .andExpect(status().isCreated());
+        }
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles").param("tag", tag));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].tags").value(Matchers.contains("java", tag))); // 태그는 이름순
+        assertThat(blogService.findTagFacets().get(tag)).isEqualTo(before + 1);
+    }
+
+    @DisplayName("findArticlesByAuthor: 작성자의 게시물을 커서로 이어서 최신순으로 조회한다.")
+    @Test
+    public void findArticlesByAuthor() throws Exception {
+        // given
+        final String url = "/api/users/{author}/articles";
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(createDefaultArticle().getId());
+        }
+        blogRepository.save(Article.builder().author("other@gmail.com").title("other").content("other").build());
+
+        // when
+        String firstPage = mockMvc.perform(get(url, user.getUsername()).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[*].id").value(Matchers.contains(
+                        ids.get(4).intValue(), ids.get(3).intValue(), ids.get(2).intValue())))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        ResultActions secondPage = mockMvc.perform(get(url, user.getUsername())
+                .param("cursor", cursor)
+                .param("size", "3"));
+
+        // then
+        secondPage.andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[*].id").value(Matchers.contains(
+                        ids.get(1).intValue(), ids.get(0).intValue())))
+                .andExpect(jsonPath("$.nextCursor").value(Matchers.nullValue()));
+    }
+
+    @DisplayName("findArticlesByAuthor: 형식이 잘못된 커서는 400 Bad Request 로 응답한다.")
+    @Test
+    public void findArticlesByAuthorWithMalformedCursor() throws Exception {
+        // given
+        final String url = "/api/users/{author}/articles";
+
+        // when & then
+        for (String cursor : List.of("no-separator", "_1", "2024-01-01T00:00:00_", "not-a-date_1",
+                "2024-01-01T00:00:00_not-a-number")) {
+            mockMvc.perform(get(url, user.getUsername()).param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @DisplayName("findArticleRevisions: 수정할 때마다 개정이 기록되고, 이전 개정의 본문을 복원할 수 있다.")
+    @Test
+    public void findArticleRevisions() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        for (String content : List.of("content\nsecond line", "content\nsecond line\nthird line")) {
+            mockMvc.perform(put(url, savedArticle.getId())
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsString(new UpdateArticleRequest("title", content))))
+                    .andExpect(status().isOk());
+        }
+
+        // when
+        ResultActions revisions = mockMvc.perform(get(url + "/revisions", savedArticle.getId()));
+        ResultActions first = mockMvc.perform(get(url + "/revisions/{revision}", savedArticle.getId(), 1));
+        ResultActions second = mockMvc.perform(get(url + "/revisions/{revision}", savedArticle.getId(), 2));
+
+        // then
+        revisions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].revision").value(3))
+                .andExpect(jsonPath("$[2].kind").value("SNAPSHOT"));
+        first.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("content"));
+        second.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("content\nsecond line"));
+    }
+
     private Article createDefaultArticle() {
         return blogRepository.save(Article.builder()
                 .title("title")
@@ -303,4 +434,11 @@ class BlogApiControllerTest {
                 .content("content")
                 .build());
     }
-}
\ No newline at end of file
+
+    /**
+     * 본문은 지연 로딩되므로, 트랜잭션 밖에서 내용을 확인할 때는 본문과 함께 다시 조회합니다.
+     */
+    private String contentOf(Article article) {
+        return blogRepository.findWithBodyById(article.getId()).get().getContent();
+    }
+}
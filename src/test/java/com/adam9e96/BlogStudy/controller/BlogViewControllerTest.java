@@ -1,7 +1,19 @@
 package com.adam9e96.BlogStudy.controller;
 
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.Comment;
+import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.repository.CommentRepository;
+import com.adam9e96.BlogStudy.repository.UserRepository;
 import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,9 +21,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 class BlogViewControllerTest {
 
@@ -24,6 +41,20 @@ class BlogViewControllerTest {
     @Autowired
     private BlogServiceImpl blogService;
 
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> authors = new ArrayList<>();
+
     /**
      * MockMvc 객체를 생성합니다.
      * 이 메서드는 각 테스트 메서드가 실행되기 전에 실행됩니다.
@@ -33,5 +64,53 @@ class BlogViewControllerTest {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
     }
 
+    /**
+     * 다른 테스트가 게시물과 사용자를 지울 수 있도록 댓글과 댓글 작성자를 정리합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        userRepository.deleteAll(authors);
+    }
 
-}
\ No newline at end of file
+    /**
+     * <ul>
+     *     <li> Given : 작성자 10명이 댓글 20개를 단 게시물을 저장합니다.</li>
+     *     <li> When : 게시물 상세 페이지를 요청합니다.</li>
+     *     <li> Then : 댓글 수, 작성자 수와 관계없이 게시물(본문 포함), 댓글 페이지, 작성자 일괄 조회
+     *     3개 이하의 SQL 만 실행되는지 확인합니다.</li>
+     * </ul>
+     */
+    @DisplayName("getArticle: 게시물 상세 페이지는 댓글 작성자 수와 관계없이 일정한 수의 쿼리로 조회된다.")
+    @Test
+    void getArticleWithoutNPlusOne() throws Exception {
+        // given
+        for (int i = 0; i < 10; i++) {
+            authors.add(userRepository.save(User.builder()
+                    .email("view-comment-author" + i + "@gmail.com")
+                    .password("test")
+                    .build()));
+        }
+        Article article = blogRepository.save(Article.builder()
+                .author("view-author@gmail.com")
+                .title("title")
+                .content("content")
+                .build());
+        for (int i = 0; i < 20; i++) {
+            commentRepository.save(Comment.builder()
+                    .article(article)
+                    .author(authors.get(i % authors.size()))
+                    .content("comment " + i)
+                    .build());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,131 @@
+package com.adam9e96.BlogStudy.controller;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.domain.User;
+import com.adam9e96.BlogStudy.dto.AddCommentRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.repository.CommentRepository;
+import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CommentApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
+        user = userRepository.save(User.builder()
+                .email("comment-user@gmail.com")
+                .password("test")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities()));
+        article = blogRepository.save(Article.builder()
+                .author(user.getUsername())
+                .title("title")
+                .content("content")
+                .build());
+    }
+
+    /**
+     * 다른 테스트가 게시물과 사용자를 지울 수 있도록 댓글과 사용자를 정리합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAll();
+        blogRepository.delete(article);
+        userRepository.delete(user);
+    }
+
+    @DisplayName("addComment: 댓글을 추가하면 게시물의 댓글 수가 함께 증가한다.")
+    @Test
+    void addComment() throws Exception {
+        // given
+        String requestBody = objectMapper.writeValueAsString(new AddCommentRequest("first comment"));
+
+        // when
+        mockMvc.perform(post("/api/articles/{id}/comments", article.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .principal(() -> user.getUsername())
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.content").value("first comment"))
+                .andExpect(jsonPath("$.author").value(user.getEmail()));
+
+        // then
+        assertThat(blogRepository.findById(article.getId()).get().getCommentCount()).isEqualTo(1);
+    }
+
+    @DisplayName("findComments: 댓글을 커서 다음부터 페이지 단위로 조회한다.")
+    @Test
+    void findCommentsByCursor() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/articles/{id}/comments", article.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .principal(() -> user.getUsername())
+                            .content(objectMapper.writeValueAsString(new AddCommentRequest("comment " + i))))
+                    .andExpect(status().isCreated());
+        }
+
+        // when
+        String firstPage = mockMvc.perform(get("/api/articles/{id}/comments", article.getId())
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(3))
+                .andExpect(jsonPath("$.comments[0].content").value("comment 0"))
+                .andReturn().getResponse().getContentAsString();
+        long nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asLong();
+
+        // then
+        mockMvc.perform(get("/api/articles/{id}/comments", article.getId())
+                        .param("after", String.valueOf(nextCursor))
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2))
+                .andExpect(jsonPath("$.comments[0].content").value("comment 3"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+}
@@ -3,11 +3,13 @@ package com.adam9e96.BlogStudy.controller;
 
 import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
 import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.config.jwt.TokenProvider;
 import com.adam9e96.BlogStudy.domain.RefreshToken;
 import com.adam9e96.BlogStudy.domain.User;
 import com.adam9e96.BlogStudy.dto.CreateAccessTokenRequest;
 import com.adam9e96.BlogStudy.repository.RefreshTokenRepository;
 import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.service.TokenRevocationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,10 +23,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MockMvcBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -58,6 +65,12 @@ class TokenApiControllerTest {
     UserRepository userRepository;
     @Autowired
     RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    TokenProvider tokenProvider;
+    @Autowired
+    TokenRevocationService tokenRevocationService;
+    @Autowired
+    TransactionTemplate transactionTemplate;
 
     @BeforeEach
     public void mockMvcSetUp() {
@@ -100,4 +113,46 @@ class TokenApiControllerTest {
                 .andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
 
-}
\ No newline at end of file
+    @DisplayName("revokeAccessToken: 폐기한 액세스 토큰은 만료 전이라도 유효하지 않고, 다시 읽어도 폐기 상태가 유지된다.")
+    @Test
+    public void revokeAccessToken() throws Exception {
+        // given
+        User testUser = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+        String revoked = tokenProvider.generateToken(testUser, Duration.ofHours(2));
+        String other = tokenProvider.generateToken(testUser, Duration.ofHours(2));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(delete("/api/token")
+                .header("Authorization", "Bearer " + revoked));
+
+        // then
+        resultActions.andExpect(status().isNoContent());
+        assertThat(tokenProvider.validToken(revoked)).isFalse();
+        assertThat(tokenProvider.validToken(other)).isTrue();
+
+        tokenRevocationService.reload(); // 재시작처럼 데이터베이스에서 다시 읽음
+        assertThat(tokenProvider.validToken(revoked)).isFalse();
+        assertThat(tokenProvider.validToken(other)).isTrue();
+    }
+
+    @DisplayName("revoke: 트랜잭션이 롤백된 폐기는 다음에 다시 읽을 때까지만 유지된다.")
+    @Test
+    public void rolledBackRevocationLastsUntilReload() {
+        // given
+        String jti = "rolled-back-jti";
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenRevocationService.revoke(jti, Instant.now().plus(Duration.ofHours(1)));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(jti)).isTrue();
+        tokenRevocationService.reload();
+        assertThat(tokenRevocationService.isRevoked(jti)).isFalse();
+    }
+}
@@ -0,0 +1,62 @@
+package com.adam9e96.BlogStudy.dataset;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import com.adam9e96.BlogStudy.service.TokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "blog.dataset.enabled=true",
+        "blog.dataset.users=20",
+        "blog.dataset.articles=250",
+        "blog.dataset.batch-size=100",
+        "blog.dataset.credentials-file=build/tmp/dataset-test/credentials.csv"
+})
+class DatasetGeneratorTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    TokenService tokenService;
+
+    @Autowired
+    DatasetProperties properties;
+
+    @DisplayName("사용자, 게시물, 리프레시 토큰을 만들고 부하 테스트용 파일을 기록한다.")
+    @Test
+    void generatesDataset() throws Exception {
+        // given
+        List<String> lines = Files.readAllLines(Path.of(properties.getCredentialsFile()), StandardCharsets.UTF_8);
+        String[] header = lines.get(0).split(",");
+        long minId = Long.parseLong(header[1]);
+        long maxId = Long.parseLong(header[2]);
+
+        // when
+        Article article = blogService.findById(maxId);
+        String accessToken = tokenService.createNewAccessToken(lines.get(1).split(",", 2)[1]);
+
+        // then
+        assertThat(lines).hasSize(1 + 20);
+        assertThat(maxId - minId + 1).isEqualTo(250);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE 'dataset-user%'", Long.class)).isEqualTo(20);
+        assertThat(article.getContent()).isNotBlank();
+        assertThat(article.getContentHtml()).isNotBlank();
+        assertThat(accessToken).isNotBlank();
+    }
+}
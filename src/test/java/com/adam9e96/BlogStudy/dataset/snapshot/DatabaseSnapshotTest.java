@@ -0,0 +1,105 @@
+package com.adam9e96.BlogStudy.dataset.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("restore(): 내보낸 스냅샷을 빈 데이터베이스에 불러오면 행, 바이너리, NULL 과 IDENTITY 다음 값이 그대로 복원된다.")
+    @Test
+    void exportAndRestore() throws Exception {
+        // given
+        Path file = tempDir.resolve("snapshot.zip");
+        try (Connection source = newDatabase()) {
+            try (Statement statement = source.createStatement()) {
+                statement.execute("CREATE TABLE parent (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "name VARCHAR(100), data VARBINARY(100), note VARCHAR(100))");
+                statement.execute("CREATE TABLE child (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "parent_id BIGINT REFERENCES parent(id), created_at TIMESTAMP)");
+            }
+            try (PreparedStatement insert = source.prepareStatement(
+                    "INSERT INTO parent (name, data, note) VALUES (?, ?, ?)")) {
+                insert.setString(1, "첫 번째, \"인용\"\n줄바꿈");
+                insert.setBytes(2, new byte[]{0, (byte) 0xFF, 16});
+                insert.setString(3, "");
+                insert.executeUpdate();
+                insert.setString(1, "두 번째");
+                insert.setBytes(2, null);
+                insert.setString(3, null);
+                insert.executeUpdate();
+            }
+            try (Statement statement = source.createStatement()) {
+                statement.execute("INSERT INTO child (parent_id, created_at) VALUES (2, TIMESTAMP '2024-01-02 03:04:05.678')");
+            }
+
+            // when
+            DatabaseSnapshot.export(source, file, "hash");
+        }
+
+        try (Connection target = newDatabase()) {
+            DatabaseSnapshot.restore(target, file);
+
+            // then
+            try (Statement statement = target.createStatement()) {
+                try (ResultSet rs = statement.executeQuery("SELECT name, data, note FROM parent ORDER BY id")) {
+                    assertThat(rs.next()).isTrue();
+                    assertThat(rs.getString(1)).isEqualTo("첫 번째, \"인용\"\n줄바꿈");
+                    assertThat(rs.getBytes(2)).containsExactly(0, 0xFF, 16);
+                    assertThat(rs.getString(3)).isEmpty();
+                    assertThat(rs.next()).isTrue();
+                    assertThat(rs.getBytes(2)).isNull();
+                    assertThat(rs.getString(3)).isNull();
+                }
+                try (ResultSet rs = statement.executeQuery("SELECT parent_id, created_at FROM child")) {
+                    assertThat(rs.next()).isTrue();
+                    assertThat(rs.getLong(1)).isEqualTo(2L);
+                    assertThat(rs.getTimestamp(2).toString()).isEqualTo("2024-01-02 03:04:05.678");
+                }
+                statement.executeUpdate("INSERT INTO parent (name) VALUES ('세 번째')");
+                try (ResultSet rs = statement.executeQuery("SELECT MAX(id) FROM parent")) {
+                    rs.next();
+                    assertThat(rs.getLong(1)).isEqualTo(3L);
+                }
+            }
+        }
+        assertThat(DatabaseSnapshot.readManifest(file).getProperty(DatabaseSnapshot.SCHEMA_HASH)).isEqualTo("hash");
+    }
+
+    @DisplayName("restore(): 테이블이 이미 있는 데이터베이스에는 불러오지 않는다.")
+    @Test
+    void restoreIntoNonEmptyDatabase() throws Exception {
+        // given
+        Path file = tempDir.resolve("snapshot.zip");
+        try (Connection source = newDatabase()) {
+            source.createStatement().execute("CREATE TABLE item (id BIGINT PRIMARY KEY)");
+            DatabaseSnapshot.export(source, file, "hash");
+        }
+
+        try (Connection target = newDatabase()) {
+            target.createStatement().execute("CREATE TABLE other (id BIGINT PRIMARY KEY)");
+
+            // when, then
+            assertThatThrownBy(() -> DatabaseSnapshot.restore(target, file))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private Connection newDatabase() throws Exception {
+        return DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID(), "sa", "");
+    }
+}
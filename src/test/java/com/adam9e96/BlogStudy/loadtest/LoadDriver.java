@@ -0,0 +1,273 @@
+package com.adam9e96.BlogStudy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬에서 실행 중인 애플리케이션에 섞인 작업(토큰 재발급, 목록, 상세, 작성, 수정)을 보내고
+ * 작업별 처리량과 지연 시간 백분위수를 보고하는 부하 테스트 드라이버.
+ *
+ * <p>
+ * 먼저 {@code blog.dataset.enabled=true}로 애플리케이션을 띄워 데이터셋과 사용자 파일을 만든 뒤 실행합니다.
+ * 모든 가상 사용자가 같은 IP 에서 요청하므로 속도 제한({@code blog.rate-limit})은 끄고 실행합니다.
+ * </p>
+ * <pre>
+ * ./gradlew bootRun --args='--blog.dataset.enabled=true --blog.rate-limit.enabled=false'
+ * ./gradlew loadTest -Pload.concurrency=200 -Pload.duration=60 -Pload.mix=refresh=5,list=35,detail=45,create=10,update=5
+ * </pre>
+ *
+ * <p>
+ * 가상 사용자마다 가상 스레드 하나가 리프레시 토큰으로 액세스 토큰을 받은 뒤, 비율에 따라 작업을 고르며 반복합니다.
+ * 수정은 그 가상 사용자가 작성한 게시물에 대해서만 합니다. (작성한 게시물이 없으면 작성으로 대신함)
+ * </p>
+ */
+public class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    enum Operation {REFRESH, LIST, DETAIL, CREATE, UPDATE}
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final Map<Operation, Integer> mix;
+    private final long minArticleId;
+    private final long maxArticleId;
+    private final List<String[]> credentials;
+
+    LoadDriver(String baseUrl, Map<Operation, Integer> mix, Path credentialsFile) throws IOException {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        List<String> lines = Files.readAllLines(credentialsFile, StandardCharsets.UTF_8);
+        String[] header = lines.get(0).split(",");
+        this.minArticleId = Long.parseLong(header[1]);
+        this.maxArticleId = Long.parseLong(header[2]);
+        this.credentials = lines.subList(1, lines.size()).stream().map(line -> line.split(",", 2)).toList();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver(
+                System.getProperty("load.baseUrl", "http://localhost:8080"),
+                parseMix(System.getProperty("load.mix", "refresh=5,list=35,detail=45,create=10,update=5")),
+                Path.of(System.getProperty("load.credentials", "build/dataset/credentials.csv")));
+        int concurrency = Integer.parseInt(System.getProperty("load.concurrency", "200"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(System.getProperty("load.duration", "60")));
+        driver.report(driver.run(concurrency, duration), duration);
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    Map<Operation, Recorder> run(int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Operation, Recorder>>> futures = new ArrayList<>();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                String[] credential = credentials.get(i % credentials.size());
+                futures.add(users.submit(() -> new VirtualUser(credential[0], credential[1]).run(deadline)));
+            }
+        }
+        Map<Operation, Recorder> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Recorder>> future : futures) {
+            future.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, key -> new Recorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    void report(Map<Operation, Recorder> results, Duration duration) {
+        log.info(String.format("%-8s | %8s | %6s | %8s | %8s | %8s | %8s | %8s",
+                "op", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        results.forEach((operation, recorder) -> {
+            long[] sorted = recorder.sorted();
+            log.info(String.format("%-8s | %8d | %6d | %8.1f | %8.1f | %8.1f | %8.1f | %8.1f",
+                    operation, sorted.length, recorder.errors, sorted.length / (double) duration.toSeconds(),
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0)));
+        });
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.max(0, Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1))] / 1e6;
+    }
+
+    /**
+     * 가상 사용자 하나. 자신의 액세스 토큰과 작성한 게시물 목록을 가집니다.
+     */
+    private final class VirtualUser {
+
+        private final String email;
+        private final String refreshToken;
+        private final List<Long> ownArticles = new ArrayList<>();
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private String accessToken;
+
+        VirtualUser(String email, String refreshToken) {
+            this.email = email;
+            this.refreshToken = refreshToken;
+        }
+
+        Map<Operation, Recorder> run(long deadline) {
+            execute(Operation.REFRESH);
+            while (System.nanoTime() < deadline) {
+                Operation operation = pick();
+                if (operation == Operation.UPDATE && ownArticles.isEmpty()) {
+                    operation = Operation.CREATE;
+                }
+                execute(operation);
+            }
+            return recorders;
+        }
+
+        private Operation pick() {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            int value = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+                value -= entry.getValue();
+                if (value < 0) {
+                    return entry.getKey();
+                }
+            }
+            return Operation.LIST;
+        }
+
+        private void execute(Operation operation) {
+            Recorder recorder = recorders.computeIfAbsent(operation, key -> new Recorder());
+            long started = System.nanoTime();
+            boolean ok;
+            try {
+                ok = switch (operation) {
+                    case REFRESH -> refresh();
+                    case LIST -> send(get("/api/users/" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+                            + "/articles?size=20")).statusCode() == 200;
+                    case DETAIL -> send(get("/api/articles/"
+                            + ThreadLocalRandom.current().nextLong(minArticleId, maxArticleId + 1))).statusCode() == 200;
+                    case CREATE -> create();
+                    case UPDATE -> send(authorized("/api/articles/"
+                            + ownArticles.get(ThreadLocalRandom.current().nextInt(ownArticles.size())))
+                            .PUT(json(Map.of("title", "updated", "content", "updated content"))).build())
+                            .statusCode() == 200;
+                };
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ok = false;
+            }
+            recorder.record(System.nanoTime() - started, ok);
+        }
+
+        private boolean refresh() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/token"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("refreshToken", refreshToken)))
+                    .build());
+            if (response.statusCode() != 201) {
+                return false;
+            }
+            accessToken = objectMapper.readTree(response.body()).get("accessToken").asText();
+            return true;
+        }
+
+        private boolean create() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(authorized("/api/articles")
+                    .POST(json(Map.of("title", "load test", "content", "## load test\n\ncontent", "tags", List.of("load"))))
+                    .build());
+            if (response.statusCode() != 201) {
+                return false;
+            }
+            JsonNode id = objectMapper.readTree(response.body()).get("id");
+            if (id != null) {
+                ownArticles.add(id.asLong());
+            }
+            return true;
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header("Content-Type", "application/json");
+        }
+
+        private HttpRequest.BodyPublisher json(Object body) throws IOException {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    /**
+     * 작업 하나의 지연 시간(ns) 기록. 가상 사용자마다 따로 쓰고 끝난 뒤 합칩니다.
+     */
+    static final class Recorder {
+
+        private long[] latencies = new long[256];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.adam9e96.BlogStudy.reactive;
+
+import com.adam9e96.BlogStudy.config.jwt.JwtFactory;
+import com.adam9e96.BlogStudy.config.jwt.JwtProperties;
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.AddArticleRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.service.BlogServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "blog.reactive-api.enabled=true",
+        "blog.reactive-api.port=0",
+        "spring.datasource.url=jdbc:h2:mem:reactive-api;DB_CLOSE_DELAY=-1",
+        "blog.reactive-api.url=r2dbc:pool:h2:mem:///reactive-api?options=DB_CLOSE_DELAY=-1"
+})
+class ReactiveArticleApiTest {
+
+    @Autowired
+    ReactiveApiServer reactiveApiServer;
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    WebTestClient client;
+
+    String token;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveApiServer.getPort()).build();
+        token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+    }
+
+    @DisplayName("토큰이 없으면 401 을 반환한다.")
+    @Test
+    void unauthorizedWithoutToken() {
+        client.get().uri("/api/articles")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @DisplayName("게시물 목록과 상세를 JPA 로 저장한 데이터에서 읽는다.")
+    @Test
+    void listAndDetail() {
+        // given
+        Article saved = blogService.save(new AddArticleRequest("title", "content", List.of("java")), "user");
+        blogService.save(new AddArticleRequest("second", "content2"), "user");
+
+        // when & then
+        client.get().uri("/api/articles?size=10")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("title")
+                .jsonPath("$[0].tags[0]").isEqualTo("java");
+
+        client.get().uri("/api/articles/" + saved.getId())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content").isEqualTo("content");
+
+        client.get().uri("/api/articles/" + (saved.getId() + 100))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @DisplayName("스트리밍 조회는 게시물을 NDJSON 한 줄씩 보낸다.")
+    @Test
+    void stream() {
+        // given
+        for (int i = 0; i < 150; i++) {
+            blogService.save(new AddArticleRequest("title " + i, "content"), "user");
+        }
+
+        // when
+        List<String> lines = client.get().uri("/api/articles/stream")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // then
+        assertThat(lines).hasSize(150);
+        assertThat(lines.get(0)).contains("\"title\":\"title 0\"");
+    }
+}
@@ -0,0 +1,77 @@
+package com.adam9e96.BlogStudy.repository;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BlogRepositoryTest {
+
+    private static final String AUTHOR = "keyset-author@gmail.com";
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final List<Article> saved = new ArrayList<>();
+
+    /**
+     * 이 테스트에서 저장한 게시물만 지웁니다. (data.sql 로 넣은 게시물은 그대로 둠)
+     */
+    @AfterEach
+    void cleanUp() {
+        blogRepository.deleteAll(saved);
+    }
+
+    @DisplayName("작성자별 최신순 조회는 (author, created_at, id) 인덱스를 사용한다.")
+    @Test
+    void authorQueryUsesIndex() {
+        // when
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id, title FROM article WHERE author = '" + AUTHOR + "' "
+                        + "AND (created_at < TIMESTAMP '2030-01-01 00:00:00' "
+                        + "OR (created_at = TIMESTAMP '2030-01-01 00:00:00' AND id < 100)) "
+                        + "ORDER BY created_at DESC, id DESC LIMIT 20", String.class));
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_article_author_created_at_id");
+    }
+
+    @DisplayName("작성자의 게시물을 (createdAt, id) 커서 다음부터 최신순으로 조회한다.")
+    @Test
+    void findPageByAuthorBefore() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            saved.add(blogRepository.save(Article.builder()
+                    .author(AUTHOR)
+                    .title("title " + i)
+                    .content("content " + i)
+                    .build()));
+        }
+        saved.add(blogRepository.save(Article.builder().author("other-" + AUTHOR).title("other").content("other").build()));
+
+        // when
+        List<Article> first = blogRepository.findFirstPageByAuthor(AUTHOR, Limit.of(3));
+        Article last = first.get(first.size() - 1);
+        List<Article> second = blogRepository.findPageByAuthorBefore(
+                AUTHOR, last.getCreatedAt(), last.getId(), Limit.of(3));
+
+        // then
+        assertThat(first).extracting(Article::getId)
+                .containsExactly(saved.get(4).getId(), saved.get(3).getId(), saved.get(2).getId());
+        assertThat(second).extracting(Article::getId)
+                .containsExactly(saved.get(1).getId(), saved.get(0).getId());
+    }
+}
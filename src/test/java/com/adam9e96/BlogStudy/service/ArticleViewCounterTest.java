@@ -0,0 +1,121 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ArticleViewCounterTest {
+
+    @Autowired
+    ArticleViewCounter viewCounter;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("flush(): 여러 스레드에서 증가시킨 조회수가 유실 없이 한 번에 반영된다.")
+    @Test
+    void flushConcurrentIncrements() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+        int threads = 8;
+        int viewsPerThread = 1_000;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        viewCounter.increment(article);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        viewCounter.flush();
+
+        // then
+        Long stored = jdbcTemplate.queryForObject(
+                "SELECT view_count FROM article WHERE id = ?", Long.class, article.getId());
+        assertThat(stored).isEqualTo(threads * viewsPerThread);
+
+        Article reloaded = blogRepository.findById(article.getId()).get();
+        assertThat(viewCounter.currentCount(reloaded)).isEqualTo(threads * viewsPerThread);
+    }
+
+    @DisplayName("currentCount(): 아직 반영되지 않은 증가분을 포함한 조회수를 반환한다.")
+    @Test
+    void currentCountIncludesPending() {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+
+        // when
+        viewCounter.increment(article);
+        long viewCount = viewCounter.increment(article);
+
+        // then
+        assertThat(viewCount).isEqualTo(2);
+    }
+
+    @DisplayName("flush(): 조회가 없는 주기가 이어진 카운터는 반영된 조회수를 잃지 않고 제거된다.")
+    @Test
+    void flushEvictsIdleCounters() {
+        // given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+        List<Long> evicted = new ArrayList<>();
+        viewCounter.addEvictionListener(evicted::add);
+        viewCounter.increment(article);
+        viewCounter.flush();
+
+        // when
+        for (int i = 0; i < ArticleViewCounter.IDLE_FLUSHES_BEFORE_EVICT; i++) {
+            viewCounter.flush();
+        }
+
+        // then
+        assertThat(evicted).contains(article.getId());
+        assertThat(viewCounter.flushedCount(article.getId())).isZero();
+        Article reloaded = blogRepository.findById(article.getId()).get();
+        assertThat(reloaded.getViewCount()).isEqualTo(1);
+        assertThat(viewCounter.currentCount(reloaded)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.adam9e96.BlogStudy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer markdownRenderer = new MarkdownRenderer();
+
+    @DisplayName("render(): 마크다운을 HTML 로 렌더링한다.")
+    @Test
+    void render() {
+        // given
+        String markdown = "# 제목\n\n**굵게** 쓴 본문";
+
+        // when
+        String html = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(html).contains("<h1>제목</h1>");
+        assertThat(html).contains("<strong>굵게</strong>");
+    }
+
+    @DisplayName("render(): 원문의 HTML 태그와 위험한 URL 은 제거된다.")
+    @Test
+    void renderSanitizesHtml() {
+        // given
+        String markdown = "<script>alert('xss')</script>\n\n[링크](javascript:alert(1))";
+
+        // when
+        String html = markdownRenderer.render(markdown);
+
+        // then
+        assertThat(html).doesNotContain("<script>");
+        assertThat(html).doesNotContain("javascript:");
+    }
+}
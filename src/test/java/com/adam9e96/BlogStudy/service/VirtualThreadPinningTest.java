@@ -0,0 +1,144 @@
+package com.adam9e96.BlogStudy.service;
+
+import com.adam9e96.BlogStudy.domain.Article;
+import com.adam9e96.BlogStudy.dto.AddUserRequest;
+import com.adam9e96.BlogStudy.repository.BlogRepository;
+import com.adam9e96.BlogStudy.repository.UserRepository;
+import com.adam9e96.BlogStudy.support.VirtualThreadPinningExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 가상 스레드 실행 모드에서 주요 경로가 캐리어 스레드를 고정(pinning)하지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ExtendWith(VirtualThreadPinningExtension.class)
+class VirtualThreadPinningTest {
+
+    private static final int CONCURRENCY = 200;
+
+    @Autowired
+    ArticleViewCounter viewCounter;
+
+    @Autowired
+    BlogServiceImpl blogService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    WebApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        blogRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("조회수 증가와 반영(JDBC)이 동시에 실행되어도 pinning 이 없다.")
+    @Test
+    void viewCounterFlush() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().author("user").title("title").content("content").build());
+
+        // when
+        runConcurrently(i -> {
+            viewCounter.increment(article);
+            viewCounter.flush();
+        });
+
+        // then
+        viewCounter.flush();
+        assertThat(blogRepository.findById(article.getId()).orElseThrow().getViewCount()).isEqualTo(CONCURRENCY);
+    }
+
+    @DisplayName("게시물 목록 조회(JPA)가 동시에 실행되어도 pinning 이 없다.")
+    @Test
+    void findAll() throws Exception {
+        // given
+        Article article = blogRepository.save(Article.builder().author("user").title("title").content("content").build());
+
+        // when & then
+        runConcurrently(i -> assertThat(blogService.findAll()).extracting(Article::getId).contains(article.getId()));
+    }
+
+    @DisplayName("작성자별 게시물 목록 조회(게시물 수 캐시 + JPA)가 동시에 실행되어도 pinning 이 없다.")
+    @Test
+    void findArticlesByAuthor() throws Exception {
+        // given
+        int authors = 20;
+        for (int i = 0; i < authors; i++) {
+            blogRepository.save(Article.builder().author("vt" + i + "@gmail.com").title("title").content("content").build());
+        }
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        // when & then
+        runConcurrently(i -> mockMvc.perform(get("/api/users/{author}/articles", "vt" + (i % authors) + "@gmail.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles.length()").value(1)));
+    }
+
+    @DisplayName("회원 가입(BCrypt)이 동시에 실행되어도 pinning 이 없다.")
+    @Test
+    void signUp() throws Exception {
+        // when
+        runConcurrently(i -> {
+            AddUserRequest request = new AddUserRequest();
+            request.setEmail("vt" + i + "@gmail.com");
+            request.setPassword("password");
+            userService.save(request);
+        }, 20);
+
+        // then
+        assertThat(userRepository.count()).isEqualTo(20);
+    }
+
+    private void runConcurrently(Task task) throws Exception {
+        runConcurrently(task, CONCURRENCY);
+    }
+
+    private void runConcurrently(Task task, int count) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int index) throws Exception;
+    }
+}
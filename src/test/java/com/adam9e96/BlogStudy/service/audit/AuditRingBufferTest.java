@@ -0,0 +1,114 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @DisplayName("offer(): 크기를 2 의 거듭제곱으로 올림하고, 가득 차면 넣지 않는다.")
+    @Test
+    void rejectWhenFull() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+
+        // when
+        List<Boolean> offered = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            offered.add(buffer.offer(i));
+        }
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(offered).containsExactly(true, true, true, true, false);
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+
+    @DisplayName("offer(): 크기가 1 이면 2 칸으로 올림하여, 꺼내지 않은 값을 덮어쓰지 않는다.")
+    @Test
+    void roundUpSingleSlot() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1);
+
+        // when
+        List<Boolean> offered = List.of(buffer.offer(0), buffer.offer(1), buffer.offer(2));
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 10);
+        buffer.offer(3);
+        buffer.drainTo(drained, 10);
+
+        // then
+        assertThat(buffer.capacity()).isEqualTo(2);
+        assertThat(offered).containsExactly(true, true, false);
+        assertThat(drained).containsExactly(0, 1, 3);
+    }
+
+    @DisplayName("drainTo(): 넣은 순서대로 최대 max 개를 꺼내고, 꺼낸 자리에 다시 넣을 수 있다.")
+    @Test
+    void drainInOrder() {
+        // given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i);
+        }
+
+        // when
+        List<Integer> first = new ArrayList<>();
+        int drained = buffer.drainTo(first, 3);
+        buffer.offer(4);
+        buffer.offer(5);
+        List<Integer> rest = new ArrayList<>();
+        buffer.drainTo(rest, 10);
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        assertThat(first).containsExactly(0, 1, 2);
+        assertThat(rest).containsExactly(3, 4, 5);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @DisplayName("offer(): 여러 스레드가 동시에 넣어도 받아들인 값은 빠짐없이 한 번씩 꺼낸다.")
+    @Test
+    void concurrentProducers() throws Exception {
+        // given
+        int producers = 8;
+        int perProducer = 10_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        List<Integer> drained = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+            while (drained.size() < producers * perProducer) {
+                buffer.drainTo(drained, 256);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        Set<Integer> unique = new HashSet<>(drained);
+        assertThat(drained).hasSize(producers * perProducer);
+        assertThat(unique).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,158 @@
+package com.adam9e96.BlogStudy.service.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginAuditLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @DisplayName("drain(): 쌓인 이벤트를 batchSize 개씩 배치 INSERT 로 저장한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainInBatches() {
+        // given
+        LoginAuditProperties properties = properties(16, LoginAuditProperties.OverflowPolicy.DROP);
+        properties.setBatchSize(4);
+        LoginAuditLog auditLog = new LoginAuditLog(jdbcTemplate, properties, meterRegistry);
+        for (int i = 0; i < 6; i++) {
+            auditLog.publish(event(i));
+        }
+
+        // when
+        int first = auditLog.drain();
+        int second = auditLog.drain();
+
+        // then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(2);
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(LoginAuditLog.INSERT_SQL), batches.capture());
+        assertThat(batches.getAllValues().get(0)).hasSize(4);
+        assertThat(batches.getAllValues().get(0).get(0))
+                .startsWith("LOGIN", 0L, "user0@gmail.com", "google", "10.0.0.1");
+        assertThat(meterRegistry.get("blog.login-audit.written").counter().count()).isEqualTo(6);
+        assertThat(meterRegistry.get("blog.login-audit.queue.depth").gauge().value()).isZero();
+    }
+
+    @DisplayName("publish(): DROP 이면 버퍼가 가득 찼을 때 기다리지 않고 버린 수를 센다.")
+    @Test
+    void dropOnOverflow() {
+        // given
+        LoginAuditLog auditLog = new LoginAuditLog(jdbcTemplate,
+                properties(2, LoginAuditProperties.OverflowPolicy.DROP), meterRegistry);
+
+        // when
+        boolean first = auditLog.publish(event(1));
+        boolean second = auditLog.publish(event(2));
+        boolean third = auditLog.publish(event(3));
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(true, true, false);
+        assertThat(meterRegistry.get("blog.login-audit.dropped").tag("reason", "overflow").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("blog.login-audit.queue.depth").gauge().value()).isEqualTo(2);
+    }
+
+    @DisplayName("publish(): BLOCK 이면 자리가 날 때까지 기다렸다가 넣고, blockTimeout 이 지나면 버린다.")
+    @Test
+    void blockOnOverflow() throws Exception {
+        // given
+        LoginAuditProperties properties = properties(2, LoginAuditProperties.OverflowPolicy.BLOCK);
+        properties.setBlockTimeout(Duration.ofSeconds(5));
+        properties.setBatchSize(2); // drain() 이 기다리던 이벤트까지 꺼내지 않도록 함
+        LoginAuditLog auditLog = new LoginAuditLog(jdbcTemplate, properties, meterRegistry);
+        auditLog.publish(event(1));
+        auditLog.publish(event(2));
+
+        // when
+        boolean accepted;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Boolean> blocked = executor.submit(() -> auditLog.publish(event(3)));
+            Thread.sleep(50);
+            assertThat(blocked.isDone()).isFalse();
+            auditLog.drain();
+            accepted = blocked.get();
+        }
+        auditLog.publish(event(4));
+        properties.setBlockTimeout(Duration.ofMillis(20));
+        boolean timedOut = auditLog.publish(event(5));
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(timedOut).isFalse();
+        assertThat(meterRegistry.get("blog.login-audit.dropped").tag("reason", "overflow").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("drain(): 저장에 실패한 배치는 버리고 버린 수를 센다.")
+    @Test
+    void dropOnWriteFailure() {
+        // given
+        when(jdbcTemplate.batchUpdate(eq(LoginAuditLog.INSERT_SQL), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        LoginAuditLog auditLog = new LoginAuditLog(jdbcTemplate,
+                properties(8, LoginAuditProperties.OverflowPolicy.DROP), meterRegistry);
+        auditLog.publish(event(1));
+        auditLog.publish(event(2));
+
+        // when
+        auditLog.drain();
+
+        // then
+        assertThat(meterRegistry.get("blog.login-audit.dropped").tag("reason", "write-failure").counter().count())
+                .isEqualTo(2);
+        assertThat(auditLog.drain()).isZero();
+    }
+
+    @DisplayName("stop(): 저장 스레드를 멈추고 남은 이벤트를 모두 저장한다.")
+    @Test
+    void flushOnStop() throws Exception {
+        // given
+        LoginAuditProperties properties = properties(64, LoginAuditProperties.OverflowPolicy.DROP);
+        properties.setPollInterval(Duration.ofSeconds(10));
+        LoginAuditLog auditLog = new LoginAuditLog(jdbcTemplate, properties, meterRegistry);
+        auditLog.start();
+        for (int i = 0; i < 10; i++) {
+            auditLog.publish(event(i));
+        }
+
+        // when
+        auditLog.stop();
+
+        // then
+        assertThat(meterRegistry.get("blog.login-audit.written").counter().count()).isEqualTo(10);
+    }
+
+    private LoginAuditProperties properties(int capacity, LoginAuditProperties.OverflowPolicy policy) {
+        LoginAuditProperties properties = new LoginAuditProperties();
+        properties.setCapacity(capacity);
+        properties.setOverflowPolicy(policy);
+        return properties;
+    }
+
+    private LoginAuditEvent event(long userId) {
+        return new LoginAuditEvent(LoginAuditEvent.Type.LOGIN, userId, "user" + userId + "@gmail.com", "google",
+                "10.0.0.1", Instant.now());
+    }
+}
@@ -0,0 +1,162 @@
+package com.adam9e96.BlogStudy.service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapSlabCacheTest {
+
+    private static final long TTL = TimeUnit.SECONDS.toNanos(30);
+
+    @DisplayName("read(): 저장한 바이트와 함께 보관한 숫자를 그대로 읽는다.")
+    @Test
+    void putAndRead() {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(2, 64, TTL);
+        byte[] value = {1, 2, 3, 4, 5};
+
+        // when
+        boolean stored = cache.put(1L, 10L, 42L, 3, value, System.nanoTime());
+        byte[] target = new byte[16];
+        OffHeapSlabCache.Slot slot = cache.read(1L, target);
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(slot).isNotNull();
+        assertThat(slot.attachment()).isEqualTo(42L);
+        assertThat(slot.marker()).isEqualTo(3);
+        assertThat(slot.length()).isEqualTo(value.length);
+        assertThat(target).startsWith(value);
+    }
+
+    @DisplayName("put(): 슬랩을 한 바퀴 돌면 가장 오래된 슬랩의 값이 제거된다.")
+    @Test
+    void evictOldestSlab() {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(2, 10, TTL);
+        long now = System.nanoTime();
+        cache.put(1L, 1L, 0L, 0, new byte[8], now); // 슬랩 0
+        cache.put(2L, 1L, 0L, 0, new byte[8], now); // 슬랩 1
+
+        // when
+        cache.put(3L, 1L, 0L, 0, new byte[8], now); // 슬랩 0 을 다시 씀
+
+        // then
+        byte[] target = new byte[16];
+        assertThat(cache.read(1L, target)).isNull();
+        assertThat(cache.read(2L, target)).isNotNull();
+        assertThat(cache.read(3L, target)).isNotNull();
+        assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    @DisplayName("put(): 무효화되기 전에 읽기 시작한 값과 이전 버전의 값은 저장하지 않는다.")
+    @Test
+    void rejectStalePut() {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(2, 64, TTL);
+        long loadedBeforeInvalidation = System.nanoTime();
+        cache.put(1L, 5L, 0L, 0, new byte[]{5}, loadedBeforeInvalidation);
+
+        // when
+        cache.invalidate(1L);
+        boolean staleStored = cache.put(1L, 5L, 0L, 0, new byte[]{5}, loadedBeforeInvalidation);
+        boolean freshStored = cache.put(1L, 6L, 0L, 0, new byte[]{6}, System.nanoTime());
+        boolean olderVersionStored = cache.put(1L, 5L, 0L, 0, new byte[]{5}, System.nanoTime());
+
+        // then
+        assertThat(staleStored).isFalse();
+        assertThat(freshStored).isTrue();
+        assertThat(olderVersionStored).isFalse();
+        assertThat(cache.read(1L, new byte[4]).version()).isEqualTo(6L);
+    }
+
+    @DisplayName("read(): 보관 시간이 지난 값은 읽지 않는다.")
+    @Test
+    void expire() {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(1, 64, 1);
+        cache.put(1L, 1L, 0L, 0, new byte[]{1}, System.nanoTime());
+
+        // when
+        OffHeapSlabCache.Slot slot = cache.read(1L, new byte[4]);
+
+        // then
+        assertThat(slot).isNull();
+    }
+
+    @DisplayName("put(): 슬랩보다 큰 값은 저장하지 않는다.")
+    @Test
+    void rejectOversizedValue() {
+        // given
+        OffHeapSlabCache cache = new OffHeapSlabCache(2, 8, TTL);
+
+        // when
+        boolean stored = cache.put(1L, 1L, 0L, 0, new byte[9], System.nanoTime());
+
+        // then
+        assertThat(stored).isFalse();
+        assertThat(cache.lengthOf(1L)).isEqualTo(-1);
+    }
+
+    @DisplayName("read(): 읽는 도중 슬랩이 다시 쓰여도 섞인 값을 반환하지 않는다.")
+    @Test
+    void readWhileOverwriting() throws Exception {
+        // given: 값을 쓸 때마다 다음 슬랩으로 넘어가도록 슬랩 크기의 절반보다 큰 값을 사용
+        OffHeapSlabCache cache = new OffHeapSlabCache(2, 256, TTL);
+        int length = 200;
+        int readers = 4;
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        // when: 한 스레드는 같은 키에 매번 다른 바이트로 채운 값을 쓰고, 나머지는 계속 읽음
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                byte[] value = new byte[length];
+                for (int version = 1; version <= 200_000; version++) {
+                    Arrays.fill(value, (byte) version);
+                    cache.put(1L, version, 0L, 0, value, System.nanoTime());
+                }
+                writing.set(false);
+            });
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> {
+                    byte[] target = new byte[length];
+                    int torn = 0;
+                    while (writing.get()) {
+                        OffHeapSlabCache.Slot slot = cache.read(1L, target);
+                        if (slot == null) {
+                            continue;
+                        }
+                        byte expected = (byte) slot.version();
+                        for (byte b : target) {
+                            if (b != expected) {
+                                torn++;
+                                break;
+                            }
+                        }
+                    }
+                    return torn;
+                }));
+            }
+            writer.get();
+
+            // then
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.adam9e96.BlogStudy.service.revision;
+
+import com.adam9e96.BlogStudy.domain.ArticleRevision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleRevisionCodecTest {
+
+    private static final int MAX_DELTA_EDITS = 1_000;
+
+    @DisplayName("encode(): 일부만 바뀐 본문은 전체 사본보다 작은 델타로 인코딩된다.")
+    @Test
+    void encodeSmallEditAsDelta() {
+        // given
+        String previous = body(300);
+        String current = previous.replace("150번째 문단", "수정된 문단");
+
+        // when
+        ArticleRevisionCodec.Encoded encoded = ArticleRevisionCodec.encode(previous, current, false, MAX_DELTA_EDITS);
+
+        // then
+        assertThat(encoded.kind()).isEqualTo(ArticleRevision.Kind.DELTA);
+        assertThat(encoded.payload().length)
+                .isLessThan(ArticleRevisionCodec.snapshot(current).payload().length / 10);
+    }
+
+    @DisplayName("encode(): 전체 사본을 강제하거나 바뀐 줄이 너무 많으면 전체 사본으로 인코딩된다.")
+    @Test
+    void encodeSnapshot() {
+        // given
+        String previous = body(300);
+        String current = previous.replace("문단", "단락");
+
+        // when
+        ArticleRevisionCodec.Encoded forced = ArticleRevisionCodec.encode(previous, previous + "끝", true, MAX_DELTA_EDITS);
+        ArticleRevisionCodec.Encoded rewritten = ArticleRevisionCodec.encode(previous, current, false, 10);
+
+        // then
+        assertThat(forced.kind()).isEqualTo(ArticleRevision.Kind.SNAPSHOT);
+        assertThat(rewritten.kind()).isEqualTo(ArticleRevision.Kind.SNAPSHOT);
+    }
+
+    @DisplayName("reconstruct(): 전체 사본부터 델타를 차례로 적용하여 마지막 개정을 복원한다.")
+    @Test
+    void reconstruct() {
+        // given
+        List<String> contents = new ArrayList<>();
+        contents.add(body(100));
+        for (int i = 1; i < 8; i++) {
+            contents.add(contents.getLast().replace(i + "번째 문단", i + "번째 문단 (수정 " + i + ")"));
+        }
+        List<ArticleRevision> chain = new ArrayList<>();
+        chain.add(revision(1, contents.getFirst(), ArticleRevisionCodec.snapshot(contents.getFirst())));
+        for (int i = 1; i < contents.size(); i++) {
+            chain.add(revision(i + 1, contents.get(i),
+                    ArticleRevisionCodec.encode(contents.get(i - 1), contents.get(i), false, MAX_DELTA_EDITS)));
+        }
+
+        // when
+        String reconstructed = ArticleRevisionCodec.reconstruct(chain);
+        String middle = ArticleRevisionCodec.reconstruct(chain.subList(0, 4));
+
+        // then
+        assertThat(reconstructed).isEqualTo(contents.getLast());
+        assertThat(middle).isEqualTo(contents.get(3));
+    }
+
+    @DisplayName("reconstruct(): 복원한 본문이 체크섬과 다르면 예외가 발생한다.")
+    @Test
+    void reconstructChecksumMismatch() {
+        // given
+        String content = body(10);
+        ArticleRevision revision = new ArticleRevision(1L, 1, 1, ArticleRevision.Kind.SNAPSHOT, "title",
+                ArticleRevisionCodec.snapshot(content).payload(), content.length(),
+                ArticleRevisionCodec.checksum(content + "다른 내용"), "user@gmail.com", LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> ArticleRevisionCodec.reconstruct(List.of(revision)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ArticleRevision revision(int revision, String content, ArticleRevisionCodec.Encoded encoded) {
+        return new ArticleRevision(1L, revision, 1, encoded.kind(), "title", encoded.payload(), content.length(),
+                ArticleRevisionCodec.checksum(content), "user@gmail.com", LocalDateTime.now());
+    }
+
+    private static String body(int paragraphs) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            builder.append("## ").append(i).append("번째 문단\n\n본문 ").append(i * 31 % 97).append("입니다.\n\n");
+        }
+        return builder.toString();
+    }
+}
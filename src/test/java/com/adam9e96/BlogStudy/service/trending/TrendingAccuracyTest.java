@@ -0,0 +1,133 @@
+package com.adam9e96.BlogStudy.service.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TrendingAccuracyTest {
+
+    private static final int ARTICLES = 100_000;
+    private static final int VIEWS = 500_000;
+    private static final int K = 10;
+
+    @DisplayName("zipf 분포의 조회에서 정확히 센 상위 K 개를 대부분 찾아낸다.")
+    @Test
+    void topKRecall() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(2048, 4);
+        TopKTracker topK = new TopKTracker(K);
+        Map<Long, Integer> exact = new HashMap<>();
+        long[] stream = zipfStream(ARTICLES, VIEWS, 1.1, new Random(42));
+
+        // when
+        for (long articleId : stream) {
+            topK.offer(articleId, sketch.add(articleId, 1));
+            exact.merge(articleId, 1, Integer::sum);
+        }
+
+        // then
+        Set<Long> expected = exact.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .limit(K)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        List<TopKTracker.Entry> actual = topK.top();
+        long hits = actual.stream().filter(entry -> expected.contains(entry.key())).count();
+
+        assertThat(actual).hasSize(K);
+        assertThat(hits).isGreaterThanOrEqualTo(K - 1);
+        // count-min sketch 는 실제보다 작게 추정하지 않음
+        for (TopKTracker.Entry entry : actual) {
+            assertThat(sketch.estimate(entry.key())).isGreaterThanOrEqualTo(exact.get(entry.key()));
+        }
+    }
+
+    @DisplayName("감쇠 후에는 최근에 조회된 게시물이 예전 인기 게시물을 앞선다.")
+    @Test
+    void decayFavorsRecentViews() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        TopKTracker topK = new TopKTracker(1);
+        for (int i = 0; i < 100; i++) {
+            topK.offer(1L, sketch.add(1L, 1));
+        }
+
+        // when: 반감기 4번이 지난 뒤 다른 게시물이 조회됨 (100 -> 6.25)
+        for (int i = 0; i < 4; i++) {
+            sketch.decay(0.5);
+            topK.decay(0.5);
+        }
+        for (int i = 0; i < 10; i++) {
+            topK.offer(2L, sketch.add(2L, 1));
+        }
+
+        // then
+        assertThat(topK.top()).extracting(TopKTracker.Entry::key).containsExactly(2L);
+        assertThat(sketch.estimate(1L)).isCloseTo(6.25, within(0.001));
+    }
+
+    @DisplayName("제거한 게시물은 인기 목록에서 빠지고 남은 순서는 유지된다.")
+    @Test
+    void remove() {
+        // given
+        TopKTracker topK = new TopKTracker(3);
+        topK.offer(1L, 10);
+        topK.offer(2L, 30);
+        topK.offer(3L, 20);
+
+        // when
+        topK.remove(2L);
+
+        // then
+        assertThat(topK.top()).extracting(TopKTracker.Entry::key).containsExactly(3L, 1L);
+    }
+
+    @DisplayName("이미 목록에 있는 게시물의 점수가 오르면 제자리에서 또는 순서를 바꿔 반영된다.")
+    @Test
+    void raiseExistingKey() {
+        // given
+        TopKTracker topK = new TopKTracker(3);
+        topK.offer(1L, 10);
+        topK.offer(2L, 20);
+        topK.offer(3L, 30);
+
+        // when: 3 은 잎이라 제자리에서, 1 은 루트라 자식보다 커져 아래로 내려감
+        topK.offer(3L, 35);
+        topK.offer(1L, 25);
+        topK.offer(4L, 15);
+        topK.offer(2L, 5);
+
+        // then
+        assertThat(topK.top()).containsExactly(
+                new TopKTracker.Entry(3L, 35), new TopKTracker.Entry(1L, 25), new TopKTracker.Entry(2L, 20));
+    }
+
+    /**
+     * 순위 r 의 게시물이 1/r^s 에 비례하여 조회되는 스트림을 만듭니다.
+     */
+    public static long[] zipfStream(int articles, int views, double s, Random random) {
+        double[] cumulative = new double[articles];
+        double sum = 0;
+        for (int rank = 1; rank <= articles; rank++) {
+            sum += 1 / Math.pow(rank, s);
+            cumulative[rank - 1] = sum;
+        }
+        long[] stream = new long[views];
+        for (int i = 0; i < views; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            int rank = index >= 0 ? index : -index - 1;
+            stream[i] = rank + 1L; // 게시물 ID == 순위
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,77 @@
+package com.adam9e96.BlogStudy.support;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 테스트 중에 가상 스레드가 캐리어 스레드에 고정(pinning)되면 테스트를 실패시키는 확장.
+ *
+ * <p>
+ * 각 테스트 동안 JFR 로 {@code jdk.VirtualThreadPinned} 이벤트를 임계값 없이 기록하고,
+ * 테스트가 끝나면 기록을 읽어 이벤트가 하나라도 있으면 스택 트레이스와 함께 실패시킵니다.
+ * </p>
+ */
+public class VirtualThreadPinningExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 15;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Recording recording = new Recording();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+        store(context).put(Recording.class, recording);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        Recording recording = store(context).remove(Recording.class, Recording.class);
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try (recording) {
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                    .toList();
+            if (!pinned.isEmpty()) {
+                fail("가상 스레드 pinning 이벤트 %d건:%n%s", pinned.size(), describe(pinned.get(0)));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(스택 트레이스 없음)";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(VirtualThreadPinningExtension::describe)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return "  at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static ExtensionContext.Store store(ExtensionContext context) {
+        return context.getStore(ExtensionContext.Namespace.create(VirtualThreadPinningExtension.class,
+                context.getRequiredTestMethod()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.adam9e96.BlogStudy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleBodyCodecTest {
+
+    @DisplayName("encode(): 짧은 본문은 압축하지 않고 그대로 저장한다.")
+    @Test
+    void encodeShortBodyAsRaw() {
+        // given
+        String content = "짧은 내용입니다.";
+
+        // when
+        byte[] encoded = ArticleBodyCodec.encode(content);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(ArticleBodyCodec.CODEC_RAW);
+        assertThat(ArticleBodyCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @DisplayName("encode(): 긴 본문은 압축되어 원본보다 작게 저장되고, 그대로 복원된다.")
+    @Test
+    void encodeLargeBodyCompressed() {
+        // given
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("## 소제목 ").append(i).append("\n\n**굵은 글씨**와 `코드`가 포함된 본문입니다.\n\n");
+        }
+        String content = builder.toString();
+
+        // when
+        byte[] encoded = ArticleBodyCodec.encode(content);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(ArticleBodyCodec.CODEC_DEFLATE);
+        assertThat(encoded.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(ArticleBodyCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @DisplayName("encode(): 중간 크기의 본문은 프리셋 사전으로 압축되고, 그대로 복원된다.")
+    @Test
+    void encodeMediumBodyWithDictionary() {
+        // given
+        String content = "<p>첫 번째 문단입니다.</p>\n<p><strong>강조</strong>된 문단입니다.</p>\n".repeat(8);
+
+        // when
+        byte[] encoded = ArticleBodyCodec.encode(content);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(ArticleBodyCodec.CODEC_DEFLATE_DICTIONARY);
+        assertThat(ArticleBodyCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @DisplayName("decode(): 알 수 없는 코덱이면 예외가 발생한다.")
+    @Test
+    void decodeUnknownCodec() {
+        assertThatThrownBy(() -> ArticleBodyCodec.decode(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
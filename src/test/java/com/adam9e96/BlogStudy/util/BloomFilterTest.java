@@ -0,0 +1,57 @@
+package com.adam9e96.BlogStudy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @DisplayName("mightContain(): 넣은 값은 항상 true 이고, 넣지 않은 값의 거짓 양성 비율은 설정값 근처다.")
+    @Test
+    void noFalseNegativesAndBoundedFalsePositives() {
+        // given
+        int insertions = 10_000;
+        BloomFilter filter = new BloomFilter(insertions, 0.01);
+        String[] inserted = new String[insertions];
+        for (int i = 0; i < insertions; i++) {
+            inserted[i] = UUID.randomUUID().toString();
+            filter.put(inserted[i]);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (String value : inserted) {
+            assertThat(filter.mightContain(value)).isTrue();
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @DisplayName("BloomFilter(): 예상 원소 수와 거짓 양성 비율로 비트 수와 해시 함수 수를 정한다.")
+    @Test
+    void sizing() {
+        // when
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        // then
+        assertThat(filter.bitSize()).isBetween(9_585L, 9_585L + 63);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @DisplayName("BloomFilter(): 범위를 벗어난 인자는 예외가 발생한다.")
+    @Test
+    void rejectInvalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
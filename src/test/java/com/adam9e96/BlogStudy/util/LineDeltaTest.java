@@ -0,0 +1,106 @@
+package com.adam9e96.BlogStudy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LineDeltaTest {
+
+    @DisplayName("diff(): 바뀐 줄만 델타에 담기고, apply()로 그대로 복원된다.")
+    @Test
+    void diffAndApply() {
+        // given
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            builder.append("본문의 ").append(i).append("번째 줄입니다.\n");
+        }
+        String base = builder.toString();
+        String target = base.replace("본문의 100번째 줄입니다.\n", "수정된 줄입니다.\n추가된 줄입니다.\n");
+
+        // when
+        byte[] delta = LineDelta.diff(base, target, 100);
+
+        // then
+        assertThat(delta).isNotNull();
+        assertThat(delta.length).isLessThan(80);
+        assertThat(LineDelta.apply(base, delta)).isEqualTo(target);
+    }
+
+    @DisplayName("diff(): 마지막 줄바꿈 유무와 '\\r', 빈 문자열도 그대로 복원된다.")
+    @Test
+    void preserveLineEndings() {
+        // given
+        String[][] cases = {
+                {"", "한 줄"},
+                {"한 줄", ""},
+                {"a\r\nb\r\n", "a\r\nb"},
+                {"a\nb", "a\nb\n\n"},
+        };
+
+        for (String[] pair : cases) {
+            // when
+            byte[] delta = LineDelta.diff(pair[0], pair[1], 100);
+
+            // then
+            assertThat(LineDelta.apply(pair[0], delta)).isEqualTo(pair[1]);
+        }
+    }
+
+    @DisplayName("diff(): 무작위로 수정한 문자열도 그대로 복원된다.")
+    @Test
+    void randomEdits() {
+        // given
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            String base = randomLines(random, random.nextInt(30));
+            String target = randomLines(random, random.nextInt(30));
+
+            // when
+            byte[] delta = LineDelta.diff(base, target, Integer.MAX_VALUE);
+
+            // then
+            assertThat(LineDelta.apply(base, delta)).isEqualTo(target);
+        }
+    }
+
+    @DisplayName("diff(): 바뀐 줄 수가 maxEdits 를 넘으면 null 을 반환한다.")
+    @Test
+    void exceedMaxEdits() {
+        // given
+        String base = "a\nb\nc\nd";
+        String target = "w\nx\ny\nz";
+
+        // when
+        byte[] delta = LineDelta.diff(base, target, 3);
+
+        // then
+        assertThat(delta).isNull();
+    }
+
+    @DisplayName("apply(): 원본과 맞지 않는 델타면 예외가 발생한다.")
+    @Test
+    void applyToWrongBase() {
+        // given
+        byte[] delta = LineDelta.diff("a\nb\nc", "a\nc", 10);
+
+        // when & then
+        assertThatThrownBy(() -> LineDelta.apply("a", delta))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String randomLines(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append('\n');
+            }
+            builder.append((char) ('a' + random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}